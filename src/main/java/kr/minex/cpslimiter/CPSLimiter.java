@@ -2,14 +2,32 @@ package kr.minex.cpslimiter;
 
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
 import kr.minex.cpslimiter.commands.CPSLimiterCommand;
 import kr.minex.cpslimiter.listeners.ClickListener;
+import kr.minex.cpslimiter.listeners.PermissionCacheListener;
 import kr.minex.cpslimiter.managers.CPSManager;
 import kr.minex.cpslimiter.managers.ConfigManager;
 import kr.minex.cpslimiter.managers.MessageManager;
 import kr.minex.cpslimiter.managers.ViolationLogger;
+import kr.minex.cpslimiter.managers.ViolationStatsManager;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.metrics.PrometheusEndpoint;
+import kr.minex.cpslimiter.metrics.PrometheusSettings;
+import kr.minex.cpslimiter.models.DetectorType;
+import kr.minex.cpslimiter.models.TargetMode;
+import kr.minex.cpslimiter.scheduler.SchedulerAdapter;
+import kr.minex.cpslimiter.services.ConfiguredCombatTargetDetector;
+import kr.minex.cpslimiter.services.DetectionPipeline;
+import kr.minex.cpslimiter.services.HitboxCombatTargetDetector;
+import kr.minex.cpslimiter.services.PlayerSpatialIndex;
+import kr.minex.cpslimiter.services.RayTraceCombatTargetDetector;
+import kr.minex.cpslimiter.services.ViolationEnforcer;
+
+import java.io.File;
+import java.io.IOException;
 
 /**
  * CPSLimiter 메인 플러그인 클래스
@@ -23,16 +41,34 @@ import kr.minex.cpslimiter.managers.ViolationLogger;
  */
 public class CPSLimiter extends JavaPlugin {
 
+    /**
+     * 플레이어별 위반 집계 스냅샷 파일명
+     */
+    private static final String STATS_FILE_NAME = "player-stats.dat";
+
     /**
      * 플러그인 인스턴스 (싱글톤)
      */
     private static CPSLimiter instance;
 
+    // 스케줄러 (Bukkit / Folia)
+    private SchedulerAdapter scheduler;
+
     // 매니저 인스턴스
     private ConfigManager configManager;
     private MessageManager messageManager;
     private CPSManager cpsManager;
     private ViolationLogger violationLogger;
+    private ViolationEnforcer violationEnforcer;
+    private ViolationStatsManager violationStats;
+    private MetricsRegistry metrics;
+    private PrometheusEndpoint prometheusEndpoint;
+    private PermissionCacheListener permissionCacheListener;
+
+    // 전투 타겟 감지
+    private PlayerSpatialIndex playerSpatialIndex;
+    private RayTraceCombatTargetDetector rayTraceDetector;
+    private DetectionPipeline detectionPipeline;
 
     @Override
     public void onEnable() {
@@ -53,6 +89,9 @@ public class CPSLimiter extends JavaPlugin {
 
         // 5. 리로드 감지 - 이미 접속 중인 플레이어 처리
         if (!Bukkit.getOnlinePlayers().isEmpty()) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                cpsManager.acquireSlot(player.getUniqueId(), player.getEntityId());
+            }
             getLogger().info("플러그인 리로드 감지됨. 기존 플레이어 데이터 초기화 완료.");
         }
 
@@ -71,22 +110,42 @@ public class CPSLimiter extends JavaPlugin {
     @Override
     public void onDisable() {
         // 1. 스케줄러 태스크 취소
-        Bukkit.getScheduler().cancelTasks(this);
+        if (scheduler != null) {
+            scheduler.cancelAll();
+        }
 
         // 2. 이벤트 리스너 해제
         HandlerList.unregisterAll(this);
+        if (permissionCacheListener != null) {
+            permissionCacheListener.stop();
+            permissionCacheListener = null;
+        }
 
-        // 3. 로거 종료 (남은 로그 기록)
+        // 3. 지표 엔드포인트 종료
+        if (prometheusEndpoint != null) {
+            prometheusEndpoint.stop();
+            prometheusEndpoint = null;
+        }
+
+        // 4. 처리되지 않은 위반 정리 후 로거 종료 (남은 로그 기록)
+        if (violationEnforcer != null) {
+            violationEnforcer.shutdown();
+        }
         if (violationLogger != null) {
             violationLogger.shutdown();
         }
 
-        // 4. CPS 데이터 정리
+        // 5. 위반 집계 저장
+        if (violationStats != null) {
+            saveViolationStats();
+        }
+
+        // 6. CPS 데이터 정리
         if (cpsManager != null) {
             cpsManager.clearAll();
         }
 
-        // 5. static 참조 제거 (메모리 누수 방지)
+        // 7. static 참조 제거 (메모리 누수 방지)
         instance = null;
 
         getLogger().info("CPSLimiter가 비활성화되었습니다!");
@@ -96,10 +155,92 @@ public class CPSLimiter extends JavaPlugin {
      * 매니저 클래스들을 초기화합니다.
      */
     private void initializeManagers() {
+        scheduler = SchedulerAdapter.create(this);
         configManager = new ConfigManager(this);
         messageManager = new MessageManager(this);
-        cpsManager = new CPSManager();
+        cpsManager = new CPSManager(() -> configManager.getClickWindowSettings().newWindow());
         violationLogger = new ViolationLogger(this, configManager);
+
+        // 클릭 처리 지표 (초당 비율은 1초마다 비동기로 샘플링)
+        metrics = new MetricsRegistry();
+        metrics.registerGauge("log_queue_depth", "로그 대기열 크기", violationLogger::getQueueSize);
+        metrics.registerCounter("log_dropped_total", "버려진 로그", violationLogger::getDroppedCount);
+        metrics.registerGauge("tracked_players", "추적 중인 플레이어", cpsManager::getTrackedPlayerCount);
+        scheduler.runAsyncTimer(metrics::sampleRates, 20L, 20L);
+        startPrometheusEndpoint();
+
+        violationEnforcer = new ViolationEnforcer(this, configManager, messageManager, violationLogger, metrics);
+
+        // 위반 집계: 이전 스냅샷을 읽고 주기적으로 비동기 저장
+        violationStats = new ViolationStatsManager(configManager::getStatsMaxPlayers);
+        try {
+            violationStats.load(getStatsFile().toPath());
+        } catch (IOException e) {
+            getLogger().warning("위반 통계 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        long snapshotTicks = configManager.getStatsSnapshotIntervalSeconds() * 20L;
+        scheduler.runAsyncTimer(this::saveViolationStats, snapshotTicks, snapshotTicks);
+
+        if (scheduler.isFolia()) {
+            // Folia: 플레이어가 여러 리전 스레드에 나뉘어 있어 전역 히트박스 스냅샷을 만들 수 없으므로
+            // 사전 필터 없이 레이트레이스만 사용 (각 리전 스레드에서 자기 월드 영역만 조회)
+            rayTraceDetector = new RayTraceCombatTargetDetector(this, configManager);
+            detectionPipeline = new DetectionPipeline(cpsManager, configManager,
+                    new ConfiguredCombatTargetDetector(configManager, rayTraceDetector, rayTraceDetector), metrics);
+            if (configManager.getDetectorType() == DetectorType.HITBOX) {
+                getLogger().warning("Folia에서는 HITBOX 감지기를 지원하지 않아 RAYTRACE를 사용합니다.");
+            }
+            return;
+        }
+
+        playerSpatialIndex = new PlayerSpatialIndex();
+        rayTraceDetector = new RayTraceCombatTargetDetector(this, configManager, playerSpatialIndex);
+        detectionPipeline = new DetectionPipeline(cpsManager, configManager,
+                new ConfiguredCombatTargetDetector(configManager, rayTraceDetector,
+                        new HitboxCombatTargetDetector(this, configManager, playerSpatialIndex)), metrics);
+
+        // 레이트레이스 사전 필터 / 히트박스 감지용 플레이어 히트박스 스냅샷 (매 틱 1회)
+        // 두 감지기 모두 PLAYER_ONLY 모드에서만 조회하므로, 다른 모드에서는 만들지 않음
+        scheduler.runGlobalTimer(() -> {
+            if (configManager.getTargetMode() == TargetMode.PLAYER_ONLY) {
+                playerSpatialIndex.rebuild(Bukkit.getOnlinePlayers());
+            } else {
+                playerSpatialIndex.clear();
+            }
+        }, 0L, 1L);
+    }
+
+    /**
+     * 설정에서 켜져 있으면 Prometheus 지표 엔드포인트를 시작합니다.
+     */
+    private void startPrometheusEndpoint() {
+        PrometheusSettings settings = configManager.getPrometheusSettings();
+        if (!settings.enabled()) {
+            return;
+        }
+        PrometheusEndpoint endpoint = new PrometheusEndpoint(metrics, settings);
+        try {
+            endpoint.start();
+            prometheusEndpoint = endpoint;
+            getLogger().info("지표 엔드포인트: http://" + settings.bindAddress() + ":" + endpoint.getPort() + settings.path());
+        } catch (IOException e) {
+            getLogger().warning("지표 엔드포인트를 시작할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 위반 집계를 스냅샷 파일에 저장합니다.
+     */
+    private void saveViolationStats() {
+        try {
+            violationStats.save(getStatsFile().toPath());
+        } catch (IOException e) {
+            getLogger().warning("위반 통계 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private File getStatsFile() {
+        return new File(getDataFolder(), STATS_FILE_NAME);
     }
 
     /**
@@ -107,9 +248,14 @@ public class CPSLimiter extends JavaPlugin {
      */
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(
-                new ClickListener(this, cpsManager, configManager, messageManager, violationLogger),
+                new ClickListener(this, cpsManager, configManager, detectionPipeline, violationEnforcer,
+                        violationStats, metrics),
                 this
         );
+
+        permissionCacheListener = new PermissionCacheListener(this, cpsManager);
+        getServer().getPluginManager().registerEvents(permissionCacheListener, this);
+        permissionCacheListener.start();
     }
 
     /**
@@ -164,6 +310,60 @@ public class CPSLimiter extends JavaPlugin {
         return cpsManager;
     }
 
+    /**
+     * 레이트레이스 전투 타겟 감지기 반환
+     *
+     * @return RayTraceCombatTargetDetector 인스턴스
+     */
+    public RayTraceCombatTargetDetector getRayTraceDetector() {
+        return rayTraceDetector;
+    }
+
+    /**
+     * 스케줄러 반환 (Bukkit / Folia)
+     *
+     * @return SchedulerAdapter 인스턴스
+     */
+    public SchedulerAdapter getSchedulerAdapter() {
+        return scheduler;
+    }
+
+    /**
+     * 틱 단위 일괄 위반 처리기 반환
+     *
+     * @return ViolationEnforcer 인스턴스
+     */
+    public ViolationEnforcer getViolationEnforcer() {
+        return violationEnforcer;
+    }
+
+    /**
+     * 팔 휘두름 판정 파이프라인 반환
+     *
+     * @return DetectionPipeline 인스턴스
+     */
+    public DetectionPipeline getDetectionPipeline() {
+        return detectionPipeline;
+    }
+
+    /**
+     * 플레이어별 위반 집계 반환
+     *
+     * @return ViolationStatsManager 인스턴스
+     */
+    public ViolationStatsManager getViolationStats() {
+        return violationStats;
+    }
+
+    /**
+     * 클릭 처리 지표 반환
+     *
+     * @return MetricsRegistry 인스턴스
+     */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     /**
      * 위반 로거 반환
      *
@@ -1,18 +1,38 @@
 package kr.minex.cpslimiter.commands;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.logging.LogWriterStats;
+import kr.minex.cpslimiter.logging.ViolationHistoryIndex;
 import kr.minex.cpslimiter.managers.CPSManager;
 import kr.minex.cpslimiter.managers.ConfigManager;
 import kr.minex.cpslimiter.managers.MessageManager;
+import kr.minex.cpslimiter.managers.ViolationLogger;
+import kr.minex.cpslimiter.managers.ViolationStatsManager;
+import kr.minex.cpslimiter.metrics.Counter;
+import kr.minex.cpslimiter.metrics.LatencyHistogram;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.models.ClickWindowSettings;
+import kr.minex.cpslimiter.models.PlayerViolationStats;
+import kr.minex.cpslimiter.services.CombatTargetDetector;
+import kr.minex.cpslimiter.services.ConfiguredCombatTargetDetector;
+import kr.minex.cpslimiter.services.DetectionPipeline;
+import kr.minex.cpslimiter.services.RayTraceCombatTargetDetector;
+import kr.minex.cpslimiter.services.ViolationEnforcer;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -24,13 +44,33 @@ import java.util.stream.Collectors;
  * - /cpslimiter help - 도움말 표시
  * - /cpslimiter reload - 설정 리로드
  * - /cpslimiter status - 현재 설정 확인
+ * - /cpslimiter metrics - 클릭 처리 지표 확인
  * - /cpslimiter check [플레이어] - CPS 확인
+ * - /cpslimiter top [인원] - 현재 CPS 순위
+ * - /cpslimiter history <플레이어> [페이지] - 위반 기록 확인
  *
  * @author minex
  * @since 1.0.0
  */
 public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
 
+    /**
+     * 위반 기록 페이지당 표시할 기록 수
+     */
+    private static final int HISTORY_PAGE_SIZE = 10;
+
+    /**
+     * CPS 순위 기본/최대 표시 인원
+     */
+    private static final int TOP_DEFAULT_SIZE = 10;
+    private static final int TOP_MAX_SIZE = 50;
+
+    /**
+     * 마지막 위반 시각 표시 형식
+     */
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
     private final CPSLimiter plugin;
     private final ConfigManager configManager;
     private final MessageManager messageManager;
@@ -65,7 +105,10 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
             case "help" -> handleHelp(sender);
             case "reload" -> handleReload(sender);
             case "status" -> handleStatus(sender);
+            case "metrics" -> handleMetrics(sender);
             case "check" -> handleCheck(sender, args);
+            case "top" -> handleTop(sender, args);
+            case "history" -> handleHistory(sender, args);
             default -> messageManager.send(sender, "command.unknown");
         }
 
@@ -81,7 +124,10 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
         messageManager.sendWithoutPrefix(sender, "command.help.header");
         messageManager.sendWithoutPrefix(sender, "command.help.reload");
         messageManager.sendWithoutPrefix(sender, "command.help.status");
+        messageManager.sendWithoutPrefix(sender, "command.help.metrics");
         messageManager.sendWithoutPrefix(sender, "command.help.check");
+        messageManager.sendWithoutPrefix(sender, "command.help.top");
+        messageManager.sendWithoutPrefix(sender, "command.help.history");
     }
 
     /**
@@ -98,7 +144,16 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
 
         try {
             // 설정 리로드
+            ClickWindowSettings previousWindow = configManager.getClickWindowSettings();
             configManager.reload();
+
+            // 측정 윈도우가 바뀌면 기존 플레이어 데이터를 폐기하여 새 윈도우로 다시 측정
+            if (!previousWindow.equals(configManager.getClickWindowSettings())) {
+                cpsManager.clearAll();
+            }
+
+            // 권한 설정이 함께 바뀌었을 수 있으므로 바이패스 권한 캐시 무효화
+            cpsManager.invalidateAllBypass();
             messageManager.reload();
             plugin.getViolationLogger().reload();
 
@@ -129,6 +184,13 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
                 "{cooldown}", String.valueOf(configManager.getDebuffCooldown()));
         messageManager.sendWithoutPrefix(sender, "command.status.target-mode",
                 "{mode}", configManager.getTargetMode().name());
+        messageManager.sendWithoutPrefix(sender, "command.status.detector",
+                "{detector}", configManager.getDetectorType().name());
+        ClickWindowSettings window = configManager.getClickWindowSettings();
+        messageManager.sendWithoutPrefix(sender, "command.status.cps-window",
+                "{mode}", window.mode().name(),
+                "{window}", String.valueOf(window.windowMs()),
+                "{bucket}", String.valueOf(window.bucketMs()));
         messageManager.sendWithoutPrefix(sender, "command.status.debuff-count",
                 "{debuff-count}", String.valueOf(configManager.getDebuffCount()));
         messageManager.sendWithoutPrefix(sender, "command.status.chat-notification",
@@ -137,6 +199,133 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
                 "{enabled}", getEnabledText(configManager.isTitleNotificationEnabled()));
         messageManager.sendWithoutPrefix(sender, "command.status.logging",
                 "{enabled}", getEnabledText(configManager.isLoggingEnabled()));
+        ViolationLogger violationLogger = plugin.getViolationLogger();
+        if (violationLogger != null && configManager.isLoggingEnabled()) {
+            messageManager.sendWithoutPrefix(sender, "command.status.log-queue",
+                    "{size}", String.valueOf(violationLogger.getQueueSize()),
+                    "{capacity}", String.valueOf(violationLogger.getQueueCapacity()),
+                    "{overflow}", configManager.getLogOverflowPolicy().name(),
+                    "{dropped}", String.valueOf(violationLogger.getDroppedCount()));
+            LogWriterStats writerStats = violationLogger.getWriterStats();
+            messageManager.sendWithoutPrefix(sender, "command.status.log-flush",
+                    "{flush}", configManager.getLogFlushPolicy().name(),
+                    "{batches}", String.valueOf(writerStats.getBatchCount()),
+                    "{avg-batch}", String.format("%.1f", writerStats.getAverageBatchSize()),
+                    "{max-batch}", String.valueOf(writerStats.getMaxBatchSize()),
+                    "{avg-flush}", String.format("%.1f", writerStats.getAverageFlushMicros()),
+                    "{max-flush}", String.format("%.1f", writerStats.getMaxFlushMicros()));
+        }
+        ViolationStatsManager violationStats = plugin.getViolationStats();
+        if (violationStats != null) {
+            messageManager.sendWithoutPrefix(sender, "command.status.player-stats",
+                    "{players}", String.valueOf(violationStats.getTrackedPlayerCount()),
+                    "{max}", String.valueOf(configManager.getStatsMaxPlayers()),
+                    "{memory}", String.valueOf(violationStats.getEstimatedMemoryBytes() / 1024L),
+                    "{evicted}", String.valueOf(violationStats.getEvictedCount()));
+        }
+        // 레이트레이스 생략 통계는 레이트레이스 감지기가 실제로 사용 중일 때만 의미가 있음 (HITBOX에서는 항상 0)
+        RayTraceCombatTargetDetector detector = plugin.getRayTraceDetector();
+        if (detector != null && isActiveDetector(detector)) {
+            messageManager.sendWithoutPrefix(sender, "command.status.trace-skipped",
+                    "{skipped}", String.valueOf(detector.getSkippedTraceCount()),
+                    "{total}", String.valueOf(detector.getDetectCount()));
+        }
+
+        // 판정 파이프라인 단계별 통계
+        DetectionPipeline pipeline = plugin.getDetectionPipeline();
+        if (pipeline != null) {
+            messageManager.sendWithoutPrefix(sender, "command.status.pipeline-header");
+            for (DetectionPipeline.Stage stage : DetectionPipeline.Stage.values()) {
+                long entered = pipeline.getEnteredCount(stage);
+                double avgMicros = entered == 0 ? 0.0 : pipeline.getElapsedNanos(stage) / 1000.0 / entered;
+                messageManager.sendWithoutPrefix(sender, "command.status.pipeline-stage",
+                        "{stage}", stage.name(),
+                        "{rejected}", String.valueOf(pipeline.getRejectedCount(stage)),
+                        "{entered}", String.valueOf(entered),
+                        "{avg}", String.format("%.2f", avgMicros));
+            }
+        }
+
+        // 틱 단위 위반 처리 배치 통계
+        ViolationEnforcer enforcer = plugin.getViolationEnforcer();
+        if (enforcer != null) {
+            long batches = enforcer.getBatchCount();
+            messageManager.sendWithoutPrefix(sender, "command.status.enforcement",
+                    "{batches}", String.valueOf(batches),
+                    "{last}", String.valueOf(enforcer.getLastBatchSize()),
+                    "{max}", String.valueOf(enforcer.getMaxBatchSize()),
+                    "{avg}", String.format("%.2f", batches == 0 ? 0.0 : (double) enforcer.getEnforcedCount() / batches),
+                    "{merged}", String.valueOf(enforcer.getMergedCount()));
+        }
+    }
+
+    /**
+     * 판정 파이프라인이 현재 설정에서 해당 감지기를 사용하는지 확인합니다.
+     */
+    private boolean isActiveDetector(CombatTargetDetector detector) {
+        DetectionPipeline pipeline = plugin.getDetectionPipeline();
+        if (pipeline == null) {
+            return false;
+        }
+        CombatTargetDetector active = pipeline.getDetector();
+        if (active instanceof ConfiguredCombatTargetDetector configured) {
+            active = configured.select();
+        }
+        return active == detector;
+    }
+
+    /**
+     * 지표 명령어 처리
+     *
+     * @param sender 명령어 실행자
+     */
+    private void handleMetrics(CommandSender sender) {
+        // 권한 확인
+        if (!sender.hasPermission("cpslimiter.admin")) {
+            messageManager.send(sender, "command.no-permission");
+            return;
+        }
+
+        MetricsRegistry metrics = plugin.getMetrics();
+        if (metrics == null) {
+            return;
+        }
+
+        messageManager.sendWithoutPrefix(sender, "command.metrics.header",
+                "{window}", String.valueOf(Counter.RATE_WINDOW_SECONDS));
+        for (Counter counter : metrics.getCounters()) {
+            sendCounter(sender, counter);
+        }
+        for (DetectionPipeline.Stage stage : DetectionPipeline.Stage.values()) {
+            sendCounter(sender, metrics.getRejected(stage));
+        }
+        for (LatencyHistogram histogram : metrics.getHistograms()) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            messageManager.sendWithoutPrefix(sender, "command.metrics.histogram",
+                    "{name}", histogram.getHelp(),
+                    "{count}", String.valueOf(snapshot.getCount()),
+                    "{p50}", formatMicros(snapshot.percentile(0.50)),
+                    "{p99}", formatMicros(snapshot.percentile(0.99)),
+                    "{p999}", formatMicros(snapshot.percentile(0.999)),
+                    "{max}", formatMicros(snapshot.getMaxNanos()),
+                    "{avg}", String.format("%.2f", snapshot.getMeanNanos() / 1000.0));
+        }
+        for (MetricsRegistry.Gauge gauge : metrics.getGauges()) {
+            messageManager.sendWithoutPrefix(sender, "command.metrics.gauge",
+                    "{name}", gauge.help(),
+                    "{value}", String.valueOf(gauge.get()));
+        }
+    }
+
+    private void sendCounter(CommandSender sender, Counter counter) {
+        messageManager.sendWithoutPrefix(sender, "command.metrics.counter",
+                "{name}", counter.getHelp(),
+                "{total}", String.valueOf(counter.get()),
+                "{rate}", String.format("%.2f", counter.getRatePerSecond()));
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.2f", nanos / 1000.0);
     }
 
     /**
@@ -177,6 +366,182 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
         messageManager.send(sender, "command.check.result",
                 "{player}", target.getName(),
                 "{cps}", String.valueOf(cps));
+
+        // 위반 집계 (메모리에서 바로 조회, 로그 파일을 읽지 않음)
+        ViolationStatsManager violationStats = plugin.getViolationStats();
+        if (violationStats == null) {
+            return;
+        }
+        PlayerViolationStats.Summary summary = violationStats.getSummary(target.getUniqueId(), System.currentTimeMillis());
+        if (summary == null) {
+            messageManager.sendWithoutPrefix(sender, "command.check.no-violations");
+            return;
+        }
+        messageManager.sendWithoutPrefix(sender, "command.check.violations",
+                "{total}", String.valueOf(summary.totalCount()),
+                "{hour}", String.valueOf(summary.lastHourCount()),
+                "{day}", String.valueOf(summary.lastDayCount()),
+                "{peak}", String.valueOf(summary.peakCps()),
+                "{last}", TIME_FORMAT.format(Instant.ofEpochMilli(summary.lastViolationMillis())));
+    }
+
+    /**
+     * CPS 순위 명령어 처리
+     *
+     * 전체 플레이어의 CPS를 클릭 데이터 변경 없이 읽어 상위 N명만 표시합니다.
+     *
+     * @param sender 명령어 실행자
+     * @param args 명령어 인자
+     */
+    private void handleTop(CommandSender sender, String[] args) {
+        // 권한 확인
+        if (!sender.hasPermission("cpslimiter.check")) {
+            messageManager.send(sender, "command.no-permission");
+            return;
+        }
+
+        int size = TOP_DEFAULT_SIZE;
+        if (args.length >= 2) {
+            try {
+                size = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                size = 0;
+            }
+            if (size < 1) {
+                messageManager.send(sender, "command.top.usage");
+                return;
+            }
+            size = Math.min(size, TOP_MAX_SIZE);
+        }
+
+        List<CPSManager.CpsRank> ranks = cpsManager.getTopCps(size, System.currentTimeMillis());
+        if (ranks.isEmpty()) {
+            messageManager.send(sender, "command.top.empty");
+            return;
+        }
+
+        messageManager.sendWithoutPrefix(sender, "command.top.header",
+                "{count}", String.valueOf(ranks.size()));
+        int rank = 1;
+        for (CPSManager.CpsRank entry : ranks) {
+            Player player = Bukkit.getPlayer(entry.playerId());
+            messageManager.sendWithoutPrefix(sender, "command.top.entry",
+                    "{rank}", String.valueOf(rank++),
+                    "{player}", player != null ? player.getName() : entry.playerId().toString(),
+                    "{cps}", String.valueOf(entry.cps()));
+        }
+    }
+
+    /**
+     * 위반 기록 명령어 처리
+     *
+     * 로그 파일 조회와 페이지 구성은 비동기 스레드에서 처리하고,
+     * 결과 메시지는 명령어 실행자를 소유한 스레드에서 전송합니다.
+     *
+     * @param sender 명령어 실행자
+     * @param args 명령어 인자
+     */
+    private void handleHistory(CommandSender sender, String[] args) {
+        // 권한 확인
+        if (!sender.hasPermission("cpslimiter.history")) {
+            messageManager.send(sender, "command.no-permission");
+            return;
+        }
+
+        if (args.length < 2) {
+            messageManager.send(sender, "command.history.usage");
+            return;
+        }
+
+        int page = 1;
+        if (args.length >= 3) {
+            try {
+                page = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                page = 0;
+            }
+            if (page < 1) {
+                messageManager.send(sender, "command.history.usage");
+                return;
+            }
+        }
+
+        ViolationLogger violationLogger = plugin.getViolationLogger();
+        ViolationHistoryIndex index = violationLogger == null ? null : violationLogger.getHistoryIndex();
+        if (index == null) {
+            messageManager.send(sender, "command.history.unavailable");
+            return;
+        }
+
+        // 플레이어 조회 (접속 중이거나 서버 캐시에 있는 플레이어만, 외부 조회 없음)
+        OfflinePlayer target = findPlayer(args[1]);
+        if (target == null) {
+            messageManager.send(sender, "command.check.player-not-found",
+                    "{player}", args[1]);
+            return;
+        }
+        UUID playerId = target.getUniqueId();
+        String playerName = target.getName() != null ? target.getName() : args[1];
+
+        int requestedPage = page - 1;
+        plugin.getSchedulerAdapter().runAsync(() -> {
+            try {
+                ViolationHistoryIndex.HistoryPage result = index.readPage(playerId, requestedPage, HISTORY_PAGE_SIZE);
+                reply(sender, () -> sendHistory(sender, playerName, result));
+            } catch (IOException e) {
+                plugin.getLogger().warning("위반 기록 조회 실패: " + e.getMessage());
+                reply(sender, () -> messageManager.send(sender, "command.history.fail"));
+            }
+        });
+    }
+
+    /**
+     * 조회된 위반 기록 페이지를 전송합니다.
+     */
+    private void sendHistory(CommandSender sender, String playerName, ViolationHistoryIndex.HistoryPage result) {
+        if (result.totalCount() == 0) {
+            messageManager.send(sender, "command.history.empty", "{player}", playerName);
+            return;
+        }
+
+        messageManager.sendWithoutPrefix(sender, "command.history.header",
+                "{player}", playerName,
+                "{page}", String.valueOf(result.page() + 1),
+                "{pages}", String.valueOf(result.totalPages()),
+                "{total}", String.valueOf(result.totalCount()));
+        for (String line : result.lines()) {
+            messageManager.sendWithoutPrefix(sender, "command.history.entry", "{line}", line);
+        }
+    }
+
+    /**
+     * 명령어 실행자를 소유한 스레드에서 작업을 실행합니다. (플레이어: 엔티티 스레드, 콘솔: 전역)
+     */
+    private void reply(CommandSender sender, Runnable task) {
+        if (sender instanceof Player player) {
+            plugin.getSchedulerAdapter().runForEntity(player, task);
+        } else {
+            plugin.getSchedulerAdapter().runGlobal(task);
+        }
+    }
+
+    /**
+     * 이름 또는 UUID로 플레이어를 찾습니다.
+     *
+     * @param input 플레이어 이름 또는 UUID
+     * @return 플레이어 (찾지 못하면 null)
+     */
+    private OfflinePlayer findPlayer(String input) {
+        Player online = Bukkit.getPlayerExact(input);
+        if (online != null) {
+            return online;
+        }
+        try {
+            return Bukkit.getOfflinePlayer(UUID.fromString(input));
+        } catch (IllegalArgumentException e) {
+            // UUID 형식이 아니면 이름으로 조회 (서버 캐시만 사용)
+            return Bukkit.getOfflinePlayerIfCached(input);
+        }
     }
 
     /**
@@ -201,10 +566,16 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
             if (sender.hasPermission("cpslimiter.admin")) {
                 subCommands.add("reload");
                 subCommands.add("status");
+                subCommands.add("metrics");
             }
 
             if (sender.hasPermission("cpslimiter.check")) {
                 subCommands.add("check");
+                subCommands.add("top");
+            }
+
+            if (sender.hasPermission("cpslimiter.history")) {
+                subCommands.add("history");
             }
 
             String input = args[0].toLowerCase();
@@ -212,9 +583,9 @@ public class CPSLimiterCommand implements CommandExecutor, TabCompleter {
                     .filter(s -> s.startsWith(input))
                     .collect(Collectors.toList());
 
-        } else if (args.length == 2 && args[0].equalsIgnoreCase("check")) {
-            // check 명령어의 플레이어 자동완성
-            if (sender.hasPermission("cpslimiter.check")) {
+        } else if (args.length == 2 && (args[0].equalsIgnoreCase("check") || args[0].equalsIgnoreCase("history"))) {
+            // check/history 명령어의 플레이어 자동완성
+            if (sender.hasPermission("cpslimiter." + args[0].toLowerCase())) {
                 String input = args[1].toLowerCase();
                 completions = Bukkit.getOnlinePlayers().stream()
                         .map(Player::getName)
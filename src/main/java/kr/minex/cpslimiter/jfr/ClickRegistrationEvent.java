@@ -0,0 +1,42 @@
+package kr.minex.cpslimiter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 클릭 등록 (JFR 이벤트)
+ *
+ * <p>지속 시간은 클릭 윈도우에 클릭을 넣고 CPS를 계산하는 시간입니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+@Name("kr.minex.cpslimiter.ClickRegistration")
+@Label("CPSLimiter Click Registration")
+@Category("CPSLimiter")
+@Description("판정을 통과한 클릭의 CPS 등록")
+@StackTrace(false)
+public final class ClickRegistrationEvent extends Event {
+
+    @Label("Player")
+    private String player;
+
+    @Label("CPS")
+    private int cps;
+
+    /**
+     * 필드를 채우고 기록합니다. ({@link #shouldCommit()} 확인 후 호출)
+     *
+     * @param player 플레이어 이름
+     * @param cps 등록 후 CPS
+     */
+    public void commit(String player, int cps) {
+        this.player = player;
+        this.cps = cps;
+        commit();
+    }
+}
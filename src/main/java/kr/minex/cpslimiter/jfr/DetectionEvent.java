@@ -0,0 +1,55 @@
+package kr.minex.cpslimiter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 판정 파이프라인 한 번의 실행 (JFR 이벤트)
+ *
+ * <p>지속 시간은 바이패스 확인부터 블록 가림 판정까지입니다.
+ * 기록 중이 아니면 {@link #shouldCommit()}이 false이므로 필드를 채우지 않습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+@Name("kr.minex.cpslimiter.Detection")
+@Label("CPSLimiter Detection")
+@Category("CPSLimiter")
+@Description("팔 휘두름 판정 파이프라인 실행")
+@StackTrace(false)
+public final class DetectionEvent extends Event {
+
+    /**
+     * 모든 단계를 통과한 경우의 결과 값
+     */
+    public static final String RESULT_TARGET = "TARGET";
+
+    @Label("Player")
+    private String player;
+
+    @Label("Result")
+    @Description("TARGET 또는 거부한 단계 (BYPASS, FILTER, ENTITY_TRACE, BLOCK_OCCLUSION)")
+    private String result;
+
+    @Label("Target Type")
+    @Description("감지된 엔티티 종류 (엔티티가 없으면 null)")
+    private String targetType;
+
+    /**
+     * 필드를 채우고 기록합니다. ({@link #shouldCommit()} 확인 후 호출)
+     *
+     * @param player 플레이어 이름
+     * @param result 판정 결과
+     * @param targetType 타겟 엔티티 종류
+     */
+    public void commit(String player, String result, String targetType) {
+        this.player = player;
+        this.result = result;
+        this.targetType = targetType;
+        commit();
+    }
+}
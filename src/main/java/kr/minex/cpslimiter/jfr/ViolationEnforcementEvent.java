@@ -0,0 +1,57 @@
+package kr.minex.cpslimiter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 위반 처리 (JFR 이벤트)
+ *
+ * <p>지속 시간은 플레이어 소유 스레드에서 디버프 적용, 경고 전송, 로그 기록까지입니다.
+ * 경고 전송 시간은 {@link #isEnabled()}일 때만 측정합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+@Name("kr.minex.cpslimiter.ViolationEnforcement")
+@Label("CPSLimiter Violation Enforcement")
+@Category("CPSLimiter")
+@Description("병합된 위반 하나의 디버프/경고/로그 처리")
+@StackTrace(false)
+public final class ViolationEnforcementEvent extends Event {
+
+    @Label("Player")
+    private String player;
+
+    @Label("CPS")
+    private int cps;
+
+    @Label("Effects Applied")
+    @Description("적용한 디버프 효과 수")
+    private int effectsApplied;
+
+    @Label("Notification Time")
+    @Description("채팅/타이틀 경고 전송 시간")
+    @Timespan(Timespan.NANOSECONDS)
+    private long notificationTime;
+
+    /**
+     * 필드를 채우고 기록합니다. ({@link #shouldCommit()} 확인 후 호출)
+     *
+     * @param player 플레이어 이름
+     * @param cps 위반 CPS
+     * @param effectsApplied 적용한 디버프 효과 수
+     * @param notificationNanos 경고 전송 시간 (나노초)
+     */
+    public void commit(String player, int cps, int effectsApplied, long notificationNanos) {
+        this.player = player;
+        this.cps = cps;
+        this.effectsApplied = effectsApplied;
+        this.notificationTime = notificationNanos;
+        commit();
+    }
+}
@@ -6,18 +6,19 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerAnimationEvent;
 import org.bukkit.event.player.PlayerAnimationType;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.potion.PotionEffect;
 import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.jfr.ClickRegistrationEvent;
 import kr.minex.cpslimiter.managers.CPSManager;
 import kr.minex.cpslimiter.managers.ConfigManager;
-import kr.minex.cpslimiter.managers.MessageManager;
-import kr.minex.cpslimiter.managers.ViolationLogger;
+import kr.minex.cpslimiter.managers.ViolationStatsManager;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
 import kr.minex.cpslimiter.models.ClickData;
 import kr.minex.cpslimiter.models.CombatTarget;
-import kr.minex.cpslimiter.models.DebuffConfig;
-import kr.minex.cpslimiter.services.CombatTargetDetector;
-import kr.minex.cpslimiter.services.RayTraceCombatTargetDetector;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
+import kr.minex.cpslimiter.services.DetectionPipeline;
+import kr.minex.cpslimiter.services.ViolationEnforcer;
 
 import java.util.Optional;
 
@@ -29,8 +30,9 @@ import java.util.Optional;
  *
  * 핵심 로직:
  * 1. PlayerAnimationEvent로 모든 팔 휘두름(클릭) 감지
- * 2. 레이트레이스로 엔티티를 향하고 있는지 확인
+ * 2. 판정 파이프라인(바이패스 → 필터 → 엔티티 탐색 → 블록 가림)으로 전투 클릭인지 확인
  * 3. 엔티티를 향한 클릭만 CPS로 카운트
+ * 4. 임계값 초과 시 위반 집계를 갱신하고 위반을 대기열에 추가 (디버프/경고는 틱 단위로 일괄 처리)
  *
  * 이전 방식의 문제점:
  * - EntityDamageByEntityEvent는 PlayerAnimationEvent보다 늦게 발생
@@ -45,13 +47,26 @@ public class ClickListener implements Listener {
     private final CPSLimiter plugin;
     private final CPSManager cpsManager;
     private final ConfigManager configManager;
-    private final MessageManager messageManager;
-    private final ViolationLogger violationLogger;
 
     /**
-     * 전투 타겟 감지기
+     * 팔 휘두름 판정 파이프라인
      */
-    private final CombatTargetDetector combatTargetDetector;
+    private final DetectionPipeline detectionPipeline;
+
+    /**
+     * 틱 단위 일괄 위반 처리기
+     */
+    private final ViolationEnforcer violationEnforcer;
+
+    /**
+     * 플레이어별 위반 집계
+     */
+    private final ViolationStatsManager violationStats;
+
+    /**
+     * 클릭 처리 지표
+     */
+    private final MetricsRegistry metrics;
 
     /**
      * ClickListener 생성자
@@ -59,33 +74,25 @@ public class ClickListener implements Listener {
      * @param plugin 플러그인 인스턴스
      * @param cpsManager CPS 관리자
      * @param configManager 설정 관리자
-     * @param messageManager 메시지 관리자
-     * @param violationLogger 위반 로거
-     */
-    public ClickListener(CPSLimiter plugin,
-                         CPSManager cpsManager,
-                         ConfigManager configManager,
-                         MessageManager messageManager,
-                         ViolationLogger violationLogger) {
-        this(plugin, cpsManager, configManager, messageManager, violationLogger,
-                new RayTraceCombatTargetDetector(plugin, configManager));
-    }
-
-    /**
-     * 테스트/확장을 위한 주입 가능한 생성자
+     * @param detectionPipeline 판정 파이프라인
+     * @param violationEnforcer 위반 처리기
+     * @param violationStats 위반 집계
+     * @param metrics 지표 저장소 (스윙/위반 수, 클릭 등록 지연 시간)
      */
     public ClickListener(CPSLimiter plugin,
                          CPSManager cpsManager,
                          ConfigManager configManager,
-                         MessageManager messageManager,
-                         ViolationLogger violationLogger,
-                         CombatTargetDetector combatTargetDetector) {
+                         DetectionPipeline detectionPipeline,
+                         ViolationEnforcer violationEnforcer,
+                         ViolationStatsManager violationStats,
+                         MetricsRegistry metrics) {
         this.plugin = plugin;
         this.cpsManager = cpsManager;
         this.configManager = configManager;
-        this.messageManager = messageManager;
-        this.violationLogger = violationLogger;
-        this.combatTargetDetector = combatTargetDetector;
+        this.detectionPipeline = detectionPipeline;
+        this.violationEnforcer = violationEnforcer;
+        this.violationStats = violationStats;
+        this.metrics = metrics;
     }
 
     /**
@@ -102,45 +109,65 @@ public class ClickListener implements Listener {
         if (event.getAnimationType() != PlayerAnimationType.ARM_SWING) {
             return;
         }
+        metrics.recordSwing();
 
         Player player = event.getPlayer();
 
-        // 바이패스 권한 확인
-        if (player.hasPermission("cpslimiter.bypass")) {
-            return;
+        // 슬롯 조회: 접속 시 엔티티 ID에 연결해 둔 슬롯을 정수 테이블에서 찾음 (UUID 해시 조회 없음)
+        // 리로드 직후 등 연결이 누락된 경우에만 새로 할당
+        int slot = cpsManager.getSlotByEntityId(player.getEntityId());
+        if (slot == CPSManager.NO_SLOT) {
+            slot = cpsManager.acquireSlot(player.getUniqueId(), player.getEntityId());
         }
 
-        // 전투 타겟 감지
+        // 판정 파이프라인: 바이패스 권한 → 게임모드/월드 필터 → 엔티티 탐색 → 블록 가림
         // 채굴(좌클릭 블록) / 허공 클릭 / 블록 뒤 엔티티 오탐 등을 모두 차단
-        Optional<CombatTarget> target = combatTargetDetector.detect(player);
+        Optional<CombatTarget> target = detectionPipeline.run(player, slot);
         if (target.isEmpty()) {
             return;
         }
 
-        // CPS 등록 및 확인
-        int currentCPS = cpsManager.registerClick(player.getUniqueId());
-        int threshold = configManager.getCPSThreshold();
+        // CPS 등록 및 확인 (설정 스냅샷은 이벤트당 한 번만 읽음)
+        ClickRegistrationEvent registrationEvent = new ClickRegistrationEvent();
+        registrationEvent.begin();
+        long registerStart = System.nanoTime();
+        int currentCPS = cpsManager.registerClick(slot);
+        metrics.recordRegisterClick(System.nanoTime() - registerStart);
+        registrationEvent.end();
+        if (registrationEvent.shouldCommit()) {
+            registrationEvent.commit(player.getName(), currentCPS);
+        }
+        ConfigSnapshot config = configManager.getSnapshot();
+        int threshold = config.getCPSThreshold();
 
         // 디버그 모드: CPS 로그 출력
-        if (configManager.isDebugMode()) {
+        if (config.isDebugMode()) {
             plugin.getLogger().info("[DEBUG] " + player.getName() + " CPS: " + currentCPS);
         }
 
         // 임계값 초과 확인
         if (currentCPS >= threshold) {
-            handleViolation(player, currentCPS, target.get());
+            handleViolation(player, slot, currentCPS, target.get(), config);
         }
     }
 
     /**
      * CPS 위반 처리
      *
+     * 쿨다운은 대기열 추가 시점에 확인/기록하므로, 쿨다운 중인 위반은 대기열에 들어가지 않습니다.
+     *
      * @param player 위반 플레이어
+     * @param slot 플레이어 슬롯 번호
      * @param cps 현재 CPS
+     * @param combatTarget 전투 타겟
+     * @param config 이벤트 처리에 사용 중인 설정 스냅샷
      */
-    private void handleViolation(Player player, int cps, CombatTarget combatTarget) {
-        ClickData clickData = cpsManager.getClickData(player.getUniqueId());
-        long cooldown = configManager.getDebuffCooldown();
+    private void handleViolation(Player player, int slot, int cps, CombatTarget combatTarget, ConfigSnapshot config) {
+        ClickData clickData = cpsManager.getClickData(slot);
+        if (clickData == null) {
+            return;
+        }
+        long cooldown = config.getDebuffCooldown();
 
         // 쿨다운 확인 (연속 디버프 방지)
         if (!clickData.canApplyDebuff(cooldown)) {
@@ -148,74 +175,43 @@ public class ClickListener implements Listener {
         }
 
         // 디버프 적용 시간 기록
-        clickData.setLastDebuffTime(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        clickData.setLastDebuffTime(now);
 
-        // 디버프 효과 적용
-        applyDebuffs(player);
+        metrics.recordViolation();
 
-        // 채팅 경고 메시지
-        if (configManager.isChatNotificationEnabled()) {
-            messageManager.send(player, "warning.chat",
-                    "{cps}", String.valueOf(cps),
-                    "{threshold}", String.valueOf(configManager.getCPSThreshold())
-            );
-        }
+        // 플레이어별 위반 집계 갱신 (/cpslimiter check 에서 로그 없이 조회)
+        violationStats.record(player.getUniqueId(), cps, now);
 
-        // 타이틀 경고 메시지
-        if (configManager.isTitleNotificationEnabled()) {
-            messageManager.sendTitle(player,
-                    "warning.title.main",
-                    "warning.title.subtitle",
-                    configManager.getTitleFadeIn(),
-                    configManager.getTitleStay(),
-                    configManager.getTitleFadeOut(),
-                    "{cps}", String.valueOf(cps),
-                    "{threshold}", String.valueOf(configManager.getCPSThreshold())
-            );
-        }
-
-        // 위반 로그 기록 (운영/분석용으로 타겟 정보 포함)
-        violationLogger.log(player, cps, combatTarget);
-
-        // 디버그 로그
-        if (configManager.isDebugMode()) {
-            plugin.getLogger().info("[DEBUG] " + player.getName() + " 디버프 적용됨 (CPS: " + cps + ")"
-                    + " / 타겟=" + combatTarget.entity().getType()
-                    + "(" + combatTarget.entity().getUniqueId() + ")"
-                    + " / 거리=" + String.format("%.2f", combatTarget.distance()));
-        }
+        // 디버프/경고/로그는 틱 단위로 모아서 처리 (같은 틱의 반복 위반은 병합)
+        violationEnforcer.submit(player, cps, combatTarget);
     }
 
     /**
-     * 디버프 효과를 플레이어에게 적용합니다.
+     * 플레이어 접속 시 슬롯 할당 및 바이패스 권한 캐싱
+     *
+     * 클릭 처리 경로에서 해시/권한 조회 없이 슬롯 배열에 접근할 수 있도록 미리 할당합니다.
+     * 권한 플러그인이 접속 처리를 마친 뒤 판정하도록 MONITOR 우선순위를 사용합니다.
      *
-     * @param player 대상 플레이어
+     * @param event 플레이어 접속 이벤트
      */
-    private void applyDebuffs(Player player) {
-        for (DebuffConfig debuff : configManager.getDebuffs()) {
-            PotionEffect effect = new PotionEffect(
-                    debuff.getEffectType(),
-                    debuff.getDurationTicks(),
-                    debuff.getAmplifier(),
-                    false,  // ambient (주변 효과 여부)
-                    debuff.isShowParticles(),
-                    debuff.isShowIcon()
-            );
-
-            // 기존 효과가 있으면 덮어쓰기
-            player.addPotionEffect(effect, true);
-        }
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        int slot = cpsManager.acquireSlot(player.getUniqueId(), player.getEntityId());
+        int stamp = cpsManager.getBypassStamp(slot);
+        cpsManager.setBypass(slot, stamp, player.hasPermission(CPSManager.BYPASS_PERMISSION));
     }
 
     /**
      * 플레이어 퇴장 시 데이터 정리
      *
-     * 메모리 누수를 방지하기 위해 플레이어 데이터를 제거합니다.
+     * 메모리 누수를 방지하기 위해 플레이어 슬롯을 반납합니다.
      *
      * @param event 플레이어 퇴장 이벤트
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        cpsManager.removePlayer(event.getPlayer().getUniqueId());
+        cpsManager.releaseSlot(event.getPlayer().getUniqueId());
     }
 }
@@ -0,0 +1,72 @@
+package kr.minex.cpslimiter.listeners;
+
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.CPSManager;
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+
+import java.util.List;
+
+/**
+ * LuckPerms 권한 변경 연동
+ *
+ * <p>LuckPerms는 명령어, API, 웹 에디터, 다른 서버와의 동기화 등 어떤 경로로 권한이 바뀌든
+ * 플레이어의 권한 데이터를 다시 계산한 뒤 {@link UserDataRecalculateEvent}를 발생시킵니다.
+ * 이 시점에 해당 플레이어의 바이패스 캐시만 무효화하므로, 다음 클릭부터 바뀐 권한이 적용됩니다.
+ * 그룹 권한이 바뀐 경우({@link GroupDataRecalculateEvent})에는 소속 플레이어를 알 수 없으므로 전체를 무효화합니다.</p>
+ *
+ * <p>LuckPerms 클래스를 참조하므로 LuckPerms가 설치된 경우에만 이 클래스를 로드해야 합니다.
+ * 이벤트는 LuckPerms 스레드에서 호출되며, 캐시 무효화는 어느 스레드에서나 안전합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+final class LuckPermsBypassHook {
+
+    private final List<EventSubscription<?>> subscriptions;
+
+    private LuckPermsBypassHook(List<EventSubscription<?>> subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
+    /**
+     * LuckPerms 이벤트를 구독합니다.
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param cpsManager CPS 관리자 (권한 캐시 저장소)
+     * @return 연동 핸들
+     * @throws IllegalStateException LuckPerms API가 아직 로드되지 않은 경우
+     */
+    static LuckPermsBypassHook register(CPSLimiter plugin, CPSManager cpsManager) {
+        return register(plugin, LuckPermsProvider.get(), cpsManager);
+    }
+
+    /**
+     * 지정한 LuckPerms 인스턴스의 이벤트를 구독합니다.
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param luckPerms LuckPerms API
+     * @param cpsManager CPS 관리자 (권한 캐시 저장소)
+     * @return 연동 핸들
+     */
+    static LuckPermsBypassHook register(CPSLimiter plugin, LuckPerms luckPerms, CPSManager cpsManager) {
+        return new LuckPermsBypassHook(List.of(
+                luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                        event -> cpsManager.invalidateBypass(event.getUser().getUniqueId())),
+                luckPerms.getEventBus().subscribe(plugin, GroupDataRecalculateEvent.class,
+                        event -> cpsManager.invalidateAllBypass())
+        ));
+    }
+
+    /**
+     * 구독을 해제합니다.
+     */
+    void unregister() {
+        for (EventSubscription<?> subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package kr.minex.cpslimiter.listeners;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.CPSManager;
+
+import java.util.UUID;
+
+/**
+ * 바이패스 권한 캐시 갱신 리스너
+ *
+ * <p>Bukkit에는 범용 권한 변경 이벤트가 없으므로, 권한 플러그인에 따라 두 가지 방식으로 캐시를 갱신합니다.
+ * 어느 방식이든 다른 플레이어의 캐시는 건드리지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>LuckPerms 설치 시: 권한 데이터가 다시 계산된 플레이어만 무효화 ({@link LuckPermsBypassHook}).
+ *         명령어, API, 웹 에디터 등 변경 경로와 관계없이 다음 클릭부터 반영됩니다.</li>
+ *     <li>그 외: 매 틱, 지난 확인 이후 캐시된 판정으로 휘두른 플레이어만 권한을 다시 확인해 기록
+ *         (Folia에서는 플레이어 소유 스레드에서 확인). 클릭 중인 플레이어에게는 1틱 이내에 반영되고,
+ *         클릭하지 않는 플레이어는 조회하지 않습니다. (다음 클릭은 캐시로 판정한 뒤 그다음 틱에 다시 확인)</li>
+ *     <li>월드 이동: 월드별 권한을 위해 해당 플레이어 무효화</li>
+ * </ul>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class PermissionCacheListener implements Listener {
+
+    /**
+     * 권한 재확인 간격 (틱, LuckPerms가 없는 경우)
+     */
+    private static final long RECHECK_INTERVAL_TICKS = 1L;
+
+    private final CPSLimiter plugin;
+    private final CPSManager cpsManager;
+
+    /**
+     * LuckPerms 연동 (설치되지 않았으면 null)
+     */
+    private LuckPermsBypassHook luckPermsHook;
+
+    /**
+     * PermissionCacheListener 생성자
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param cpsManager CPS 관리자 (권한 캐시 저장소)
+     */
+    public PermissionCacheListener(CPSLimiter plugin, CPSManager cpsManager) {
+        this.plugin = plugin;
+        this.cpsManager = cpsManager;
+    }
+
+    /**
+     * 권한 변경 감지를 시작합니다.
+     * LuckPerms가 있으면 이벤트를 구독하고, 없으면 휘두른 플레이어만 다시 확인하는 태스크를 시작합니다.
+     */
+    public void start() {
+        if (plugin.getServer().getPluginManager().isPluginEnabled("LuckPerms")) {
+            try {
+                luckPermsHook = LuckPermsBypassHook.register(plugin, cpsManager);
+                plugin.getLogger().info("LuckPerms 권한 변경 이벤트로 바이패스 권한 캐시를 갱신합니다.");
+                return;
+            } catch (IllegalStateException | LinkageError e) {
+                plugin.getLogger().warning("LuckPerms 연동 실패, 플레이어별 권한 재확인을 사용합니다: " + e.getMessage());
+            }
+        }
+        plugin.getSchedulerAdapter().runGlobalTimer(this::recheckSwung, RECHECK_INTERVAL_TICKS, RECHECK_INTERVAL_TICKS);
+    }
+
+    /**
+     * LuckPerms 구독을 해제합니다. (재확인 태스크는 스케줄러 종료 시 함께 취소됨)
+     */
+    public void stop() {
+        if (luckPermsHook != null) {
+            luckPermsHook.unregister();
+            luckPermsHook = null;
+        }
+    }
+
+    /**
+     * 월드 이동 시 해당 플레이어의 권한 캐시 무효화 (월드별 권한 지원)
+     *
+     * @param event 월드 이동 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        cpsManager.invalidateBypass(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 지난 확인 이후 휘두른 플레이어의 바이패스 권한을 다시 확인합니다.
+     */
+    private void recheckSwung() {
+        boolean folia = plugin.getSchedulerAdapter().isFolia();
+        int limit = cpsManager.getSlotLimit();
+        for (int slot = 0; slot < limit; slot++) {
+            if (!cpsManager.takeSwung(slot)) {
+                continue;
+            }
+            UUID owner = cpsManager.getSlotOwner(slot);
+            Player player = owner == null ? null : Bukkit.getPlayer(owner);
+            if (player == null) {
+                continue;
+            }
+            if (folia) {
+                plugin.getSchedulerAdapter().runForEntity(player, () -> recheck(player));
+            } else {
+                recheck(player);
+            }
+        }
+    }
+
+    /**
+     * 플레이어 한 명의 권한을 조회해 캐시에 기록합니다. (플레이어 소유 스레드에서 호출)
+     */
+    private void recheck(Player player) {
+        int slot = cpsManager.getSlotByEntityId(player.getEntityId());
+        if (slot != CPSManager.NO_SLOT) {
+            int stamp = cpsManager.getBypassStamp(slot);
+            cpsManager.setBypass(slot, stamp, player.hasPermission(CPSManager.BYPASS_PERMISSION));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 매핑으로 추가하는 바이너리 위반 로그 ({@link BinaryLogFormat})
+ *
+ * <p>레코드 영역은 {@link #CHUNK_SIZE} 단위로 매핑하며, 매핑 구간이 차면 다음 구간을 새로 매핑합니다.
+ * 레코드를 쓰는 것은 메모리 복사일 뿐이므로 시스템 콜이 없고, 헤더의 레코드 수는 flush할 때 갱신합니다.
+ * 비정상 종료 시 마지막으로 갱신된 레코드 수까지만 유효합니다.</p>
+ *
+ * <p>기존 파일에 이어 쓸 때는 파일의 엔티티 타입 목록을 그대로 사용하고,
+ * 서버 버전이 바뀌어 새로 생긴 타입만 목록 끝에 추가합니다.</p>
+ *
+ * <p>로그 작성 스레드 하나에서만 사용해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class BinaryLogFile implements ViolationLogSink {
+
+    /**
+     * 레코드 영역 매핑 단위 (레코드 크기의 배수)
+     */
+    static final int CHUNK_SIZE = BinaryLogFormat.RECORD_SIZE * 16 * 1024;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+
+    /**
+     * 서버 엔티티 타입 순번 → 파일 타입 목록 순번
+     */
+    private final int[] typeMapping;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long count;
+
+    /**
+     * 바이너리 로그 파일을 엽니다. (없으면 생성)
+     *
+     * @param file 로그 파일 (호출자가 데이터 폴더 안인지 확인한 경로)
+     * @param serverTypeNames 서버 엔티티 타입 순번별 이름
+     * @throws IOException 파일을 열 수 없거나 바이너리 로그 형식이 아닌 경우
+     */
+    public BinaryLogFile(Path file, String[] serverTypeNames) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            if (!created && channel.size() < BinaryLogFormat.HEADER_SIZE) {
+                throw new IOException("바이너리 위반 로그 형식이 아닙니다.");
+            }
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, BinaryLogFormat.HEADER_SIZE);
+            if (created) {
+                BinaryLogFormat.writeHeader(header);
+            }
+
+            List<String> fileTypes = BinaryLogFormat.readHeader(header);
+            typeMapping = mapTypes(fileTypes, serverTypeNames);
+            count = header.getLong(BinaryLogFormat.COUNT_OFFSET);
+
+            long dataEnd = BinaryLogFormat.HEADER_SIZE + count * BinaryLogFormat.RECORD_SIZE;
+            if (count < 0 || dataEnd > channel.size()) {
+                throw new IOException("바이너리 로그 헤더가 손상되었습니다.");
+            }
+            remap(dataEnd);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private int[] mapTypes(List<String> fileTypes, String[] serverTypeNames) {
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int i = 0; i < fileTypes.size(); i++) {
+            indexByName.putIfAbsent(fileTypes.get(i), i);
+        }
+
+        int[] mapping = new int[serverTypeNames.length];
+        for (int ordinal = 0; ordinal < serverTypeNames.length; ordinal++) {
+            Integer index = indexByName.get(serverTypeNames[ordinal]);
+            mapping[ordinal] = index != null
+                    ? index
+                    : BinaryLogFormat.appendType(header, fileTypes, serverTypeNames[ordinal]);
+        }
+        return mapping;
+    }
+
+    @Override
+    public void write(ViolationRecord record) throws IOException {
+        long position = BinaryLogFormat.HEADER_SIZE + count * BinaryLogFormat.RECORD_SIZE;
+        if (position + BinaryLogFormat.RECORD_SIZE > windowStart + window.capacity()) {
+            remap(position);
+        }
+
+        int type = record.targetType();
+        int fileType;
+        if (type == ViolationRecord.NO_TARGET) {
+            fileType = ViolationRecord.NO_TARGET;
+        } else {
+            fileType = type >= 0 && type < typeMapping.length ? typeMapping[type] : BinaryLogFormat.UNKNOWN_TYPE;
+        }
+        BinaryLogFormat.writeRecord(window, (int) (position - windowStart), record, fileType);
+        count++;
+    }
+
+    @Override
+    public void flush(boolean sync) throws IOException {
+        if (sync) {
+            window.force();
+        }
+        // 레코드를 모두 쓴 뒤 레코드 수를 갱신 (읽는 쪽은 이 수까지만 읽음)
+        header.putLong(BinaryLogFormat.COUNT_OFFSET, count);
+        if (sync) {
+            header.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush(true);
+            // 미리 늘려 둔 매핑 영역을 잘라 냄 (매핑 중 자르기를 지원하지 않는 OS에서는 그대로 둠)
+            try {
+                channel.truncate(BinaryLogFormat.HEADER_SIZE + count * BinaryLogFormat.RECORD_SIZE);
+            } catch (IOException ignored) {
+                // 레코드 수 이후 영역은 읽을 때 무시됨
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * position부터 CHUNK_SIZE만큼 새로 매핑합니다. (파일이 짧으면 자동으로 늘어남)
+     */
+    private void remap(long position) throws IOException {
+        // 이전 매핑의 내용은 페이지 캐시에 남아 있으므로 따로 기록할 필요 없음
+        window = channel.map(FileChannel.MapMode.READ_WRITE, position, CHUNK_SIZE);
+        windowStart = position;
+    }
+
+    /**
+     * 기록한 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 서버 타입 순번 → 파일 타입 순번 매핑 (테스트용)
+     */
+    int[] getTypeMapping() {
+        return Arrays.copyOf(typeMapping, typeMapping.length);
+    }
+}
@@ -0,0 +1,193 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 위반 로그 형식 정의 (쓰기/읽기 공용)
+ *
+ * <pre>
+ * 헤더 (HEADER_SIZE 바이트, 빅 엔디안)
+ *   0  int    매직 "CPSL"
+ *   4  short  버전
+ *   6  short  레코드 크기 (96)
+ *   8  long   레코드 수 (배치를 쓸 때마다 갱신, 이 수를 넘는 영역은 무시)
+ *   16 int    헤더 크기
+ *   20 int    엔티티 타입 수
+ *   24 ...    엔티티 타입 이름 [길이 1바이트][ASCII] 반복 (레코드의 타입 값은 이 목록의 순번)
+ *
+ * 레코드 (RECORD_SIZE 바이트, i번째 레코드 = HEADER_SIZE + i * RECORD_SIZE)
+ *   0  long   위반 시각 (epoch 밀리초)
+ *   8  long   플레이어 UUID 상위 / 16 long 하위
+ *   24 int    CPS
+ *   28 int    타겟 타입 순번 (-1이면 타겟 없음)
+ *   32 long   타겟 UUID 상위 / 40 long 하위
+ *   48 double 타겟 거리
+ *   56 byte   이름 길이, 57 ~ 87 이름 (UTF-8, 최대 31바이트)
+ *   88 ~ 95   예약 (0)
+ * </pre>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+final class BinaryLogFormat {
+
+    static final int MAGIC = 0x4350534C; // "CPSL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16 * 1024;
+    static final int RECORD_SIZE = 96;
+
+    static final int COUNT_OFFSET = 8;
+    static final int TYPE_TABLE_OFFSET = 24;
+
+    static final int NAME_OFFSET = 56;
+    static final int MAX_NAME_BYTES = 31;
+
+    /**
+     * 타입 목록에 없는 엔티티 타입 (읽을 때 UNKNOWN으로 표시)
+     */
+    static final int UNKNOWN_TYPE = Integer.MAX_VALUE;
+
+    private BinaryLogFormat() {
+    }
+
+    /**
+     * 헤더를 검증하고 엔티티 타입 목록을 읽습니다.
+     *
+     * @param header 헤더 버퍼 (위치 0부터 HEADER_SIZE 이상)
+     * @return 엔티티 타입 이름 목록
+     * @throws IOException 바이너리 로그 형식이 아닌 경우
+     */
+    static List<String> readHeader(ByteBuffer header) throws IOException {
+        if (header.limit() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("바이너리 위반 로그 형식이 아닙니다.");
+        }
+        if (header.getShort(4) != VERSION || header.getShort(6) != RECORD_SIZE || header.getInt(16) != HEADER_SIZE) {
+            throw new IOException("지원하지 않는 바이너리 로그 버전입니다: " + header.getShort(4));
+        }
+
+        int typeCount = header.getInt(20);
+        List<String> types = new ArrayList<>(Math.max(0, typeCount));
+        int position = TYPE_TABLE_OFFSET;
+        for (int i = 0; i < typeCount; i++) {
+            int length = header.get(position) & 0xFF;
+            if (position + 1 + length > HEADER_SIZE) {
+                throw new IOException("바이너리 로그 헤더가 손상되었습니다.");
+            }
+            byte[] name = new byte[length];
+            header.get(position + 1, name);
+            types.add(new String(name, StandardCharsets.US_ASCII));
+            position += 1 + length;
+        }
+        return types;
+    }
+
+    /**
+     * 새 헤더를 씁니다.
+     *
+     * @param header 헤더 버퍼
+     */
+    static void writeHeader(ByteBuffer header) {
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putShort(6, (short) RECORD_SIZE);
+        header.putLong(COUNT_OFFSET, 0L);
+        header.putInt(16, HEADER_SIZE);
+        header.putInt(20, 0);
+    }
+
+    /**
+     * 엔티티 타입 이름을 헤더 목록 끝에 추가합니다.
+     *
+     * @param header 헤더 버퍼
+     * @param types 현재 타입 목록 (추가되면 함께 갱신)
+     * @param name 추가할 이름
+     * @return 추가된 순번 (헤더 공간이 부족하면 {@link #UNKNOWN_TYPE})
+     */
+    static int appendType(ByteBuffer header, List<String> types, String name) {
+        int position = TYPE_TABLE_OFFSET;
+        for (String existing : types) {
+            position += 1 + existing.length();
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > 255 || position + 1 + bytes.length > HEADER_SIZE) {
+            return UNKNOWN_TYPE;
+        }
+        header.put(position, (byte) bytes.length);
+        header.put(position + 1, bytes);
+        types.add(name);
+        header.putInt(20, types.size());
+        return types.size() - 1;
+    }
+
+    /**
+     * 레코드 하나를 씁니다.
+     *
+     * @param buffer 대상 버퍼
+     * @param offset 레코드 시작 위치
+     * @param record 위반 기록
+     * @param fileType 파일 타입 목록 기준 타입 순번
+     */
+    static void writeRecord(ByteBuffer buffer, int offset, ViolationRecord record, int fileType) {
+        buffer.putLong(offset, record.epochMillis());
+        buffer.putLong(offset + 8, record.playerMostBits());
+        buffer.putLong(offset + 16, record.playerLeastBits());
+        buffer.putInt(offset + 24, record.cps());
+        buffer.putInt(offset + 28, fileType);
+        buffer.putLong(offset + 32, record.targetMostBits());
+        buffer.putLong(offset + 40, record.targetLeastBits());
+        buffer.putDouble(offset + 48, record.distance());
+
+        byte[] name = truncateUtf8(record.playerName());
+        buffer.put(offset + NAME_OFFSET, (byte) name.length);
+        buffer.put(offset + NAME_OFFSET + 1, name);
+        for (int i = offset + NAME_OFFSET + 1 + name.length; i < offset + RECORD_SIZE; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * 레코드 하나를 읽습니다.
+     *
+     * @param buffer 원본 버퍼
+     * @param offset 레코드 시작 위치
+     * @return 위반 기록 (타겟 타입은 파일 타입 목록 기준 순번)
+     */
+    static ViolationRecord readRecord(ByteBuffer buffer, int offset) {
+        int nameLength = Math.min(buffer.get(offset + NAME_OFFSET) & 0xFF, MAX_NAME_BYTES);
+        byte[] name = new byte[nameLength];
+        buffer.get(offset + NAME_OFFSET + 1, name);
+        return new ViolationRecord(
+                buffer.getLong(offset),
+                new String(name, StandardCharsets.UTF_8),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getInt(offset + 24),
+                buffer.getInt(offset + 28),
+                buffer.getLong(offset + 32),
+                buffer.getLong(offset + 40),
+                buffer.getDouble(offset + 48)
+        );
+    }
+
+    /**
+     * 이름을 UTF-8 최대 {@link #MAX_NAME_BYTES}바이트로 자릅니다. (문자 경계 유지)
+     */
+    private static byte[] truncateUtf8(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) {
+            return bytes;
+        }
+        int length = MAX_NAME_BYTES;
+        // 잘린 위치가 멀티바이트 문자 중간이면 문자 시작까지 되돌림
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+}
@@ -0,0 +1,217 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 바이너리 위반 로그 리더 ({@link BinaryLogFormat})
+ *
+ * <p>Bukkit 없이 동작하므로 서버 밖의 분석 도구에서도 사용할 수 있습니다.
+ * 레코드는 고정 크기이므로 번호로 바로 찾을 수 있고({@link #read(long)}),
+ * 전체를 순서대로 읽거나({@link #forEach(Consumer)}) 기존 텍스트 형식으로 변환할 수 있습니다.</p>
+ *
+ * <p>레코드 수는 열 때의 헤더 값을 사용합니다. 서버가 쓰는 중인 파일도 열 수 있습니다.</p>
+ *
+ * <pre>
+ * java -cp CPSLimiter.jar kr.minex.cpslimiter.logging.BinaryLogReader violations.bin [violations.log]
+ * </pre>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class BinaryLogReader implements Closeable {
+
+    /**
+     * 순차 읽기 버퍼 크기 (레코드 수)
+     */
+    private static final int READ_BATCH = 4096;
+
+    private final FileChannel channel;
+    private final String[] typeNames;
+    private final long count;
+
+    /**
+     * 바이너리 로그 파일을 엽니다.
+     *
+     * @param file 로그 파일
+     * @throws IOException 파일을 열 수 없거나 바이너리 로그 형식이 아닌 경우
+     */
+    public BinaryLogReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(BinaryLogFormat.HEADER_SIZE);
+            readFully(header, 0L);
+            List<String> types = BinaryLogFormat.readHeader(header);
+            typeNames = types.toArray(new String[0]);
+
+            // 헤더의 레코드 수와 실제 파일 길이 중 작은 쪽까지만 읽음
+            long stored = header.getLong(BinaryLogFormat.COUNT_OFFSET);
+            long available = (channel.size() - BinaryLogFormat.HEADER_SIZE) / BinaryLogFormat.RECORD_SIZE;
+            count = Math.max(0L, Math.min(stored, available));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 파일의 엔티티 타입 이름 목록을 반환합니다. (레코드의 타겟 타입 값은 이 목록의 순번)
+     *
+     * @return 엔티티 타입 이름 목록
+     */
+    public String[] getTypeNames() {
+        return typeNames.clone();
+    }
+
+    /**
+     * 타겟 타입 순번을 이름으로 변환합니다.
+     *
+     * @param type 레코드의 타겟 타입 값
+     * @return 타입 이름 (타겟이 없으면 null, 목록에 없으면 "UNKNOWN")
+     */
+    public String typeName(int type) {
+        if (type == ViolationRecord.NO_TARGET) {
+            return null;
+        }
+        return type >= 0 && type < typeNames.length ? typeNames[type] : "UNKNOWN";
+    }
+
+    /**
+     * index번째 레코드를 읽습니다.
+     *
+     * @param index 레코드 번호 (0부터)
+     * @return 위반 기록
+     * @throws IOException 읽기 실패 시
+     */
+    public ViolationRecord read(long index) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("레코드 번호가 범위를 벗어났습니다: " + index + " / " + count);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryLogFormat.RECORD_SIZE);
+        readFully(buffer, offsetOf(index));
+        return BinaryLogFormat.readRecord(buffer, 0);
+    }
+
+    /**
+     * 모든 레코드를 순서대로 읽습니다.
+     *
+     * @param consumer 레코드 처리 함수
+     * @throws IOException 읽기 실패 시
+     */
+    public void forEach(Consumer<ViolationRecord> consumer) throws IOException {
+        forEach(0L, count, consumer);
+    }
+
+    /**
+     * [from, to) 범위의 레코드를 순서대로 읽습니다.
+     *
+     * @param from 시작 번호 (포함)
+     * @param to 끝 번호 (제외)
+     * @param consumer 레코드 처리 함수
+     * @throws IOException 읽기 실패 시
+     */
+    public void forEach(long from, long to, Consumer<ViolationRecord> consumer) throws IOException {
+        long start = Math.max(0L, from);
+        long end = Math.min(count, to);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BinaryLogFormat.RECORD_SIZE * READ_BATCH);
+
+        for (long index = start; index < end; ) {
+            int records = (int) Math.min(READ_BATCH, end - index);
+            buffer.clear().limit(records * BinaryLogFormat.RECORD_SIZE);
+            readFully(buffer, offsetOf(index));
+            for (int i = 0; i < records; i++) {
+                consumer.accept(BinaryLogFormat.readRecord(buffer, i * BinaryLogFormat.RECORD_SIZE));
+            }
+            index += records;
+        }
+    }
+
+    /**
+     * 모든 레코드를 기존 텍스트 로그 형식으로 변환합니다. (시스템 시간대/로케일 기준)
+     *
+     * @param out 출력 스트림
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public void writeText(OutputStream out) throws IOException {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(typeNames);
+        IOException[] failure = new IOException[1];
+        forEach(record -> {
+            if (failure[0] != null) {
+                return;
+            }
+            try {
+                int length = encoder.encode(record);
+                out.write(encoder.buffer(), 0, length);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static long offsetOf(long index) {
+        return BinaryLogFormat.HEADER_SIZE + index * BinaryLogFormat.RECORD_SIZE;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("바이너리 로그 파일이 예상보다 짧습니다.");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * 바이너리 로그를 텍스트로 변환합니다.
+     *
+     * @param args [입력 파일] [출력 파일(생략 시 표준 출력)]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: BinaryLogReader <violations.bin> [출력 파일]");
+            System.exit(1);
+            return;
+        }
+
+        try (BinaryLogReader reader = new BinaryLogReader(Paths.get(args[0]))) {
+            if (args.length >= 2) {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Paths.get(args[1])))) {
+                    reader.writeText(out);
+                }
+            } else {
+                OutputStream out = new BufferedOutputStream(System.out);
+                reader.writeText(out);
+            }
+        }
+    }
+}
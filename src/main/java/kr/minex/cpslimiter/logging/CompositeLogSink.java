@@ -0,0 +1,55 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 여러 출력 대상에 같은 기록을 쓰는 출력 대상 (예: 로그 파일 + 데이터베이스)
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class CompositeLogSink implements ViolationLogSink {
+
+    private final ViolationLogSink[] sinks;
+
+    /**
+     * @param sinks 출력 대상 목록 (순서대로 씀)
+     */
+    public CompositeLogSink(List<ViolationLogSink> sinks) {
+        this.sinks = sinks.toArray(new ViolationLogSink[0]);
+    }
+
+    @Override
+    public void write(ViolationRecord record) throws IOException {
+        for (ViolationLogSink sink : sinks) {
+            sink.write(record);
+        }
+    }
+
+    @Override
+    public void flush(boolean sync) throws IOException {
+        for (ViolationLogSink sink : sinks) {
+            sink.flush(sync);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (ViolationLogSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * 내장 SQLite 데이터베이스에 위반 기록을 쓰는 출력 대상
+ *
+ * <p>서버에 포함된 SQLite JDBC 드라이버를 사용하므로 별도 서비스가 필요 없습니다.
+ * 기록은 재사용하는 PreparedStatement의 배치에 모았다가 flush할 때 트랜잭션 하나로 커밋합니다.
+ * (player_uuid, timestamp) 인덱스로 플레이어별 기록을 시간순으로 조회할 수 있습니다.</p>
+ *
+ * <p>데이터베이스 오류는 로그 파일 기록을 멈추지 않도록 이 클래스 안에서 처리하며,
+ * 실패한 배치는 롤백 후 버리고 개수만 셉니다.</p>
+ *
+ * <p>로그 작성 스레드 하나에서만 사용해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class DatabaseLogSink implements ViolationLogSink {
+
+    /**
+     * SQLite JDBC 드라이버 클래스 (CraftBukkit/Paper에 포함)
+     */
+    public static final String DRIVER_CLASS = "org.sqlite.JDBC";
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS violations (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                timestamp INTEGER NOT NULL,
+                player_uuid TEXT NOT NULL,
+                player_name TEXT NOT NULL,
+                cps INTEGER NOT NULL,
+                threshold INTEGER,
+                target_mode TEXT,
+                world TEXT,
+                x REAL,
+                y REAL,
+                z REAL,
+                target_type TEXT,
+                target_uuid TEXT,
+                distance REAL
+            )""";
+
+    private static final String CREATE_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_violations_player_time ON violations (player_uuid, timestamp)";
+
+    private static final String INSERT = "INSERT INTO violations "
+            + "(timestamp, player_uuid, player_name, cps, threshold, target_mode, world, x, y, z, target_type, target_uuid, distance) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 실패 경고를 다시 출력하기까지의 최소 간격 (밀리초)
+     */
+    private static final long WARNING_INTERVAL_MS = 60_000L;
+
+    private final Connection connection;
+    private final PreparedStatement insert;
+    private final String[] targetTypeNames;
+    private final Logger logger;
+
+    private int pending;
+    private long lastWarningMillis;
+
+    private final LongAdder insertedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 데이터베이스를 열고 테이블/인덱스를 준비합니다.
+     *
+     * @param file 데이터베이스 파일 (호출자가 데이터 폴더 안인지 확인한 경로)
+     * @param targetTypeNames 엔티티 타입 순번별 이름
+     * @param durable true면 커밋마다 디스크 기록까지 기다림 (synchronous=FULL)
+     * @param logger 경고 출력용 로거
+     * @throws IOException 드라이버가 없거나 데이터베이스를 열 수 없는 경우
+     */
+    public DatabaseLogSink(Path file, String[] targetTypeNames, boolean durable, Logger logger) throws IOException {
+        this.targetTypeNames = targetTypeNames.clone();
+        this.logger = logger;
+
+        try {
+            // 플러그인 클래스 로더에서 DriverManager가 드라이버를 찾을 수 있도록 먼저 로드
+            Class.forName(DRIVER_CLASS);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("SQLite JDBC 드라이버를 찾을 수 없습니다: " + DRIVER_CLASS, e);
+        }
+
+        Connection opened = null;
+        try {
+            opened = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+            try (Statement statement = opened.createStatement()) {
+                // WAL: 기록 중에도 조회가 막히지 않음
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=" + (durable ? "FULL" : "NORMAL"));
+                statement.execute(CREATE_TABLE);
+                statement.execute(CREATE_INDEX);
+            }
+            opened.setAutoCommit(false);
+            this.insert = opened.prepareStatement(INSERT);
+            this.connection = opened;
+        } catch (SQLException e) {
+            closeQuietly(opened);
+            throw new IOException("위반 기록 데이터베이스를 열 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(ViolationRecord record) throws IOException {
+        try {
+            insert.setLong(1, record.epochMillis());
+            insert.setString(2, new UUID(record.playerMostBits(), record.playerLeastBits()).toString());
+            insert.setString(3, record.playerName());
+            insert.setInt(4, record.cps());
+            insert.setInt(5, record.threshold());
+            insert.setString(6, record.targetMode());
+            insert.setString(7, record.world());
+            setDouble(8, record.x());
+            setDouble(9, record.y());
+            setDouble(10, record.z());
+            if (record.hasTarget()) {
+                insert.setString(11, ViolationLineEncoder.targetTypeName(targetTypeNames, record.targetType()));
+                insert.setString(12, new UUID(record.targetMostBits(), record.targetLeastBits()).toString());
+                setDouble(13, record.distance());
+            } else {
+                insert.setNull(11, Types.VARCHAR);
+                insert.setNull(12, Types.VARCHAR);
+                insert.setNull(13, Types.REAL);
+            }
+            insert.addBatch();
+            pending++;
+        } catch (SQLException e) {
+            failedCount.increment();
+            warn("위반 기록 데이터베이스 추가 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void flush(boolean sync) throws IOException {
+        if (pending == 0) {
+            return;
+        }
+
+        int batch = pending;
+        pending = 0;
+        try {
+            insert.executeBatch();
+            connection.commit();
+            insertedCount.add(batch);
+        } catch (SQLException e) {
+            failedCount.add(batch);
+            warn("위반 기록 데이터베이스 저장 실패 (" + batch + "건): " + e.getMessage());
+            try {
+                insert.clearBatch();
+                connection.rollback();
+            } catch (SQLException ignored) {
+                // 다음 배치에서 다시 시도
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush(true);
+        } finally {
+            try {
+                insert.close();
+            } catch (SQLException ignored) {
+                // 연결을 닫으면 함께 정리됨
+            }
+            closeQuietly(connection);
+        }
+    }
+
+    private void setDouble(int index, double value) throws SQLException {
+        if (Double.isFinite(value)) {
+            insert.setDouble(index, value);
+        } else {
+            insert.setNull(index, Types.REAL);
+        }
+    }
+
+    private void warn(String message) {
+        long now = System.currentTimeMillis();
+        if (now - lastWarningMillis >= WARNING_INTERVAL_MS) {
+            lastWarningMillis = now;
+            logger.warning(message);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 종료 중 오류는 무시
+        }
+    }
+
+    /**
+     * 커밋된 기록 수를 반환합니다.
+     *
+     * @return 저장된 기록 수
+     */
+    public long getInsertedCount() {
+        return insertedCount.sum();
+    }
+
+    /**
+     * 저장에 실패해 버린 기록 수를 반환합니다.
+     *
+     * @return 실패한 기록 수
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 로그 파일 flush 정책 (그룹 커밋)
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public enum FlushPolicy {
+    /**
+     * 배치를 쓸 때마다 OS로 flush (기본값)
+     */
+    EVERY_BATCH,
+
+    /**
+     * 마지막 flush 후 일정 시간(logging.flush-interval-ms)이 지났을 때만 flush
+     * (쓰기 횟수 최소, 서버가 비정상 종료되면 마지막 구간의 로그가 유실될 수 있음)
+     */
+    INTERVAL,
+
+    /**
+     * 배치마다 flush 후 fsync로 디스크 기록까지 보장 (가장 안전, 가장 느림)
+     */
+    FSYNC;
+
+    /**
+     * 설정 문자열을 정책으로 변환합니다.
+     *
+     * @param raw 설정 값 (every-batch / interval-ms / fsync)
+     * @return 정책 (알 수 없으면 EVERY_BATCH)
+     */
+    public static FlushPolicy fromConfig(String raw) {
+        if (raw == null) {
+            return EVERY_BATCH;
+        }
+
+        String normalized = raw.trim().toUpperCase().replace('-', '_');
+        return switch (normalized) {
+            case "EVERY_BATCH", "BATCH" -> EVERY_BATCH;
+            case "INTERVAL_MS", "INTERVAL" -> INTERVAL;
+            case "FSYNC", "SYNC" -> FSYNC;
+            default -> EVERY_BATCH;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 위반 기록 내장 데이터베이스(SQLite) 설정
+ *
+ * @param enabled 데이터베이스 기록 사용 여부
+ * @param fileName 데이터베이스 파일명 (플러그인 폴더 기준)
+ * @param replaceFile true면 로그 파일 대신 데이터베이스에만 기록
+ */
+public record LogDatabaseSettings(boolean enabled, String fileName, boolean replaceFile) {
+
+    /**
+     * 사용 안 함 (기본값)
+     */
+    public static final LogDatabaseSettings DISABLED = new LogDatabaseSettings(false, "violations.db", false);
+}
@@ -0,0 +1,70 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 위반 로그 파일 형식
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public enum LogFormat {
+    /**
+     * 사람이 읽는 텍스트 한 줄 (기본값)
+     */
+    TEXT(null),
+
+    /**
+     * 고정 크기(96바이트) 바이너리 레코드 (쓰기 빠름, 레코드 번호로 바로 찾기 가능)
+     * {@link BinaryLogReader}로 읽거나 텍스트로 변환합니다.
+     */
+    BINARY(".bin"),
+
+    /**
+     * 한 줄에 JSON 객체 하나 (JSON Lines, 분석 도구 수집용)
+     */
+    JSONL(".jsonl");
+
+    /**
+     * 로그 파일 확장자 (null이면 logging.file 그대로 사용)
+     */
+    private final String extension;
+
+    LogFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * 설정된 로그 파일명에 이 형식의 확장자를 적용합니다.
+     *
+     * @param fileName 설정된 파일명 (예: violations.log)
+     * @return 형식에 맞는 파일명 (예: violations.bin)
+     */
+    public String applyExtension(String fileName) {
+        if (extension == null) {
+            return fileName;
+        }
+        int slash = Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'));
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > slash + 1 ? fileName.substring(0, dot) : fileName;
+        return base + extension;
+    }
+
+    /**
+     * 설정 문자열을 형식으로 변환합니다.
+     *
+     * @param raw 설정 값
+     * @return 로그 형식 (알 수 없으면 TEXT)
+     */
+    public static LogFormat fromConfig(String raw) {
+        if (raw == null) {
+            return TEXT;
+        }
+
+        String normalized = raw.trim().toUpperCase();
+        return switch (normalized) {
+            case "TEXT", "TXT" -> TEXT;
+            case "BINARY", "BIN" -> BINARY;
+            case "JSONL", "JSON", "NDJSON" -> JSONL;
+            default -> TEXT;
+        };
+    }
+}
@@ -0,0 +1,322 @@
+package kr.minex.cpslimiter.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그 작성 대기열 (다중 생산자 / 단일 소비자)
+ *
+ * <p>{@link MpscRingBuffer} 위에 넘침 정책({@link OverflowPolicy})과 소비자 대기 방식({@link WaitStrategy}),
+ * 유실 카운터를 더합니다. 생산자(메인/리전 스레드)는 BLOCK 정책이 아닌 한 대기하지 않으며,
+ * 소비자가 잠들어 있을 때만 깨우기 비용이 발생합니다.</p>
+ *
+ * @param <E> 항목 타입
+ * @author minex
+ * @since 1.0.0
+ */
+public final class LogQueue<E> {
+
+    /**
+     * BLOCK 넘침 정책에서 공간이 생기기를 기다리는 간격
+     */
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final MpscRingBuffer<E> ring;
+    private final OverflowPolicy overflowPolicy;
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * 소비자가 잠들어 있는지 여부 (생산자는 이 값이 true일 때만 깨움)
+     */
+    private final AtomicBoolean consumerWaiting = new AtomicBoolean(false);
+    private volatile Thread consumer;
+    private volatile boolean closed = false;
+
+    // BLOCK 대기 방식용
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    // 통계
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedOldestCount = new LongAdder();
+    private final LongAdder droppedNewestCount = new LongAdder();
+
+    /**
+     * LogQueue 생성자
+     *
+     * @param capacity 최소 용량 (2의 거듭제곱으로 올림)
+     * @param overflowPolicy 넘침 정책
+     * @param waitStrategy 소비자 대기 방식
+     */
+    public LogQueue(int capacity, OverflowPolicy overflowPolicy, WaitStrategy waitStrategy) {
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 항목을 추가합니다. 가득 찬 경우 넘침 정책을 따릅니다.
+     *
+     * @param element 추가할 항목
+     * @return 추가되었으면 true (DROP_NEWEST로 버려졌거나 닫힌 경우 false)
+     */
+    public boolean publish(E element) {
+        if (closed) {
+            droppedNewestCount.increment();
+            return false;
+        }
+
+        if (!ring.offer(element) && !handleOverflow(element)) {
+            return false;
+        }
+
+        publishedCount.increment();
+        signal();
+        return true;
+    }
+
+    /**
+     * 넘침 정책에 따라 다시 추가를 시도합니다.
+     *
+     * @return 최종적으로 추가되었으면 true
+     */
+    private boolean handleOverflow(E element) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> {
+                droppedNewestCount.increment();
+                return false;
+            }
+            case DROP_OLDEST -> {
+                do {
+                    if (ring.poll() != null) {
+                        droppedOldestCount.increment();
+                    }
+                } while (!ring.offer(element));
+                return true;
+            }
+            default -> {
+                // BLOCK: 작성 스레드가 공간을 비울 때까지 대기
+                signal();
+                while (!ring.offer(element)) {
+                    if (closed) {
+                        droppedNewestCount.increment();
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, BLOCK_BACKOFF_NANOS);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 잠든 소비자를 깨웁니다. (깨어 있으면 volatile 읽기 한 번으로 끝남)
+     */
+    private void signal() {
+        if (!consumerWaiting.get() || !consumerWaiting.compareAndSet(true, false)) {
+            return;
+        }
+        if (waitStrategy == WaitStrategy.BLOCK) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * 항목을 꺼냅니다. 비어 있으면 대기 방식에 따라 기다립니다.
+     * 단일 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @return 항목 (큐가 닫히고 비었으면 null)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public E take() throws InterruptedException {
+        return take(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 항목을 꺼냅니다. 비어 있으면 최대 timeout 동안 기다립니다.
+     * 단일 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 항목 (시간 초과 또는 큐가 닫히고 비었으면 null, 구분은 {@link #isClosed()})
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public E take(long timeout, TimeUnit unit) throws InterruptedException {
+        consumer = Thread.currentThread();
+        long timeoutNanos = unit.toNanos(timeout);
+        long deadline = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeoutNanos;
+        for (;;) {
+            E element = ring.poll();
+            if (element != null) {
+                return element;
+            }
+            if (closed) {
+                // 닫힌 뒤 마지막으로 게시된 항목까지 확인
+                return ring.poll();
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            await(remaining);
+        }
+    }
+
+    /**
+     * 대기 없이 항목을 꺼냅니다.
+     *
+     * @return 항목 (비어 있으면 null)
+     */
+    public E poll() {
+        return ring.poll();
+    }
+
+    /**
+     * 대기 방식에 따라 새 항목이 게시될 때까지 기다립니다.
+     *
+     * @param maxWaitNanos 최대 대기 시간 (Long.MAX_VALUE면 무제한)
+     */
+    private void await(long maxWaitNanos) throws InterruptedException {
+        if (waitStrategy == WaitStrategy.YIELD) {
+            Thread.yield();
+            return;
+        }
+
+        consumerWaiting.set(true);
+        // 대기 표시 이후 게시된 항목을 놓치지 않도록 다시 확인
+        if (!ring.isEmpty() || closed) {
+            consumerWaiting.set(false);
+            return;
+        }
+
+        boolean unbounded = maxWaitNanos == Long.MAX_VALUE;
+        if (waitStrategy == WaitStrategy.BLOCK) {
+            lock.lockInterruptibly();
+            try {
+                long nanos = maxWaitNanos;
+                while (consumerWaiting.get() && ring.isEmpty() && !closed) {
+                    if (unbounded) {
+                        notEmpty.await();
+                    } else {
+                        if (nanos <= 0) {
+                            break;
+                        }
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        } else if (unbounded) {
+            // PARK: 가짜 깨어남(spurious wakeup)은 take()의 루프가 처리
+            LockSupport.park(this);
+        } else {
+            LockSupport.parkNanos(this, maxWaitNanos);
+        }
+        consumerWaiting.set(false);
+    }
+
+    /**
+     * 큐를 닫습니다. 이후 추가는 버려지고, 소비자는 남은 항목을 모두 꺼낸 뒤 null을 받습니다.
+     */
+    public void close() {
+        closed = true;
+        consumerWaiting.set(true);
+        signal();
+    }
+
+    /**
+     * 큐가 닫혔는지 확인합니다.
+     *
+     * @return 닫혔으면 true
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 현재 대기 중인 항목 수를 반환합니다. (근사값)
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return ring.size();
+    }
+
+    /**
+     * 비어 있는지 확인합니다. (근사값)
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * 용량을 반환합니다.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return ring.capacity();
+    }
+
+    /**
+     * 추가된 항목 수를 반환합니다.
+     *
+     * @return 추가된 항목 수
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     * DROP_OLDEST 정책으로 버려진 항목 수를 반환합니다.
+     *
+     * @return 버려진 오래된 항목 수
+     */
+    public long getDroppedOldestCount() {
+        return droppedOldestCount.sum();
+    }
+
+    /**
+     * 새 항목이 버려진 수를 반환합니다. (DROP_NEWEST 정책 또는 닫힌 뒤 추가)
+     *
+     * @return 버려진 새 항목 수
+     */
+    public long getDroppedNewestCount() {
+        return droppedNewestCount.sum();
+    }
+
+    /**
+     * 넘침 정책을 반환합니다.
+     *
+     * @return 넘침 정책
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * 소비자 대기 방식을 반환합니다.
+     *
+     * @return 대기 방식
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+}
@@ -0,0 +1,27 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 위반 로그 파일 교체(rotation) 설정
+ *
+ * @param maxBytes 파일 크기 기준 교체 (바이트, 0이면 사용 안 함)
+ * @param daily 날짜가 바뀌면 교체
+ * @param compress 교체된 파일을 gzip으로 압축
+ * @param maxFiles 보관할 교체 파일 수 (0이면 제한 없음)
+ * @param maxAgeDays 교체 파일 보관 기간 (일, 0이면 제한 없음)
+ */
+public record LogRotationSettings(long maxBytes, boolean daily, boolean compress, int maxFiles, int maxAgeDays) {
+
+    /**
+     * 교체하지 않음 (기존 동작: 하나의 파일에 계속 추가)
+     */
+    public static final LogRotationSettings DISABLED = new LogRotationSettings(0L, false, false, 0, 0);
+
+    /**
+     * 교체 조건이 하나라도 켜져 있는지 확인합니다.
+     *
+     * @return 교체를 사용하면 true
+     */
+    public boolean isEnabled() {
+        return maxBytes > 0 || daily;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.minex.cpslimiter.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 작성 스레드의 그룹 커밋 통계
+ *
+ * <p>배치 크기와 flush(또는 fsync) 소요 시간을 기록합니다. 기록은 작성 스레드 하나에서만 하고,
+ * 조회는 명령어 처리 스레드에서 하므로 값은 LongAdder/volatile로 공개합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class LogWriterStats {
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder entryCount = new LongAdder();
+    private volatile int lastBatchSize = 0;
+    private volatile int maxBatchSize = 0;
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private volatile long lastFlushNanos = 0;
+    private volatile long maxFlushNanos = 0;
+
+    /**
+     * 배치 하나를 기록합니다. (작성 스레드 전용)
+     *
+     * @param size 배치 크기
+     */
+    public void recordBatch(int size) {
+        batchCount.increment();
+        entryCount.add(size);
+        lastBatchSize = size;
+        if (size > maxBatchSize) {
+            maxBatchSize = size;
+        }
+    }
+
+    /**
+     * flush 한 번을 기록합니다. (작성 스레드 전용)
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void recordFlush(long nanos) {
+        flushCount.increment();
+        flushNanos.add(nanos);
+        lastFlushNanos = nanos;
+        if (nanos > maxFlushNanos) {
+            maxFlushNanos = nanos;
+        }
+    }
+
+    /**
+     * 기록한 배치 수를 반환합니다.
+     *
+     * @return 배치 수
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * 기록한 로그 수를 반환합니다.
+     *
+     * @return 로그 수
+     */
+    public long getEntryCount() {
+        return entryCount.sum();
+    }
+
+    /**
+     * 평균 배치 크기를 반환합니다.
+     *
+     * @return 평균 배치 크기
+     */
+    public double getAverageBatchSize() {
+        long batches = batchCount.sum();
+        return batches == 0 ? 0.0 : (double) entryCount.sum() / batches;
+    }
+
+    /**
+     * 마지막 배치 크기를 반환합니다.
+     *
+     * @return 마지막 배치 크기
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * 최대 배치 크기를 반환합니다.
+     *
+     * @return 최대 배치 크기
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * flush 횟수를 반환합니다.
+     *
+     * @return flush 횟수
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * 평균 flush 소요 시간을 반환합니다.
+     *
+     * @return 평균 flush 소요 시간 (마이크로초)
+     */
+    public double getAverageFlushMicros() {
+        long flushes = flushCount.sum();
+        return flushes == 0 ? 0.0 : flushNanos.sum() / 1000.0 / flushes;
+    }
+
+    /**
+     * 마지막 flush 소요 시간을 반환합니다.
+     *
+     * @return 마지막 flush 소요 시간 (마이크로초)
+     */
+    public double getLastFlushMicros() {
+        return lastFlushNanos / 1000.0;
+    }
+
+    /**
+     * 최대 flush 소요 시간을 반환합니다.
+     *
+     * @return 최대 flush 소요 시간 (마이크로초)
+     */
+    public double getMaxFlushMicros() {
+        return maxFlushNanos / 1000.0;
+    }
+}
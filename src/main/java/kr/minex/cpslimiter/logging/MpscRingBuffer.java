@@ -0,0 +1,135 @@
+package kr.minex.cpslimiter.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 미리 할당된 고정 크기 링 버퍼 (락 없음)
+ *
+ * <p>Dmitry Vyukov의 bounded MPMC 큐 알고리즘을 사용합니다. 슬롯마다 시퀀스 번호를 두어
+ * 생산자는 CAS 한 번으로 슬롯을 예약(claim)하고, 값을 쓴 뒤 시퀀스를 갱신(publish)합니다.
+ * 노드 할당과 잠금이 없으며, 가득 찬 경우 즉시 실패를 반환합니다.</p>
+ *
+ * <p>로그 기록에서는 소비자(작성 스레드)가 하나뿐이지만, drop-oldest 정책에서 생산자가
+ * 가장 오래된 항목을 직접 꺼내 버려야 하므로 꺼내기(poll)도 다중 스레드에 안전하게 구현합니다.</p>
+ *
+ * @param <E> 항목 타입
+ * @author minex
+ * @since 1.0.0
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final Object[] buffer;
+
+    /**
+     * 슬롯별 시퀀스
+     * seq == pos: 쓰기 가능, seq == pos + 1: 읽기 가능
+     */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be >= 2: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.buffer = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 항목을 추가합니다. (대기 없음)
+     *
+     * @param element 추가할 항목 (null 불가)
+     * @return 가득 차서 추가하지 못했으면 false
+     */
+    public boolean offer(E element) {
+        long position = enqueuePosition.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                // 슬롯 예약 (claim)
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    // 게시 (publish): 소비자는 이 시퀀스를 본 뒤에만 값을 읽음
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 항목을 꺼냅니다. (대기 없음)
+     *
+     * @return 항목 (비어 있으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = dequeuePosition.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    E element = (E) buffer[index];
+                    buffer[index] = null;
+                    // 한 바퀴 뒤의 생산자가 쓸 수 있도록 슬롯 반납
+                    sequences.setRelease(index, position + mask + 1);
+                    return element;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * 비어 있는지 확인합니다. (동시 수정 중에는 근사값)
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다. (동시 수정 중에는 근사값)
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0L, Math.min(size, buffer.length));
+    }
+
+    /**
+     * 용량을 반환합니다.
+     *
+     * @return 용량 (2의 거듭제곱)
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
@@ -0,0 +1,44 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 로그 대기열이 가득 찼을 때의 처리 방식
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+    /**
+     * 가장 오래된 로그를 버리고 새 로그를 추가 (최근 기록 우선, 기본값)
+     */
+    DROP_OLDEST,
+
+    /**
+     * 새 로그를 버림 (기존 기록 우선)
+     */
+    DROP_NEWEST,
+
+    /**
+     * 공간이 생길 때까지 기다림 (유실 없음, 디스크 지연 시 호출 스레드가 멈출 수 있음)
+     */
+    BLOCK;
+
+    /**
+     * 설정 문자열을 정책으로 변환합니다.
+     *
+     * @param raw 설정 값
+     * @return 정책 (알 수 없으면 DROP_OLDEST)
+     */
+    public static OverflowPolicy fromConfig(String raw) {
+        if (raw == null) {
+            return DROP_OLDEST;
+        }
+
+        String normalized = raw.trim().toUpperCase().replace('-', '_');
+        return switch (normalized) {
+            case "DROP_OLDEST", "OLDEST" -> DROP_OLDEST;
+            case "DROP_NEWEST", "NEWEST", "DROP" -> DROP_NEWEST;
+            case "BLOCK", "WAIT" -> BLOCK;
+            default -> DROP_OLDEST;
+        };
+    }
+}
@@ -0,0 +1,542 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크기/날짜 기준으로 교체되는 로그 파일
+ *
+ * <p>현재 파일({@code violations.log})에 추가하다가 교체 조건에 도달하면 파일을
+ * {@code violations-yyyy-MM-dd.N.log}로 이름만 바꾸고 새 파일을 엽니다.
+ * 압축(gzip)과 보관 정책에 따른 정리는 별도 스레드에서 처리하므로 작성 스레드는 압축을 기다리지 않습니다.</p>
+ *
+ * <p>현재 파일과 교체 파일은 모두 데이터 폴더 안에 있어야 하며, 벗어나는 경로는 열거나 삭제하지 않습니다.</p>
+ *
+ * <p>교체/압축/삭제는 {@link SegmentListener}로 알려 주므로, 줄 위치 색인이 교체 파일을 계속 가리킬 수 있습니다.</p>
+ *
+ * <p>쓰기/flush/close는 로그 작성 스레드 하나에서만 호출해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class RollingLogFile implements Closeable {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * 닫을 때 진행 중인 압축/정리를 기다리는 최대 시간 (초)
+     * 로거 종료 시 작성 스레드를 기다리는 시간(3초) 안에 끝나도록 잡습니다.
+     */
+    private static final long HOUSEKEEPER_CLOSE_TIMEOUT_SECONDS = 2L;
+
+    private final Path file;
+    private final Path directory;
+    private final Path dataDir;
+    private final String baseName;
+    private final String extension;
+    private final Pattern segmentPattern;
+    private final LogRotationSettings settings;
+    private final int bufferSize;
+    private final ZoneId zone;
+    private final Logger logger;
+
+    /**
+     * 교체 파일 변경 알림 대상 (없으면 null)
+     */
+    private final SegmentListener listener;
+
+    /**
+     * 압축/정리 전용 스레드 (교체를 사용하지 않으면 null)
+     */
+    private final ExecutorService housekeeper;
+
+    private FileOutputStream out;
+    private BufferedOutputStream stream;
+
+    /**
+     * 현재 파일 크기 (바이트)
+     */
+    private long size;
+
+    /**
+     * 크기 기준 교체 지점 (교체에 실패하면 한 주기 뒤로 미룸)
+     */
+    private long rotateAtSize;
+
+    /**
+     * 현재 파일의 날짜와 다음 날 0시 (epoch 밀리초)
+     */
+    private LocalDate segmentDay;
+    private long nextDayStartMillis;
+
+    private final LongAdder rotationCount = new LongAdder();
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder prunedCount = new LongAdder();
+
+    /**
+     * 로그 파일을 엽니다. (추가 모드)
+     *
+     * @param file 현재 로그 파일
+     * @param dataDir 로그 파일이 벗어날 수 없는 데이터 폴더
+     * @param settings 교체 설정
+     * @param bufferSize 쓰기 버퍼 크기
+     * @param logger 경고 출력용 로거
+     * @throws IOException 파일이 데이터 폴더 밖이거나 열 수 없는 경우
+     */
+    public RollingLogFile(Path file, Path dataDir, LogRotationSettings settings,
+                          int bufferSize, Logger logger) throws IOException {
+        this(file, dataDir, settings, bufferSize, ZoneId.systemDefault(), logger, null);
+    }
+
+    /**
+     * 로그 파일을 열고, 교체 파일이 바뀔 때마다 알림을 받을 대상을 지정합니다. (추가 모드)
+     *
+     * @param file 현재 로그 파일
+     * @param dataDir 로그 파일이 벗어날 수 없는 데이터 폴더
+     * @param settings 교체 설정
+     * @param bufferSize 쓰기 버퍼 크기
+     * @param logger 경고 출력용 로거
+     * @param listener 교체 파일 변경 알림 대상 (없으면 null)
+     * @throws IOException 파일이 데이터 폴더 밖이거나 열 수 없는 경우
+     */
+    public RollingLogFile(Path file, Path dataDir, LogRotationSettings settings,
+                          int bufferSize, Logger logger, SegmentListener listener) throws IOException {
+        this(file, dataDir, settings, bufferSize, ZoneId.systemDefault(), logger, listener);
+    }
+
+    RollingLogFile(Path file, Path dataDir, LogRotationSettings settings,
+                   int bufferSize, ZoneId zone, Logger logger) throws IOException {
+        this(file, dataDir, settings, bufferSize, zone, logger, null);
+    }
+
+    RollingLogFile(Path file, Path dataDir, LogRotationSettings settings,
+                   int bufferSize, ZoneId zone, Logger logger, SegmentListener listener) throws IOException {
+        this.dataDir = dataDir.toAbsolutePath().normalize();
+        this.file = requireInside(file.toAbsolutePath().normalize());
+        this.directory = this.file.getParent();
+        this.settings = settings;
+        this.bufferSize = bufferSize;
+        this.zone = zone;
+        this.logger = logger;
+        this.listener = listener;
+
+        String name = this.file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.baseName = dot > 0 ? name.substring(0, dot) : name;
+        this.extension = dot > 0 ? name.substring(dot) : "";
+        this.segmentPattern = Pattern.compile(Pattern.quote(baseName)
+                + "-(\\d{4}-\\d{2}-\\d{2})\\.(\\d+)" + Pattern.quote(extension) + "(" + Pattern.quote(GZIP_SUFFIX) + ")?");
+
+        open(System.currentTimeMillis());
+
+        if (settings.isEnabled()) {
+            housekeeper = Executors.newSingleThreadExecutor(runnable -> {
+                Thread t = new Thread(runnable, "CPSLimiter-LogCompressor");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+            // 이전 실행에서 압축하지 못한 교체 파일 처리 및 보관 정책 적용
+            housekeeper.execute(this::housekeep);
+        } else {
+            housekeeper = null;
+        }
+    }
+
+    /**
+     * 로그 한 줄을 씁니다. 교체 조건에 도달했으면 먼저 파일을 교체합니다.
+     *
+     * @param bytes 인코딩된 로그
+     * @param offset 시작 위치
+     * @param length 길이
+     * @param epochMillis 로그 시각 (날짜 기준 교체 판단용)
+     * @throws IOException 쓰기 실패 시
+     */
+    public void write(byte[] bytes, int offset, int length, long epochMillis) throws IOException {
+        if (settings.daily() && epochMillis >= nextDayStartMillis) {
+            if (size == 0) {
+                // 빈 파일은 교체하지 않고 날짜만 갱신
+                startSegment(epochMillis);
+            } else {
+                rotate(epochMillis);
+            }
+        } else if (settings.maxBytes() > 0 && size > 0 && size + length > rotateAtSize) {
+            rotate(epochMillis);
+        }
+
+        stream.write(bytes, offset, length);
+        size += length;
+    }
+
+    /**
+     * 버퍼를 파일에 씁니다.
+     *
+     * @param sync true면 디스크 기록까지 기다림 (fsync)
+     * @throws IOException 쓰기 실패 시
+     */
+    public void flush(boolean sync) throws IOException {
+        stream.flush();
+        if (sync) {
+            out.getChannel().force(false);
+        }
+    }
+
+    /**
+     * 파일을 닫고 진행 중인 압축/정리가 끝날 때까지 기다립니다.
+     * 리로드 시 새 인스턴스의 정리 스레드와 같은 교체 파일을 동시에 다루지 않도록,
+     * 이 메서드가 반환된 뒤에는 이전 정리 스레드가 남아 있지 않습니다.
+     * (시간 안에 끝나지 않으면 중단하며, 원본 교체 파일이 남아 다음 실행에서 다시 압축합니다.)
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            stream.close();
+        } finally {
+            if (housekeeper != null) {
+                stopHousekeeper();
+            }
+        }
+    }
+
+    private void stopHousekeeper() {
+        housekeeper.shutdown();
+        boolean interrupted = false;
+        try {
+            if (housekeeper.awaitTermination(HOUSEKEEPER_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+            logger.warning("로그 파일 압축이 제한 시간 안에 끝나지 않아 중단합니다. (다음 실행에서 다시 압축)");
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+
+        // 압축 중인 스트림은 인터럽트로 닫히고 임시 파일은 삭제됨 (원본 교체 파일은 유지)
+        housekeeper.shutdownNow();
+        try {
+            housekeeper.awaitTermination(1L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 현재 파일을 교체 파일로 이름을 바꾸고 새 파일을 엽니다.
+     */
+    private void rotate(long epochMillis) throws IOException {
+        stream.close();
+
+        Path target;
+        try {
+            target = nextSegmentPath();
+            try {
+                Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(file, target);
+            }
+        } catch (IOException e) {
+            // 교체에 실패해도 로그는 계속 기록 (다음 교체는 한 주기 뒤에 다시 시도)
+            logger.warning("로그 파일 교체 실패: " + e.getMessage());
+            open(epochMillis);
+            rotateAtSize = size + settings.maxBytes();
+            startSegment(epochMillis);
+            return;
+        }
+
+        rotationCount.increment();
+        if (listener != null) {
+            try {
+                listener.segmentRotated(target);
+            } catch (IOException e) {
+                logger.warning("교체 파일 알림 처리 실패: " + target.getFileName() + " (" + e.getMessage() + ")");
+            }
+        }
+        open(epochMillis);
+        housekeeper.execute(() -> {
+            if (settings.compress()) {
+                compress(target);
+            }
+            prune();
+        });
+    }
+
+    private void open(long nowMillis) throws IOException {
+        out = new FileOutputStream(file.toFile(), true);
+        stream = new BufferedOutputStream(out, bufferSize);
+        size = out.getChannel().size();
+        rotateAtSize = settings.maxBytes();
+
+        // 기존 파일에 이어 쓰는 경우 마지막 수정일을 현재 파일의 날짜로 사용
+        long segmentStart = size > 0 ? Files.getLastModifiedTime(file).toMillis() : nowMillis;
+        startSegment(Math.min(segmentStart, nowMillis));
+    }
+
+    private void startSegment(long epochMillis) {
+        segmentDay = LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+        nextDayStartMillis = segmentDay.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 같은 날짜의 교체 파일 중 가장 큰 번호 다음 번호를 사용합니다.
+     * (보관 정책으로 지워진 앞 번호를 다시 쓰면 새 파일이 오래된 파일로 취급되어 먼저 삭제됨)
+     */
+    private Path nextSegmentPath() throws IOException {
+        String prefix = baseName + "-" + segmentDay + ".";
+        int last = 0;
+        for (Segment segment : listSegments()) {
+            if (segment.day().equals(segmentDay)) {
+                last = Math.max(last, segment.index());
+            }
+        }
+        for (int index = last + 1; ; index++) {
+            Path candidate = requireInside(directory.resolve(prefix + index + extension));
+            if (!Files.exists(candidate) && !Files.exists(gzipPath(candidate))) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * 시작 시 남아 있는 미압축 교체 파일을 압축하고 보관 정책을 적용합니다.
+     */
+    private void housekeep() {
+        if (settings.compress()) {
+            for (Segment segment : listSegments()) {
+                if (!segment.compressed()) {
+                    compress(segment.path());
+                }
+            }
+        }
+        prune();
+    }
+
+    /**
+     * 교체 파일을 gzip으로 압축합니다. 임시 파일에 쓴 뒤 이름을 바꾸므로 중단되어도 원본이 남습니다.
+     */
+    private void compress(Path source) {
+        Path temp = null;
+        try {
+            requireInside(source);
+            if (!Files.exists(source)) {
+                // 시작 시 정리 작업이 이미 압축한 경우 (정리 스레드가 하나이므로 경합 없음)
+                return;
+            }
+            Path target = requireInside(gzipPath(source));
+            temp = Files.createTempFile(directory, source.getFileName().toString(), ".tmp");
+
+            try (InputStream input = Files.newInputStream(source);
+                 OutputStream output = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+                input.transferTo(output);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            if (listener != null) {
+                // 원본을 지우기 전에 알려서, 조회 중에도 둘 중 하나는 항상 읽을 수 있게 함
+                try {
+                    listener.segmentCompressed(source, target);
+                } catch (IOException e) {
+                    logger.warning("교체 파일 알림 처리 실패: " + target.getFileName() + " (" + e.getMessage() + ")");
+                }
+            }
+            Files.deleteIfExists(source);
+            compressedCount.increment();
+        } catch (IOException e) {
+            logger.warning("로그 파일 압축 실패: " + source.getFileName() + " (" + e.getMessage() + ")");
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 다음 실행에서 덮어씀
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 개수/기간을 넘은 교체 파일을 삭제합니다. (최신 순으로 유지)
+     */
+    private void prune() {
+        if (settings.maxFiles() <= 0 && settings.maxAgeDays() <= 0) {
+            return;
+        }
+
+        List<Segment> segments = listSegments();
+        segments.sort(Comparator.comparing(Segment::day).thenComparingInt(Segment::index).reversed());
+
+        LocalDate oldestKept = settings.maxAgeDays() > 0
+                ? LocalDate.now(zone).minusDays(settings.maxAgeDays())
+                : LocalDate.MIN;
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            boolean overCount = settings.maxFiles() > 0 && i >= settings.maxFiles();
+            boolean tooOld = segment.day().isBefore(oldestKept);
+            if (overCount || tooOld) {
+                try {
+                    Files.deleteIfExists(requireInside(segment.path()));
+                    prunedCount.increment();
+                } catch (IOException e) {
+                    logger.warning("오래된 로그 파일 삭제 실패: " + segment.path().getFileName() + " (" + e.getMessage() + ")");
+                    continue;
+                }
+                if (listener != null) {
+                    try {
+                        listener.segmentDeleted(segment.path());
+                    } catch (IOException e) {
+                        logger.warning("교체 파일 알림 처리 실패: " + segment.path().getFileName() + " (" + e.getMessage() + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 로그 폴더에서 이 로그 파일의 교체 파일 목록을 찾습니다. (일반 파일만, 심볼릭 링크 제외)
+     */
+    private List<Segment> listSegments() {
+        List<Segment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                Matcher matcher = segmentPattern.matcher(entry.getFileName().toString());
+                if (!matcher.matches() || !Files.isRegularFile(entry, LinkOption.NOFOLLOW_LINKS)) {
+                    continue;
+                }
+                try {
+                    segments.add(new Segment(entry,
+                            LocalDate.parse(matcher.group(1)),
+                            Integer.parseInt(matcher.group(2)),
+                            matcher.group(3) != null));
+                } catch (RuntimeException ignored) {
+                    // 날짜/번호 형식이 잘못된 파일은 건드리지 않음
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("로그 폴더 조회 실패: " + e.getMessage());
+        }
+        return segments;
+    }
+
+    private Path requireInside(Path path) throws IOException {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (!normalized.startsWith(dataDir)) {
+            throw new IOException("로그 파일 경로가 플러그인 폴더 밖을 가리킵니다: " + path);
+        }
+        return normalized;
+    }
+
+    private static Path gzipPath(Path path) {
+        return path.resolveSibling(path.getFileName() + GZIP_SUFFIX);
+    }
+
+    /**
+     * 압축/정리 작업이 모두 끝날 때까지 기다립니다. (테스트용)
+     */
+    void awaitHousekeeping(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (housekeeper != null && !housekeeper.isShutdown()) {
+            housekeeper.submit(() -> { }).get(timeout, unit);
+        }
+    }
+
+    /**
+     * 현재 파일에서 다음 로그가 쓰일 위치를 반환합니다. (버퍼에 남은 부분 포함)
+     *
+     * @return 현재 파일 크기 (바이트)
+     */
+    public long position() {
+        return size;
+    }
+
+    /**
+     * 교체 횟수를 반환합니다.
+     *
+     * @return 교체 횟수
+     */
+    public long getRotationCount() {
+        return rotationCount.sum();
+    }
+
+    /**
+     * 압축한 교체 파일 수를 반환합니다.
+     *
+     * @return 압축한 파일 수
+     */
+    public long getCompressedCount() {
+        return compressedCount.sum();
+    }
+
+    /**
+     * 보관 정책으로 삭제한 교체 파일 수를 반환합니다.
+     *
+     * @return 삭제한 파일 수
+     */
+    public long getPrunedCount() {
+        return prunedCount.sum();
+    }
+
+    /**
+     * 교체 파일 변경 알림
+     *
+     * <p>{@link #segmentRotated}는 로그 작성 스레드에서, 나머지는 압축/정리 스레드에서 호출됩니다.
+     * 경로는 모두 현재 로그 파일과 같은 폴더의 절대 경로입니다.</p>
+     */
+    public interface SegmentListener {
+
+        /**
+         * 현재 파일이 교체 파일로 이름이 바뀐 직후 (새 파일을 열기 전) 호출됩니다.
+         *
+         * @param segment 교체 파일
+         * @throws IOException 알림 처리 실패 시 (경고만 출력하고 로그는 계속 기록)
+         */
+        void segmentRotated(Path segment) throws IOException;
+
+        /**
+         * 교체 파일을 gzip으로 압축한 직후 (원본을 지우기 전) 호출됩니다.
+         *
+         * @param source 원본 교체 파일
+         * @param target 압축된 파일
+         * @throws IOException 알림 처리 실패 시 (경고만 출력하고 원본은 그대로 삭제)
+         */
+        void segmentCompressed(Path source, Path target) throws IOException;
+
+        /**
+         * 보관 정책으로 교체 파일을 삭제한 직후 호출됩니다.
+         *
+         * @param segment 삭제된 교체 파일
+         * @throws IOException 알림 처리 실패 시 (경고만 출력)
+         */
+        void segmentDeleted(Path segment) throws IOException;
+    }
+
+    /**
+     * 교체 파일 정보
+     */
+    private record Segment(Path path, LocalDate day, int index, boolean compressed) {
+    }
+}
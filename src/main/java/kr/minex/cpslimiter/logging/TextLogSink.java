@@ -0,0 +1,69 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.IOException;
+
+/**
+ * 줄 단위 로그 출력 대상 (텍스트/JSON Lines)
+ *
+ * <p>{@link ViolationEncoder}로 한 줄씩 인코딩하여 교체되는 로그 파일({@link RollingLogFile})에 씁니다.
+ * 색인({@link ViolationHistoryIndex})이 있으면 각 줄의 시작 위치를 플레이어별로 함께 기록합니다.
+ * 파일 교체는 로그 파일이 색인에 직접 알리므로, 색인은 로그 파일을 만들 때 함께 넘겨야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class TextLogSink implements ViolationLogSink {
+
+    private final RollingLogFile output;
+    private final ViolationEncoder encoder;
+    private final ViolationHistoryIndex index;
+
+    /**
+     * @param output 교체되는 로그 파일
+     * @param encoder 로그 한 줄 인코더
+     */
+    public TextLogSink(RollingLogFile output, ViolationEncoder encoder) {
+        this(output, encoder, null);
+    }
+
+    /**
+     * @param output 교체되는 로그 파일
+     * @param encoder 로그 한 줄 인코더
+     * @param index 플레이어별 기록 색인 (없으면 null, 있으면 {@code output}의 교체 알림 대상이어야 함)
+     */
+    public TextLogSink(RollingLogFile output, ViolationEncoder encoder, ViolationHistoryIndex index) {
+        this.output = output;
+        this.encoder = encoder;
+        this.index = index;
+    }
+
+    @Override
+    public void write(ViolationRecord record) throws IOException {
+        int length = encoder.encode(record);
+        output.write(encoder.buffer(), 0, length, record.epochMillis());
+        if (index != null) {
+            // 교체되었으면 색인은 이미 새 파일 번호로 넘어가 있음
+            index.add(record.playerMostBits(), record.playerLeastBits(), output.position() - length);
+        }
+    }
+
+    @Override
+    public void flush(boolean sync) throws IOException {
+        output.flush(sync);
+        if (index != null) {
+            // 파일에 기록된 뒤에 공개해야 조회 시 항상 완성된 줄을 읽음
+            index.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            output.close();
+        } finally {
+            if (index != null) {
+                index.close();
+            }
+        }
+    }
+}
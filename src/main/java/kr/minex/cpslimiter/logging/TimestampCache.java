@@ -0,0 +1,46 @@
+package kr.minex.cpslimiter.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 초 단위로 캐시하는 "yyyy-MM-dd HH:mm:ss" 시각 문자열 (ASCII 바이트)
+ *
+ * <p>같은 초 안의 로그는 날짜 계산/포맷 없이 캐시된 바이트를 재사용합니다. 스레드 안전하지 않습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+final class TimestampCache {
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ZoneId zone;
+    private byte[] cached = new byte[0];
+    private long cachedSecond = Long.MIN_VALUE;
+
+    TimestampCache(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * 시각 문자열 바이트를 반환합니다. (다음 호출에서 초가 바뀌면 새 배열로 교체)
+     *
+     * @param epochMillis epoch 밀리초
+     * @return "yyyy-MM-dd HH:mm:ss" ASCII 바이트
+     */
+    byte[] get(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        if (second != cachedSecond) {
+            // 초가 바뀔 때만 날짜/시간을 다시 계산
+            cached = DATE_FORMATTER.format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zone))
+                    .getBytes(StandardCharsets.US_ASCII);
+            cachedSecond = second;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,246 @@
+package kr.minex.cpslimiter.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 로그 인코더가 공용으로 쓰는 재사용 UTF-8 바이트 버퍼
+ *
+ * <p>정수, UUID, 고정소수점 숫자, 문자열을 중간 문자열 없이 바로 바이트로 씁니다.
+ * 스레드 안전하지 않습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+final class Utf8Buffer {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 고정소수점 변환을 적용할 최대 절댓값 (이보다 크면 String.format 사용)
+     */
+    private static final double FAST_PATH_LIMIT = 1.0E9;
+
+    /**
+     * 반올림 경계로 간주할 최소 오차 (100배 값 기준)
+     */
+    private static final double TIE_EPSILON = 1.0E-6;
+
+    /**
+     * 반올림 경계 폭에 곱하는 100배 값의 ulp 배수
+     *
+     * <p>100배 곱셈의 반올림 오차(0.5ulp)와 Formatter가 쓰는 최단 십진 표현과 실제 double의 차이(약 0.8ulp)를 더한 값보다 크게 잡습니다.
+     * 값이 커지면(약 2e7 이상) ulp가 {@link #TIE_EPSILON}을 넘으므로 고정 폭만으로는 경계를 잘못 판단할 수 있습니다.</p>
+     */
+    private static final double TIE_ULPS = 4.0;
+
+    private byte[] buffer = new byte[256];
+    private int position;
+
+    void reset() {
+        position = 0;
+    }
+
+    int length() {
+        return position;
+    }
+
+    byte[] array() {
+        return buffer;
+    }
+
+    void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) c;
+    }
+
+    void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * UUID.toString()과 같은 8-4-4-4-12 형식(소문자)으로 씁니다.
+     */
+    void writeUuid(long mostBits, long leastBits) {
+        ensureCapacity(36);
+        writeHex(mostBits >>> 32, 8);
+        buffer[position++] = '-';
+        writeHex(mostBits >>> 16, 4);
+        buffer[position++] = '-';
+        writeHex(mostBits, 4);
+        buffer[position++] = '-';
+        writeHex(leastBits >>> 48, 4);
+        buffer[position++] = '-';
+        writeHex(leastBits, 12);
+    }
+
+    private void writeHex(long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[position + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        position += digits;
+    }
+
+    void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(1);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        writeDigits(value);
+    }
+
+    private void writeDigits(long value) {
+        int length = 1;
+        for (long t = value; t >= 10; t /= 10) {
+            length++;
+        }
+        ensureCapacity(length);
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[position + i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position += length;
+    }
+
+    /**
+     * String.format(locale, "%.2f")와 같은 결과를 씁니다.
+     *
+     * <p>Formatter는 double의 최단 십진 표현을 HALF_UP(0에서 먼 쪽)으로 반올림하고 부호(-0.00 포함)를 유지합니다.
+     * 100배 값의 소수부가 0.5에서 충분히 멀면 어느 쪽으로 반올림될지 명확하므로 직접 계산하고,
+     * 경계에 가깝거나 범위를 벗어난 값, 숫자 기호가 ASCII가 아닌 로케일만 String.format으로 처리합니다.</p>
+     *
+     * @param value 값
+     * @param decimalSeparator 소수점 기호
+     * @param fixedPointEnabled 직접 계산 허용 여부 (로케일 숫자 기호가 ASCII일 때)
+     * @param locale String.format에 쓸 로케일
+     */
+    void writeFixed2(double value, byte decimalSeparator, boolean fixedPointEnabled, Locale locale) {
+        double magnitude = Math.abs(value);
+        if (fixedPointEnabled && magnitude < FAST_PATH_LIMIT) {
+            double scaled = magnitude * 100.0;
+            long floor = (long) scaled;
+            double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > Math.max(TIE_EPSILON, TIE_ULPS * Math.ulp(scaled))) {
+                long hundredths = fraction > 0.5 ? floor + 1 : floor;
+                ensureCapacity(1);
+                // 부호 비트로 판단하여 -0.0과 반올림 후 0이 되는 음수도 "-0.00"으로 씀
+                if (Double.doubleToRawLongBits(value) < 0L) {
+                    buffer[position++] = '-';
+                }
+                writeDigits(hundredths / 100);
+                int cents = (int) (hundredths % 100);
+                ensureCapacity(3);
+                buffer[position++] = decimalSeparator;
+                buffer[position++] = (byte) ('0' + cents / 10);
+                buffer[position++] = (byte) ('0' + cents % 10);
+                return;
+            }
+        }
+        writeUtf8(String.format(locale, "%.2f", value));
+    }
+
+    /**
+     * ASCII 문자열을 씁니다. (호출자가 ASCII임을 보장)
+     */
+    void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    /**
+     * 문자열을 UTF-8로 씁니다. 짝이 없는 서러게이트는 String.getBytes(UTF_8)와 같이 '?'로 대체합니다.
+     */
+    void writeUtf8(String value) {
+        int length = value.length();
+        ensureCapacity(length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else {
+                i = writeNonAscii(value, i, c);
+            }
+        }
+    }
+
+    /**
+     * 문자열을 JSON 문자열 리터럴(따옴표 포함)로 씁니다.
+     */
+    void writeJsonString(String value) {
+        int length = value.length();
+        // 최악의 경우 제어 문자 하나가 \\u00XX(6바이트)
+        ensureCapacity(length * 6 + 2);
+        buffer[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                i = writeNonAscii(value, i, c);
+            } else if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c >= 0x20) {
+                buffer[position++] = (byte) c;
+            } else {
+                buffer[position++] = '\\';
+                switch (c) {
+                    case '\n' -> buffer[position++] = 'n';
+                    case '\r' -> buffer[position++] = 'r';
+                    case '\t' -> buffer[position++] = 't';
+                    case '\b' -> buffer[position++] = 'b';
+                    case '\f' -> buffer[position++] = 'f';
+                    default -> {
+                        buffer[position++] = 'u';
+                        buffer[position++] = '0';
+                        buffer[position++] = '0';
+                        buffer[position++] = HEX[c >> 4];
+                        buffer[position++] = HEX[c & 0xF];
+                    }
+                }
+            }
+        }
+        buffer[position++] = '"';
+    }
+
+    /**
+     * 0x80 이상 문자를 UTF-8로 씁니다. (용량은 호출자가 확보)
+     *
+     * @return 마지막으로 처리한 문자 위치 (서러게이트 쌍이면 i + 1)
+     */
+    private int writeNonAscii(String value, int i, char c) {
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(++i));
+            buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return i;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 위반 기록을 로그 한 줄(UTF-8 바이트)로 변환하는 인코더
+ *
+ * <p>구현체는 재사용 버퍼에 쓰며 스레드 안전하지 않습니다. 로그 작성 스레드 하나에서만 사용해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public interface ViolationEncoder {
+
+    /**
+     * 위반 기록을 내부 버퍼에 인코딩합니다. (줄바꿈 포함)
+     *
+     * @param record 위반 기록
+     * @return 인코딩된 바이트 수 ({@link #buffer()}의 앞부분)
+     */
+    int encode(ViolationRecord record);
+
+    /**
+     * 인코딩 버퍼를 반환합니다. (다음 encode 호출 전까지만 유효)
+     *
+     * @return 인코딩 버퍼
+     */
+    byte[] buffer();
+}
@@ -0,0 +1,894 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 플레이어별 위반 기록 색인 (플레이어 UUID → 로그 파일 번호 + 줄 시작 위치)
+ *
+ * <p>줄 단위 로그(text/jsonl)를 색인합니다. 작성 스레드가 로그를 쓸 때마다 위치를 모았다가
+ * flush 시점에 색인 파일({@code violations.log.idx})에 덧붙이고 조회용 맵에 공개하므로,
+ * 조회되는 위치는 항상 파일에 기록된 줄을 가리킵니다.</p>
+ *
+ * <p>각 위치는 로그 파일 번호(세그먼트)와 그 파일 안의 위치로 이루어집니다. 현재 파일이 교체되면
+ * ({@link RollingLogFile.SegmentListener}) 그 번호에 교체 파일 이름을 연결하고 새 번호로 이어서 색인하므로,
+ * 교체 이후에도 이전 기록을 조회할 수 있습니다. 압축되면 연결된 이름을 {@code .gz}로 바꾸고,
+ * 보관 정책으로 삭제되면 해당 번호의 위치를 다음 commit 때 색인에서 제거합니다.
+ * 번호와 파일 이름의 연결은 {@code violations.log.idx.segments}에 저장합니다.</p>
+ *
+ * <p>시작 시에는 색인 파일을 읽고, 마지막으로 색인된 줄 이후에 추가된 부분만 스캔하여 이어서 색인합니다.
+ * 마지막 항목이 로그 파일과 맞지 않으면(서버 밖에서 파일이 바뀐 경우) 처음부터 다시 만듭니다.</p>
+ *
+ * <p>{@link #add}/{@link #commit}/{@link #close}와 교체 알림은 로그 작성 스레드 하나에서만,
+ * 압축/삭제 알림은 로그 압축 스레드에서, {@link #readPage}는 아무 스레드에서나 호출할 수 있습니다.
+ * (메인 스레드에서는 호출하지 마세요)</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationHistoryIndex implements Closeable, RollingLogFile.SegmentListener {
+
+    /**
+     * 색인 파일 확장자 (로그 파일명 뒤에 붙음)
+     */
+    public static final String EXTENSION = ".idx";
+
+    private static final int MAGIC = 0x43505349; // "CPSI"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * 색인 항목 크기: UUID 상위/하위 64비트 + 줄 위치 (파일 번호 + 파일 안의 위치)
+     */
+    private static final int ENTRY_SIZE = 24;
+
+    /**
+     * 줄 위치에서 파일 안의 위치가 차지하는 하위 비트 수 (파일당 최대 1TiB, 나머지 상위 비트는 파일 번호)
+     */
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final int MAX_SEGMENT = (int) (Long.MAX_VALUE >>> OFFSET_BITS);
+
+    /**
+     * 파일 번호 목록 확장자 (색인 파일명 뒤에 붙음)
+     */
+    private static final String SEGMENTS_EXTENSION = ".segments";
+    private static final String CURRENT_KEY = "current";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * 한 줄을 읽을 때의 최대 길이 (이보다 긴 줄은 잘라서 표시)
+     */
+    private static final int MAX_LINE_BYTES = 4096;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final Path logFile;
+    private final Path segmentsFile;
+    private final FileChannel channel;
+    private final Map<UUID, LocationList> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 교체된 로그 파일 번호 → 파일 이름 (현재 파일은 포함하지 않음)
+     */
+    private final Map<Integer, String> segmentNames = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 로그 파일 번호 (작성 스레드만 변경)
+     */
+    private volatile int currentSegment;
+
+    /**
+     * 파일 번호 목록 변경/저장 잠금 (작성 스레드와 압축 스레드가 함께 변경)
+     */
+    private final Object segmentLock = new Object();
+
+    /**
+     * 삭제되어 다음 commit 때 색인에서 제거할 파일 번호
+     */
+    private final Queue<Integer> deletedSegments = new ConcurrentLinkedQueue<>();
+
+    // 작성 스레드 전용: flush 전까지 모아 둔 항목
+    private long[] pendingMostBits = new long[256];
+    private long[] pendingLeastBits = new long[256];
+    private long[] pendingOffsets = new long[256];
+    private int pendingCount;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+
+    /**
+     * 색인을 열고 로그 파일에서 색인되지 않은 부분을 이어서 색인합니다.
+     *
+     * @param logFile 색인할 줄 단위 로그 파일 (색인 파일은 같은 폴더의 {@code <로그 파일명>.idx})
+     * @throws IOException 색인 파일을 열거나 로그 파일을 읽을 수 없는 경우
+     */
+    public ViolationHistoryIndex(Path logFile) throws IOException {
+        this.logFile = logFile;
+        Path indexFile = logFile.resolveSibling(logFile.getFileName() + EXTENSION);
+        this.segmentsFile = indexFile.resolveSibling(indexFile.getFileName() + SEGMENTS_EXTENSION);
+        this.channel = FileChannel.open(indexFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 로그 파일에 쓴 한 줄의 위치를 추가합니다. {@link #commit()} 전에는 조회되지 않습니다.
+     *
+     * @param mostBits 플레이어 UUID 상위 64비트
+     * @param leastBits 플레이어 UUID 하위 64비트
+     * @param offset 현재 로그 파일에서 줄이 시작하는 위치
+     */
+    public void add(long mostBits, long leastBits, long offset) {
+        int segment = currentSegment;
+        if (offset > OFFSET_MASK || segment > MAX_SEGMENT) {
+            // 표현할 수 없는 위치는 색인하지 않음 (로그는 그대로 기록됨)
+            return;
+        }
+        if (pendingCount == pendingOffsets.length) {
+            int capacity = pendingCount * 2;
+            pendingMostBits = Arrays.copyOf(pendingMostBits, capacity);
+            pendingLeastBits = Arrays.copyOf(pendingLeastBits, capacity);
+            pendingOffsets = Arrays.copyOf(pendingOffsets, capacity);
+        }
+        pendingMostBits[pendingCount] = mostBits;
+        pendingLeastBits[pendingCount] = leastBits;
+        pendingOffsets[pendingCount] = location(segment, offset);
+        pendingCount++;
+    }
+
+    /**
+     * 모아 둔 항목을 색인 파일에 덧붙이고 조회 대상으로 공개합니다. (로그 flush 직후 호출)
+     *
+     * @throws IOException 색인 파일 쓰기 실패 시
+     */
+    public void commit() throws IOException {
+        if (!deletedSegments.isEmpty()) {
+            dropDeletedSegments();
+        }
+        if (pendingCount == 0) {
+            return;
+        }
+
+        long position = channel.size();
+        writeBuffer.clear();
+        for (int i = 0; i < pendingCount; i++) {
+            if (writeBuffer.remaining() < ENTRY_SIZE) {
+                position += writeAt(position);
+            }
+            writeBuffer.putLong(pendingMostBits[i]).putLong(pendingLeastBits[i]).putLong(pendingOffsets[i]);
+        }
+        writeAt(position);
+
+        for (int i = 0; i < pendingCount; i++) {
+            publish(pendingMostBits[i], pendingLeastBits[i], pendingOffsets[i]);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * 현재 파일의 번호에 교체 파일 이름을 연결하고, 이후 위치는 새 번호로 색인합니다. (작성 스레드)
+     *
+     * @param segment 교체 파일
+     * @throws IOException 파일 번호 목록 저장 실패 시
+     */
+    @Override
+    public void segmentRotated(Path segment) throws IOException {
+        synchronized (segmentLock) {
+            // 이름을 먼저 연결해야 조회 스레드가 어느 순간에도 이전 번호의 파일을 찾을 수 있음
+            segmentNames.put(currentSegment, segment.getFileName().toString());
+            currentSegment++;
+            saveSegments();
+        }
+    }
+
+    /**
+     * 압축된 교체 파일의 이름을 바꿉니다. (압축 스레드)
+     *
+     * @param source 원본 교체 파일
+     * @param target 압축된 파일
+     * @throws IOException 파일 번호 목록 저장 실패 시
+     */
+    @Override
+    public void segmentCompressed(Path source, Path target) throws IOException {
+        synchronized (segmentLock) {
+            Integer segment = findSegment(source.getFileName().toString());
+            if (segment != null) {
+                segmentNames.put(segment, target.getFileName().toString());
+                saveSegments();
+            }
+        }
+    }
+
+    /**
+     * 삭제된 교체 파일의 번호를 제거하고, 다음 commit 때 해당 위치를 색인에서 지웁니다. (압축 스레드)
+     *
+     * @param segment 삭제된 교체 파일
+     * @throws IOException 파일 번호 목록 저장 실패 시
+     */
+    @Override
+    public void segmentDeleted(Path segment) throws IOException {
+        synchronized (segmentLock) {
+            Integer id = findSegment(segment.getFileName().toString());
+            if (id != null) {
+                segmentNames.remove(id);
+                deletedSegments.add(id);
+                saveSegments();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 플레이어의 위반 기록 한 페이지를 최신순으로 읽습니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param page 페이지 번호 (0부터, 범위를 넘으면 마지막 페이지)
+     * @param pageSize 페이지당 기록 수
+     * @return 읽은 페이지
+     * @throws IOException 로그 파일 읽기 실패 시
+     */
+    public HistoryPage readPage(UUID playerId, int page, int pageSize) throws IOException {
+        LocationList list = entries.get(playerId);
+        int total = list == null ? 0 : list.size();
+        if (total == 0) {
+            return new HistoryPage(List.of(), 0, 0, 0);
+        }
+
+        int pages = (total + pageSize - 1) / pageSize;
+        int current = Math.min(Math.max(page, 0), pages - 1);
+        int from = total - 1 - current * pageSize;
+        int to = Math.max(-1, from - pageSize);
+
+        int count = from - to;
+        long[] locations = new long[count];
+        for (int i = 0; i < count; i++) {
+            locations[i] = list.get(from - i);
+        }
+
+        // 같은 파일의 기록은 연속되므로 파일마다 한 번씩 열어서 읽음
+        byte[] uuid = playerId.toString().getBytes(StandardCharsets.US_ASCII);
+        String[] read = new String[count];
+        for (int start = 0; start < count; ) {
+            int segment = segmentOf(locations[start]);
+            int end = start + 1;
+            while (end < count && segmentOf(locations[end]) == segment) {
+                end++;
+            }
+            readSegment(segment, locations, start, end, uuid, read);
+            start = end;
+        }
+
+        // 교체 직후 등 위치가 다른 줄을 가리키거나 파일이 삭제된 기록은 건너뜀
+        List<String> lines = new ArrayList<>(count);
+        for (String line : read) {
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+        return new HistoryPage(lines, current, pages, total);
+    }
+
+    /**
+     * 색인된 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int getPlayerCount() {
+        return entries.size();
+    }
+
+    /**
+     * 플레이어의 색인된 기록 수를 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 기록 수
+     */
+    public int getEntryCount(UUID playerId) {
+        LocationList list = entries.get(playerId);
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * 색인 파일을 읽고, 마지막 색인 이후의 로그를 스캔합니다.
+     */
+    private void load() throws IOException {
+        loadSegments();
+        long logLength = Files.exists(logFile) ? Files.size(logFile) : 0L;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        boolean valid = channel.size() >= HEADER_SIZE
+                && channel.read(header, 0L) == HEADER_SIZE
+                && header.getInt(0) == MAGIC
+                && header.getInt(4) == VERSION;
+        if (!valid) {
+            rebuild();
+            return;
+        }
+
+        // 로그 파일 범위 안에서 위치가 증가하는 동안만 유효한 항목으로 인정
+        // (서버가 꺼져 있는 동안 삭제된 교체 파일의 항목은 공개하지 않고 다음 commit 때 제거)
+        int current = currentSegment;
+        Set<Integer> missing = new HashSet<>();
+        long entryCount = (channel.size() - HEADER_SIZE) / ENTRY_SIZE;
+        long validCount = 0;
+        long lastMostBits = 0L;
+        long lastLeastBits = 0L;
+        long lastLocation = -1L;
+        ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE - IO_BUFFER_SIZE % ENTRY_SIZE);
+        long position = HEADER_SIZE;
+        read:
+        while (validCount < entryCount) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < ENTRY_SIZE) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.remaining() >= ENTRY_SIZE && validCount < entryCount) {
+                long mostBits = buffer.getLong();
+                long leastBits = buffer.getLong();
+                long location = buffer.getLong();
+                int segment = segmentOf(location);
+                if (location <= lastLocation || segment > current
+                        || (segment == current && offsetOf(location) >= logLength)) {
+                    break read;
+                }
+                if (segment == current || segmentNames.containsKey(segment)) {
+                    publish(mostBits, leastBits, location);
+                } else {
+                    missing.add(segment);
+                }
+                lastMostBits = mostBits;
+                lastLeastBits = leastBits;
+                lastLocation = location;
+                validCount++;
+            }
+            position += read - buffer.remaining();
+        }
+
+        if (validCount == 0) {
+            rebuild();
+            return;
+        }
+
+        channel.truncate(HEADER_SIZE + validCount * ENTRY_SIZE);
+        deletedSegments.addAll(missing);
+        if (segmentOf(lastLocation) != current) {
+            // 마지막 항목 이후 교체되었으면 현재 파일은 처음부터 색인
+            scan(0L, false);
+            return;
+        }
+
+        // 마지막 항목이 실제 로그 줄을 가리키는지 확인 (아니면 다른 파일의 색인)
+        try (FileChannel log = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            byte[] uuid = new UUID(lastMostBits, lastLeastBits).toString().getBytes(StandardCharsets.US_ASCII);
+            if (readLine(log, offsetOf(lastLocation), ByteBuffer.allocate(MAX_LINE_BYTES), uuid) == null) {
+                entries.clear();
+                deletedSegments.clear();
+                rebuild();
+                return;
+            }
+        }
+        scan(offsetOf(lastLocation), true);
+    }
+
+    /**
+     * 파일 번호 목록을 읽고, 서버가 꺼져 있는 동안 압축/삭제된 교체 파일을 반영합니다.
+     */
+    private void loadSegments() throws IOException {
+        if (!Files.exists(segmentsFile)) {
+            return;
+        }
+
+        boolean changed = false;
+        for (String line : Files.readAllLines(segmentsFile, StandardCharsets.UTF_8)) {
+            int space = line.indexOf(' ');
+            if (space <= 0) {
+                continue;
+            }
+            String key = line.substring(0, space);
+            String name = line.substring(space + 1);
+            try {
+                if (key.equals(CURRENT_KEY)) {
+                    currentSegment = Math.max(0, Math.min(MAX_SEGMENT, Integer.parseInt(name)));
+                    continue;
+                }
+                int segment = Integer.parseInt(key);
+                if (!isPlainFileName(name)) {
+                    // 로그 폴더 밖을 가리키는 이름은 사용하지 않음
+                    changed = true;
+                    continue;
+                }
+                if (Files.exists(logFile.resolveSibling(name))) {
+                    segmentNames.put(segment, name);
+                } else if (!name.endsWith(GZIP_SUFFIX) && Files.exists(logFile.resolveSibling(name + GZIP_SUFFIX))) {
+                    segmentNames.put(segment, name + GZIP_SUFFIX);
+                    changed = true;
+                } else {
+                    changed = true;
+                }
+            } catch (NumberFormatException e) {
+                changed = true;
+            }
+        }
+        // 현재 파일 번호보다 크거나 같은 번호는 잘못된 항목
+        changed |= segmentNames.keySet().removeIf(segment -> segment >= currentSegment);
+        if (changed) {
+            synchronized (segmentLock) {
+                saveSegments();
+            }
+        }
+    }
+
+    /**
+     * 파일 번호 목록을 저장합니다. 임시 파일에 쓴 뒤 이름을 바꾸므로 중단되어도 이전 목록이 남습니다.
+     * ({@link #segmentLock}을 잡은 상태에서 호출)
+     */
+    private void saveSegments() throws IOException {
+        StringBuilder text = new StringBuilder(CURRENT_KEY).append(' ').append(currentSegment).append('\n');
+        new TreeMap<>(segmentNames).forEach((segment, name) -> text.append(segment).append(' ').append(name).append('\n'));
+
+        Path temp = segmentsFile.resolveSibling(segmentsFile.getFileName() + ".tmp");
+        Files.writeString(temp, text, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, segmentsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, segmentsFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Integer findSegment(String name) {
+        for (Map.Entry<Integer, String> entry : segmentNames.entrySet()) {
+            if (entry.getValue().equals(name)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPlainFileName(String name) {
+        return !name.isEmpty() && !name.equals(".") && !name.equals("..")
+                && name.indexOf('/') < 0 && name.indexOf('\\') < 0;
+    }
+
+    /**
+     * 삭제된 교체 파일의 위치를 메모리와 색인 파일에서 제거합니다. (작성 스레드)
+     */
+    private void dropDeletedSegments() throws IOException {
+        Set<Integer> dropped = new HashSet<>();
+        for (Integer segment; (segment = deletedSegments.poll()) != null; ) {
+            dropped.add(segment);
+        }
+
+        // 조회 스레드는 이미 가져간 목록을 그대로 읽고, 이후 조회부터 새 목록을 사용
+        for (Map.Entry<UUID, LocationList> entry : entries.entrySet()) {
+            LocationList kept = entry.getValue().without(dropped);
+            if (kept == entry.getValue()) {
+                continue;
+            }
+            if (kept.size() == 0) {
+                entries.remove(entry.getKey());
+            } else {
+                entry.setValue(kept);
+            }
+        }
+
+        int keptPending = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            if (!dropped.contains(segmentOf(pendingOffsets[i]))) {
+                pendingMostBits[keptPending] = pendingMostBits[i];
+                pendingLeastBits[keptPending] = pendingLeastBits[i];
+                pendingOffsets[keptPending] = pendingOffsets[i];
+                keptPending++;
+            }
+        }
+        pendingCount = keptPending;
+
+        // 색인 파일은 앞에서부터 남길 항목만 당겨 씀 (쓰는 위치가 읽는 위치를 앞지르지 않음)
+        ByteBuffer chunk = ByteBuffer.allocate(IO_BUFFER_SIZE - IO_BUFFER_SIZE % ENTRY_SIZE);
+        long readPosition = HEADER_SIZE;
+        long writePosition = HEADER_SIZE;
+        while (true) {
+            chunk.clear();
+            int read = channel.read(chunk, readPosition);
+            int whole = read - read % ENTRY_SIZE;
+            if (whole <= 0) {
+                break;
+            }
+            chunk.flip().limit(whole);
+            writeBuffer.clear();
+            while (chunk.hasRemaining()) {
+                long mostBits = chunk.getLong();
+                long leastBits = chunk.getLong();
+                long location = chunk.getLong();
+                if (!dropped.contains(segmentOf(location))) {
+                    writeBuffer.putLong(mostBits).putLong(leastBits).putLong(location);
+                }
+            }
+            readPosition += whole;
+            writePosition += writeAt(writePosition);
+        }
+        channel.truncate(writePosition);
+    }
+
+    /**
+     * 색인 파일을 비우고 로그 파일 전체를 다시 색인합니다.
+     */
+    private void rebuild() throws IOException {
+        channel.truncate(0L);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        scan(0L, false);
+    }
+
+    /**
+     * 로그 파일의 지정 위치부터 끝까지 줄 단위로 읽어 색인합니다.
+     *
+     * @param start 시작 위치 (줄 시작)
+     * @param skipFirst 첫 줄이 이미 색인되어 있으면 true
+     */
+    private void scan(long start, boolean skipFirst) throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+
+        try (FileChannel log = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            ByteBuffer chunk = ByteBuffer.allocate(IO_BUFFER_SIZE);
+            byte[] line = new byte[MAX_LINE_BYTES];
+            int length = 0;
+            long lineStart = start;
+            long position = start;
+            boolean skip = skipFirst;
+            int read;
+            while ((read = log.read(chunk.clear(), position)) > 0) {
+                byte[] bytes = chunk.array();
+                for (int i = 0; i < read; i++) {
+                    byte b = bytes[i];
+                    if (b != '\n') {
+                        if (length < line.length) {
+                            line[length++] = b;
+                        }
+                        continue;
+                    }
+
+                    if (!skip) {
+                        int at = findUuid(line, length);
+                        if (at >= 0) {
+                            UUID playerId = UUID.fromString(new String(line, at, 36, StandardCharsets.US_ASCII));
+                            add(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), lineStart);
+                        }
+                    }
+                    skip = false;
+                    length = 0;
+                    lineStart = position + i + 1;
+                }
+                position += read;
+            }
+            // 줄바꿈 없이 끝난 마지막 줄(기록 도중 종료)은 색인하지 않음
+        }
+        commit();
+    }
+
+    private void publish(long mostBits, long leastBits, long location) {
+        entries.computeIfAbsent(new UUID(mostBits, leastBits), key -> new LocationList()).add(location);
+    }
+
+    private static long location(int segment, long offset) {
+        return (long) segment << OFFSET_BITS | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> OFFSET_BITS);
+    }
+
+    private static long offsetOf(long location) {
+        return location & OFFSET_MASK;
+    }
+
+    /**
+     * 로그 파일 번호의 현재 경로를 반환합니다.
+     *
+     * @return 파일 경로 (삭제되었으면 null)
+     */
+    private Path segmentPath(int segment) {
+        if (segment == currentSegment) {
+            return logFile;
+        }
+        String name = segmentNames.get(segment);
+        return name == null ? null : logFile.resolveSibling(name);
+    }
+
+    /**
+     * 한 로그 파일에 있는 위치들의 줄을 읽습니다.
+     *
+     * @param locations 줄 위치 (최신순)
+     * @param start 읽을 범위 시작 (포함)
+     * @param end 읽을 범위 끝 (제외)
+     * @param lines 읽은 줄을 같은 인덱스에 기록
+     */
+    private void readSegment(int segment, long[] locations, int start, int end,
+                             byte[] uuid, String[] lines) throws IOException {
+        Path path = segmentPath(segment);
+        if (path == null) {
+            return;
+        }
+        try {
+            readLines(path, locations, start, end, uuid, lines);
+        } catch (NoSuchFileException e) {
+            // 조회 도중 압축되어 원본이 삭제된 경우 압축 파일에서 다시 읽음
+            Path renamed = segmentPath(segment);
+            if (renamed != null && !renamed.equals(path)) {
+                try {
+                    readLines(renamed, locations, start, end, uuid, lines);
+                } catch (NoSuchFileException ignored) {
+                    // 보관 정책으로 삭제됨
+                }
+            }
+        }
+    }
+
+    private static void readLines(Path path, long[] locations, int start, int end,
+                                  byte[] uuid, String[] lines) throws IOException {
+        if (path.getFileName().toString().endsWith(GZIP_SUFFIX)) {
+            readCompressedLines(path, locations, start, end, uuid, lines);
+            return;
+        }
+        try (FileChannel log = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(MAX_LINE_BYTES);
+            for (int i = start; i < end; i++) {
+                lines[i] = readLine(log, offsetOf(locations[i]), buffer, uuid);
+            }
+        }
+    }
+
+    /**
+     * 압축된 교체 파일은 임의 위치로 이동할 수 없으므로, 앞에서부터 한 번 풀면서 오래된 줄부터 읽습니다.
+     */
+    private static void readCompressedLines(Path path, long[] locations, int start, int end,
+                                            byte[] uuid, String[] lines) throws IOException {
+        try (InputStream input = new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path), IO_BUFFER_SIZE), IO_BUFFER_SIZE)) {
+            byte[] line = new byte[MAX_LINE_BYTES];
+            long position = 0L;
+            int previous = -1;
+            for (int i = end - 1; i >= start; i--) {
+                long offset = offsetOf(locations[i]);
+                if (offset < position) {
+                    // 앞 줄과 겹치는 위치
+                    continue;
+                }
+                if (offset > 0) {
+                    // 직전 바이트가 줄바꿈인지 함께 확인
+                    if (offset > position) {
+                        input.skipNBytes(offset - 1 - position);
+                        previous = input.read();
+                        position = offset;
+                    }
+                    if (previous != '\n') {
+                        continue;
+                    }
+                }
+
+                int length = 0;
+                int b;
+                while (length < line.length && (b = input.read()) >= 0) {
+                    position++;
+                    previous = b;
+                    if (b == '\n') {
+                        break;
+                    }
+                    line[length++] = (byte) b;
+                }
+                lines[i] = parseLine(line, length, false, uuid);
+            }
+        } catch (EOFException e) {
+            // 위치가 파일 끝을 넘음 (남은 줄은 읽지 않음)
+        }
+    }
+
+    private int writeAt(long position) throws IOException {
+        writeBuffer.flip();
+        int written = writeBuffer.remaining();
+        while (writeBuffer.hasRemaining()) {
+            position += channel.write(writeBuffer, position);
+        }
+        writeBuffer.clear();
+        return written;
+    }
+
+    /**
+     * 위치에서 시작하는 한 줄을 읽습니다.
+     *
+     * @return 줄 내용 (줄 시작이 아니거나 플레이어 UUID가 없으면 null)
+     */
+    private static String readLine(FileChannel log, long offset, ByteBuffer buffer, byte[] uuid) throws IOException {
+        long start = offset;
+        if (offset > 0) {
+            // 직전 바이트가 줄바꿈인지 함께 확인
+            start = offset - 1;
+        }
+        buffer.clear();
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            int n = log.read(buffer, start + read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return parseLine(buffer.array(), read, offset > 0, uuid);
+    }
+
+    /**
+     * 읽은 바이트에서 첫 줄을 꺼냅니다.
+     *
+     * @param precededByNewline 첫 바이트가 직전 줄의 줄바꿈이어야 하면 true
+     * @return 줄 내용 (줄 시작이 아니거나 플레이어 UUID가 없으면 null)
+     */
+    private static String parseLine(byte[] bytes, int read, boolean precededByNewline, byte[] uuid) {
+        int from = 0;
+        if (precededByNewline) {
+            if (read == 0 || bytes[0] != '\n') {
+                return null;
+            }
+            from = 1;
+        }
+
+        int end = from;
+        while (end < read && bytes[end] != '\n') {
+            end++;
+        }
+        if (end == from || indexOf(bytes, from, end, uuid) < 0) {
+            return null;
+        }
+        return new String(bytes, from, end - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 줄에서 처음 나오는 UUID 형태(8-4-4-4-12 16진수)의 위치를 찾습니다.
+     * 텍스트/JSON Lines 형식 모두 플레이어 UUID가 타겟 UUID보다 앞에 있습니다.
+     *
+     * @return UUID 시작 위치 (없으면 -1)
+     */
+    static int findUuid(byte[] line, int length) {
+        for (int i = 0; i + 36 <= length; i++) {
+            if (isUuidAt(line, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isUuidAt(byte[] line, int at) {
+        for (int i = 0; i < 36; i++) {
+            byte c = line[at + i];
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] target) {
+        outer:
+        for (int i = from; i + target.length <= to; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 조회된 위반 기록 한 페이지
+     *
+     * @param lines 로그 줄 (최신순)
+     * @param page 페이지 번호 (0부터)
+     * @param totalPages 전체 페이지 수
+     * @param totalCount 전체 기록 수
+     */
+    public record HistoryPage(List<String> lines, int page, int totalPages, int totalCount) {
+    }
+
+    /**
+     * 플레이어 한 명의 줄 위치 목록 (오래된 순)
+     *
+     * <p>작성 스레드 하나만 추가하고, 조회 스레드는 잠금 없이 읽습니다.
+     * 배열 교체와 항목 기록이 크기 갱신(volatile)보다 먼저 일어나므로,
+     * 먼저 읽은 크기 안의 항목은 항상 기록된 값입니다.
+     * 항목을 지울 때는 목록을 고치지 않고 새 목록으로 교체합니다.</p>
+     */
+    private static final class LocationList {
+
+        private volatile long[] locations = new long[4];
+        private volatile int size;
+
+        void add(long location) {
+            long[] array = locations;
+            int n = size;
+            if (n == array.length) {
+                array = Arrays.copyOf(array, n * 2);
+                locations = array;
+            }
+            array[n] = location;
+            size = n + 1;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return locations[index];
+        }
+
+        /**
+         * 지정한 파일 번호의 위치를 뺀 목록을 반환합니다.
+         *
+         * @return 뺄 위치가 없으면 이 목록, 있으면 새 목록
+         */
+        LocationList without(Set<Integer> segments) {
+            long[] array = locations;
+            int n = size;
+            LocationList kept = null;
+            for (int i = 0; i < n; i++) {
+                boolean drop = segments.contains(segmentOf(array[i]));
+                if (drop && kept == null) {
+                    kept = new LocationList();
+                    for (int j = 0; j < i; j++) {
+                        kept.add(array[j]);
+                    }
+                } else if (!drop && kept != null) {
+                    kept.add(array[i]);
+                }
+            }
+            return kept == null ? this : kept;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.minex.cpslimiter.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * 위반 기록을 JSON 객체 한 줄(JSON Lines)로 변환하는 인코더
+ *
+ * <pre>
+ * {"timestamp":1700000000123,"time":"2023-11-15 07:13:20","player":"Steve","uuid":"...",
+ *  "cps":17,"threshold":15,"targetMode":"PLAYER_ONLY","world":"world","x":1.50,"y":64.00,"z":-3.25,
+ *  "target":{"type":"ZOMBIE","uuid":"...","distance":2.35}}
+ * </pre>
+ *
+ * <p>리플렉션 없이 필드를 순서대로 재사용 바이트 버퍼에 씁니다. 숫자는 로케일과 관계없이 '.'을 소수점으로 쓰고,
+ * 좌표/거리는 소수 둘째 자리까지 기록합니다. 값이 없거나 유한하지 않으면 null로 씁니다.
+ * 타겟이 없으면 "target"은 null입니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 로그 작성 스레드 하나에서만 사용해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationJsonEncoder implements ViolationEncoder {
+
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":");
+    private static final byte[] TIME = ascii(",\"time\":\"");
+    private static final byte[] PLAYER = ascii("\",\"player\":");
+    private static final byte[] UUID = ascii(",\"uuid\":\"");
+    private static final byte[] CPS = ascii("\",\"cps\":");
+    private static final byte[] THRESHOLD = ascii(",\"threshold\":");
+    private static final byte[] TARGET_MODE = ascii(",\"targetMode\":");
+    private static final byte[] WORLD = ascii(",\"world\":");
+    private static final byte[] X = ascii(",\"x\":");
+    private static final byte[] Y = ascii(",\"y\":");
+    private static final byte[] Z = ascii(",\"z\":");
+    private static final byte[] TARGET = ascii(",\"target\":");
+    private static final byte[] TARGET_TYPE = ascii("{\"type\":");
+    private static final byte[] DISTANCE = ascii("\",\"distance\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] LINE_END = ascii("}\n");
+
+    private final String[] targetTypeNames;
+    private final Utf8Buffer out = new Utf8Buffer();
+    private final TimestampCache timestamps;
+
+    /**
+     * 시스템 시간대로 인코더를 생성합니다.
+     *
+     * @param targetTypeNames 엔티티 타입 순번별 이름 (EntityType.values()의 name())
+     */
+    public ViolationJsonEncoder(String[] targetTypeNames) {
+        this(ZoneId.systemDefault(), targetTypeNames);
+    }
+
+    /**
+     * 인코더를 생성합니다.
+     *
+     * @param zone "time" 필드 시간대
+     * @param targetTypeNames 엔티티 타입 순번별 이름
+     */
+    public ViolationJsonEncoder(ZoneId zone, String[] targetTypeNames) {
+        this.timestamps = new TimestampCache(zone);
+        this.targetTypeNames = targetTypeNames.clone();
+    }
+
+    @Override
+    public int encode(ViolationRecord record) {
+        out.reset();
+        out.writeBytes(TIMESTAMP);
+        out.writeLong(record.epochMillis());
+        out.writeBytes(TIME);
+        out.writeBytes(timestamps.get(record.epochMillis()));
+        out.writeBytes(PLAYER);
+        writeStringOrNull(record.playerName());
+        out.writeBytes(UUID);
+        out.writeUuid(record.playerMostBits(), record.playerLeastBits());
+        out.writeBytes(CPS);
+        out.writeLong(record.cps());
+        out.writeBytes(THRESHOLD);
+        out.writeLong(record.threshold());
+        out.writeBytes(TARGET_MODE);
+        writeStringOrNull(record.targetMode());
+        out.writeBytes(WORLD);
+        writeStringOrNull(record.world());
+        out.writeBytes(X);
+        writeNumberOrNull(record.x());
+        out.writeBytes(Y);
+        writeNumberOrNull(record.y());
+        out.writeBytes(Z);
+        writeNumberOrNull(record.z());
+
+        out.writeBytes(TARGET);
+        if (record.hasTarget()) {
+            out.writeBytes(TARGET_TYPE);
+            out.writeJsonString(ViolationLineEncoder.targetTypeName(targetTypeNames, record.targetType()));
+            out.writeBytes(UUID);
+            out.writeUuid(record.targetMostBits(), record.targetLeastBits());
+            out.writeBytes(DISTANCE);
+            writeNumberOrNull(record.distance());
+            out.writeByte('}');
+        } else {
+            out.writeBytes(NULL);
+        }
+        out.writeBytes(LINE_END);
+        return out.length();
+    }
+
+    @Override
+    public byte[] buffer() {
+        return out.array();
+    }
+
+    /**
+     * 위반 기록을 줄바꿈 없는 JSON 문자열로 변환합니다. (테스트/디버그용)
+     *
+     * @param record 위반 기록
+     * @return JSON 객체 문자열
+     */
+    public String toJson(ViolationRecord record) {
+        int length = encode(record) - 1;
+        return new String(out.array(), 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void writeStringOrNull(String value) {
+        if (value == null) {
+            out.writeBytes(NULL);
+        } else {
+            out.writeJsonString(value);
+        }
+    }
+
+    private void writeNumberOrNull(double value) {
+        if (Double.isFinite(value)) {
+            out.writeFixed2(value, (byte) '.', true, Locale.ROOT);
+        } else {
+            out.writeBytes(NULL);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.minex.cpslimiter.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * 위반 기록을 로그 한 줄(UTF-8)로 변환하는 인코더
+ *
+ * <p>출력 형식은 다음과 같습니다. (기존 String.format 기반 형식과 바이트 단위로 동일)</p>
+ * <pre>
+ * [yyyy-MM-dd HH:mm:ss] 이름 (UUID) - CPS: n | target=TYPE(UUID) dist=0.00
+ * </pre>
+ *
+ * <p>재사용하는 바이트 버퍼에 직접 쓰므로 기록마다 문자열/포맷터를 만들지 않습니다.
+ * 시각 접두사는 초 단위로 캐시하고, 거리(%.2f)는 고정소수점으로 직접 변환합니다.
+ * 반올림 경계(x.xx5)에 아주 가까운 값만 String.format으로 처리해 결과를 맞춥니다.
+ * 이 형식을 다시 읽는 쪽은 {@link ViolationLineParser}입니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 로그 작성 스레드 하나에서만 사용해야 합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationLineEncoder implements ViolationEncoder {
+
+    // 형식 구분자 ({@link ViolationLineParser}도 같은 값으로 읽음)
+    static final byte[] CPS_LABEL = ") - CPS: ".getBytes(StandardCharsets.US_ASCII);
+    static final byte[] TARGET_LABEL = " | target=".getBytes(StandardCharsets.US_ASCII);
+    static final byte[] DIST_LABEL = ") dist=".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    private final String[] targetTypeNames;
+    private final Locale locale;
+    private final byte decimalSeparator;
+
+    /**
+     * 로케일의 숫자 기호가 ASCII('0'~'9', 1바이트 소수점)일 때만 고정소수점 변환 사용
+     */
+    private final boolean fixedPointEnabled;
+
+    private final Utf8Buffer out = new Utf8Buffer();
+    private final TimestampCache timestamps;
+
+    /**
+     * 시스템 시간대와 기본 로케일로 인코더를 생성합니다.
+     *
+     * @param targetTypeNames 엔티티 타입 순번별 이름 (EntityType.values()의 name())
+     */
+    public ViolationLineEncoder(String[] targetTypeNames) {
+        this(ZoneId.systemDefault(), Locale.getDefault(Locale.Category.FORMAT), targetTypeNames);
+    }
+
+    /**
+     * 인코더를 생성합니다.
+     *
+     * @param zone 시각 표시 시간대
+     * @param locale 소수점 기호를 정할 로케일 (String.format과 동일하게 맞춤)
+     * @param targetTypeNames 엔티티 타입 순번별 이름
+     */
+    public ViolationLineEncoder(ZoneId zone, Locale locale, String[] targetTypeNames) {
+        this.timestamps = new TimestampCache(zone);
+        this.targetTypeNames = targetTypeNames.clone();
+        this.locale = locale;
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        char separator = symbols.getDecimalSeparator();
+        this.decimalSeparator = (byte) separator;
+        this.fixedPointEnabled = separator < 0x80 && symbols.getZeroDigit() == '0';
+    }
+
+    @Override
+    public int encode(ViolationRecord record) {
+        out.reset();
+        out.writeByte('[');
+        out.writeBytes(timestamps.get(record.epochMillis()));
+        out.writeByte(']');
+        out.writeByte(' ');
+        out.writeUtf8(record.playerName());
+        out.writeByte(' ');
+        out.writeByte('(');
+        out.writeUuid(record.playerMostBits(), record.playerLeastBits());
+        out.writeBytes(CPS_LABEL);
+        out.writeLong(record.cps());
+
+        if (record.hasTarget()) {
+            out.writeBytes(TARGET_LABEL);
+            out.writeUtf8(targetTypeName(targetTypeNames, record.targetType()));
+            out.writeByte('(');
+            out.writeUuid(record.targetMostBits(), record.targetLeastBits());
+            out.writeBytes(DIST_LABEL);
+            out.writeFixed2(record.distance(), decimalSeparator, fixedPointEnabled, locale);
+        }
+        out.writeBytes(LINE_SEPARATOR);
+        return out.length();
+    }
+
+    /**
+     * 위반 기록을 줄바꿈 없는 문자열로 변환합니다. (디버그 출력용)
+     *
+     * @param record 위반 기록
+     * @return 로그 한 줄
+     */
+    public String toLine(ViolationRecord record) {
+        int length = encode(record) - LINE_SEPARATOR.length;
+        return new String(out.array(), 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] buffer() {
+        return out.array();
+    }
+
+    /**
+     * 타겟 타입 순번을 이름으로 변환합니다.
+     */
+    static String targetTypeName(String[] targetTypeNames, int ordinal) {
+        if (ordinal >= 0 && ordinal < targetTypeNames.length) {
+            return targetTypeNames[ordinal];
+        }
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,347 @@
+package kr.minex.cpslimiter.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 텍스트 로그 한 줄({@link ViolationLineEncoder} 형식)을 읽는 파서
+ *
+ * <pre>
+ * [yyyy-MM-dd HH:mm:ss] 이름 (UUID) - CPS: n | target=TYPE(UUID) dist=0.00
+ * </pre>
+ *
+ * <p>구분자는 인코더와 같은 상수를 사용하므로 형식이 바뀌면 함께 바뀝니다.
+ * 파싱 결과는 이 객체의 필드에 담기며, 다음 {@link #parse}가 덮어씁니다.
+ * 플레이어 이름과 타겟 타입 외에는 문자열을 만들지 않고, 타겟 타입 이름은 내부 캐시에서 재사용합니다.</p>
+ *
+ * <p>Bukkit 없이 동작하며(분석 도구용), 스레드 안전하지 않습니다. 스레드마다 하나씩 사용하세요.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationLineParser {
+
+    /**
+     * "[yyyy-MM-dd HH:mm:ss] " 길이
+     */
+    private static final int PREFIX_LENGTH = 22;
+    private static final int UUID_LENGTH = 36;
+
+    private static final int TYPE_CACHE_SIZE = 64;
+
+    private final String[] typeCache = new String[TYPE_CACHE_SIZE];
+    private final byte[][] typeCacheBytes = new byte[TYPE_CACHE_SIZE][];
+
+    private byte[] line;
+    private int nameFrom;
+    private int nameTo;
+
+    private int hourKey;
+    private long playerMostBits;
+    private long playerLeastBits;
+    private int cps;
+    private boolean hasTarget;
+    private String targetType;
+    private long targetMostBits;
+    private long targetLeastBits;
+    private double distance;
+
+    // parseUuid 결과 (할당 없이 두 값을 돌려주기 위한 임시 필드)
+    private long parsedMostBits;
+    private long parsedLeastBits;
+
+    /**
+     * 한 줄을 파싱합니다.
+     *
+     * @param bytes 줄이 담긴 버퍼
+     * @param offset 줄 시작 위치
+     * @param length 줄 길이 (줄바꿈 제외, 끝의 '\r'은 무시)
+     * @return 형식이 맞으면 true
+     */
+    public boolean parse(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        if (end > offset && bytes[end - 1] == '\r') {
+            end--;
+        }
+        if (end - offset < PREFIX_LENGTH + 2 + UUID_LENGTH + ViolationLineEncoder.CPS_LABEL.length + 1
+                || bytes[offset] != '[' || bytes[offset + 20] != ']' || bytes[offset + 21] != ' ') {
+            return false;
+        }
+
+        // 시각: yyyyMMddHH 정수
+        int year = digits(bytes, offset + 1, 4);
+        int month = digits(bytes, offset + 6, 2);
+        int day = digits(bytes, offset + 9, 2);
+        int hour = digits(bytes, offset + 12, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0) {
+            return false;
+        }
+        hourKey = ((year * 100 + month) * 100 + day) * 100 + hour;
+
+        // 이름 (UUID) - CPS: 의 위치는 CPS 구분자로 찾음
+        int cpsLabel = indexOf(bytes, offset + PREFIX_LENGTH, end, ViolationLineEncoder.CPS_LABEL);
+        int uuidFrom = cpsLabel - UUID_LENGTH;
+        if (cpsLabel < 0 || uuidFrom - 2 < offset + PREFIX_LENGTH
+                || bytes[uuidFrom - 1] != '(' || bytes[uuidFrom - 2] != ' ') {
+            return false;
+        }
+        if (!parseUuid(bytes, uuidFrom)) {
+            return false;
+        }
+        playerMostBits = parsedMostBits;
+        playerLeastBits = parsedLeastBits;
+        line = bytes;
+        nameFrom = offset + PREFIX_LENGTH;
+        nameTo = uuidFrom - 2;
+
+        // CPS
+        int cpsEnd = cpsLabel + ViolationLineEncoder.CPS_LABEL.length;
+        boolean negative = cpsEnd < end && bytes[cpsEnd] == '-';
+        if (negative) {
+            cpsEnd++;
+        }
+        long value = 0;
+        int digitStart = cpsEnd;
+        while (cpsEnd < end && bytes[cpsEnd] >= '0' && bytes[cpsEnd] <= '9') {
+            value = value * 10 + (bytes[cpsEnd++] - '0');
+            if (value > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+        if (cpsEnd == digitStart) {
+            return false;
+        }
+        cps = (int) (negative ? -value : value);
+
+        // 타겟 (없으면 줄 끝)
+        if (cpsEnd == end) {
+            hasTarget = false;
+            targetType = null;
+            targetMostBits = 0L;
+            targetLeastBits = 0L;
+            distance = 0.0;
+            return true;
+        }
+        if (!startsWith(bytes, cpsEnd, end, ViolationLineEncoder.TARGET_LABEL)) {
+            return false;
+        }
+        int typeFrom = cpsEnd + ViolationLineEncoder.TARGET_LABEL.length;
+        int distLabel = indexOf(bytes, typeFrom, end, ViolationLineEncoder.DIST_LABEL);
+        int targetUuidFrom = distLabel - UUID_LENGTH;
+        if (distLabel < 0 || targetUuidFrom - 1 <= typeFrom || bytes[targetUuidFrom - 1] != '(') {
+            return false;
+        }
+        if (!parseUuid(bytes, targetUuidFrom)) {
+            return false;
+        }
+        targetMostBits = parsedMostBits;
+        targetLeastBits = parsedLeastBits;
+        targetType = typeName(bytes, typeFrom, targetUuidFrom - 1);
+
+        double parsedDistance = parseDistance(bytes, distLabel + ViolationLineEncoder.DIST_LABEL.length, end);
+        if (Double.isNaN(parsedDistance) && !containsNaN(bytes, distLabel, end)) {
+            return false;
+        }
+        distance = parsedDistance;
+        hasTarget = true;
+        return true;
+    }
+
+    /**
+     * 마지막으로 파싱한 줄의 시각을 yyyyMMddHH 정수로 반환합니다. (예: 2024-01-31 13시 → 2024013113)
+     */
+    public int hourKey() {
+        return hourKey;
+    }
+
+    /**
+     * 마지막으로 파싱한 줄의 플레이어 이름을 반환합니다. (호출할 때마다 문자열 생성)
+     */
+    public String playerName() {
+        return new String(line, nameFrom, nameTo - nameFrom, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 플레이어 UUID 상위 64비트
+     */
+    public long playerMostBits() {
+        return playerMostBits;
+    }
+
+    /**
+     * 플레이어 UUID 하위 64비트
+     */
+    public long playerLeastBits() {
+        return playerLeastBits;
+    }
+
+    /**
+     * 위반 시 CPS
+     */
+    public int cps() {
+        return cps;
+    }
+
+    /**
+     * 타겟 정보가 있는 줄인지 여부
+     */
+    public boolean hasTarget() {
+        return hasTarget;
+    }
+
+    /**
+     * 타겟 엔티티 타입 이름 (타겟이 없으면 null)
+     */
+    public String targetType() {
+        return targetType;
+    }
+
+    /**
+     * 타겟 UUID 상위 64비트
+     */
+    public long targetMostBits() {
+        return targetMostBits;
+    }
+
+    /**
+     * 타겟 UUID 하위 64비트
+     */
+    public long targetLeastBits() {
+        return targetLeastBits;
+    }
+
+    /**
+     * 타겟까지 거리 (로그에 기록된 소수 둘째 자리 값)
+     */
+    public double distance() {
+        return distance;
+    }
+
+    private boolean parseUuid(byte[] bytes, int from) {
+        if (bytes[from + 8] != '-' || bytes[from + 13] != '-' || bytes[from + 18] != '-' || bytes[from + 23] != '-') {
+            return false;
+        }
+        long a = hex(bytes, from, 8);
+        long b = hex(bytes, from + 9, 4);
+        long c = hex(bytes, from + 14, 4);
+        long d = hex(bytes, from + 19, 4);
+        long e = hex(bytes, from + 24, 12);
+        if ((a | b | c | d | e) < 0) {
+            return false;
+        }
+        parsedMostBits = (a << 32) | (b << 16) | c;
+        parsedLeastBits = (d << 48) | e;
+        return true;
+    }
+
+    /**
+     * 16진수를 읽습니다. (최대 15자리, 잘못된 문자가 있으면 -1)
+     */
+    private static long hex(byte[] bytes, int from, int count) {
+        long value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = Character.digit(bytes[i], 16);
+            if (digit < 0) {
+                return -1L;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] bytes, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 거리(%.2f)를 읽습니다. 소수점은 '.'/',' 모두 허용하며, 그 밖의 형식은 Double.parseDouble로 처리합니다.
+     */
+    private static double parseDistance(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = i < to && bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long mantissa = 0;
+        int fractionDigits = -1;
+        boolean any = false;
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9' && mantissa < Long.MAX_VALUE / 10) {
+                mantissa = mantissa * 10 + (b - '0');
+                any = true;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if ((b == '.' || b == ',') && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                return parseSlow(bytes, from, to);
+            }
+        }
+        if (!any) {
+            return Double.NaN;
+        }
+        double value = mantissa;
+        for (int k = 0; k < fractionDigits; k++) {
+            value /= 10.0;
+        }
+        return negative ? -value : value;
+    }
+
+    private static double parseSlow(byte[] bytes, int from, int to) {
+        try {
+            return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII).replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean containsNaN(byte[] bytes, int from, int to) {
+        return indexOf(bytes, from, to, new byte[]{'N', 'a', 'N'}) >= 0;
+    }
+
+    /**
+     * 타겟 타입 이름을 캐시에서 찾거나 새로 만듭니다. (타입 수가 적어 대부분 캐시 적중)
+     */
+    private String typeName(byte[] bytes, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (TYPE_CACHE_SIZE - 1);
+        byte[] cached = typeCacheBytes[slot];
+        if (cached != null && Arrays.equals(cached, 0, cached.length, bytes, from, to)) {
+            return typeCache[slot];
+        }
+        String name = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        typeCacheBytes[slot] = Arrays.copyOfRange(bytes, from, to);
+        typeCache[slot] = name;
+        return name;
+    }
+
+    private static boolean startsWith(byte[] bytes, int from, int to, byte[] prefix) {
+        return to - from >= prefix.length && Arrays.equals(bytes, from, from + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] target) {
+        outer:
+        for (int i = from; i + target.length <= to; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
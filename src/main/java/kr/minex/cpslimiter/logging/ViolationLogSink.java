@@ -0,0 +1,31 @@
+package kr.minex.cpslimiter.logging;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 위반 기록을 파일에 쓰는 출력 대상 (로그 형식별 구현)
+ *
+ * <p>로그 작성 스레드 하나에서만 사용합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public interface ViolationLogSink extends Closeable {
+
+    /**
+     * 위반 기록 하나를 씁니다. (버퍼에만 쓰일 수 있음)
+     *
+     * @param record 위반 기록
+     * @throws IOException 쓰기 실패 시
+     */
+    void write(ViolationRecord record) throws IOException;
+
+    /**
+     * 지금까지 쓴 기록을 파일에 반영합니다.
+     *
+     * @param sync true면 디스크 기록까지 기다림 (fsync)
+     * @throws IOException 쓰기 실패 시
+     */
+    void flush(boolean sync) throws IOException;
+}
@@ -0,0 +1,64 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 로그 대기열에 게시되는 위반 기록
+ *
+ * <p>메인(리전) 스레드는 원시 값만 담아 게시하고, 문자열 변환은 로그 작성 스레드의
+ * {@link ViolationLineEncoder}가 처리합니다. 플레이어 이름은 Bukkit이 보관하는 불변 문자열을 그대로 참조합니다.</p>
+ *
+ * @param epochMillis 위반 시각 (System.currentTimeMillis())
+ * @param playerName 플레이어 이름
+ * @param playerMostBits 플레이어 UUID 상위 64비트
+ * @param playerLeastBits 플레이어 UUID 하위 64비트
+ * @param cps 감지된 CPS
+ * @param targetType 타겟 엔티티 타입 순번 (EntityType.ordinal(), 타겟이 없으면 {@link #NO_TARGET})
+ * @param targetMostBits 타겟 UUID 상위 64비트
+ * @param targetLeastBits 타겟 UUID 하위 64비트
+ * @param distance 타겟까지의 거리
+ * @param threshold 위반 당시 CPS 임계값
+ * @param targetMode 위반 당시 전투 타겟 모드 이름 (없으면 null)
+ * @param world 플레이어가 있던 월드 이름 (없으면 null)
+ * @param x 플레이어 X 좌표
+ * @param y 플레이어 Y 좌표
+ * @param z 플레이어 Z 좌표
+ */
+public record ViolationRecord(long epochMillis,
+                              String playerName,
+                              long playerMostBits,
+                              long playerLeastBits,
+                              int cps,
+                              int targetType,
+                              long targetMostBits,
+                              long targetLeastBits,
+                              double distance,
+                              int threshold,
+                              String targetMode,
+                              String world,
+                              double x,
+                              double y,
+                              double z) {
+
+    /**
+     * 타겟 없음
+     */
+    public static final int NO_TARGET = -1;
+
+    /**
+     * 임계값/모드/위치 없이 생성합니다. (바이너리 로그처럼 해당 정보를 저장하지 않는 형식용)
+     */
+    public ViolationRecord(long epochMillis, String playerName, long playerMostBits, long playerLeastBits,
+                           int cps, int targetType, long targetMostBits, long targetLeastBits, double distance) {
+        this(epochMillis, playerName, playerMostBits, playerLeastBits, cps,
+                targetType, targetMostBits, targetLeastBits, distance,
+                0, null, null, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * 타겟 정보가 있는지 확인합니다.
+     *
+     * @return 타겟이 있으면 true
+     */
+    public boolean hasTarget() {
+        return targetType != NO_TARGET;
+    }
+}
@@ -0,0 +1,44 @@
+package kr.minex.cpslimiter.logging;
+
+/**
+ * 로그 작성 스레드가 대기열이 빌 때 기다리는 방식
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+    /**
+     * LockSupport.park로 잠들고, 생산자가 필요할 때만 깨움 (기본값, CPU 사용 없음)
+     */
+    PARK,
+
+    /**
+     * Thread.yield로 계속 확인 (지연 최소, CPU 코어 하나를 계속 사용)
+     */
+    YIELD,
+
+    /**
+     * 잠금/조건 변수로 대기 (PARK와 비슷하나, 깨울 때 생산자가 잠금을 잡음)
+     */
+    BLOCK;
+
+    /**
+     * 설정 문자열을 대기 방식으로 변환합니다.
+     *
+     * @param raw 설정 값
+     * @return 대기 방식 (알 수 없으면 PARK)
+     */
+    public static WaitStrategy fromConfig(String raw) {
+        if (raw == null) {
+            return PARK;
+        }
+
+        String normalized = raw.trim().toUpperCase();
+        return switch (normalized) {
+            case "PARK" -> PARK;
+            case "YIELD", "SPIN" -> YIELD;
+            case "BLOCK", "BLOCKING" -> BLOCK;
+            default -> PARK;
+        };
+    }
+}
@@ -1,16 +1,31 @@
 package kr.minex.cpslimiter.managers;
 
 import kr.minex.cpslimiter.models.ClickData;
+import kr.minex.cpslimiter.models.ClickWindow;
+import kr.minex.cpslimiter.models.ClickWindowSettings;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * CPS(초당 클릭 수) 측정 및 관리 매니저
  *
  * 플레이어별 클릭 데이터를 관리하고 CPS를 측정합니다.
- * 스레드 안전성을 위해 ConcurrentHashMap을 사용합니다.
+ *
+ * <p>플레이어는 접속 시 정수 슬롯을 할당받고 퇴장 시 반납합니다.
+ * 클릭 데이터는 슬롯 번호로 인덱싱되는 병렬 배열에 저장되므로,
+ * 슬롯을 보유한 호출자는 해시 조회 없이 배열 접근만으로 클릭을 등록할 수 있습니다.</p>
+ *
+ * <p>슬롯 할당/반납(접속/퇴장)만 잠금을 사용하며, 클릭 등록 경로는 volatile 배열 참조만 읽습니다.
+ * 클릭 경로의 슬롯 조회는 UUID 해시맵 대신 엔티티 ID로 인덱싱되는 정수 배열 테이블({@link #getSlotByEntityId(int)})을 사용하므로
+ * UUID 해시/비교와 박싱이 없습니다. 이 테이블은 접속/퇴장 시에만 새로 만들어 교체합니다.</p>
+ *
+ * <p>바이패스 권한 판정 결과도 슬롯별로 캐싱되어, 클릭 경로에서 권한 플러그인 조회를 생략합니다.</p>
  *
  * @author minex
  * @since 1.0.0
@@ -18,10 +33,591 @@ import java.util.concurrent.ConcurrentHashMap;
 public class CPSManager {
 
     /**
-     * 플레이어별 클릭 데이터 저장소
-     * Key: 플레이어 UUID, Value: 클릭 데이터
+     * 슬롯이 없음을 나타내는 값
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * CPS 제한 우회 권한 (슬롯별로 캐싱됨)
+     */
+    public static final String BYPASS_PERMISSION = "cpslimiter.bypass";
+
+    /**
+     * 바이패스 권한 캐시 상태: 미확인 (다음 클릭 시 권한을 다시 조회)
+     */
+    public static final byte BYPASS_UNKNOWN = 0;
+
+    /**
+     * 바이패스 권한 캐시 상태: 권한 없음
+     */
+    public static final byte BYPASS_DENIED = 1;
+
+    /**
+     * 바이패스 권한 캐시 상태: 권한 있음
+     */
+    public static final byte BYPASS_GRANTED = 2;
+
+    /**
+     * 엔티티 ID가 연결되지 않은 슬롯 표시
+     */
+    private static final int NO_ENTITY = Integer.MIN_VALUE;
+
+    /**
+     * 초기 슬롯 배열 크기 (부족하면 두 배씩 확장)
+     */
+    private static final int INITIAL_SLOT_CAPACITY = 64;
+
+    /**
+     * 플레이어 UUID -> 슬롯 번호
+     * 접속/퇴장 시에만 갱신되며, 슬롯 핸들이 없는 호출자를 위한 보조 인덱스입니다.
+     */
+    private final Map<UUID, Integer> slotIndex = new ConcurrentHashMap<>();
+
+    /**
+     * 슬롯 할당/반납 및 배열 확장 잠금
+     */
+    private final Object slotLock = new Object();
+
+    /**
+     * 슬롯별 클릭 데이터 (반납된 슬롯은 null)
+     */
+    private volatile ClickData[] clickDataSlots = new ClickData[INITIAL_SLOT_CAPACITY];
+
+    /**
+     * 슬롯별 소유 플레이어 UUID (반납된 슬롯은 null)
+     */
+    private volatile UUID[] slotOwners = new UUID[INITIAL_SLOT_CAPACITY];
+
+    /**
+     * 슬롯별 플레이어 엔티티 ID (연결되지 않았으면 {@link #NO_ENTITY}, slotLock으로 보호)
+     */
+    private int[] slotEntityIds = newEntityIds(INITIAL_SLOT_CAPACITY);
+
+    /**
+     * 엔티티 ID -> 슬롯 번호 오픈 어드레싱 테이블 ([엔티티 ID, 슬롯 + 1] 쌍, 0이면 빈 칸)
+     * 읽기는 잠금 없이 참조 하나만 읽고, 접속/퇴장 시 slotLock 안에서 새 배열로 교체합니다.
+     */
+    private volatile int[] entityTable = new int[2 * INITIAL_SLOT_CAPACITY];
+
+    /**
+     * 바이패스 캐시 값에서 상태가 차지하는 하위 비트
+     */
+    private static final int BYPASS_STATE_MASK = 0b11;
+
+    /**
+     * 슬롯별 바이패스 권한 캐시 ((세대 << 2) | 상태)
+     * 읽기는 잠금 없이, 쓰기는 배열 확장과 겹치지 않도록 slotLock 안에서 수행합니다.
+     * 무효화/슬롯 재사용 시 세대를 올려, 그 전에 시작된 권한 조회 결과가 기록되지 않게 합니다.
+     */
+    private volatile int[] bypassStamps = new int[INITIAL_SLOT_CAPACITY];
+
+    /**
+     * 슬롯별 "마지막 권한 재확인 이후 휘두름" 표시 (권한 변경 이벤트가 없을 때 재확인 대상 선정용)
+     * 클릭 경로에서 잠금 없이 기록하므로 배열 확장과 겹치면 표시가 빠질 수 있으며, 다음 스윙에서 다시 표시됩니다.
+     */
+    private volatile byte[] swungSinceRecheck = new byte[INITIAL_SLOT_CAPACITY];
+
+    /**
+     * 반납된 슬롯 스택 (slotLock으로 보호)
+     */
+    private int[] freeSlots = new int[INITIAL_SLOT_CAPACITY];
+    private int freeCount = 0;
+
+    /**
+     * 한 번이라도 사용된 슬롯 수 (slotLock으로 보호, 읽기는 volatile)
+     */
+    private volatile int slotHighWater = 0;
+
+    /**
+     * 새 플레이어의 클릭 윈도우 생성기
+     */
+    private final Supplier<ClickWindow> windowFactory;
+
+    /**
+     * 기본 윈도우(정확한 1초)를 사용하는 CPSManager를 생성합니다.
+     */
+    public CPSManager() {
+        this(ClickWindowSettings.DEFAULT::newWindow);
+    }
+
+    /**
+     * 윈도우 생성기를 지정하여 CPSManager를 생성합니다.
+     * 설정 리로드 이후 새로 추적되는 플레이어부터 변경된 윈도우가 적용됩니다.
+     *
+     * @param windowFactory 클릭 윈도우 생성기
+     */
+    public CPSManager(Supplier<ClickWindow> windowFactory) {
+        this.windowFactory = windowFactory;
+    }
+
+    // ==================== 슬롯 관리 ====================
+
+    /**
+     * 플레이어에게 슬롯을 할당합니다.
+     * 이미 할당된 경우 기존 슬롯을 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 슬롯 번호
+     */
+    public int acquireSlot(UUID playerId) {
+        Integer existing = slotIndex.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+
+        synchronized (slotLock) {
+            existing = slotIndex.get(playerId);
+            if (existing != null) {
+                return existing;
+            }
+
+            int slot;
+            if (freeCount > 0) {
+                slot = freeSlots[--freeCount];
+            } else {
+                slot = slotHighWater;
+                ensureCapacity(slot + 1);
+                slotHighWater = slot + 1;
+            }
+
+            clickDataSlots[slot] = new ClickData(windowFactory.get());
+            slotOwners[slot] = playerId;
+            slotEntityIds[slot] = NO_ENTITY;
+            resetBypass(slot);
+            swungSinceRecheck[slot] = 0;
+            slotIndex.put(playerId, slot);
+            return slot;
+        }
+    }
+
+    /**
+     * 플레이어에게 슬롯을 할당하고 엔티티 ID를 연결합니다.
+     * 이후 클릭 경로에서는 {@link #getSlotByEntityId(int)}로 해시 조회 없이 슬롯을 찾을 수 있습니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param entityId 플레이어 엔티티 ID (접속 중에는 리스폰/월드 이동에도 유지됨)
+     * @return 슬롯 번호
+     */
+    public int acquireSlot(UUID playerId, int entityId) {
+        int slot = acquireSlot(playerId);
+        synchronized (slotLock) {
+            if (playerId.equals(slotOwners[slot]) && slotEntityIds[slot] != entityId) {
+                slotEntityIds[slot] = entityId;
+                rebuildEntityTable();
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * 엔티티 ID로 슬롯 번호를 조회합니다. (클릭 경로용, 잠금/할당 없음)
+     *
+     * @param entityId 플레이어 엔티티 ID
+     * @return 슬롯 번호 (연결되지 않았으면 {@link #NO_SLOT})
+     */
+    public int getSlotByEntityId(int entityId) {
+        int[] table = entityTable;
+        int mask = (table.length >>> 1) - 1;
+        int i = mixEntityId(entityId) & mask;
+        while (true) {
+            int value = table[(i << 1) + 1];
+            if (value == 0) {
+                return NO_SLOT;
+            }
+            if (table[i << 1] == entityId) {
+                return value - 1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 연결된 엔티티 ID로 조회 테이블을 새로 만들어 교체합니다. (slotLock 보유 상태에서 호출)
+     * 테이블 칸 수는 연결된 슬롯 수의 2배 이상인 2의 거듭제곱이므로 빈 칸이 항상 있습니다.
+     */
+    private void rebuildEntityTable() {
+        int linked = 0;
+        for (int slot = 0; slot < slotHighWater; slot++) {
+            if (slotEntityIds[slot] != NO_ENTITY) {
+                linked++;
+            }
+        }
+        int cells = Math.max(INITIAL_SLOT_CAPACITY, Integer.highestOneBit(Math.max(1, linked * 2 - 1)) << 1);
+        int[] table = new int[2 * cells];
+        int mask = cells - 1;
+        for (int slot = 0; slot < slotHighWater; slot++) {
+            int entityId = slotEntityIds[slot];
+            if (entityId == NO_ENTITY) {
+                continue;
+            }
+            int i = mixEntityId(entityId) & mask;
+            while (table[(i << 1) + 1] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i << 1] = entityId;
+            table[(i << 1) + 1] = slot + 1;
+        }
+        entityTable = table;
+    }
+
+    /**
+     * 연속된 엔티티 ID가 테이블 전체에 퍼지도록 섞습니다.
+     */
+    private static int mixEntityId(int entityId) {
+        int h = entityId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int[] newEntityIds(int capacity) {
+        int[] ids = new int[capacity];
+        Arrays.fill(ids, NO_ENTITY);
+        return ids;
+    }
+
+    /**
+     * 플레이어의 슬롯 번호를 조회합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @return 슬롯 번호 (할당되지 않았으면 {@link #NO_SLOT})
+     */
+    public int getSlot(UUID playerId) {
+        Integer slot = slotIndex.get(playerId);
+        return slot == null ? NO_SLOT : slot;
+    }
+
+    /**
+     * 플레이어의 슬롯을 반납합니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void releaseSlot(UUID playerId) {
+        synchronized (slotLock) {
+            Integer slot = slotIndex.remove(playerId);
+            if (slot == null) {
+                return;
+            }
+
+            clickDataSlots[slot] = null;
+            slotOwners[slot] = null;
+            resetBypass(slot);
+            swungSinceRecheck[slot] = 0;
+            freeSlots[freeCount++] = slot;
+            if (slotEntityIds[slot] != NO_ENTITY) {
+                slotEntityIds[slot] = NO_ENTITY;
+                rebuildEntityTable();
+            }
+        }
+    }
+
+    /**
+     * 슬롯 배열을 필요한 크기까지 확장합니다. (slotLock 보유 상태에서 호출)
+     */
+    private void ensureCapacity(int required) {
+        if (required <= clickDataSlots.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(required, clickDataSlots.length * 2);
+        freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+        slotOwners = Arrays.copyOf(slotOwners, newCapacity);
+        int oldCapacity = slotEntityIds.length;
+        slotEntityIds = Arrays.copyOf(slotEntityIds, newCapacity);
+        Arrays.fill(slotEntityIds, oldCapacity, newCapacity, NO_ENTITY);
+        bypassStamps = Arrays.copyOf(bypassStamps, newCapacity);
+        swungSinceRecheck = Arrays.copyOf(swungSinceRecheck, newCapacity);
+        clickDataSlots = Arrays.copyOf(clickDataSlots, newCapacity);
+    }
+
+    /**
+     * 순회 가능한 슬롯 범위의 상한을 반환합니다.
+     * [0, 상한) 범위의 슬롯 중 반납된 슬롯은 {@link #getClickData(int)}가 null을 반환합니다.
+     *
+     * @return 슬롯 범위 상한
+     */
+    public int getSlotLimit() {
+        return slotHighWater;
+    }
+
+    /**
+     * 슬롯을 소유한 플레이어 UUID를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 플레이어 UUID (반납된 슬롯이면 null)
+     */
+    public UUID getSlotOwner(int slot) {
+        UUID[] owners = slotOwners;
+        return slot >= 0 && slot < owners.length ? owners[slot] : null;
+    }
+
+    // ==================== 바이패스 권한 캐시 ====================
+
+    /**
+     * 슬롯의 바이패스 권한 캐시 상태를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return {@link #BYPASS_UNKNOWN}, {@link #BYPASS_DENIED}, {@link #BYPASS_GRANTED} 중 하나
      */
-    private final Map<UUID, ClickData> clickDataMap = new ConcurrentHashMap<>();
+    public byte getBypassState(int slot) {
+        return bypassState(getBypassStamp(slot));
+    }
+
+    /**
+     * 슬롯의 바이패스 권한 캐시 값(세대 + 상태)을 반환합니다. (클릭 경로용, 잠금 없음)
+     * 권한을 조회해 기록할 때는 조회 전에 읽은 이 값을 {@link #setBypass(int, int, boolean)}에 넘깁니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 캐시 값 (상태는 {@link #bypassState(int)}로 확인)
+     */
+    public int getBypassStamp(int slot) {
+        int[] stamps = bypassStamps;
+        return slot >= 0 && slot < stamps.length ? stamps[slot] : BYPASS_UNKNOWN;
+    }
+
+    /**
+     * 캐시 값에서 바이패스 상태를 꺼냅니다.
+     *
+     * @param stamp {@link #getBypassStamp(int)} 결과
+     * @return {@link #BYPASS_UNKNOWN}, {@link #BYPASS_DENIED}, {@link #BYPASS_GRANTED} 중 하나
+     */
+    public static byte bypassState(int stamp) {
+        return (byte) (stamp & BYPASS_STATE_MASK);
+    }
+
+    /**
+     * 슬롯의 바이패스 권한 판정 결과를 캐싱합니다.
+     *
+     * <p>조회 전에 읽은 캐시 값이 그대로일 때만 기록합니다. 조회 도중 무효화되었거나 슬롯이 다른 플레이어에게 넘어갔으면
+     * 이전 권한으로 판정한 결과이므로 버리고, 다음 클릭에서 다시 조회합니다.</p>
+     *
+     * @param slot 슬롯 번호
+     * @param stamp 권한 조회 전에 읽은 {@link #getBypassStamp(int)} 값
+     * @param granted 바이패스 권한 보유 여부
+     * @return 기록했으면 true
+     */
+    public boolean setBypass(int slot, int stamp, boolean granted) {
+        synchronized (slotLock) {
+            int[] stamps = bypassStamps;
+            if (slot < 0 || slot >= stamps.length || stamps[slot] != stamp) {
+                return false;
+            }
+            stamps[slot] = (stamp & ~BYPASS_STATE_MASK) | (granted ? BYPASS_GRANTED : BYPASS_DENIED);
+            return true;
+        }
+    }
+
+    /**
+     * 특정 플레이어의 바이패스 권한 캐시를 무효화합니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void invalidateBypass(UUID playerId) {
+        synchronized (slotLock) {
+            Integer slot = slotIndex.get(playerId);
+            if (slot != null) {
+                resetBypass(slot);
+            }
+        }
+    }
+
+    /**
+     * 모든 플레이어의 바이패스 권한 캐시를 무효화합니다.
+     * 각 플레이어의 다음 클릭 시 권한을 다시 조회합니다.
+     */
+    public void invalidateAllBypass() {
+        synchronized (slotLock) {
+            for (int slot = 0; slot < slotHighWater; slot++) {
+                resetBypass(slot);
+            }
+        }
+    }
+
+    /**
+     * 슬롯의 플레이어가 캐시된 바이패스 판정으로 휘둘렀음을 표시합니다. (클릭 경로용, 잠금 없음)
+     *
+     * @param slot 슬롯 번호
+     */
+    public void markSwung(int slot) {
+        byte[] flags = swungSinceRecheck;
+        // 이미 표시된 경우 쓰지 않음 (연타 중 같은 캐시 라인을 계속 더럽히지 않도록)
+        if (slot >= 0 && slot < flags.length && flags[slot] == 0) {
+            flags[slot] = 1;
+        }
+    }
+
+    /**
+     * 휘두름 표시를 확인하고 지웁니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 마지막 확인 이후 휘둘렀으면 true
+     */
+    public boolean takeSwung(int slot) {
+        byte[] flags = swungSinceRecheck;
+        if (slot >= 0 && slot < flags.length && flags[slot] != 0) {
+            flags[slot] = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 슬롯을 미확인 상태로 되돌리고 세대를 올립니다. (slotLock 보유 상태에서 호출)
+     */
+    private void resetBypass(int slot) {
+        bypassStamps[slot] = ((bypassStamps[slot] >>> 2) + 1) << 2;
+    }
+
+    // ==================== 클릭 처리 (슬롯 기반) ====================
+
+    /**
+     * 슬롯에 클릭을 등록하고 현재 CPS를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 현재 CPS (반납된 슬롯이면 0)
+     */
+    public int registerClick(int slot) {
+        return registerClick(slot, System.currentTimeMillis());
+    }
+
+    /**
+     * 슬롯에 특정 시점의 클릭을 등록하고 현재 CPS를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @param timestamp 클릭 발생 시간 (밀리초)
+     * @return 현재 CPS (반납된 슬롯이면 0)
+     */
+    public int registerClick(int slot, long timestamp) {
+        ClickData data = getClickData(slot);
+        if (data == null) {
+            return 0;
+        }
+        return data.addClick(timestamp);
+    }
+
+    /**
+     * 슬롯의 클릭 데이터를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 클릭 데이터 (반납된 슬롯이면 null)
+     */
+    public ClickData getClickData(int slot) {
+        ClickData[] slots = clickDataSlots;
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    // ==================== CPS 순위 ====================
+
+    /**
+     * 현재 CPS가 가장 높은 플레이어들을 반환합니다.
+     *
+     * <p>슬롯 배열을 한 번 훑으며 크기 limit의 최소 힙(CPS, 슬롯 병렬 배열)만 유지하므로,
+     * 전체를 정렬하지 않고 O(플레이어 수 × log limit)에 처리됩니다.
+     * CPS는 {@link ClickData#peekCPS(long)}로 읽어 플레이어별 만료 처리(상태 변경)를 하지 않습니다.</p>
+     *
+     * @param limit 최대 인원
+     * @param nowMs 기준 시간 (밀리초)
+     * @return CPS 내림차순 목록 (CPS가 0인 플레이어 제외)
+     */
+    public List<CpsRank> getTopCps(int limit, long nowMs) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        ClickData[] slots = clickDataSlots;
+        int slotLimit = Math.min(slotHighWater, slots.length);
+        int[] heapCps = new int[Math.min(limit, Math.max(1, slotLimit))];
+        int[] heapSlots = new int[heapCps.length];
+        int heapSize = 0;
+
+        for (int slot = 0; slot < slotLimit; slot++) {
+            ClickData data = slots[slot];
+            if (data == null) {
+                continue;
+            }
+            int cps = data.peekCPS(nowMs);
+            if (cps <= 0) {
+                continue;
+            }
+            if (heapSize < heapCps.length) {
+                heapCps[heapSize] = cps;
+                heapSlots[heapSize] = slot;
+                siftUp(heapCps, heapSlots, heapSize++);
+            } else if (cps > heapCps[0]) {
+                heapCps[0] = cps;
+                heapSlots[0] = slot;
+                siftDown(heapCps, heapSlots, heapSize);
+            }
+        }
+
+        // 힙에서 가장 낮은 CPS부터 꺼내 뒤에서부터 채움
+        CpsRank[] ranks = new CpsRank[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            UUID owner = getSlotOwner(heapSlots[0]);
+            ranks[i] = new CpsRank(owner, heapCps[0]);
+            heapCps[0] = heapCps[i];
+            heapSlots[0] = heapSlots[i];
+            siftDown(heapCps, heapSlots, i);
+        }
+
+        // 조회 중 퇴장한 플레이어 제외
+        List<CpsRank> result = new ArrayList<>(ranks.length);
+        for (CpsRank rank : ranks) {
+            if (rank.playerId() != null) {
+                result.add(rank);
+            }
+        }
+        return result;
+    }
+
+    private static void siftUp(int[] cps, int[] slots, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (cps[parent] <= cps[index]) {
+                return;
+            }
+            swap(cps, slots, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] cps, int[] slots, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && cps[left] < cps[smallest]) {
+                smallest = left;
+            }
+            if (right < size && cps[right] < cps[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(cps, slots, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] cps, int[] slots, int a, int b) {
+        int tempCps = cps[a];
+        cps[a] = cps[b];
+        cps[b] = tempCps;
+        int tempSlot = slots[a];
+        slots[a] = slots[b];
+        slots[b] = tempSlot;
+    }
+
+    /**
+     * CPS 순위 항목
+     *
+     * @param playerId 플레이어 UUID
+     * @param cps 현재 CPS
+     */
+    public record CpsRank(UUID playerId, int cps) {
+    }
+
+    // ==================== 클릭 처리 (UUID 기반) ====================
 
     /**
      * 클릭을 등록하고 현재 CPS를 반환합니다.
@@ -30,8 +626,7 @@ public class CPSManager {
      * @return 현재 CPS
      */
     public int registerClick(UUID playerId) {
-        ClickData data = clickDataMap.computeIfAbsent(playerId, k -> new ClickData());
-        return data.addClick(System.currentTimeMillis());
+        return registerClick(acquireSlot(playerId));
     }
 
     /**
@@ -42,7 +637,7 @@ public class CPSManager {
      * @return 현재 CPS (데이터가 없으면 0)
      */
     public int getCurrentCPS(UUID playerId) {
-        ClickData data = clickDataMap.get(playerId);
+        ClickData data = getClickData(getSlot(playerId));
         if (data == null) {
             return 0;
         }
@@ -56,7 +651,7 @@ public class CPSManager {
      * @return 클릭 데이터 (없으면 새로 생성)
      */
     public ClickData getClickData(UUID playerId) {
-        return clickDataMap.computeIfAbsent(playerId, k -> new ClickData());
+        return getClickData(acquireSlot(playerId));
     }
 
     /**
@@ -66,7 +661,7 @@ public class CPSManager {
      * @return 데이터 존재 여부
      */
     public boolean hasClickData(UUID playerId) {
-        return clickDataMap.containsKey(playerId);
+        return slotIndex.containsKey(playerId);
     }
 
     /**
@@ -76,7 +671,7 @@ public class CPSManager {
      * @param playerId 플레이어 UUID
      */
     public void removePlayer(UUID playerId) {
-        clickDataMap.remove(playerId);
+        releaseSlot(playerId);
     }
 
     /**
@@ -84,7 +679,19 @@ public class CPSManager {
      * 플러그인 비활성화 시 호출합니다.
      */
     public void clearAll() {
-        clickDataMap.clear();
+        synchronized (slotLock) {
+            slotIndex.clear();
+            Arrays.fill(clickDataSlots, null);
+            Arrays.fill(slotOwners, null);
+            for (int slot = 0; slot < bypassStamps.length; slot++) {
+                resetBypass(slot);
+            }
+            Arrays.fill(swungSinceRecheck, (byte) 0);
+            Arrays.fill(slotEntityIds, NO_ENTITY);
+            entityTable = new int[2 * INITIAL_SLOT_CAPACITY];
+            freeCount = 0;
+            slotHighWater = 0;
+        }
     }
 
     /**
@@ -93,6 +700,6 @@ public class CPSManager {
      * @return 추적 중인 플레이어 수
      */
     public int getTrackedPlayerCount() {
-        return clickDataMap.size();
+        return slotIndex.size();
     }
 }
@@ -1,22 +1,36 @@
 package kr.minex.cpslimiter.managers;
 
+import org.bukkit.GameMode;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.potion.PotionEffectType;
 import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.logging.FlushPolicy;
+import kr.minex.cpslimiter.logging.LogDatabaseSettings;
+import kr.minex.cpslimiter.logging.LogFormat;
+import kr.minex.cpslimiter.logging.LogRotationSettings;
+import kr.minex.cpslimiter.logging.OverflowPolicy;
+import kr.minex.cpslimiter.logging.WaitStrategy;
+import kr.minex.cpslimiter.metrics.PrometheusSettings;
+import kr.minex.cpslimiter.models.ClickWindowMode;
+import kr.minex.cpslimiter.models.ClickWindowSettings;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
 import kr.minex.cpslimiter.models.DebuffConfig;
+import kr.minex.cpslimiter.models.DetectorType;
 import kr.minex.cpslimiter.models.TargetMode;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 설정 파일 관리자
  *
- * config.yml 파일을 로드하고 설정값을 캐싱하여 관리합니다.
- * 리로드를 지원하며, 모든 설정값은 getter 메서드를 통해 접근합니다.
+ * config.yml 파일을 로드하고 설정값을 불변 스냅샷({@link ConfigSnapshot})으로 컴파일하여 관리합니다.
+ * 리로드 시 스냅샷 참조를 원자적으로 교체하며, 개별 설정값은 getter 메서드로도 접근할 수 있습니다.
  *
  * @author minex
  * @since 1.0.0
@@ -26,27 +40,11 @@ public class ConfigManager {
     private final CPSLimiter plugin;
     private FileConfiguration config;
 
-    // 기본 설정 캐시
-    private int cpsThreshold;
-    private long debuffCooldown;
-    private boolean debugMode;
-
-    // 전투 판정 설정 캐시
-    private TargetMode targetMode;
-
-    // 알림 설정 캐시
-    private boolean chatNotificationEnabled;
-    private boolean titleNotificationEnabled;
-    private int titleFadeIn;
-    private int titleStay;
-    private int titleFadeOut;
-
-    // 로그 설정 캐시
-    private boolean loggingEnabled;
-    private String logFileName;
-
-    // 디버프 설정 캐시
-    private List<DebuffConfig> debuffs;
+    /**
+     * 컴파일된 설정 스냅샷
+     * 리로드 시 새 스냅샷으로 통째로 교체되므로, 읽는 쪽은 항상 일관된 설정을 봅니다.
+     */
+    private volatile ConfigSnapshot snapshot;
 
     /**
      * 레거시 포션 효과 이름 매핑
@@ -71,13 +69,12 @@ public class ConfigManager {
      */
     public ConfigManager(CPSLimiter plugin) {
         this.plugin = plugin;
-        this.debuffs = new ArrayList<>();
         reload();
     }
 
     /**
      * 설정을 리로드합니다.
-     * 기본 설정 파일이 없으면 생성하고, 모든 값을 다시 캐싱합니다.
+     * 기본 설정 파일이 없으면 생성하고, 모든 값을 새 스냅샷으로 컴파일한 뒤 한 번에 교체합니다.
      */
     public void reload() {
         // 기본 설정 파일 저장
@@ -85,36 +82,57 @@ public class ConfigManager {
         plugin.reloadConfig();
         config = plugin.getConfig();
 
+        ConfigSnapshot.Builder builder = new ConfigSnapshot.Builder();
+
         // 기본 설정 로드
-        loadSettings();
+        loadSettings(builder);
 
         // 알림 설정 로드
-        loadNotificationSettings();
+        loadNotificationSettings(builder);
 
         // 로그 설정 로드
-        loadLoggingSettings();
+        loadLoggingSettings(builder);
+
+        // 위반 통계 설정 로드
+        loadStatsSettings(builder);
+
+        // 지표 엔드포인트 설정 로드
+        loadMetricsSettings(builder);
 
         // 디버프 설정 로드
-        loadDebuffs();
+        loadDebuffs(builder);
 
-        if (debugMode) {
+        // 원자적 교체 (이벤트 처리 중인 스레드는 이전 스냅샷을 끝까지 사용)
+        ConfigSnapshot compiled = builder.build();
+        snapshot = compiled;
+
+        if (compiled.isDebugMode()) {
             plugin.getLogger().info("설정 로드 완료:");
-            plugin.getLogger().info("  - CPS 임계값: " + cpsThreshold);
-            plugin.getLogger().info("  - 디버프 쿨다운: " + debuffCooldown + "ms");
-            plugin.getLogger().info("  - 활성 디버프: " + debuffs.size() + "개");
+            plugin.getLogger().info("  - CPS 임계값: " + compiled.getCPSThreshold());
+            plugin.getLogger().info("  - 디버프 쿨다운: " + compiled.getDebuffCooldown() + "ms");
+            plugin.getLogger().info("  - CPS 측정 윈도우: " + compiled.getClickWindowSettings());
+            plugin.getLogger().info("  - 활성 디버프: " + compiled.getDebuffs().size() + "개");
         }
     }
 
     /**
      * 기본 설정 로드
      */
-    private void loadSettings() {
-        cpsThreshold = config.getInt("settings.cps-threshold", 15);
-        debuffCooldown = config.getLong("settings.debuff-cooldown", 1000L);
-        debugMode = config.getBoolean("settings.debug", false);
+    private void loadSettings(ConfigSnapshot.Builder builder) {
+        int cpsThreshold = config.getInt("settings.cps-threshold", 15);
+        long debuffCooldown = config.getLong("settings.debuff-cooldown", 1000L);
+        builder.debugMode(config.getBoolean("settings.debug", false));
 
         // 전투 타겟 모드 (기본: PVP 전용)
-        targetMode = TargetMode.fromConfig(config.getString("settings.target-mode", "PLAYER_ONLY"));
+        TargetMode targetMode = TargetMode.fromConfig(config.getString("settings.target-mode", "PLAYER_ONLY"));
+        builder.targetMode(targetMode);
+
+        // 전투 타겟 감지 방식 (기본: Bukkit 레이트레이스)
+        DetectorType detectorType = DetectorType.fromConfig(config.getString("settings.detector", "RAYTRACE"));
+        if (detectorType == DetectorType.HITBOX && targetMode != TargetMode.PLAYER_ONLY) {
+            plugin.getLogger().warning("HITBOX 감지 방식은 PLAYER_ONLY 모드 전용입니다. RAYTRACE 방식이 사용됩니다.");
+        }
+        builder.detectorType(detectorType);
 
         // 유효성 검사
         if (cpsThreshold < 1) {
@@ -125,32 +143,187 @@ public class ConfigManager {
             plugin.getLogger().warning("디버프 쿨다운이 0 미만입니다. 기본값 1000ms로 설정됩니다.");
             debuffCooldown = 1000L;
         }
+        builder.cpsThreshold(cpsThreshold).debuffCooldown(debuffCooldown);
+
+        loadFilterSettings(builder);
+        loadClickWindowSettings(builder);
+    }
+
+    /**
+     * 게임모드/월드 필터 설정 로드
+     */
+    private void loadFilterSettings(ConfigSnapshot.Builder builder) {
+        Set<GameMode> gameModes = EnumSet.noneOf(GameMode.class);
+        for (String raw : config.getStringList("settings.ignored-gamemodes")) {
+            try {
+                gameModes.add(GameMode.valueOf(raw.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("알 수 없는 게임모드: " + raw + " (settings.ignored-gamemodes)");
+            }
+        }
+        builder.ignoredGameModes(gameModes);
+        builder.disabledWorlds(new HashSet<>(config.getStringList("settings.disabled-worlds")));
+    }
+
+    /**
+     * CPS 측정 윈도우 설정 로드
+     */
+    private void loadClickWindowSettings(ConfigSnapshot.Builder builder) {
+        ClickWindowMode mode = ClickWindowMode.fromConfig(config.getString("settings.cps-window.mode", "EXACT"));
+        long windowMs = config.getLong("settings.cps-window.window-ms", 1000L);
+        long bucketMs = config.getLong("settings.cps-window.bucket-ms", 50L);
+
+        // 유효성 검사
+        if (windowMs < 100L) {
+            plugin.getLogger().warning("CPS 측정 윈도우가 100ms 미만입니다. 기본값 1000ms로 설정됩니다.");
+            windowMs = 1000L;
+        }
+        // 버킷 길이는 BUCKETED 모드에서만 사용
+        if (mode == ClickWindowMode.BUCKETED) {
+            if (bucketMs < 1L || bucketMs > windowMs) {
+                plugin.getLogger().warning("CPS 측정 버킷 길이가 올바르지 않습니다. 기본값 50ms로 설정됩니다.");
+                bucketMs = Math.min(50L, windowMs);
+            }
+            if (windowMs % bucketMs != 0) {
+                plugin.getLogger().warning("CPS 측정 윈도우(" + windowMs + "ms)가 버킷 길이(" + bucketMs
+                        + "ms)로 나누어떨어지지 않습니다. 윈도우가 버킷 단위로 올림 처리됩니다.");
+            }
+        }
+
+        builder.clickWindowSettings(new ClickWindowSettings(mode, windowMs, bucketMs));
     }
 
     /**
      * 알림 설정 로드
      */
-    private void loadNotificationSettings() {
-        chatNotificationEnabled = config.getBoolean("notification.chat.enabled", true);
-        titleNotificationEnabled = config.getBoolean("notification.title.enabled", true);
-        titleFadeIn = config.getInt("notification.title.fade-in", 10);
-        titleStay = config.getInt("notification.title.stay", 40);
-        titleFadeOut = config.getInt("notification.title.fade-out", 10);
+    private void loadNotificationSettings(ConfigSnapshot.Builder builder) {
+        builder.chatNotificationEnabled(config.getBoolean("notification.chat.enabled", true));
+        builder.titleNotificationEnabled(config.getBoolean("notification.title.enabled", true));
+        builder.titleTimes(
+                config.getInt("notification.title.fade-in", 10),
+                config.getInt("notification.title.stay", 40),
+                config.getInt("notification.title.fade-out", 10)
+        );
     }
 
     /**
      * 로그 설정 로드
      */
-    private void loadLoggingSettings() {
-        loggingEnabled = config.getBoolean("logging.enabled", true);
-        logFileName = config.getString("logging.file", "violations.log");
+    private void loadLoggingSettings(ConfigSnapshot.Builder builder) {
+        builder.loggingEnabled(config.getBoolean("logging.enabled", true));
+        builder.logFileName(config.getString("logging.file", "violations.log"));
+        builder.logFormat(LogFormat.fromConfig(config.getString("logging.format", "text")));
+
+        // 로그 대기열 (고정 크기 링 버퍼)
+        int capacity = config.getInt("logging.queue.capacity", 8192);
+        if (capacity < 64 || capacity > (1 << 20)) {
+            plugin.getLogger().warning("logging.queue.capacity는 64 ~ 1048576 범위여야 합니다. 기본값 8192로 설정됩니다.");
+            capacity = 8192;
+        }
+        builder.logQueue(
+                capacity,
+                OverflowPolicy.fromConfig(config.getString("logging.queue.overflow", "DROP_OLDEST")),
+                WaitStrategy.fromConfig(config.getString("logging.queue.wait-strategy", "PARK"))
+        );
+
+        // 그룹 커밋 (배치 단위 쓰기 + flush 정책)
+        long flushIntervalMs = config.getLong("logging.flush-interval-ms", 1000L);
+        if (flushIntervalMs < 10L || flushIntervalMs > 60000L) {
+            plugin.getLogger().warning("logging.flush-interval-ms는 10 ~ 60000 범위여야 합니다. 기본값 1000으로 설정됩니다.");
+            flushIntervalMs = 1000L;
+        }
+        int batchSize = config.getInt("logging.batch.max-size", 512);
+        if (batchSize < 1 || batchSize > 65536) {
+            plugin.getLogger().warning("logging.batch.max-size는 1 ~ 65536 범위여야 합니다. 기본값 512로 설정됩니다.");
+            batchSize = 512;
+        }
+        long batchTimeBudgetMs = config.getLong("logging.batch.time-budget-ms", 5L);
+        if (batchTimeBudgetMs < 0L || batchTimeBudgetMs > 1000L) {
+            plugin.getLogger().warning("logging.batch.time-budget-ms는 0 ~ 1000 범위여야 합니다. 기본값 5로 설정됩니다.");
+            batchTimeBudgetMs = 5L;
+        }
+        builder.logFlush(
+                FlushPolicy.fromConfig(config.getString("logging.flush", "every-batch")),
+                flushIntervalMs,
+                batchSize,
+                batchTimeBudgetMs
+        );
+
+        // 로그 파일 교체 (크기/날짜 기준, 교체 파일은 백그라운드에서 압축)
+        long maxSizeMb = config.getLong("logging.rotation.max-size-mb", 0L);
+        if (maxSizeMb < 0L || maxSizeMb > 102400L) {
+            plugin.getLogger().warning("logging.rotation.max-size-mb는 0 ~ 102400 범위여야 합니다. 기본값 0(사용 안 함)으로 설정됩니다.");
+            maxSizeMb = 0L;
+        }
+        int maxFiles = Math.max(0, config.getInt("logging.rotation.max-files", 0));
+        int maxAgeDays = Math.max(0, config.getInt("logging.rotation.max-age-days", 0));
+        builder.logRotationSettings(new LogRotationSettings(
+                maxSizeMb * 1024L * 1024L,
+                config.getBoolean("logging.rotation.daily", false),
+                config.getBoolean("logging.rotation.compress", true),
+                maxFiles,
+                maxAgeDays
+        ));
+
+        // 내장 데이터베이스 (SQLite)
+        builder.logDatabaseSettings(new LogDatabaseSettings(
+                config.getBoolean("logging.database.enabled", false),
+                config.getString("logging.database.file", "violations.db"),
+                config.getBoolean("logging.database.replace-file", false)
+        ));
+    }
+
+    /**
+     * 위반 통계 설정 로드
+     */
+    private void loadStatsSettings(ConfigSnapshot.Builder builder) {
+        int maxPlayers = config.getInt("stats.max-players", 10000);
+        if (maxPlayers < 100 || maxPlayers > 1_000_000) {
+            plugin.getLogger().warning("stats.max-players는 100 ~ 1000000 범위여야 합니다. 기본값 10000으로 설정됩니다.");
+            maxPlayers = 10000;
+        }
+        long snapshotIntervalSeconds = config.getLong("stats.snapshot-interval-seconds", 300L);
+        if (snapshotIntervalSeconds < 10L || snapshotIntervalSeconds > 86400L) {
+            plugin.getLogger().warning("stats.snapshot-interval-seconds는 10 ~ 86400 범위여야 합니다. 기본값 300으로 설정됩니다.");
+            snapshotIntervalSeconds = 300L;
+        }
+        builder.stats(maxPlayers, snapshotIntervalSeconds);
+    }
+
+    /**
+     * 지표 엔드포인트 설정 로드
+     */
+    private void loadMetricsSettings(ConfigSnapshot.Builder builder) {
+        PrometheusSettings defaults = PrometheusSettings.DISABLED;
+        String bindAddress = config.getString("metrics.prometheus.bind-address", defaults.bindAddress());
+        if (bindAddress == null || bindAddress.isBlank()) {
+            plugin.getLogger().warning("metrics.prometheus.bind-address가 비어 있습니다. 기본값 " + defaults.bindAddress() + "으로 설정됩니다.");
+            bindAddress = defaults.bindAddress();
+        }
+        int port = config.getInt("metrics.prometheus.port", defaults.port());
+        if (port < 1 || port > 65535) {
+            plugin.getLogger().warning("metrics.prometheus.port는 1 ~ 65535 범위여야 합니다. 기본값 " + defaults.port() + "으로 설정됩니다.");
+            port = defaults.port();
+        }
+        String path = config.getString("metrics.prometheus.path", defaults.path());
+        if (path == null || !path.startsWith("/")) {
+            plugin.getLogger().warning("metrics.prometheus.path는 /로 시작해야 합니다. 기본값 " + defaults.path() + "으로 설정됩니다.");
+            path = defaults.path();
+        }
+        builder.prometheusSettings(new PrometheusSettings(
+                config.getBoolean("metrics.prometheus.enabled", false),
+                bindAddress.trim(),
+                port,
+                path
+        ));
     }
 
     /**
      * 디버프 설정 로드
      */
-    private void loadDebuffs() {
-        debuffs = new ArrayList<>();
+    private void loadDebuffs(ConfigSnapshot.Builder builder) {
+        List<DebuffConfig> debuffs = new ArrayList<>();
+        builder.debuffs(debuffs);
         ConfigurationSection debuffSection = config.getConfigurationSection("debuffs");
 
         if (debuffSection == null) {
@@ -188,7 +361,7 @@ public class ConfigManager {
 
                 debuffs.add(debuff);
 
-                if (debugMode) {
+                if (builder.isDebugMode()) {
                     plugin.getLogger().info("  디버프 로드됨: " + debuff);
                 }
 
@@ -226,13 +399,23 @@ public class ConfigManager {
 
     // ==================== Getters ====================
 
+    /**
+     * 현재 설정 스냅샷을 반환합니다.
+     * 이벤트 처리 등 여러 값을 함께 읽는 경우 스냅샷을 한 번만 가져와 사용하세요.
+     *
+     * @return 설정 스냅샷
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * CPS 임계값 반환
      *
      * @return CPS 임계값
      */
     public int getCPSThreshold() {
-        return cpsThreshold;
+        return snapshot.getCPSThreshold();
     }
 
     /**
@@ -241,7 +424,7 @@ public class ConfigManager {
      * @return 디버프 쿨다운
      */
     public long getDebuffCooldown() {
-        return debuffCooldown;
+        return snapshot.getDebuffCooldown();
     }
 
     /**
@@ -250,7 +433,7 @@ public class ConfigManager {
      * @return 디버그 모드 여부
      */
     public boolean isDebugMode() {
-        return debugMode;
+        return snapshot.isDebugMode();
     }
 
     /**
@@ -259,7 +442,43 @@ public class ConfigManager {
      * @return 전투 타겟 모드
      */
     public TargetMode getTargetMode() {
-        return targetMode;
+        return snapshot.getTargetMode();
+    }
+
+    /**
+     * 전투 타겟 감지 방식을 반환합니다.
+     *
+     * @return 전투 타겟 감지 방식
+     */
+    public DetectorType getDetectorType() {
+        return snapshot.getDetectorType();
+    }
+
+    /**
+     * CPS를 측정하지 않는 게임모드 목록을 반환합니다.
+     *
+     * @return 제외 게임모드 (읽기 전용)
+     */
+    public Set<GameMode> getIgnoredGameModes() {
+        return snapshot.getIgnoredGameModes();
+    }
+
+    /**
+     * CPS를 측정하지 않는 월드 이름 목록을 반환합니다.
+     *
+     * @return 제외 월드 이름 (읽기 전용)
+     */
+    public Set<String> getDisabledWorlds() {
+        return snapshot.getDisabledWorlds();
+    }
+
+    /**
+     * CPS 측정 윈도우 설정을 반환합니다.
+     *
+     * @return CPS 측정 윈도우 설정
+     */
+    public ClickWindowSettings getClickWindowSettings() {
+        return snapshot.getClickWindowSettings();
     }
 
     /**
@@ -268,7 +487,7 @@ public class ConfigManager {
      * @return 채팅 알림 활성화 여부
      */
     public boolean isChatNotificationEnabled() {
-        return chatNotificationEnabled;
+        return snapshot.isChatNotificationEnabled();
     }
 
     /**
@@ -277,7 +496,7 @@ public class ConfigManager {
      * @return 타이틀 알림 활성화 여부
      */
     public boolean isTitleNotificationEnabled() {
-        return titleNotificationEnabled;
+        return snapshot.isTitleNotificationEnabled();
     }
 
     /**
@@ -286,7 +505,7 @@ public class ConfigManager {
      * @return 페이드인 시간
      */
     public int getTitleFadeIn() {
-        return titleFadeIn;
+        return snapshot.getTitleFadeIn();
     }
 
     /**
@@ -295,7 +514,7 @@ public class ConfigManager {
      * @return 유지 시간
      */
     public int getTitleStay() {
-        return titleStay;
+        return snapshot.getTitleStay();
     }
 
     /**
@@ -304,7 +523,7 @@ public class ConfigManager {
      * @return 페이드아웃 시간
      */
     public int getTitleFadeOut() {
-        return titleFadeOut;
+        return snapshot.getTitleFadeOut();
     }
 
     /**
@@ -313,7 +532,7 @@ public class ConfigManager {
      * @return 로그 기록 활성화 여부
      */
     public boolean isLoggingEnabled() {
-        return loggingEnabled;
+        return snapshot.isLoggingEnabled();
     }
 
     /**
@@ -322,7 +541,124 @@ public class ConfigManager {
      * @return 로그 파일명
      */
     public String getLogFileName() {
-        return logFileName;
+        return snapshot.getLogFileName();
+    }
+
+    /**
+     * 로그 파일 형식 반환
+     *
+     * @return 로그 형식
+     */
+    public LogFormat getLogFormat() {
+        return snapshot.getLogFormat();
+    }
+
+    /**
+     * 로그 대기열 용량 반환
+     *
+     * @return 로그 대기열 용량
+     */
+    public int getLogQueueCapacity() {
+        return snapshot.getLogQueueCapacity();
+    }
+
+    /**
+     * 로그 대기열 넘침 정책 반환
+     *
+     * @return 넘침 정책
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return snapshot.getLogOverflowPolicy();
+    }
+
+    /**
+     * 로그 작성 스레드 대기 방식 반환
+     *
+     * @return 대기 방식
+     */
+    public WaitStrategy getLogWaitStrategy() {
+        return snapshot.getLogWaitStrategy();
+    }
+
+    /**
+     * 로그 flush 정책 반환
+     *
+     * @return flush 정책
+     */
+    public FlushPolicy getLogFlushPolicy() {
+        return snapshot.getLogFlushPolicy();
+    }
+
+    /**
+     * INTERVAL 정책의 flush 간격 반환
+     *
+     * @return flush 간격 (밀리초)
+     */
+    public long getLogFlushIntervalMs() {
+        return snapshot.getLogFlushIntervalMs();
+    }
+
+    /**
+     * 한 번에 기록할 최대 로그 수 반환
+     *
+     * @return 최대 배치 크기
+     */
+    public int getLogBatchSize() {
+        return snapshot.getLogBatchSize();
+    }
+
+    /**
+     * 배치 하나를 모으는 데 쓸 최대 시간 반환
+     *
+     * @return 배치 시간 예산 (밀리초)
+     */
+    public long getLogBatchTimeBudgetMs() {
+        return snapshot.getLogBatchTimeBudgetMs();
+    }
+
+    /**
+     * 로그 파일 교체 설정 반환
+     *
+     * @return 교체 설정
+     */
+    public LogRotationSettings getLogRotationSettings() {
+        return snapshot.getLogRotationSettings();
+    }
+
+    /**
+     * 위반 기록 데이터베이스 설정 반환
+     *
+     * @return 데이터베이스 설정
+     */
+    public LogDatabaseSettings getLogDatabaseSettings() {
+        return snapshot.getLogDatabaseSettings();
+    }
+
+    /**
+     * 위반 집계를 유지할 최대 플레이어 수 반환
+     *
+     * @return 최대 플레이어 수
+     */
+    public int getStatsMaxPlayers() {
+        return snapshot.getStatsMaxPlayers();
+    }
+
+    /**
+     * 위반 집계 저장 주기 반환
+     *
+     * @return 저장 주기 (초)
+     */
+    public long getStatsSnapshotIntervalSeconds() {
+        return snapshot.getStatsSnapshotIntervalSeconds();
+    }
+
+    /**
+     * Prometheus 지표 엔드포인트 설정 반환
+     *
+     * @return 엔드포인트 설정
+     */
+    public PrometheusSettings getPrometheusSettings() {
+        return snapshot.getPrometheusSettings();
     }
 
     /**
@@ -331,7 +667,7 @@ public class ConfigManager {
      * @return 디버프 설정 목록
      */
     public List<DebuffConfig> getDebuffs() {
-        return Collections.unmodifiableList(debuffs);
+        return snapshot.getDebuffs();
     }
 
     /**
@@ -340,6 +676,6 @@ public class ConfigManager {
      * @return 디버프 개수
      */
     public int getDebuffCount() {
-        return debuffs.size();
+        return snapshot.getDebuffs().size();
     }
 }
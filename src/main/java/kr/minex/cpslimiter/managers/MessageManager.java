@@ -2,6 +2,7 @@ package kr.minex.cpslimiter.managers;
 
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -11,6 +12,10 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 메시지 파일 관리자
@@ -18,6 +23,9 @@ import java.nio.charset.StandardCharsets;
  * messages.yml 파일을 로드하고 플레이스홀더를 치환하여 메시지를 전송합니다.
  * 모든 메시지는 한국어로 작성되며, 색상 코드(&)를 지원합니다.
  *
+ * 로드/리로드 시 모든 메시지를 {@link MessageTemplate}으로 미리 컴파일하므로,
+ * 전송 시에는 YAML 조회/색상 변환 없이 템플릿을 한 번에 렌더링합니다.
+ *
  * @author minex
  * @since 1.0.0
  */
@@ -27,6 +35,18 @@ public class MessageManager {
     private FileConfiguration messages;
     private String prefix;
 
+    /**
+     * 컴파일된 메시지 템플릿 (키 -> 템플릿)
+     * 리로드 시 통째로 교체됩니다.
+     */
+    private volatile Templates templates = new Templates(Map.of(), Map.of());
+
+    /**
+     * 접두사 없는 템플릿과 접두사가 붙은 템플릿 묶음
+     */
+    private record Templates(Map<String, MessageTemplate> plain, Map<String, MessageTemplate> prefixed) {
+    }
+
     /**
      * MessageManager 생성자
      *
@@ -62,6 +82,51 @@ public class MessageManager {
 
         // 접두사 캐싱
         prefix = colorize(messages.getString("messages.prefix", "&6[CPS제한] &r"));
+
+        // 메시지 템플릿 컴파일
+        compileTemplates();
+    }
+
+    /**
+     * 모든 메시지 키를 템플릿으로 컴파일합니다. (기본값에만 있는 키 포함)
+     */
+    private void compileTemplates() {
+        Map<String, MessageTemplate> plain = new HashMap<>();
+        Map<String, MessageTemplate> prefixed = new HashMap<>();
+
+        // 사용자 파일에 없는 키는 기본값(jar 내 messages.yml)에서 가져옴
+        Set<String> keys = new HashSet<>();
+        collectKeys(messages.getConfigurationSection("messages"), keys);
+        if (messages.getDefaults() != null) {
+            collectKeys(messages.getDefaults().getConfigurationSection("messages"), keys);
+        }
+
+        for (String key : keys) {
+            String raw = getRaw(key);
+            if (raw == null) {
+                continue;
+            }
+            MessageTemplate template = MessageTemplate.compile(colorize(raw));
+            plain.put(key, template);
+            // 콘솔 메시지는 접두사 없이 전송
+            prefixed.put(key, key.startsWith("console.") ? template : template.withPrefix(prefix));
+        }
+
+        templates = new Templates(plain, prefixed);
+    }
+
+    /**
+     * 섹션 아래의 모든 문자열 메시지 키를 수집합니다.
+     */
+    private static void collectKeys(ConfigurationSection section, Set<String> keys) {
+        if (section == null) {
+            return;
+        }
+        for (String key : section.getKeys(true)) {
+            if (section.isString(key)) {
+                keys.add(key);
+            }
+        }
     }
 
     /**
@@ -73,22 +138,27 @@ public class MessageManager {
      * @param placeholders 플레이스홀더 (키, 값 쌍으로 전달)
      */
     public void send(CommandSender sender, String key, Object... placeholders) {
-        String message = getRaw(key);
-        if (message == null) {
-            plugin.getLogger().warning("메시지 키를 찾을 수 없음: " + key);
-            return;
+        MessageTemplate template = getTemplate(templates.prefixed(), key);
+        if (template != null) {
+            sender.sendMessage(template.render(placeholders));
         }
+    }
 
-        // 접두사 추가 (콘솔 메시지가 아닌 경우)
-        if (!key.startsWith("console.")) {
-            message = prefix + message;
+    /**
+     * 정수 플레이스홀더 두 개로 메시지를 전송합니다. (위반 알림 등 자주 호출되는 경로용)
+     *
+     * @param sender 메시지 수신자
+     * @param key 메시지 키
+     * @param name1 첫 번째 플레이스홀더 (예: {cps})
+     * @param value1 첫 번째 값
+     * @param name2 두 번째 플레이스홀더 (예: {threshold})
+     * @param value2 두 번째 값
+     */
+    public void send(CommandSender sender, String key, String name1, int value1, String name2, int value2) {
+        MessageTemplate template = getTemplate(templates.prefixed(), key);
+        if (template != null) {
+            sender.sendMessage(template.render(name1, value1, name2, value2));
         }
-
-        // 플레이스홀더 치환
-        message = replacePlaceholders(message, placeholders);
-
-        // 색상 코드 적용 및 전송
-        sender.sendMessage(colorize(message));
     }
 
     /**
@@ -99,14 +169,10 @@ public class MessageManager {
      * @param placeholders 플레이스홀더
      */
     public void sendWithoutPrefix(CommandSender sender, String key, Object... placeholders) {
-        String message = getRaw(key);
-        if (message == null) {
-            plugin.getLogger().warning("메시지 키를 찾을 수 없음: " + key);
-            return;
+        MessageTemplate template = getTemplate(templates.plain(), key);
+        if (template != null) {
+            sender.sendMessage(template.render(placeholders));
         }
-
-        message = replacePlaceholders(message, placeholders);
-        sender.sendMessage(colorize(message));
     }
 
     /**
@@ -122,22 +188,54 @@ public class MessageManager {
      */
     public void sendTitle(Player player, String mainKey, String subtitleKey,
                           int fadeIn, int stay, int fadeOut, Object... placeholders) {
-        String mainTitle = getRaw(mainKey);
-        String subtitle = getRaw(subtitleKey);
+        Map<String, MessageTemplate> plain = templates.plain();
+        MessageTemplate mainTitle = plain.get(mainKey);
+        MessageTemplate subtitle = plain.get(subtitleKey);
 
-        if (mainTitle != null) {
-            mainTitle = colorize(replacePlaceholders(mainTitle, placeholders));
-        } else {
-            mainTitle = "";
-        }
+        player.sendTitle(
+                mainTitle != null ? mainTitle.render(placeholders) : "",
+                subtitle != null ? subtitle.render(placeholders) : "",
+                fadeIn, stay, fadeOut
+        );
+    }
 
-        if (subtitle != null) {
-            subtitle = colorize(replacePlaceholders(subtitle, placeholders));
-        } else {
-            subtitle = "";
-        }
+    /**
+     * 정수 플레이스홀더 두 개로 타이틀을 전송합니다. (위반 알림 등 자주 호출되는 경로용)
+     *
+     * @param player 플레이어
+     * @param mainKey 메인 타이틀 메시지 키
+     * @param subtitleKey 서브 타이틀 메시지 키
+     * @param fadeIn 페이드인 시간 (틱)
+     * @param stay 유지 시간 (틱)
+     * @param fadeOut 페이드아웃 시간 (틱)
+     * @param name1 첫 번째 플레이스홀더 (예: {cps})
+     * @param value1 첫 번째 값
+     * @param name2 두 번째 플레이스홀더 (예: {threshold})
+     * @param value2 두 번째 값
+     */
+    public void sendTitle(Player player, String mainKey, String subtitleKey,
+                          int fadeIn, int stay, int fadeOut,
+                          String name1, int value1, String name2, int value2) {
+        Map<String, MessageTemplate> plain = templates.plain();
+        MessageTemplate mainTitle = plain.get(mainKey);
+        MessageTemplate subtitle = plain.get(subtitleKey);
 
-        player.sendTitle(mainTitle, subtitle, fadeIn, stay, fadeOut);
+        player.sendTitle(
+                mainTitle != null ? mainTitle.render(name1, value1, name2, value2) : "",
+                subtitle != null ? subtitle.render(name1, value1, name2, value2) : "",
+                fadeIn, stay, fadeOut
+        );
+    }
+
+    /**
+     * 컴파일된 템플릿을 조회합니다. 없으면 경고를 남깁니다.
+     */
+    private MessageTemplate getTemplate(Map<String, MessageTemplate> map, String key) {
+        MessageTemplate template = map.get(key);
+        if (template == null) {
+            plugin.getLogger().warning("메시지 키를 찾을 수 없음: " + key);
+        }
+        return template;
     }
 
     /**
@@ -158,38 +256,11 @@ public class MessageManager {
      * @return 처리된 메시지 또는 키 자체 (없는 경우)
      */
     public String get(String key, Object... placeholders) {
-        String message = getRaw(key);
-        if (message == null) {
+        MessageTemplate template = templates.plain().get(key);
+        if (template == null) {
             return key;
         }
-        return colorize(replacePlaceholders(message, placeholders));
-    }
-
-    /**
-     * 플레이스홀더를 치환합니다.
-     *
-     * @param message 원본 메시지
-     * @param placeholders 플레이스홀더 (키, 값 쌍)
-     * @return 치환된 메시지
-     */
-    private String replacePlaceholders(String message, Object... placeholders) {
-        if (placeholders == null || placeholders.length < 2) {
-            return message;
-        }
-
-        for (int i = 0; i < placeholders.length - 1; i += 2) {
-            String placeholder = String.valueOf(placeholders[i]);
-            String value = String.valueOf(placeholders[i + 1]);
-
-            // {placeholder} 형식으로 치환
-            if (!placeholder.startsWith("{")) {
-                placeholder = "{" + placeholder + "}";
-            }
-
-            message = message.replace(placeholder, value);
-        }
-
-        return message;
+        return template.render(placeholders);
     }
 
     /**
@@ -0,0 +1,213 @@
+package kr.minex.cpslimiter.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 메시지 템플릿
+ *
+ * <p>메시지 로드 시 색상 코드를 적용한 뒤 고정 문자열 조각과 플레이스홀더 슬롯으로 분리해 둡니다.
+ * 렌더링은 조각과 값을 스레드별로 재사용하는 StringBuilder에 한 번에 이어 붙이므로,
+ * 플레이스홀더 개수만큼 문자열을 다시 만들던 {@code String.replace} 방식보다 할당이 적습니다.</p>
+ *
+ * <p>형식: {@code literal[0] slot[0] literal[1] slot[1] ... literal[n]}</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+
+    /**
+     * 렌더링용 버퍼 (Folia 등 여러 스레드에서 호출될 수 있으므로 스레드별로 재사용)
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    /**
+     * 버퍼가 이보다 커지면 재사용하지 않고 줄입니다. (긴 메시지 한 번으로 메모리가 남지 않도록)
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
+    private final String[] literals;
+    private final String[] slots;
+
+    /**
+     * 플레이스홀더가 없는 템플릿의 완성된 문자열 (있으면 null)
+     */
+    private final String constant;
+
+    private MessageTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        this.constant = slots.length == 0 ? literals[0] : null;
+    }
+
+    /**
+     * 색상 코드가 적용된 메시지를 템플릿으로 컴파일합니다.
+     * {@code {이름}} 형식(영문/숫자/-/_)만 플레이스홀더로 인식하고, 나머지는 그대로 둡니다.
+     *
+     * @param text 메시지 (색상 코드 적용됨)
+     * @return 컴파일된 템플릿
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                int end = findPlaceholderEnd(text, i + 1);
+                if (end > 0) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(text.substring(i + 1, end));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+
+        return new MessageTemplate(literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * 플레이스홀더 이름의 끝('}' 위치)을 찾습니다.
+     *
+     * @return '}' 위치 (플레이스홀더가 아니면 -1)
+     */
+    private static int findPlaceholderEnd(String text, int start) {
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '}') {
+                return i > start ? i : -1;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 이 템플릿 앞에 고정 문자열(접두사 등)을 붙인 새 템플릿을 만듭니다.
+     *
+     * @param prefix 앞에 붙일 문자열 (색상 코드 적용됨)
+     * @return 새 템플릿
+     */
+    public MessageTemplate withPrefix(String prefix) {
+        String[] prefixed = literals.clone();
+        prefixed[0] = prefix + prefixed[0];
+        return new MessageTemplate(prefixed, slots);
+    }
+
+    /**
+     * 키/값 쌍으로 플레이스홀더를 채워 렌더링합니다.
+     * 전달되지 않은 플레이스홀더는 원문({@code {이름}}) 그대로 남습니다.
+     *
+     * @param placeholders 플레이스홀더 (키, 값 쌍; 키는 {@code {cps}} 또는 {@code cps})
+     * @return 렌더링된 메시지
+     */
+    public String render(Object... placeholders) {
+        if (constant != null) {
+            return constant;
+        }
+
+        StringBuilder sb = buffer();
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            int index = indexOf(slots[i], placeholders);
+            if (index < 0) {
+                sb.append('{').append(slots[i]).append('}');
+            } else {
+                sb.append(placeholders[index + 1]);
+            }
+        }
+        sb.append(literals[slots.length]);
+        return finish(sb);
+    }
+
+    /**
+     * 정수 플레이스홀더 두 개로 렌더링합니다.
+     * 위반 알림처럼 자주 호출되는 경로용으로, 가변 인자 배열/박싱/문자열 변환이 없습니다.
+     *
+     * @param name1 첫 번째 플레이스홀더 이름
+     * @param value1 첫 번째 값
+     * @param name2 두 번째 플레이스홀더 이름
+     * @param value2 두 번째 값
+     * @return 렌더링된 메시지
+     */
+    public String render(String name1, int value1, String name2, int value2) {
+        if (constant != null) {
+            return constant;
+        }
+
+        StringBuilder sb = buffer();
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            String slot = slots[i];
+            if (matches(slot, name1)) {
+                sb.append(value1);
+            } else if (matches(slot, name2)) {
+                sb.append(value2);
+            } else {
+                sb.append('{').append(slot).append('}');
+            }
+        }
+        sb.append(literals[slots.length]);
+        return finish(sb);
+    }
+
+    /**
+     * 플레이스홀더 이름 배열에서 슬롯에 해당하는 키의 위치를 찾습니다.
+     */
+    private static int indexOf(String slot, Object[] placeholders) {
+        if (placeholders == null) {
+            return -1;
+        }
+        for (int i = 0; i < placeholders.length - 1; i += 2) {
+            Object key = placeholders[i];
+            if (key instanceof String name && matches(slot, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 슬롯 이름과 전달된 키가 같은지 확인합니다. (중괄호 유무 모두 허용)
+     */
+    private static boolean matches(String slot, String name) {
+        int length = name.length();
+        if (length == slot.length() + 2 && name.charAt(0) == '{' && name.charAt(length - 1) == '}') {
+            return name.regionMatches(1, slot, 0, slot.length());
+        }
+        return name.equals(slot);
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static String finish(StringBuilder sb) {
+        String result = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * 플레이스홀더 슬롯 수를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+}
@@ -1,26 +1,42 @@
 package kr.minex.cpslimiter.managers;
 
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.logging.BinaryLogFile;
+import kr.minex.cpslimiter.logging.CompositeLogSink;
+import kr.minex.cpslimiter.logging.DatabaseLogSink;
+import kr.minex.cpslimiter.logging.FlushPolicy;
+import kr.minex.cpslimiter.logging.LogDatabaseSettings;
+import kr.minex.cpslimiter.logging.LogFormat;
+import kr.minex.cpslimiter.logging.LogQueue;
+import kr.minex.cpslimiter.logging.LogWriterStats;
+import kr.minex.cpslimiter.logging.RollingLogFile;
+import kr.minex.cpslimiter.logging.TextLogSink;
+import kr.minex.cpslimiter.logging.ViolationHistoryIndex;
+import kr.minex.cpslimiter.logging.ViolationEncoder;
+import kr.minex.cpslimiter.logging.ViolationJsonEncoder;
+import kr.minex.cpslimiter.logging.ViolationLineEncoder;
+import kr.minex.cpslimiter.logging.ViolationLogSink;
+import kr.minex.cpslimiter.logging.ViolationRecord;
 import kr.minex.cpslimiter.models.CombatTarget;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
+import java.util.UUID;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * CPS 위반 로그 기록 매니저
@@ -28,6 +44,18 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * CPS 임계값을 초과한 플레이어 정보를 파일에 기록합니다.
  * 비동기 처리를 통해 메인 스레드 블로킹을 방지합니다.
  *
+ * 로그는 미리 할당된 고정 크기 링 버퍼({@link LogQueue})를 거쳐 전용 스레드에서 기록되며,
+ * 디스크 지연으로 대기열이 가득 차면 설정된 넘침 정책(logging.queue.overflow)을 따릅니다.
+ * 작성 스레드는 쌓인 로그를 배치로 모아 한 번에 쓰고 flush 정책(logging.flush)에 따라 flush/fsync합니다.
+ * 로그 파일은 크기/날짜 기준으로 교체되며(logging.rotation), 교체된 파일의 압축과 정리는 별도 스레드가 처리합니다.
+ * logging.format이 binary면 고정 크기 레코드를 메모리 매핑으로 추가하고({@link BinaryLogFile}),
+ * jsonl이면 임계값/타겟 모드/월드/좌표를 포함한 JSON 객체를 한 줄씩 씁니다. ({@link ViolationJsonEncoder})
+ * logging.database를 켜면 같은 기록을 내장 SQLite 데이터베이스에도(또는 대신) 배치 트랜잭션으로 저장합니다.
+ * text/jsonl 로그는 플레이어별 줄 위치 색인({@link ViolationHistoryIndex})을 함께 유지하여 /cps history가 사용합니다.
+ *
+ * 메인 스레드는 원시 값으로 된 {@link ViolationRecord}만 게시하며,
+ * 날짜/숫자 포맷과 UTF-8 변환은 작성 스레드의 {@link ViolationLineEncoder}가 처리합니다.
+ *
  * @author minex
  * @since 1.0.0
  */
@@ -37,9 +65,14 @@ public class ViolationLogger {
     private final ConfigManager configManager;
 
     /**
-     * 로그 메시지 큐 (비동기 처리용)
+     * 로그 메시지 대기열 (작성 스레드 시작 시 생성, 리로드 시 교체)
      */
-    private final BlockingQueue<String> logQueue = new LinkedBlockingQueue<>();
+    private volatile LogQueue<ViolationRecord> logQueue;
+
+    /**
+     * 리로드로 교체된 이전 대기열에서 버려진 로그 수 (누적 통계용)
+     */
+    private final LongAdder retiredDroppedCount = new LongAdder();
 
     /**
      * 로거 실행 상태
@@ -60,10 +93,30 @@ public class ViolationLogger {
     private File logFile;
 
     /**
-     * 날짜/시간 포맷터
+     * 플레이어별 기록 색인 (text/jsonl 로그 파일을 쓰는 동안만 존재)
      */
-    private static final DateTimeFormatter DATE_FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private volatile ViolationHistoryIndex historyIndex;
+
+    /**
+     * 그룹 커밋 통계 (배치 크기, flush 소요 시간)
+     */
+    private final LogWriterStats writerStats = new LogWriterStats();
+
+    /**
+     * 작성 버퍼 크기 (한 배치가 대부분 한 번의 write로 기록되도록 넉넉하게 잡음)
+     */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 엔티티 타입 순번별 이름 (작성 스레드에서 타입 이름을 찾는 데 사용)
+     */
+    private static final String[] ENTITY_TYPE_NAMES = entityTypeNames();
+
+    /**
+     * 위치 조회용 스레드별 임시 객체 (Folia에서는 리전 스레드마다 하나)
+     */
+    private static final ThreadLocal<Location> SCRATCH_LOCATION =
+            ThreadLocal.withInitial(() -> new Location(null, 0, 0, 0));
 
     /**
      * ViolationLogger 생성자
@@ -105,29 +158,86 @@ public class ViolationLogger {
             return t;
         };
 
+        LogQueue<ViolationRecord> queue = new LogQueue<>(
+                configManager.getLogQueueCapacity(),
+                configManager.getLogOverflowPolicy(),
+                configManager.getLogWaitStrategy()
+        );
+        logQueue = queue;
+
         executor = Executors.newSingleThreadScheduledExecutor(factory);
-        executor.execute(this::runWriterLoop);
+        executor.execute(() -> runWriterLoop(queue));
     }
 
-    private void runWriterLoop() {
-        Path path = logFile.toPath();
-
-        try (BufferedWriter writer = Files.newBufferedWriter(
-                path,
-                StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.WRITE,
-                StandardOpenOption.APPEND
-        )) {
-            while (running.get() || !logQueue.isEmpty()) {
-                String message = logQueue.poll(200, TimeUnit.MILLISECONDS);
-                if (message == null) {
+    /**
+     * 로그 작성 스레드 본체 (그룹 커밋)
+     *
+     * <p>첫 로그를 받으면 최대 배치 크기(logging.batch.max-size) 또는 시간 예산(logging.batch.time-budget-ms)에
+     * 도달할 때까지 이어서 모은 뒤 버퍼에 한 번에 쓰고, flush 정책(logging.flush)에 따라 flush/fsync합니다.
+     * 위반이 몰릴 때도 로그 한 줄마다 write 시스템 콜이 발생하지 않습니다.</p>
+     */
+    private void runWriterLoop(LogQueue<ViolationRecord> queue) {
+        FlushPolicy flushPolicy = configManager.getLogFlushPolicy();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(configManager.getLogFlushIntervalMs());
+        int batchSize = configManager.getLogBatchSize();
+        long batchBudgetNanos = TimeUnit.MILLISECONDS.toNanos(configManager.getLogBatchTimeBudgetMs());
+
+        try (ViolationLogSink output = openSink()) {
+            boolean dirty = false;
+            long lastFlush = System.nanoTime();
+
+            for (;;) {
+                // 로그가 없으면 대기 방식(logging.queue.wait-strategy)에 따라 잠듦
+                // INTERVAL 정책에서 flush하지 않은 로그가 있으면 다음 flush 시점까지만 대기
+                ViolationRecord record;
+                if (dirty) {
+                    long remaining = flushIntervalNanos - (System.nanoTime() - lastFlush);
+                    record = remaining > 0 ? queue.take(remaining, TimeUnit.NANOSECONDS) : null;
+                } else {
+                    record = queue.take();
+                }
+
+                if (record == null) {
+                    if (dirty) {
+                        flush(output, flushPolicy);
+                        dirty = false;
+                        lastFlush = System.nanoTime();
+                    }
+                    // 큐가 닫힌 뒤 남은 로그를 모두 기록했으면 종료
+                    if (queue.isClosed() && queue.isEmpty()) {
+                        break;
+                    }
                     continue;
                 }
 
-                writer.write(message);
-                writer.newLine();
-                writer.flush();
+                // 배치 수집: 최대 크기 또는 시간 예산까지 이어서 모음
+                int count = 0;
+                long batchStart = System.nanoTime();
+                do {
+                    output.write(record);
+                    count++;
+                    if (count >= batchSize) {
+                        break;
+                    }
+                    record = queue.poll();
+                    if (record == null) {
+                        long remaining = batchBudgetNanos - (System.nanoTime() - batchStart);
+                        if (remaining > 0 && !queue.isClosed()) {
+                            record = queue.take(remaining, TimeUnit.NANOSECONDS);
+                        }
+                    }
+                } while (record != null);
+                writerStats.recordBatch(count);
+                dirty = true;
+
+                if (flushPolicy != FlushPolicy.INTERVAL || System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    flush(output, flushPolicy);
+                    dirty = false;
+                    lastFlush = System.nanoTime();
+                }
+            }
+            if (dirty) {
+                flush(output, flushPolicy);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -136,6 +246,94 @@ public class ViolationLogger {
         }
     }
 
+    /**
+     * 로그 형식(logging.format)에 맞는 출력 대상을 엽니다.
+     */
+    private ViolationLogSink openSink() throws IOException {
+        LogDatabaseSettings database = configManager.getLogDatabaseSettings();
+        ViolationLogSink databaseSink = database.enabled() ? openDatabaseSink(database) : null;
+        if (databaseSink != null && database.replaceFile()) {
+            return databaseSink;
+        }
+
+        ViolationLogSink fileSink;
+        try {
+            fileSink = openFileSink();
+        } catch (IOException e) {
+            if (databaseSink != null) {
+                databaseSink.close();
+            }
+            throw e;
+        }
+        return databaseSink == null ? fileSink : new CompositeLogSink(List.of(fileSink, databaseSink));
+    }
+
+    private ViolationLogSink openFileSink() throws IOException {
+        if (configManager.getLogFormat() == LogFormat.BINARY) {
+            return new BinaryLogFile(logFile.toPath(), ENTITY_TYPE_NAMES);
+        }
+        // 색인은 로그 파일을 열기 전에 준비 (마지막 색인 이후 추가된 줄만 이어서 색인, 교체/압축/삭제 알림을 받음)
+        // 색인은 로그 파일을 열기 전에 준비 (마지막 색인 이후 추가된 줄만 이어서 색인)
+        ViolationHistoryIndex index = openHistoryIndex();
+
+        // 인코더는 작성 스레드 전용 (기록마다 재사용하는 바이트 버퍼와 초 단위 시각 캐시를 가짐)
+        RollingLogFile output;
+        try {
+            output = new RollingLogFile(
+                    logFile.toPath(),
+                    plugin.getDataFolder().toPath(),
+                    configManager.getLogRotationSettings(),
+                    WRITE_BUFFER_SIZE,
+                    plugin.getLogger(),
+                    index);
+        } catch (IOException e) {
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+        ViolationEncoder encoder = configManager.getLogFormat() == LogFormat.JSONL
+                ? new ViolationJsonEncoder(ENTITY_TYPE_NAMES)
+                : new ViolationLineEncoder(ENTITY_TYPE_NAMES);
+        historyIndex = index;
+        return new TextLogSink(output, encoder, index);
+    }
+
+    /**
+     * 플레이어별 기록 색인을 엽니다. 열 수 없으면 경고 후 null (기록 조회만 사용할 수 없음)
+     */
+    private ViolationHistoryIndex openHistoryIndex() {
+        try {
+            return new ViolationHistoryIndex(logFile.toPath());
+        } catch (IOException e) {
+            plugin.getLogger().warning("위반 기록 색인을 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 위반 기록 데이터베이스를 엽니다. 열 수 없으면 경고 후 null (로그 파일에만 기록)
+     */
+    private ViolationLogSink openDatabaseSink(LogDatabaseSettings database) {
+        File file = resolveDataFile(database.fileName(), "violations.db", "logging.database.file");
+        try {
+            return new DatabaseLogSink(file.toPath(), ENTITY_TYPE_NAMES,
+                    configManager.getLogFlushPolicy() == FlushPolicy.FSYNC, plugin.getLogger());
+        } catch (IOException e) {
+            plugin.getLogger().warning(e.getMessage() + " (로그 파일에만 기록합니다)");
+            return null;
+        }
+    }
+
+    /**
+     * 버퍼에 모인 배치를 파일에 쓰고, FSYNC 정책이면 디스크 기록까지 기다립니다.
+     */
+    private void flush(ViolationLogSink output, FlushPolicy flushPolicy) throws IOException {
+        long start = System.nanoTime();
+        output.flush(flushPolicy == FlushPolicy.FSYNC);
+        writerStats.recordFlush(System.nanoTime() - start);
+    }
+
     /**
      * 위반 기록을 로그에 추가합니다.
      *
@@ -158,34 +356,61 @@ public class ViolationLogger {
             return;
         }
 
-        String logMessage = formatLogMessage(player, cps, combatTarget);
+        LogQueue<ViolationRecord> queue = logQueue;
+        if (queue == null) {
+            return;
+        }
+
+        ViolationRecord record = toRecord(player, cps, combatTarget);
 
-        // 큐에 추가 (비동기 처리)
-        logQueue.offer(logMessage);
+        // 대기열에 추가 (비동기 처리, 가득 찬 경우 넘침 정책 적용)
+        queue.publish(record);
 
-        // 디버그 모드면 콘솔에도 출력
+        // 디버그 모드면 콘솔에도 출력 (디버그 전용이므로 호출마다 인코더 생성)
         if (configManager.isDebugMode()) {
-            plugin.getLogger().info("[위반 기록] " + logMessage);
+            plugin.getLogger().info("[위반 기록] " + new ViolationLineEncoder(ENTITY_TYPE_NAMES).toLine(record));
         }
     }
 
-    private String formatLogMessage(Player player, int cps, CombatTarget combatTarget) {
-        String base = String.format("[%s] %s (%s) - CPS: %d",
-                LocalDateTime.now().format(DATE_FORMATTER),
-                player.getName(),
-                player.getUniqueId(),
-                cps
-        );
-
-        if (combatTarget == null || combatTarget.entity() == null) {
-            return base;
+    /**
+     * 위반 정보를 원시 값 기록으로 변환합니다. (문자열 포맷 없음)
+     */
+    private ViolationRecord toRecord(Player player, int cps, CombatTarget combatTarget) {
+        UUID playerId = player.getUniqueId();
+
+        // 위치는 스레드별 임시 객체에 복사 (로그마다 Location을 만들지 않음)
+        Location location = player.getLocation(SCRATCH_LOCATION.get());
+        World world = location.getWorld();
+        String worldName = world == null ? null : world.getName();
+        int threshold = configManager.getCPSThreshold();
+        String targetMode = configManager.getTargetMode().name();
+
+        int targetType = ViolationRecord.NO_TARGET;
+        long targetMostBits = 0L;
+        long targetLeastBits = 0L;
+        double distance = 0.0;
+        if (combatTarget != null && combatTarget.entity() != null) {
+            Entity target = combatTarget.entity();
+            UUID targetId = target.getUniqueId();
+            targetType = target.getType().ordinal();
+            targetMostBits = targetId.getMostSignificantBits();
+            targetLeastBits = targetId.getLeastSignificantBits();
+            distance = combatTarget.distance();
         }
 
-        return base + String.format(" | target=%s(%s) dist=%.2f",
-                combatTarget.entity().getType(),
-                combatTarget.entity().getUniqueId(),
-                combatTarget.distance()
-        );
+        return new ViolationRecord(System.currentTimeMillis(), player.getName(),
+                playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), cps,
+                targetType, targetMostBits, targetLeastBits, distance,
+                threshold, targetMode, worldName, location.getX(), location.getY(), location.getZ());
+    }
+
+    private static String[] entityTypeNames() {
+        EntityType[] types = EntityType.values();
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].name();
+        }
+        return names;
     }
 
     /**
@@ -194,6 +419,13 @@ public class ViolationLogger {
      */
     public void shutdown() {
         running.set(false);
+        historyIndex = null;
+
+        // 큐를 닫으면 작성 스레드가 남은 로그를 기록한 뒤 종료
+        LogQueue<ViolationRecord> queue = logQueue;
+        if (queue != null) {
+            queue.close();
+        }
 
         if (executor != null) {
             executor.shutdown();
@@ -205,6 +437,11 @@ public class ViolationLogger {
             executor.shutdownNow();
             executor = null;
         }
+
+        if (queue != null) {
+            retiredDroppedCount.add(queue.getDroppedOldestCount() + queue.getDroppedNewestCount());
+            logQueue = null;
+        }
     }
 
     /**
@@ -221,6 +458,60 @@ public class ViolationLogger {
         }
     }
 
+    /**
+     * 현재 대기 중인 로그 수를 반환합니다.
+     *
+     * @return 대기 중인 로그 수 (로거가 꺼져 있으면 0)
+     */
+    public int getQueueSize() {
+        LogQueue<ViolationRecord> queue = logQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * 로그 대기열 용량을 반환합니다.
+     *
+     * @return 대기열 용량 (로거가 꺼져 있으면 0)
+     */
+    public int getQueueCapacity() {
+        LogQueue<ViolationRecord> queue = logQueue;
+        return queue == null ? 0 : queue.capacity();
+    }
+
+    /**
+     * 대기열이 가득 차서 버려진 로그 수를 반환합니다. (리로드 이전 누적 포함)
+     *
+     * @return 버려진 로그 수
+     */
+    public long getDroppedCount() {
+        long dropped = retiredDroppedCount.sum();
+        LogQueue<ViolationRecord> queue = logQueue;
+        if (queue != null) {
+            dropped += queue.getDroppedOldestCount() + queue.getDroppedNewestCount();
+        }
+        return dropped;
+    }
+
+    /**
+     * 그룹 커밋 통계를 반환합니다. (리로드 이전 누적 포함)
+     *
+     * @return 배치 크기/flush 소요 시간 통계
+     */
+    public LogWriterStats getWriterStats() {
+        return writerStats;
+    }
+
+    /**
+     * 플레이어별 위반 기록 색인을 반환합니다.
+     *
+     * <p>조회는 파일을 읽으므로 비동기 스레드에서 호출해야 합니다.</p>
+     *
+     * @return 기록 색인 (로그가 꺼져 있거나 binary/데이터베이스 전용 형식이면 null)
+     */
+    public ViolationHistoryIndex getHistoryIndex() {
+        return historyIndex;
+    }
+
     /**
      * 현재 로그 파일을 반환합니다.
      *
@@ -231,15 +522,21 @@ public class ViolationLogger {
     }
 
     private File resolveLogFile(String configured) {
+        LogFormat format = configManager.getLogFormat();
         String fileName = (configured == null || configured.isBlank()) ? "violations.log" : configured;
+        return resolveDataFile(format.applyExtension(fileName), format.applyExtension("violations.log"), "logging.file");
+    }
+
+    private File resolveDataFile(String configured, String fallback, String key) {
+        String fileName = (configured == null || configured.isBlank()) ? fallback : configured;
 
         // 절대 경로/상위 경로 이동 등을 방지하기 위해 플러그인 데이터 폴더 내부로 제한
         Path dataDir = plugin.getDataFolder().toPath().toAbsolutePath().normalize();
         Path candidate = dataDir.resolve(fileName).normalize();
 
         if (!candidate.startsWith(dataDir)) {
-            plugin.getLogger().warning("logging.file 경로가 플러그인 폴더 밖을 가리킵니다. 기본값으로 강제합니다: " + fileName);
-            candidate = dataDir.resolve("violations.log");
+            plugin.getLogger().warning(key + " 경로가 플러그인 폴더 밖을 가리킵니다. 기본값으로 강제합니다: " + fileName);
+            candidate = dataDir.resolve(fallback);
         }
 
         return candidate.toFile();
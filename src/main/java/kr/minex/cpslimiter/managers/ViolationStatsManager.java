@@ -0,0 +1,212 @@
+package kr.minex.cpslimiter.managers;
+
+import kr.minex.cpslimiter.models.PlayerViolationStats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * 플레이어별 위반 집계 관리자
+ *
+ * <p>위반이 발생할 때마다 플레이어의 {@link PlayerViolationStats}를 갱신하여,
+ * 로그 파일을 읽지 않고도 누적/최근 위반 수와 최고 CPS를 조회할 수 있게 합니다.</p>
+ *
+ * <p>추적하는 플레이어 수는 설정된 최대값(stats.max-players)을 넘지 않습니다.
+ * 넘으면 마지막 위반이 가장 오래된 플레이어부터 최대값의 90%까지 제거하므로,
+ * 정렬 비용은 새 플레이어 여러 명에 걸쳐 나누어집니다.</p>
+ *
+ * <p>집계는 주기적으로(stats.snapshot-interval-seconds) 그리고 플러그인 종료 시 파일에 저장되며,
+ * 시작 시 다시 읽어 들입니다. 저장은 임시 파일에 쓴 뒤 교체하므로 도중에 종료되어도 이전 스냅샷이 남습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class ViolationStatsManager {
+
+    private static final int MAGIC = 0x43505353; // "CPSS"
+    private static final int VERSION = 1;
+
+    private final Map<UUID, PlayerViolationStats> stats = new ConcurrentHashMap<>();
+    private final IntSupplier maxPlayers;
+
+    /**
+     * 최대 플레이어 수를 넘을 때의 제거 작업 잠금 (제거는 한 스레드만 수행)
+     */
+    private final Object trimLock = new Object();
+
+    /**
+     * 저장 잠금 (주기 저장과 종료 시 저장이 겹치지 않도록)
+     */
+    private final Object saveLock = new Object();
+
+    private final LongAdder evictedCount = new LongAdder();
+
+    /**
+     * ViolationStatsManager 생성자
+     *
+     * @param maxPlayers 추적할 최대 플레이어 수 (리로드 시 바뀔 수 있어 매번 조회)
+     */
+    public ViolationStatsManager(IntSupplier maxPlayers) {
+        this.maxPlayers = maxPlayers;
+    }
+
+    /**
+     * 위반 한 건을 기록합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param cps 위반 시 CPS
+     * @param nowMillis 위반 시각 (epoch 밀리초)
+     */
+    public void record(UUID playerId, int cps, long nowMillis) {
+        PlayerViolationStats playerStats = stats.get(playerId);
+        if (playerStats == null) {
+            playerStats = stats.computeIfAbsent(playerId, key -> new PlayerViolationStats());
+            if (stats.size() > maxPlayers.getAsInt()) {
+                trim(playerId);
+            }
+        }
+        playerStats.record(cps, nowMillis);
+    }
+
+    /**
+     * 플레이어의 위반 집계를 반환합니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 집계 요약 (위반 기록이 없으면 null)
+     */
+    public PlayerViolationStats.Summary getSummary(UUID playerId, long nowMillis) {
+        PlayerViolationStats playerStats = stats.get(playerId);
+        return playerStats == null ? null : playerStats.summary(nowMillis);
+    }
+
+    /**
+     * 마지막 위반이 가장 오래된 플레이어부터 최대값의 90%까지 제거합니다.
+     *
+     * @param keep 방금 추가된 플레이어 (제거하지 않음)
+     */
+    private void trim(UUID keep) {
+        synchronized (trimLock) {
+            int max = maxPlayers.getAsInt();
+            if (stats.size() <= max) {
+                return;
+            }
+            int target = Math.max(1, max - max / 10);
+
+            List<Map.Entry<UUID, Long>> candidates = new ArrayList<>(stats.size());
+            for (Map.Entry<UUID, PlayerViolationStats> entry : stats.entrySet()) {
+                if (!entry.getKey().equals(keep)) {
+                    candidates.add(Map.entry(entry.getKey(), entry.getValue().getLastViolationMillis()));
+                }
+            }
+            candidates.sort(Map.Entry.comparingByValue());
+
+            for (Map.Entry<UUID, Long> candidate : candidates) {
+                if (stats.size() <= target) {
+                    break;
+                }
+                if (stats.remove(candidate.getKey()) != null) {
+                    evictedCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 집계를 파일에 저장합니다. (임시 파일에 쓴 뒤 교체)
+     *
+     * @param file 스냅샷 파일
+     * @throws IOException 쓰기 실패 시
+     */
+    public void save(Path file) throws IOException {
+        synchronized (saveLock) {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            List<Map.Entry<UUID, PlayerViolationStats>> entries = new ArrayList<>(stats.entrySet());
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<UUID, PlayerViolationStats> entry : entries) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    entry.getValue().writeTo(out);
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * 저장된 집계를 읽어 들입니다. (파일이 없으면 무시, 이미 집계 중인 플레이어는 유지)
+     *
+     * @param file 스냅샷 파일
+     * @throws IOException 읽기 실패 또는 형식이 맞지 않는 경우
+     */
+    public void load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("위반 통계 파일 형식이 올바르지 않습니다: " + file.getFileName());
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                UUID playerId = new UUID(in.readLong(), in.readLong());
+                stats.putIfAbsent(playerId, PlayerViolationStats.readFrom(in));
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        }
+
+        // 최대값이 줄어든 상태로 시작한 경우
+        if (stats.size() > maxPlayers.getAsInt()) {
+            trim(null);
+        }
+    }
+
+    /**
+     * 추적 중인 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int getTrackedPlayerCount() {
+        return stats.size();
+    }
+
+    /**
+     * 집계가 사용하는 예상 메모리를 반환합니다.
+     *
+     * @return 예상 메모리 (바이트)
+     */
+    public long getEstimatedMemoryBytes() {
+        return (long) stats.size() * PlayerViolationStats.ESTIMATED_BYTES;
+    }
+
+    /**
+     * 최대 플레이어 수를 넘어 제거된 플레이어 수를 반환합니다.
+     *
+     * @return 제거된 플레이어 수
+     */
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+}
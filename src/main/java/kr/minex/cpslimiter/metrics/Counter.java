@@ -0,0 +1,136 @@
+package kr.minex.cpslimiter.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 누적 카운터
+ *
+ * <p>증가는 {@link LongAdder}로 스레드별로 분산되어 여러 리전 스레드에서 동시에 호출해도 경합이 적고,
+ * 할당이 없습니다. 다른 컴포넌트가 이미 세고 있는 값(예: 버려진 로그 수)은 공급자로 연결할 수 있습니다.</p>
+ *
+ * <p>초당 비율은 {@link #sample(long)}이 1초마다 기록하는 누적값으로 계산하며,
+ * 최근 {@link #RATE_WINDOW_SECONDS}초 평균입니다. 비율은 샘플링할 때 계산해 두므로
+ * 조회는 잠금 없이 마지막 계산값을 읽습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class Counter {
+
+    /**
+     * 초당 비율 계산 구간 (초)
+     */
+    public static final int RATE_WINDOW_SECONDS = 60;
+
+    private static final int SAMPLE_COUNT = RATE_WINDOW_SECONDS + 1;
+
+    private final String name;
+    private final String help;
+    private final LongAdder adder;
+    private final LongSupplier source;
+
+    // 비율 계산용 누적값 샘플 (링 버퍼, this로 보호)
+    private final long[] sampleValues = new long[SAMPLE_COUNT];
+    private final long[] sampleNanos = new long[SAMPLE_COUNT];
+    private int sampleHead;
+    private int sampleSize;
+    private volatile double ratePerSecond;
+
+    /**
+     * 직접 증가시키는 카운터를 생성합니다.
+     *
+     * @param name 지표 이름 (소문자/밑줄)
+     * @param help 설명
+     */
+    public Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+        this.adder = new LongAdder();
+        this.source = adder::sum;
+    }
+
+    /**
+     * 외부 누적값을 읽는 카운터를 생성합니다. ({@link #increment()}는 사용할 수 없음)
+     *
+     * @param name 지표 이름 (소문자/밑줄)
+     * @param help 설명
+     * @param source 누적값 공급자 (감소하지 않아야 함)
+     */
+    public Counter(String name, String help, LongSupplier source) {
+        this.name = name;
+        this.help = help;
+        this.adder = null;
+        this.source = source;
+    }
+
+    /**
+     * 1 증가시킵니다.
+     */
+    public void increment() {
+        adder.increment();
+    }
+
+    /**
+     * 지정한 값만큼 증가시킵니다.
+     *
+     * @param delta 증가량
+     */
+    public void add(long delta) {
+        adder.add(delta);
+    }
+
+    /**
+     * 누적값을 반환합니다.
+     *
+     * @return 누적값
+     */
+    public long get() {
+        return source.getAsLong();
+    }
+
+    /**
+     * 현재 누적값을 비율 계산용으로 기록합니다. (1초마다 한 스레드에서 호출)
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     */
+    public synchronized void sample(long nowNanos) {
+        sampleValues[sampleHead] = get();
+        sampleNanos[sampleHead] = nowNanos;
+        sampleHead = (sampleHead + 1) % SAMPLE_COUNT;
+        if (sampleSize < SAMPLE_COUNT) {
+            sampleSize++;
+        }
+        ratePerSecond = computeRate();
+    }
+
+    private double computeRate() {
+        if (sampleSize < 2) {
+            return 0.0;
+        }
+        int newest = (sampleHead - 1 + SAMPLE_COUNT) % SAMPLE_COUNT;
+        int oldest = sampleSize < SAMPLE_COUNT ? 0 : sampleHead;
+        long elapsed = sampleNanos[newest] - sampleNanos[oldest];
+        if (elapsed <= 0) {
+            return 0.0;
+        }
+        return (sampleValues[newest] - sampleValues[oldest]) * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * 최근 구간의 초당 증가량을 반환합니다. (마지막 샘플링 시점 기준)
+     *
+     * @return 초당 증가량 (샘플이 2개 미만이면 0)
+     */
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
@@ -0,0 +1,189 @@
+package kr.minex.cpslimiter.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 지연 시간 히스토그램 (나노초)
+ *
+ * <p>HDR 히스토그램과 같은 로그-선형 버킷을 사용합니다. 2의 거듭제곱 구간마다 {@link #SUB_BUCKETS}개로 나누므로
+ * 값의 크기와 관계없이 상대 오차가 1/{@link #SUB_BUCKETS}(약 6%) 이내이며, 버킷 번호는 비트 연산만으로 계산합니다.
+ * 0 ~ 2^{@value #MAX_MAGNITUDE}ns(약 18분)를 {@link #BUCKET_COUNT}개 버킷으로 표현하고, 더 큰 값은 마지막 버킷에 넣습니다.</p>
+ *
+ * <p>버킷마다 {@link LongAdder}를 사용하므로 기록은 잠금과 할당 없이 처리되고,
+ * 조회({@link #snapshot()})는 기록을 막지 않고 각 버킷을 합산합니다.
+ * 따라서 조회 중 기록된 값은 일부 버킷에만 반영될 수 있습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * 2의 거듭제곱 구간당 버킷 수
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 구분해서 기록하는 최대 값의 최상위 비트 위치
+     */
+    public static final int MAX_MAGNITUDE = 40;
+
+    /**
+     * 전체 버킷 수 (0 ~ 15는 값 그대로, 이후 최상위 비트 위치마다 16개)
+     */
+    public static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final String name;
+    private final String help;
+    private final LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * @param name 지표 이름 (소문자/밑줄)
+     * @param help 설명
+     */
+    public LatencyHistogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 소요 시간 하나를 기록합니다.
+     *
+     * @param nanos 소요 시간 (나노초, 음수는 0으로 기록)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts[bucketIndex(value)].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * 값이 들어갈 버킷 번호를 계산합니다.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int sub = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 버킷에 들어가는 가장 큰 값을 반환합니다.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /**
+     * 현재까지의 기록을 복사합니다.
+     *
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts[i].sum();
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalNanos.sum(), maxNanos.get());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * 히스토그램 스냅샷
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sumNanos;
+        private final long maxNanos;
+
+        Snapshot(long[] counts, long count, long sumNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * 백분위 값을 반환합니다. (해당 버킷의 상한, 최대값을 넘지 않음)
+         *
+         * @param quantile 0.0 ~ 1.0 (예: 0.999)
+         * @return 소요 시간 (나노초, 기록이 없으면 0)
+         */
+        public long percentile(double quantile) {
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * 지정한 값 이하로 기록된 개수를 반환합니다. (누적 버킷용)
+         *
+         * <p>상한이 기준 값 이하인 버킷만 더하므로 기준보다 큰 값은 세지 않습니다.
+         * 기준 값이 버킷 상한(예: 2^k - 1)이면 정확하고, 그렇지 않으면 기준 값이 걸친 버킷을 제외하므로 적게 셀 수 있습니다.</p>
+         *
+         * @param nanos 기준 값 (나노초)
+         * @return 누적 개수
+         */
+        public long countAtOrBelow(long nanos) {
+            long seen = 0;
+            for (int i = 0; i < counts.length && bucketUpperBound(i) <= nanos; i++) {
+                seen += counts[i];
+            }
+            return seen;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) sumNanos / count;
+        }
+    }
+}
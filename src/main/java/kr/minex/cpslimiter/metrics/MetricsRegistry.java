@@ -0,0 +1,222 @@
+package kr.minex.cpslimiter.metrics;
+
+import kr.minex.cpslimiter.services.DetectionPipeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * 플러그인 내부 지표 저장소
+ *
+ * <p>클릭 처리 경로의 비용과 결과를 기록합니다.</p>
+ * <ul>
+ *     <li>카운터: 팔 휘두름, 판정 단계별 거부, 위반, 디버프 적용 ({@link Counter})</li>
+ *     <li>지연 시간: 전투 타겟 감지, 클릭 등록 ({@link LatencyHistogram})</li>
+ *     <li>게이지/외부 카운터: 로그 대기열 크기, 버려진 로그 수처럼 다른 컴포넌트가 가진 값 ({@link #registerGauge}, {@link #registerCounter})</li>
+ * </ul>
+ *
+ * <p>기록 메서드는 잠금과 할당이 없으므로 클릭 이벤트마다 호출해도 됩니다.
+ * 초당 비율은 {@link #sampleRates()}를 1초마다 호출해야 계산됩니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class MetricsRegistry {
+
+    private static final DetectionPipeline.Stage[] STAGES = DetectionPipeline.Stage.values();
+
+    private final Counter swings = new Counter("swings_total", "팔 휘두름");
+    private final Counter[] rejected = new Counter[STAGES.length];
+    private final Counter violations = new Counter("violations_total", "위반");
+    private final Counter debuffs = new Counter("debuffs_applied_total", "디버프 적용");
+
+    private final LatencyHistogram detectorLatency =
+            new LatencyHistogram("detector_latency_nanoseconds", "전투 타겟 감지");
+    private final LatencyHistogram registerClickLatency =
+            new LatencyHistogram("register_click_latency_nanoseconds", "클릭 등록");
+
+    /**
+     * 외부에서 등록한 카운터 (시작 시 등록, 이후 읽기만 함)
+     */
+    private final List<Counter> externalCounters = new CopyOnWriteArrayList<>();
+
+    /**
+     * 외부에서 등록한 게이지
+     */
+    private final List<Gauge> gauges = new CopyOnWriteArrayList<>();
+
+    public MetricsRegistry() {
+        for (DetectionPipeline.Stage stage : STAGES) {
+            rejected[stage.ordinal()] = new Counter("swings_rejected_total",
+                    "판정 거부 (" + stage.name() + ")");
+        }
+    }
+
+    // ==================== 기록 ====================
+
+    /**
+     * 팔 휘두름 이벤트 하나를 기록합니다.
+     */
+    public void recordSwing() {
+        swings.increment();
+    }
+
+    /**
+     * 판정 단계에서 거부된 팔 휘두름을 기록합니다.
+     *
+     * @param stage 거부한 단계
+     */
+    public void recordRejected(DetectionPipeline.Stage stage) {
+        rejected[stage.ordinal()].increment();
+    }
+
+    /**
+     * 전투 타겟 감지(엔티티 탐색 + 블록 가림) 소요 시간을 기록합니다.
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void recordDetection(long nanos) {
+        detectorLatency.record(nanos);
+    }
+
+    /**
+     * 클릭 등록 소요 시간을 기록합니다.
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void recordRegisterClick(long nanos) {
+        registerClickLatency.record(nanos);
+    }
+
+    /**
+     * 위반(쿨다운을 통과해 처리 대기열에 들어간 위반)을 기록합니다.
+     */
+    public void recordViolation() {
+        violations.increment();
+    }
+
+    /**
+     * 플레이어에게 디버프를 적용한 횟수를 기록합니다.
+     */
+    public void recordDebuff() {
+        debuffs.increment();
+    }
+
+    // ==================== 등록 ====================
+
+    /**
+     * 다른 컴포넌트가 세는 누적값을 카운터로 등록합니다.
+     *
+     * @param name 지표 이름 (소문자/밑줄, _total로 끝남)
+     * @param help 설명
+     * @param source 누적값 공급자
+     */
+    public void registerCounter(String name, String help, LongSupplier source) {
+        externalCounters.add(new Counter(name, help, source));
+    }
+
+    /**
+     * 현재 값을 읽는 게이지를 등록합니다.
+     *
+     * @param name 지표 이름 (소문자/밑줄)
+     * @param help 설명
+     * @param source 현재 값 공급자
+     */
+    public void registerGauge(String name, String help, LongSupplier source) {
+        gauges.add(new Gauge(name, help, source));
+    }
+
+    /**
+     * 모든 카운터의 누적값을 비율 계산용으로 기록합니다. (1초마다 한 스레드에서 호출)
+     */
+    public void sampleRates() {
+        long now = System.nanoTime();
+        for (Counter counter : getCounters()) {
+            counter.sample(now);
+        }
+        for (Counter counter : rejected) {
+            counter.sample(now);
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 판정 단계별 거부 카운터를 반환합니다.
+     *
+     * @param stage 단계
+     * @return 거부 카운터
+     */
+    public Counter getRejected(DetectionPipeline.Stage stage) {
+        return rejected[stage.ordinal()];
+    }
+
+    /**
+     * 단계별 거부를 제외한 모든 카운터를 반환합니다. (외부 카운터 포함)
+     *
+     * @return 카운터 목록
+     */
+    public List<Counter> getCounters() {
+        List<Counter> counters = new ArrayList<>(4 + externalCounters.size());
+        counters.add(swings);
+        counters.add(violations);
+        counters.add(debuffs);
+        counters.addAll(externalCounters);
+        return counters;
+    }
+
+    /**
+     * 지연 시간 히스토그램 목록을 반환합니다.
+     *
+     * @return 히스토그램 목록
+     */
+    public List<LatencyHistogram> getHistograms() {
+        return List.of(detectorLatency, registerClickLatency);
+    }
+
+    /**
+     * 등록된 게이지 목록을 반환합니다.
+     *
+     * @return 게이지 목록
+     */
+    public List<Gauge> getGauges() {
+        return Collections.unmodifiableList(gauges);
+    }
+
+    public Counter getSwings() {
+        return swings;
+    }
+
+    public Counter getViolations() {
+        return violations;
+    }
+
+    public Counter getDebuffs() {
+        return debuffs;
+    }
+
+    public LatencyHistogram getDetectorLatency() {
+        return detectorLatency;
+    }
+
+    public LatencyHistogram getRegisterClickLatency() {
+        return registerClickLatency;
+    }
+
+    /**
+     * 현재 값을 읽는 지표
+     *
+     * @param name 지표 이름
+     * @param help 설명
+     * @param source 현재 값 공급자
+     */
+    public record Gauge(String name, String help, LongSupplier source) {
+
+        public long get() {
+            return source.getAsLong();
+        }
+    }
+}
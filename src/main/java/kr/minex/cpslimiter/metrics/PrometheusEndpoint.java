@@ -0,0 +1,99 @@
+package kr.minex.cpslimiter.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prometheus 수집용 내장 HTTP 엔드포인트
+ *
+ * <p>JDK 내장 {@link HttpServer}로 설정한 주소/경로에서 {@link PrometheusFormatter} 출력을 제공합니다.
+ * 요청은 데몬 스레드 하나에서 처리하므로 서버 틱 스레드와 리전 스레드에 영향을 주지 않습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class PrometheusEndpoint {
+
+    private final MetricsRegistry registry;
+    private final PrometheusSettings settings;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PrometheusEndpoint(MetricsRegistry registry, PrometheusSettings settings) {
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    /**
+     * 서버를 시작합니다.
+     *
+     * @throws IOException 주소에 바인드할 수 없는 경우
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        HttpServer created = HttpServer.create(new InetSocketAddress(settings.bindAddress(), settings.port()), 0);
+        created.createContext(settings.path(), this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread t = new Thread(runnable, "CPSLimiter-Metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+    }
+
+    /**
+     * 서버를 종료합니다. 처리 중인 요청은 기다리지 않습니다.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * 실제로 바인드된 포트를 반환합니다. (설정 포트가 0이면 임의 포트)
+     *
+     * @return 포트 (실행 중이 아니면 -1)
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equals(method);
+            if (!head && !"GET".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = PrometheusFormatter.format(registry).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusFormatter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, head ? -1 : body.length);
+            if (!head) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package kr.minex.cpslimiter.metrics;
+
+import kr.minex.cpslimiter.services.DetectionPipeline;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * {@link MetricsRegistry}를 Prometheus 텍스트 형식(0.0.4)으로 출력합니다.
+ *
+ * <p>모든 지표 이름에는 {@value #PREFIX} 접두사를 붙입니다.</p>
+ * <ul>
+ *     <li>카운터: {@code counter} 타입, 판정 단계별 거부는 {@code stage} 레이블로 구분</li>
+ *     <li>초당 비율: 카운터마다 {@code _per_second} 게이지 (최근 {@value Counter#RATE_WINDOW_SECONDS}초 평균)</li>
+ *     <li>지연 시간: 초 단위 {@code histogram} 타입, {@link #BUCKET_BOUNDS_NANOS} 경계의 누적 버킷</li>
+ *     <li>게이지: {@code gauge} 타입</li>
+ * </ul>
+ *
+ * <p>카운터의 누적 합계, 샘플링 때 계산해 둔 비율, {@link LatencyHistogram#snapshot()}만 읽으므로
+ * 출력 중에도 클릭 처리 스레드를 막지 않습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class PrometheusFormatter {
+
+    /**
+     * Content-Type 헤더 값
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * 지표 이름 접두사
+     */
+    public static final String PREFIX = "cpslimiter_";
+
+    /**
+     * 히스토그램 누적 버킷 경계 (나노초, 2^10 - 1 ~ 2^28 - 1 = 약 1µs ~ 268ms)
+     *
+     * <p>{@link LatencyHistogram}의 내부 버킷은 2의 거듭제곱에서 나뉘므로 2^k - 1은 항상 한 버킷의 상한입니다.
+     * 경계를 내부 버킷 상한에 맞춰야 {@code le} 값이 경계 이하의 관측만 정확히 세게 됩니다.
+     * (예: 1000ns를 경계로 쓰면 992 ~ 1023ns 버킷 전체를 넣거나 빼야 해서 정확하지 않음)</p>
+     */
+    static final long[] BUCKET_BOUNDS_NANOS = new long[19];
+
+    private static final String[] BUCKET_LABELS = new String[BUCKET_BOUNDS_NANOS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            BUCKET_BOUNDS_NANOS[i] = (1L << (10 + i)) - 1L;
+            BUCKET_LABELS[i] = BigDecimal.valueOf(BUCKET_BOUNDS_NANOS[i], 9).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private static final DetectionPipeline.Stage[] STAGES = DetectionPipeline.Stage.values();
+
+    private PrometheusFormatter() {
+    }
+
+    /**
+     * 현재 지표를 출력합니다.
+     *
+     * @param registry 지표 저장소
+     * @return Prometheus 텍스트
+     */
+    public static String format(MetricsRegistry registry) {
+        StringBuilder out = new StringBuilder(4096);
+
+        for (Counter counter : registry.getCounters()) {
+            String name = PREFIX + counter.getName();
+            header(out, name, counter.getHelp(), "counter");
+            out.append(name).append(' ').append(counter.get()).append('\n');
+        }
+
+        String rejectedName = PREFIX + "swings_rejected_total";
+        header(out, rejectedName, "판정 단계별 거부", "counter");
+        for (DetectionPipeline.Stage stage : STAGES) {
+            out.append(rejectedName).append("{stage=\"").append(stage.name()).append("\"} ")
+                    .append(registry.getRejected(stage).get()).append('\n');
+        }
+
+        for (Counter counter : registry.getCounters()) {
+            String name = PREFIX + rateName(counter.getName());
+            header(out, name, counter.getHelp() + " (초당, 최근 " + Counter.RATE_WINDOW_SECONDS + "초 평균)", "gauge");
+            out.append(name).append(' ').append(formatDouble(counter.getRatePerSecond())).append('\n');
+        }
+
+        for (LatencyHistogram histogram : registry.getHistograms()) {
+            appendHistogram(out, histogram);
+        }
+
+        for (MetricsRegistry.Gauge gauge : registry.getGauges()) {
+            String name = PREFIX + gauge.name();
+            header(out, name, gauge.help(), "gauge");
+            out.append(name).append(' ').append(gauge.get()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void appendHistogram(StringBuilder out, LatencyHistogram histogram) {
+        String name = PREFIX + secondsName(histogram.getName());
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        header(out, name, histogram.getHelp() + " 소요 시간", "histogram");
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            out.append(name).append("_bucket{le=\"").append(BUCKET_LABELS[i]).append("\"} ")
+                    .append(snapshot.countAtOrBelow(BUCKET_BOUNDS_NANOS[i])).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(snapshot.getCount()).append('\n');
+        out.append(name).append("_sum ").append(BigDecimal.valueOf(snapshot.getSumNanos(), 9).toPlainString()).append('\n');
+        out.append(name).append("_count ").append(snapshot.getCount()).append('\n');
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ');
+        for (int i = 0; i < help.length(); i++) {
+            char c = help.charAt(i);
+            if (c == '\\') {
+                out.append("\\\\");
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * swings_total -> swings_per_second
+     */
+    static String rateName(String counterName) {
+        String base = counterName.endsWith("_total")
+                ? counterName.substring(0, counterName.length() - "_total".length())
+                : counterName;
+        return base + "_per_second";
+    }
+
+    /**
+     * detector_latency_nanoseconds -> detector_latency_seconds
+     */
+    static String secondsName(String histogramName) {
+        String base = histogramName.endsWith("_nanoseconds")
+                ? histogramName.substring(0, histogramName.length() - "_nanoseconds".length())
+                : histogramName;
+        return base + "_seconds";
+    }
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.minex.cpslimiter.metrics;
+
+/**
+ * Prometheus 지표 엔드포인트 설정
+ *
+ * @param enabled 엔드포인트 사용 여부
+ * @param bindAddress 바인드 주소 (기본 127.0.0.1, 로컬에서만 접근)
+ * @param port 포트
+ * @param path 요청 경로 (/로 시작)
+ */
+public record PrometheusSettings(boolean enabled, String bindAddress, int port, String path) {
+
+    /**
+     * 사용 안 함 (기본값)
+     */
+    public static final PrometheusSettings DISABLED = new PrometheusSettings(false, "127.0.0.1", 9225, "/metrics");
+}
@@ -0,0 +1,111 @@
+package kr.minex.cpslimiter.models;
+
+import java.util.Arrays;
+
+/**
+ * 시간 버킷 기반(BUCKETED) 슬라이딩 윈도우 구현
+ *
+ * <p>윈도우를 고정 길이 버킷(예: 50ms x 20개)으로 나누고 누적 합계를 유지하여,
+ * 클릭 등록/조회가 상수 시간에 처리되고 플레이어당 메모리 사용량이 고정됩니다.</p>
+ *
+ * <p>만료는 버킷 단위로 이루어지므로, 가장 오래된 버킷이 통째로 빠지는 순간 윈도우가 최대 버킷 1개 길이만큼 짧아집니다.
+ * 따라서 정확한 윈도우보다 클릭 수가 많게 계산되는 경우는 없고, 최대 버킷 1개 분량만큼 적게 계산될 수 있습니다.</p>
+ */
+public class BucketedClickWindow implements ClickWindow {
+
+    private final long bucketMs;
+    private final int[] buckets;
+
+    /**
+     * 윈도우 내 클릭 수 합계
+     */
+    private int total = 0;
+
+    /**
+     * 마지막으로 갱신된 버킷 번호 (timestamp / bucketMs)
+     */
+    private long lastBucket = Long.MIN_VALUE;
+
+    /**
+     * @param windowMs 윈도우 길이 (밀리초)
+     * @param bucketMs 버킷 길이 (밀리초), 윈도우 길이의 약수가 아니면 버킷 수를 올림 처리
+     */
+    public BucketedClickWindow(long windowMs, long bucketMs) {
+        this.bucketMs = Math.max(1L, bucketMs);
+        int bucketCount = (int) ((windowMs + this.bucketMs - 1) / this.bucketMs);
+        this.buckets = new int[Math.max(1, bucketCount)];
+    }
+
+    @Override
+    public int add(long timestamp) {
+        long bucket = Math.floorDiv(timestamp, bucketMs);
+        advance(bucket);
+        buckets[index(lastBucket)]++;
+        total++;
+        return total;
+    }
+
+    @Override
+    public int count(long nowMs) {
+        advance(Math.floorDiv(nowMs, bucketMs));
+        return total;
+    }
+
+    @Override
+    public int peek(long nowMs) {
+        long bucket = Math.floorDiv(nowMs, bucketMs);
+        if (lastBucket == Long.MIN_VALUE || bucket <= lastBucket) {
+            return total;
+        }
+        if (bucket - lastBucket >= buckets.length) {
+            return 0;
+        }
+        // advance()가 비울 버킷을 합계에서 빼기만 함
+        int remaining = total;
+        for (long b = lastBucket + 1; b <= bucket; b++) {
+            remaining -= buckets[index(b)];
+        }
+        return remaining;
+    }
+
+    /**
+     * 현재 버킷까지 윈도우를 이동시키며 만료된 버킷을 비웁니다.
+     * 시간이 역행한 경우에는 마지막 버킷을 그대로 사용합니다.
+     */
+    private void advance(long bucket) {
+        if (lastBucket != Long.MIN_VALUE && bucket <= lastBucket) {
+            return;
+        }
+
+        if (lastBucket == Long.MIN_VALUE || bucket - lastBucket >= buckets.length) {
+            clearBuckets();
+        } else {
+            for (long b = lastBucket + 1; b <= bucket; b++) {
+                int i = index(b);
+                total -= buckets[i];
+                buckets[i] = 0;
+            }
+        }
+        lastBucket = bucket;
+    }
+
+    private int index(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+
+    private void clearBuckets() {
+        Arrays.fill(buckets, 0);
+        total = 0;
+    }
+
+    @Override
+    public long getWindowMs() {
+        return bucketMs * buckets.length;
+    }
+
+    @Override
+    public void clear() {
+        clearBuckets();
+        lastBucket = Long.MIN_VALUE;
+    }
+}
@@ -1,15 +1,15 @@
 package kr.minex.cpslimiter.models;
 
-import java.util.Deque;
-import java.util.concurrent.ConcurrentLinkedDeque;
-
 /**
  * 플레이어별 클릭 데이터를 관리하는 클래스
  *
- * 슬라이딩 윈도우 알고리즘을 사용하여 최근 1초간의 클릭 수(CPS)를 측정합니다.
+ * 슬라이딩 윈도우 알고리즘을 사용하여 최근 윈도우(기본 1초)간의 클릭 수(CPS)를 측정합니다.
+ * 윈도우 집계 방식은 {@link ClickWindow} 구현체(정확/버킷)로 교체할 수 있습니다.
  *
  * <p>기본적으로 Bukkit 이벤트는 메인 스레드에서 호출되지만,
- * 테스트/확장/안전성을 위해 동기화(synchronized)로 일관성을 보장합니다.</p>
+ * 테스트/확장/안전성을 위해 동기화(synchronized)로 일관성을 보장합니다.
+ * 잠금은 플레이어별 객체 단위이므로, Folia처럼 여러 리전 스레드에서 클릭이 등록되어도
+ * 서로 다른 플레이어 간에는 경합이 발생하지 않습니다.</p>
  *
  * @author minex
  * @since 1.0.0
@@ -17,10 +17,9 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 public class ClickData {
 
     /**
-     * 클릭 타임스탬프를 저장하는 덱
-     * 가장 오래된 클릭이 앞에, 최신 클릭이 뒤에 위치
+     * 클릭 집계 윈도우
      */
-    private final Deque<Long> clickTimestamps = new ConcurrentLinkedDeque<>();
+    private final ClickWindow window;
 
     /**
      * 마지막 디버프 적용 시간 (쿨다운 체크용)
@@ -32,27 +31,48 @@ public class ClickData {
      */
     private volatile long lastClickTime = 0;
 
-    /**
-     * CPS 측정 윈도우 크기 (밀리초)
-     * 1초(1000ms) 내의 클릭만 카운트
-     */
-    private static final long WINDOW_SIZE_MS = 1000L;
-
     /**
      * 최소 클릭 간격 (밀리초)
      * 이 간격 이내의 클릭은 무시 (중복 이벤트 방지)
      * 20ms = 초당 최대 50클릭까지 허용
      */
-    private static final long MIN_CLICK_INTERVAL_MS = 20L;
+    static final long MIN_CLICK_INTERVAL_MS = 20L;
+
+    /**
+     * 기본 설정(정확한 1초 윈도우)으로 생성합니다.
+     */
+    public ClickData() {
+        this(ClickWindowSettings.DEFAULT.newWindow());
+    }
+
+    /**
+     * 지정한 윈도우로 생성합니다.
+     *
+     * @param window 클릭 집계 윈도우
+     */
+    public ClickData(ClickWindow window) {
+        this.window = window;
+    }
+
+    /**
+     * 윈도우 내에 등록될 수 있는 최대 클릭 수를 계산합니다.
+     * 최소 클릭 간격 필터로 인해 windowMs / MIN_CLICK_INTERVAL_MS를 넘을 수 없습니다.
+     *
+     * @param windowMs 윈도우 길이 (밀리초)
+     * @return 최대 클릭 수 (링 버퍼 용량)
+     */
+    static int maxClicksPerWindow(long windowMs) {
+        return (int) (windowMs / MIN_CLICK_INTERVAL_MS) + 1;
+    }
 
     /**
      * 새로운 클릭을 등록하고 현재 CPS를 반환합니다.
      *
      * 슬라이딩 윈도우 알고리즘:
      * 1. 중복 클릭 필터링 (최소 간격 이내의 클릭 무시)
-     * 2. 현재 시간 기준 1초 이전의 클릭 데이터 제거
+     * 2. 현재 시간 기준 윈도우 밖의 클릭 데이터 제거
      * 3. 새 클릭 타임스탬프 추가
-     * 4. 남은 클릭 수 = 현재 CPS
+     * 4. 남은 클릭 수를 초당 값으로 환산 = 현재 CPS
      *
      * @param timestamp 클릭 발생 시간 (System.currentTimeMillis())
      * @return 현재 CPS (초당 클릭 수)
@@ -64,9 +84,7 @@ public class ClickData {
         }
         lastClickTime = timestamp;
 
-        expireOldClicks(timestamp);
-        clickTimestamps.addLast(timestamp);
-        return clickTimestamps.size();
+        return toCps(window.add(timestamp));
     }
 
     /**
@@ -84,16 +102,29 @@ public class ClickData {
      * 테스트에서 시간을 결정적으로 다루기 위해 분리합니다.
      */
     synchronized int getCurrentCPS(long nowMs) {
-        expireOldClicks(nowMs);
-        return clickTimestamps.size();
+        return toCps(window.count(nowMs));
     }
 
-    private void expireOldClicks(long nowMs) {
-        long cutoff = nowMs - WINDOW_SIZE_MS;
-        // 경계값(정확히 1,000ms 이전)은 만료로 처리하여 과대 측정을 방지
-        while (!clickTimestamps.isEmpty() && clickTimestamps.peekFirst() <= cutoff) {
-            clickTimestamps.pollFirst();
+    /**
+     * 특정 시점 기준 CPS를 윈도우 상태를 바꾸지 않고 계산합니다.
+     * 만료 처리를 하지 않으므로 전체 플레이어 순위 조회처럼 자주, 많이 호출하는 경로에서 사용합니다.
+     *
+     * @param nowMs 기준 시간 (밀리초)
+     * @return 현재 CPS (초당 클릭 수)
+     */
+    public synchronized int peekCPS(long nowMs) {
+        return toCps(window.peek(nowMs));
+    }
+
+    /**
+     * 윈도우 내 클릭 수를 초당 클릭 수로 환산합니다.
+     */
+    private int toCps(int clicks) {
+        long windowMs = window.getWindowMs();
+        if (windowMs == 1000L) {
+            return clicks;
         }
+        return (int) (clicks * 1000L / windowMs);
     }
 
     /**
@@ -128,7 +159,7 @@ public class ClickData {
      * 모든 클릭 데이터를 초기화합니다.
      */
     public synchronized void clear() {
-        clickTimestamps.clear();
+        window.clear();
         lastDebuffTime = 0;
         lastClickTime = 0;
     }
@@ -0,0 +1,49 @@
+package kr.minex.cpslimiter.models;
+
+/**
+ * 슬라이딩 윈도우 내 클릭 수를 집계하는 전략 인터페이스
+ *
+ * <p>구현체는 스레드 안전성을 보장하지 않으며, 호출자({@link ClickData})가 동기화를 책임집니다.</p>
+ *
+ * @see RingBufferClickWindow
+ * @see BucketedClickWindow
+ */
+public interface ClickWindow {
+
+    /**
+     * 클릭을 추가하고 윈도우 내 클릭 수를 반환합니다.
+     *
+     * @param timestamp 클릭 발생 시간 (밀리초)
+     * @return 윈도우 내 클릭 수
+     */
+    int add(long timestamp);
+
+    /**
+     * 특정 시점 기준으로 만료된 클릭을 제거하고 윈도우 내 클릭 수를 반환합니다.
+     *
+     * @param nowMs 기준 시간 (밀리초)
+     * @return 윈도우 내 클릭 수
+     */
+    int count(long nowMs);
+
+    /**
+     * 특정 시점 기준 윈도우 내 클릭 수를 상태 변경 없이 계산합니다.
+     * 만료된 클릭을 제거하지 않으므로 여러 플레이어를 한 번에 훑는 조회에 사용합니다.
+     *
+     * @param nowMs 기준 시간 (밀리초)
+     * @return 윈도우 내 클릭 수 ({@link #count(long)}와 같은 값)
+     */
+    int peek(long nowMs);
+
+    /**
+     * 실제 적용 중인 윈도우 길이를 반환합니다.
+     *
+     * @return 윈도우 길이 (밀리초)
+     */
+    long getWindowMs();
+
+    /**
+     * 모든 클릭 데이터를 초기화합니다.
+     */
+    void clear();
+}
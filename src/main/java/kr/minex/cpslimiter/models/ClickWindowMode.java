@@ -0,0 +1,36 @@
+package kr.minex.cpslimiter.models;
+
+/**
+ * CPS 측정 윈도우 구현 방식
+ */
+public enum ClickWindowMode {
+
+    /**
+     * 클릭 타임스탬프를 모두 보관하는 정확한 슬라이딩 윈도우
+     */
+    EXACT,
+
+    /**
+     * 시간 버킷 단위로 집계하는 근사 슬라이딩 윈도우 (상수 시간 조회)
+     */
+    BUCKETED;
+
+    /**
+     * 설정 문자열을 안전하게 파싱합니다.
+     *
+     * @param raw 설정 값
+     * @return 파싱 결과, 실패 시 기본값(EXACT)
+     */
+    public static ClickWindowMode fromConfig(String raw) {
+        if (raw == null) {
+            return EXACT;
+        }
+
+        String normalized = raw.trim().toUpperCase();
+        return switch (normalized) {
+            case "EXACT", "RING", "RING_BUFFER" -> EXACT;
+            case "BUCKETED", "BUCKET", "WHEEL" -> BUCKETED;
+            default -> EXACT;
+        };
+    }
+}
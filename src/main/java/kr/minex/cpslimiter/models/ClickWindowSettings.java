@@ -0,0 +1,28 @@
+package kr.minex.cpslimiter.models;
+
+/**
+ * CPS 측정 윈도우 설정
+ *
+ * @param mode 윈도우 구현 방식
+ * @param windowMs 윈도우 길이 (밀리초)
+ * @param bucketMs 버킷 길이 (밀리초, BUCKETED 모드 전용)
+ */
+public record ClickWindowSettings(ClickWindowMode mode, long windowMs, long bucketMs) {
+
+    /**
+     * 기본 설정: 정확한 1초 윈도우
+     */
+    public static final ClickWindowSettings DEFAULT = new ClickWindowSettings(ClickWindowMode.EXACT, 1000L, 50L);
+
+    /**
+     * 설정에 맞는 새 윈도우 인스턴스를 생성합니다.
+     *
+     * @return 클릭 윈도우
+     */
+    public ClickWindow newWindow() {
+        return switch (mode) {
+            case EXACT -> new RingBufferClickWindow(windowMs, ClickData.maxClicksPerWindow(windowMs));
+            case BUCKETED -> new BucketedClickWindow(windowMs, bucketMs);
+        };
+    }
+}
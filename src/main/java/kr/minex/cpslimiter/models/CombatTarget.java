@@ -1,12 +1,30 @@
 package kr.minex.cpslimiter.models;
 
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
 
 /**
  * 전투 판정에 의해 감지된 타겟 정보
  *
+ * <p>엔티티 탐색에 사용한 시선(눈 위치, 방향)을 함께 담아, 같은 팔 휘두름의 블록 가림 판정이
+ * {@link org.bukkit.entity.Player#getEyeLocation()}과 {@link Location#getDirection()}을 다시 호출(할당)하지 않고 재사용합니다.
+ * 시선은 판정 중에만 사용하며, 감지기가 시선을 제공하지 않으면 null입니다.</p>
+ *
  * @param entity 감지된 타겟 엔티티
  * @param distance 플레이어 시점에서 타겟까지의 거리
+ * @param eye 탐색에 사용한 눈 위치 (없으면 null)
+ * @param direction 탐색에 사용한 시선 방향 (없으면 null)
  */
-public record CombatTarget(Entity entity, double distance) {
+public record CombatTarget(Entity entity, double distance, Location eye, Vector direction) {
+
+    /**
+     * 시선 정보 없이 생성합니다.
+     *
+     * @param entity 감지된 타겟 엔티티
+     * @param distance 플레이어 시점에서 타겟까지의 거리
+     */
+    public CombatTarget(Entity entity, double distance) {
+        this(entity, distance, null, null);
+    }
 }
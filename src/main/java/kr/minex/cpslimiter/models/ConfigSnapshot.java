@@ -0,0 +1,545 @@
+package kr.minex.cpslimiter.models;
+
+import org.bukkit.GameMode;
+import org.bukkit.potion.PotionEffect;
+import kr.minex.cpslimiter.logging.FlushPolicy;
+import kr.minex.cpslimiter.logging.LogDatabaseSettings;
+import kr.minex.cpslimiter.logging.LogFormat;
+import kr.minex.cpslimiter.logging.LogRotationSettings;
+import kr.minex.cpslimiter.logging.OverflowPolicy;
+import kr.minex.cpslimiter.logging.WaitStrategy;
+import kr.minex.cpslimiter.metrics.PrometheusSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컴파일된 설정 스냅샷 (불변)
+ *
+ * <p>config.yml을 한 번 해석한 결과이며, 디버프 효과({@link PotionEffect})도 미리 만들어 둡니다.
+ * {@code ConfigManager}는 리로드 시 새 스냅샷을 만들어 하나의 volatile 참조로 교체하므로,
+ * 이벤트 처리 중에는 스냅샷을 한 번만 읽으면 리로드와 관계없이 일관된 값을 사용할 수 있습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ConfigSnapshot {
+
+    private final int cpsThreshold;
+    private final long debuffCooldown;
+    private final boolean debugMode;
+
+    private final TargetMode targetMode;
+    private final DetectorType detectorType;
+    private final Set<GameMode> ignoredGameModes;
+    private final Set<String> disabledWorlds;
+    private final ClickWindowSettings clickWindowSettings;
+
+    private final boolean chatNotificationEnabled;
+    private final boolean titleNotificationEnabled;
+    private final int titleFadeIn;
+    private final int titleStay;
+    private final int titleFadeOut;
+
+    private final boolean loggingEnabled;
+    private final String logFileName;
+    private final LogFormat logFormat;
+    private final int logQueueCapacity;
+    private final OverflowPolicy logOverflowPolicy;
+    private final WaitStrategy logWaitStrategy;
+    private final FlushPolicy logFlushPolicy;
+    private final long logFlushIntervalMs;
+    private final int logBatchSize;
+    private final long logBatchTimeBudgetMs;
+    private final LogRotationSettings logRotationSettings;
+    private final LogDatabaseSettings logDatabaseSettings;
+    private final int statsMaxPlayers;
+    private final long statsSnapshotIntervalSeconds;
+    private final PrometheusSettings prometheusSettings;
+
+    private final List<DebuffConfig> debuffs;
+    private final PotionEffect[] debuffEffects;
+
+    private ConfigSnapshot(Builder builder) {
+        this.cpsThreshold = builder.cpsThreshold;
+        this.debuffCooldown = builder.debuffCooldown;
+        this.debugMode = builder.debugMode;
+        this.targetMode = builder.targetMode;
+        this.detectorType = builder.detectorType;
+        this.ignoredGameModes = builder.ignoredGameModes.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(builder.ignoredGameModes));
+        this.disabledWorlds = Collections.unmodifiableSet(new HashSet<>(builder.disabledWorlds));
+        this.clickWindowSettings = builder.clickWindowSettings;
+        this.chatNotificationEnabled = builder.chatNotificationEnabled;
+        this.titleNotificationEnabled = builder.titleNotificationEnabled;
+        this.titleFadeIn = builder.titleFadeIn;
+        this.titleStay = builder.titleStay;
+        this.titleFadeOut = builder.titleFadeOut;
+        this.loggingEnabled = builder.loggingEnabled;
+        this.logFileName = builder.logFileName;
+        this.logFormat = builder.logFormat;
+        this.logQueueCapacity = builder.logQueueCapacity;
+        this.logOverflowPolicy = builder.logOverflowPolicy;
+        this.logWaitStrategy = builder.logWaitStrategy;
+        this.logFlushPolicy = builder.logFlushPolicy;
+        this.logFlushIntervalMs = builder.logFlushIntervalMs;
+        this.logBatchSize = builder.logBatchSize;
+        this.logBatchTimeBudgetMs = builder.logBatchTimeBudgetMs;
+        this.logRotationSettings = builder.logRotationSettings;
+        this.logDatabaseSettings = builder.logDatabaseSettings;
+        this.statsMaxPlayers = builder.statsMaxPlayers;
+        this.statsSnapshotIntervalSeconds = builder.statsSnapshotIntervalSeconds;
+        this.prometheusSettings = builder.prometheusSettings;
+        this.debuffs = List.copyOf(builder.debuffs);
+
+        // PotionEffect는 불변이므로 한 번 만들어 모든 위반에서 재사용
+        this.debuffEffects = new PotionEffect[debuffs.size()];
+        for (int i = 0; i < debuffEffects.length; i++) {
+            debuffEffects[i] = debuffs.get(i).toPotionEffect();
+        }
+    }
+
+    /**
+     * CPS 임계값 반환
+     *
+     * @return CPS 임계값
+     */
+    public int getCPSThreshold() {
+        return cpsThreshold;
+    }
+
+    /**
+     * 디버프 쿨다운 반환 (밀리초)
+     *
+     * @return 디버프 쿨다운
+     */
+    public long getDebuffCooldown() {
+        return debuffCooldown;
+    }
+
+    /**
+     * 디버그 모드 여부 반환
+     *
+     * @return 디버그 모드 여부
+     */
+    public boolean isDebugMode() {
+        return debugMode;
+    }
+
+    /**
+     * 전투 타겟 판정 모드 반환
+     *
+     * @return 전투 타겟 모드
+     */
+    public TargetMode getTargetMode() {
+        return targetMode;
+    }
+
+    /**
+     * 전투 타겟 감지 방식 반환
+     *
+     * @return 전투 타겟 감지 방식
+     */
+    public DetectorType getDetectorType() {
+        return detectorType;
+    }
+
+    /**
+     * CPS를 측정하지 않는 게임모드 목록 반환
+     *
+     * @return 제외 게임모드 (읽기 전용)
+     */
+    public Set<GameMode> getIgnoredGameModes() {
+        return ignoredGameModes;
+    }
+
+    /**
+     * CPS를 측정하지 않는 월드 이름 목록 반환
+     *
+     * @return 제외 월드 이름 (읽기 전용)
+     */
+    public Set<String> getDisabledWorlds() {
+        return disabledWorlds;
+    }
+
+    /**
+     * CPS 측정 윈도우 설정 반환
+     *
+     * @return CPS 측정 윈도우 설정
+     */
+    public ClickWindowSettings getClickWindowSettings() {
+        return clickWindowSettings;
+    }
+
+    /**
+     * 채팅 알림 활성화 여부 반환
+     *
+     * @return 채팅 알림 활성화 여부
+     */
+    public boolean isChatNotificationEnabled() {
+        return chatNotificationEnabled;
+    }
+
+    /**
+     * 타이틀 알림 활성화 여부 반환
+     *
+     * @return 타이틀 알림 활성화 여부
+     */
+    public boolean isTitleNotificationEnabled() {
+        return titleNotificationEnabled;
+    }
+
+    /**
+     * 타이틀 페이드인 시간 반환 (틱)
+     *
+     * @return 페이드인 시간
+     */
+    public int getTitleFadeIn() {
+        return titleFadeIn;
+    }
+
+    /**
+     * 타이틀 유지 시간 반환 (틱)
+     *
+     * @return 유지 시간
+     */
+    public int getTitleStay() {
+        return titleStay;
+    }
+
+    /**
+     * 타이틀 페이드아웃 시간 반환 (틱)
+     *
+     * @return 페이드아웃 시간
+     */
+    public int getTitleFadeOut() {
+        return titleFadeOut;
+    }
+
+    /**
+     * 로그 기록 활성화 여부 반환
+     *
+     * @return 로그 기록 활성화 여부
+     */
+    public boolean isLoggingEnabled() {
+        return loggingEnabled;
+    }
+
+    /**
+     * 로그 파일명 반환
+     *
+     * @return 로그 파일명
+     */
+    public String getLogFileName() {
+        return logFileName;
+    }
+
+    /**
+     * 로그 파일 형식 반환
+     *
+     * @return 로그 형식
+     */
+    public LogFormat getLogFormat() {
+        return logFormat;
+    }
+
+    /**
+     * 로그 대기열 용량 반환
+     *
+     * @return 로그 대기열 용량
+     */
+    public int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    /**
+     * 로그 대기열 넘침 정책 반환
+     *
+     * @return 넘침 정책
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    /**
+     * 로그 작성 스레드 대기 방식 반환
+     *
+     * @return 대기 방식
+     */
+    public WaitStrategy getLogWaitStrategy() {
+        return logWaitStrategy;
+    }
+
+    /**
+     * 로그 flush 정책 반환
+     *
+     * @return flush 정책
+     */
+    public FlushPolicy getLogFlushPolicy() {
+        return logFlushPolicy;
+    }
+
+    /**
+     * INTERVAL 정책의 flush 간격 반환
+     *
+     * @return flush 간격 (밀리초)
+     */
+    public long getLogFlushIntervalMs() {
+        return logFlushIntervalMs;
+    }
+
+    /**
+     * 한 번에 기록할 최대 로그 수 반환
+     *
+     * @return 최대 배치 크기
+     */
+    public int getLogBatchSize() {
+        return logBatchSize;
+    }
+
+    /**
+     * 배치 하나를 모으는 데 쓸 최대 시간 반환
+     *
+     * @return 배치 시간 예산 (밀리초)
+     */
+    public long getLogBatchTimeBudgetMs() {
+        return logBatchTimeBudgetMs;
+    }
+
+    /**
+     * 로그 파일 교체 설정 반환
+     *
+     * @return 교체 설정
+     */
+    public LogRotationSettings getLogRotationSettings() {
+        return logRotationSettings;
+    }
+
+    /**
+     * 위반 기록 데이터베이스 설정 반환
+     *
+     * @return 데이터베이스 설정
+     */
+    public LogDatabaseSettings getLogDatabaseSettings() {
+        return logDatabaseSettings;
+    }
+
+    /**
+     * 위반 집계를 유지할 최대 플레이어 수 반환
+     *
+     * @return 최대 플레이어 수
+     */
+    public int getStatsMaxPlayers() {
+        return statsMaxPlayers;
+    }
+
+    /**
+     * 위반 집계 저장 주기 반환
+     *
+     * @return 저장 주기 (초)
+     */
+    public long getStatsSnapshotIntervalSeconds() {
+        return statsSnapshotIntervalSeconds;
+    }
+
+    /**
+     * Prometheus 지표 엔드포인트 설정 반환
+     *
+     * @return 엔드포인트 설정
+     */
+    public PrometheusSettings getPrometheusSettings() {
+        return prometheusSettings;
+    }
+
+    /**
+     * 디버프 설정 목록 반환 (읽기 전용)
+     *
+     * @return 디버프 설정 목록
+     */
+    public List<DebuffConfig> getDebuffs() {
+        return debuffs;
+    }
+
+    /**
+     * 미리 생성된 디버프 효과 배열 반환
+     * 모든 호출자가 공유하므로 배열을 수정하면 안 됩니다.
+     *
+     * @return 디버프 효과 배열
+     */
+    public PotionEffect[] getDebuffEffects() {
+        return debuffEffects;
+    }
+
+    /**
+     * 설정 스냅샷 빌더
+     * 기본값은 config.yml 기본값과 같습니다.
+     */
+    public static final class Builder {
+
+        private int cpsThreshold = 15;
+        private long debuffCooldown = 1000L;
+        private boolean debugMode = false;
+        private TargetMode targetMode = TargetMode.PLAYER_ONLY;
+        private DetectorType detectorType = DetectorType.RAYTRACE;
+        private Set<GameMode> ignoredGameModes = EnumSet.noneOf(GameMode.class);
+        private Set<String> disabledWorlds = Collections.emptySet();
+        private ClickWindowSettings clickWindowSettings = ClickWindowSettings.DEFAULT;
+        private boolean chatNotificationEnabled = true;
+        private boolean titleNotificationEnabled = true;
+        private int titleFadeIn = 10;
+        private int titleStay = 40;
+        private int titleFadeOut = 10;
+        private boolean loggingEnabled = true;
+        private String logFileName = "violations.log";
+        private LogFormat logFormat = LogFormat.TEXT;
+        private int logQueueCapacity = 8192;
+        private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP_OLDEST;
+        private WaitStrategy logWaitStrategy = WaitStrategy.PARK;
+        private FlushPolicy logFlushPolicy = FlushPolicy.EVERY_BATCH;
+        private long logFlushIntervalMs = 1000L;
+        private int logBatchSize = 512;
+        private long logBatchTimeBudgetMs = 5L;
+        private LogRotationSettings logRotationSettings = LogRotationSettings.DISABLED;
+        private LogDatabaseSettings logDatabaseSettings = LogDatabaseSettings.DISABLED;
+        private int statsMaxPlayers = 10000;
+        private long statsSnapshotIntervalSeconds = 300L;
+        private PrometheusSettings prometheusSettings = PrometheusSettings.DISABLED;
+        private List<DebuffConfig> debuffs = new ArrayList<>();
+
+        public Builder cpsThreshold(int cpsThreshold) {
+            this.cpsThreshold = cpsThreshold;
+            return this;
+        }
+
+        public Builder debuffCooldown(long debuffCooldown) {
+            this.debuffCooldown = debuffCooldown;
+            return this;
+        }
+
+        public Builder debugMode(boolean debugMode) {
+            this.debugMode = debugMode;
+            return this;
+        }
+
+        public Builder targetMode(TargetMode targetMode) {
+            this.targetMode = targetMode;
+            return this;
+        }
+
+        public Builder detectorType(DetectorType detectorType) {
+            this.detectorType = detectorType;
+            return this;
+        }
+
+        public Builder ignoredGameModes(Set<GameMode> ignoredGameModes) {
+            this.ignoredGameModes = ignoredGameModes;
+            return this;
+        }
+
+        public Builder disabledWorlds(Set<String> disabledWorlds) {
+            this.disabledWorlds = disabledWorlds;
+            return this;
+        }
+
+        public Builder clickWindowSettings(ClickWindowSettings clickWindowSettings) {
+            this.clickWindowSettings = clickWindowSettings;
+            return this;
+        }
+
+        public Builder chatNotificationEnabled(boolean chatNotificationEnabled) {
+            this.chatNotificationEnabled = chatNotificationEnabled;
+            return this;
+        }
+
+        public Builder titleNotificationEnabled(boolean titleNotificationEnabled) {
+            this.titleNotificationEnabled = titleNotificationEnabled;
+            return this;
+        }
+
+        public Builder titleTimes(int fadeIn, int stay, int fadeOut) {
+            this.titleFadeIn = fadeIn;
+            this.titleStay = stay;
+            this.titleFadeOut = fadeOut;
+            return this;
+        }
+
+        public Builder loggingEnabled(boolean loggingEnabled) {
+            this.loggingEnabled = loggingEnabled;
+            return this;
+        }
+
+        public Builder logFileName(String logFileName) {
+            this.logFileName = logFileName;
+            return this;
+        }
+
+        public Builder logFormat(LogFormat logFormat) {
+            this.logFormat = logFormat;
+            return this;
+        }
+
+        public Builder logQueue(int capacity, OverflowPolicy overflowPolicy, WaitStrategy waitStrategy) {
+            this.logQueueCapacity = capacity;
+            this.logOverflowPolicy = overflowPolicy;
+            this.logWaitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder logFlush(FlushPolicy flushPolicy, long intervalMs, int batchSize, long batchTimeBudgetMs) {
+            this.logFlushPolicy = flushPolicy;
+            this.logFlushIntervalMs = intervalMs;
+            this.logBatchSize = batchSize;
+            this.logBatchTimeBudgetMs = batchTimeBudgetMs;
+            return this;
+        }
+
+        public Builder logRotationSettings(LogRotationSettings logRotationSettings) {
+            this.logRotationSettings = logRotationSettings;
+            return this;
+        }
+
+        public Builder logDatabaseSettings(LogDatabaseSettings logDatabaseSettings) {
+            this.logDatabaseSettings = logDatabaseSettings;
+            return this;
+        }
+
+        public Builder stats(int maxPlayers, long snapshotIntervalSeconds) {
+            this.statsMaxPlayers = maxPlayers;
+            this.statsSnapshotIntervalSeconds = snapshotIntervalSeconds;
+            return this;
+        }
+
+        public Builder prometheusSettings(PrometheusSettings prometheusSettings) {
+            this.prometheusSettings = prometheusSettings;
+            return this;
+        }
+
+        public Builder debuffs(List<DebuffConfig> debuffs) {
+            this.debuffs = debuffs;
+            return this;
+        }
+
+        /**
+         * 현재까지 설정된 디버그 모드 여부 (로드 중 로그 출력용)
+         *
+         * @return 디버그 모드 여부
+         */
+        public boolean isDebugMode() {
+            return debugMode;
+        }
+
+        /**
+         * 불변 스냅샷을 생성합니다.
+         *
+         * @return 설정 스냅샷
+         */
+        public ConfigSnapshot build() {
+            return new ConfigSnapshot(this);
+        }
+    }
+}
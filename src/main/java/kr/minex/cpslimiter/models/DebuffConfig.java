@@ -1,5 +1,6 @@
 package kr.minex.cpslimiter.models;
 
+import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 /**
@@ -101,6 +102,22 @@ public class DebuffConfig {
         return showIcon;
     }
 
+    /**
+     * 설정에 맞는 포션 효과를 생성합니다.
+     *
+     * @return 포션 효과
+     */
+    public PotionEffect toPotionEffect() {
+        return new PotionEffect(
+                effectType,
+                durationTicks,
+                amplifier,
+                false,  // ambient (주변 효과 여부)
+                showParticles,
+                showIcon
+        );
+    }
+
     @Override
     public String toString() {
         return String.format("DebuffConfig{effect=%s, level=%d, duration=%dticks}",
@@ -0,0 +1,36 @@
+package kr.minex.cpslimiter.models;
+
+/**
+ * 전투 타겟 감지 방식
+ */
+public enum DetectorType {
+
+    /**
+     * Bukkit 월드 레이트레이스(rayTraceBlocks / rayTraceEntities) 사용
+     */
+    RAYTRACE,
+
+    /**
+     * 매 틱 스냅샷한 플레이어 히트박스에 대한 직접 광선 판정 (PLAYER_ONLY 모드 전용)
+     */
+    HITBOX;
+
+    /**
+     * 설정 문자열을 안전하게 파싱합니다.
+     *
+     * @param raw 설정 값
+     * @return 파싱 결과, 실패 시 기본값(RAYTRACE)
+     */
+    public static DetectorType fromConfig(String raw) {
+        if (raw == null) {
+            return RAYTRACE;
+        }
+
+        String normalized = raw.trim().toUpperCase();
+        return switch (normalized) {
+            case "RAYTRACE", "RAY_TRACE", "BUKKIT" -> RAYTRACE;
+            case "HITBOX", "AABB", "SNAPSHOT" -> HITBOX;
+            default -> RAYTRACE;
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package kr.minex.cpslimiter.models;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 플레이어 한 명의 위반 집계
+ *
+ * <p>누적 위반 수, 최고 CPS, 마지막 위반 시각과 함께 최근 위반 수를 고정 크기 시간 버킷으로 셉니다.</p>
+ * <ul>
+ *     <li>최근 1시간: 5분 버킷 12개</li>
+ *     <li>최근 24시간: 1시간 버킷 24개</li>
+ * </ul>
+ *
+ * <p>버킷은 현재 시각 기준으로 밀려나며, 오래된 버킷은 재사용 전에 0으로 비웁니다.
+ * 따라서 최근 N시간 값은 버킷 단위로 근사되며(가장 오래된 버킷의 일부 포함),
+ * 플레이어당 메모리는 위반 횟수와 관계없이 고정입니다. ({@link #ESTIMATED_BYTES})</p>
+ *
+ * <p>위반 기록(플레이어 스레드)과 조회/저장(명령어/비동기 스레드)이 동시에 일어날 수 있으므로 객체 단위로 동기화합니다.
+ * 같은 플레이어의 위반은 한 스레드에서 순서대로 발생하므로 경합은 거의 없습니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class PlayerViolationStats {
+
+    /**
+     * 최근 1시간 버킷 수와 길이 (5분 × 12)
+     */
+    public static final int HOUR_BUCKETS = 12;
+    public static final long HOUR_BUCKET_MS = 5L * 60_000L;
+
+    /**
+     * 최근 24시간 버킷 수와 길이 (1시간 × 24)
+     */
+    public static final int DAY_BUCKETS = 24;
+    public static final long DAY_BUCKET_MS = 60L * 60_000L;
+
+    /**
+     * 플레이어 하나당 예상 메모리 (바이트, 64비트 JVM + 압축 포인터 기준)
+     *
+     * <ul>
+     *     <li>이 객체: 헤더 12 + long 4개 32 + int 4 + 배열 참조 2개 8 = 56</li>
+     *     <li>int[12]: 헤더 16 + 48 = 64</li>
+     *     <li>int[24]: 헤더 16 + 96 = 112</li>
+     *     <li>키 UUID: 32, ConcurrentHashMap 노드: 32</li>
+     * </ul>
+     */
+    public static final int ESTIMATED_BYTES = 56 + 64 + 112 + 32 + 32;
+
+    private long totalCount;
+    private int peakCps;
+    private long lastViolationMillis;
+
+    private final int[] hourCounts = new int[HOUR_BUCKETS];
+    private long hourHead;
+
+    private final int[] dayCounts = new int[DAY_BUCKETS];
+    private long dayHead;
+
+    /**
+     * 위반 한 건을 기록합니다.
+     *
+     * @param cps 위반 시 CPS
+     * @param nowMillis 위반 시각 (epoch 밀리초)
+     */
+    public synchronized void record(int cps, long nowMillis) {
+        advance(nowMillis);
+        totalCount++;
+        if (cps > peakCps) {
+            peakCps = cps;
+        }
+        if (nowMillis > lastViolationMillis) {
+            lastViolationMillis = nowMillis;
+        }
+        hourCounts[(int) Math.floorMod(hourHead, (long) HOUR_BUCKETS)]++;
+        dayCounts[(int) Math.floorMod(dayHead, (long) DAY_BUCKETS)]++;
+    }
+
+    /**
+     * 현재 시각 기준 집계를 반환합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 집계 요약
+     */
+    public synchronized Summary summary(long nowMillis) {
+        advance(nowMillis);
+        return new Summary(totalCount, sum(hourCounts), sum(dayCounts), peakCps, lastViolationMillis);
+    }
+
+    /**
+     * 마지막 위반 시각을 반환합니다. (오래된 플레이어 제거 기준)
+     *
+     * @return 마지막 위반 시각 (epoch 밀리초)
+     */
+    public synchronized long getLastViolationMillis() {
+        return lastViolationMillis;
+    }
+
+    /**
+     * 스냅샷 파일에 씁니다.
+     *
+     * @param out 출력
+     * @throws IOException 쓰기 실패 시
+     */
+    public synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeLong(totalCount);
+        out.writeInt(peakCps);
+        out.writeLong(lastViolationMillis);
+        out.writeLong(hourHead);
+        for (int count : hourCounts) {
+            out.writeInt(count);
+        }
+        out.writeLong(dayHead);
+        for (int count : dayCounts) {
+            out.writeInt(count);
+        }
+    }
+
+    /**
+     * 스냅샷 파일에서 읽습니다.
+     *
+     * @param in 입력
+     * @return 읽은 집계
+     * @throws IOException 읽기 실패 시
+     */
+    public static PlayerViolationStats readFrom(DataInput in) throws IOException {
+        PlayerViolationStats stats = new PlayerViolationStats();
+        stats.totalCount = in.readLong();
+        stats.peakCps = in.readInt();
+        stats.lastViolationMillis = in.readLong();
+        stats.hourHead = in.readLong();
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            stats.hourCounts[i] = in.readInt();
+        }
+        stats.dayHead = in.readLong();
+        for (int i = 0; i < DAY_BUCKETS; i++) {
+            stats.dayCounts[i] = in.readInt();
+        }
+        return stats;
+    }
+
+    /**
+     * 현재 시각까지 버킷을 밀고, 지나간 버킷을 비웁니다.
+     */
+    private void advance(long nowMillis) {
+        hourHead = advance(hourCounts, hourHead, Math.floorDiv(nowMillis, HOUR_BUCKET_MS));
+        dayHead = advance(dayCounts, dayHead, Math.floorDiv(nowMillis, DAY_BUCKET_MS));
+    }
+
+    private static long advance(int[] counts, long head, long bucket) {
+        if (bucket <= head) {
+            // 시계가 뒤로 가면 현재 버킷에 계속 기록
+            return head;
+        }
+        if (bucket - head >= counts.length) {
+            Arrays.fill(counts, 0);
+        } else {
+            for (long b = head + 1; b <= bucket; b++) {
+                counts[(int) Math.floorMod(b, (long) counts.length)] = 0;
+            }
+        }
+        return bucket;
+    }
+
+    private static long sum(int[] counts) {
+        long sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * 위반 집계 요약
+     *
+     * @param totalCount 누적 위반 수
+     * @param lastHourCount 최근 1시간 위반 수
+     * @param lastDayCount 최근 24시간 위반 수
+     * @param peakCps 최고 CPS
+     * @param lastViolationMillis 마지막 위반 시각 (epoch 밀리초)
+     */
+    public record Summary(long totalCount, long lastHourCount, long lastDayCount, int peakCps, long lastViolationMillis) {
+    }
+}
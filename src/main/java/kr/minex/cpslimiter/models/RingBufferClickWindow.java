@@ -0,0 +1,87 @@
+package kr.minex.cpslimiter.models;
+
+/**
+ * 정확한(EXACT) 슬라이딩 윈도우 구현
+ *
+ * <p>클릭 타임스탬프를 고정 크기 {@code long[]} 링 버퍼에 저장하여,
+ * 클릭 등록/조회 시 객체 할당(Long 박싱, 덱 노드)이 발생하지 않습니다.</p>
+ */
+public class RingBufferClickWindow implements ClickWindow {
+
+    private final long windowMs;
+
+    /**
+     * 클릭 타임스탬프 링 버퍼
+     * head 위치에 가장 오래된 클릭이, (head + size - 1) 위치에 최신 클릭이 위치
+     */
+    private final long[] timestamps;
+
+    /**
+     * 가장 오래된 클릭의 버퍼 인덱스
+     */
+    private int head = 0;
+
+    /**
+     * 윈도우 내 클릭 수
+     */
+    private int size = 0;
+
+    /**
+     * @param windowMs 윈도우 길이 (밀리초)
+     * @param capacity 윈도우 내 최대 클릭 수 (최소 클릭 간격으로부터 계산)
+     */
+    public RingBufferClickWindow(long windowMs, int capacity) {
+        this.windowMs = windowMs;
+        this.timestamps = new long[Math.max(1, capacity)];
+    }
+
+    @Override
+    public int add(long timestamp) {
+        expire(timestamp);
+        if (size == timestamps.length) {
+            // 이론상 도달하지 않지만, 가득 찬 경우 가장 오래된 클릭을 덮어씀
+            head = (head + 1) % timestamps.length;
+            size--;
+        }
+        timestamps[(head + size) % timestamps.length] = timestamp;
+        size++;
+        return size;
+    }
+
+    @Override
+    public int count(long nowMs) {
+        expire(nowMs);
+        return size;
+    }
+
+    @Override
+    public int peek(long nowMs) {
+        // 타임스탬프는 오래된 순이므로 만료되지 않은 첫 클릭까지만 확인
+        long cutoff = nowMs - windowMs;
+        int expired = 0;
+        while (expired < size && timestamps[(head + expired) % timestamps.length] <= cutoff) {
+            expired++;
+        }
+        return size - expired;
+    }
+
+    private void expire(long nowMs) {
+        long cutoff = nowMs - windowMs;
+        // 경계값(정확히 윈도우 길이만큼 이전)은 만료로 처리하여 과대 측정을 방지
+        while (size > 0 && timestamps[head] <= cutoff) {
+            head = (head + 1) % timestamps.length;
+            size--;
+        }
+    }
+
+    @Override
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+}
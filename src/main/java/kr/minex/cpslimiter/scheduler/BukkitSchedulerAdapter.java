@@ -0,0 +1,68 @@
+package kr.minex.cpslimiter.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Bukkit/Paper 메인 스레드 스케줄러 구현
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class BukkitSchedulerAdapter implements SchedulerAdapter {
+
+    private final Plugin plugin;
+
+    /**
+     * BukkitSchedulerAdapter 생성자
+     *
+     * @param plugin 플러그인 인스턴스
+     */
+    public BukkitSchedulerAdapter(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return;
+        }
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        });
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public void runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+
+    @Override
+    public boolean isFolia() {
+        return false;
+    }
+}
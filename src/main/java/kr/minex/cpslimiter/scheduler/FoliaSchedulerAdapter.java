@@ -0,0 +1,83 @@
+package kr.minex.cpslimiter.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folia 리전 스케줄러 구현
+ *
+ * <p>Folia 전용 API를 사용하므로 {@link SchedulerAdapter#create(Plugin)}에서
+ * Folia 서버로 확인된 경우에만 로드됩니다.</p>
+ *
+ * <ul>
+ *     <li>전역 태스크: GlobalRegionScheduler</li>
+ *     <li>엔티티 작업: 엔티티를 소유한 리전의 EntityScheduler</li>
+ *     <li>비동기 작업: AsyncScheduler</li>
+ * </ul>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class FoliaSchedulerAdapter implements SchedulerAdapter {
+
+    private final Plugin plugin;
+
+    /**
+     * FoliaSchedulerAdapter 생성자
+     *
+     * @param plugin 플러그인 인스턴스
+     */
+    public FoliaSchedulerAdapter(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        // Folia는 최초 지연이 1틱 이상이어야 함
+        Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduledTask -> task.run(),
+                Math.max(1L, delayTicks), periodTicks);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getGlobalRegionScheduler().run(plugin, scheduledTask -> task.run());
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        // 클릭 이벤트는 플레이어를 소유한 리전 스레드에서 호출되므로 대부분 즉시 실행됨
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+            return;
+        }
+        // 엔티티가 이미 제거되었으면(retired) 실행하지 않음
+        entity.getScheduler().run(plugin, scheduledTask -> task.run(), null);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, scheduledTask -> task.run());
+    }
+
+    @Override
+    public void runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        // 비동기 스케줄러는 틱이 아닌 실제 시간 단위를 사용 (1틱 = 50ms)
+        Bukkit.getAsyncScheduler().runAtFixedRate(plugin, scheduledTask -> task.run(),
+                Math.max(1L, delayTicks) * 50L, periodTicks * 50L, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void cancelAll() {
+        // 엔티티 스케줄러 태스크는 엔티티와 함께 정리되므로 전역/비동기 태스크만 취소
+        Bukkit.getGlobalRegionScheduler().cancelTasks(plugin);
+        Bukkit.getAsyncScheduler().cancelTasks(plugin);
+    }
+
+    @Override
+    public boolean isFolia() {
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package kr.minex.cpslimiter.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * 서버 스케줄러 추상화
+ *
+ * <p>Bukkit/Paper는 단일 메인 스레드 스케줄러를, Folia는 리전(region)별 스케줄러를 사용합니다.
+ * 플러그인 코드는 이 인터페이스만 사용하고, 실행 환경에 맞는 구현은 {@link #create(Plugin)}가 선택합니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public interface SchedulerAdapter {
+
+    /**
+     * 전역 반복 태스크를 실행합니다.
+     * Bukkit에서는 메인 스레드, Folia에서는 전역 리전 스레드에서 실행됩니다.
+     *
+     * @param task 실행할 작업
+     * @param delayTicks 최초 지연 (틱)
+     * @param periodTicks 반복 주기 (틱)
+     */
+    void runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * 다음 틱에 전역 태스크를 한 번 실행합니다.
+     *
+     * @param task 실행할 작업
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * 엔티티를 소유한 스레드에서 작업을 실행합니다.
+     * 이미 소유 스레드에서 호출된 경우 즉시 실행합니다.
+     *
+     * @param entity 대상 엔티티
+     * @param task 실행할 작업 (엔티티가 제거되면 실행되지 않음)
+     */
+    void runForEntity(Entity entity, Runnable task);
+
+    /**
+     * 서버 스레드가 아닌 비동기 스레드에서 작업을 실행합니다.
+     * 파일 읽기처럼 틱을 막으면 안 되는 작업에 사용합니다.
+     *
+     * @param task 실행할 작업
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * 비동기 반복 태스크를 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @param delayTicks 최초 지연 (틱)
+     * @param periodTicks 반복 주기 (틱)
+     */
+    void runAsyncTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * 이 플러그인이 예약한 모든 태스크를 취소합니다.
+     */
+    void cancelAll();
+
+    /**
+     * Folia(리전 스레드) 환경 여부를 반환합니다.
+     *
+     * @return Folia이면 true
+     */
+    boolean isFolia();
+
+    /**
+     * 실행 환경에 맞는 스케줄러를 생성합니다.
+     *
+     * @param plugin 플러그인 인스턴스
+     * @return Folia면 {@link FoliaSchedulerAdapter}, 아니면 {@link BukkitSchedulerAdapter}
+     */
+    static SchedulerAdapter create(Plugin plugin) {
+        return isFoliaServer() ? new FoliaSchedulerAdapter(plugin) : new BukkitSchedulerAdapter(plugin);
+    }
+
+    /**
+     * Folia 전용 클래스 존재 여부로 Folia 서버인지 확인합니다.
+     *
+     * @return Folia 서버이면 true
+     */
+    static boolean isFoliaServer() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
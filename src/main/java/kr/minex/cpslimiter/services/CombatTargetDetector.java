@@ -10,6 +10,9 @@ import java.util.Optional;
  *
  * <p>PlayerAnimationEvent는 채굴/상호작용 등 다양한 상황에서 발생하므로,
  * 전투 의도(타겟을 향한 클릭)만 CPS 측정에 포함되도록 분리합니다.</p>
+ *
+ * <p>판정은 두 단계로 나뉩니다. 엔티티 탐색({@link #findTarget})이 먼저 수행되고,
+ * 블록 가림 판정({@link #isOccluded})은 엔티티가 발견된 경우에만 수행됩니다.</p>
  */
 public interface CombatTargetDetector {
 
@@ -19,5 +22,28 @@ public interface CombatTargetDetector {
      * @param player 플레이어
      * @return 전투 타겟(존재하지 않으면 empty)
      */
-    Optional<CombatTarget> detect(Player player);
+    default Optional<CombatTarget> detect(Player player) {
+        Optional<CombatTarget> target = findTarget(player);
+        if (target.isEmpty() || isOccluded(player, target.get())) {
+            return Optional.empty();
+        }
+        return target;
+    }
+
+    /**
+     * 시선 방향의 엔티티를 탐색합니다. 블록 가림 여부는 판정하지 않습니다.
+     *
+     * @param player 플레이어
+     * @return 후보 타겟(존재하지 않으면 empty)
+     */
+    Optional<CombatTarget> findTarget(Player player);
+
+    /**
+     * 후보 타겟보다 블록이 먼저(같거나 가깝게) 맞는지 판정합니다. (채굴 오탐 방지)
+     *
+     * @param player 플레이어
+     * @param target {@link #findTarget}이 반환한 후보 타겟
+     * @return 블록에 가려졌으면 true
+     */
+    boolean isOccluded(Player player, CombatTarget target);
 }
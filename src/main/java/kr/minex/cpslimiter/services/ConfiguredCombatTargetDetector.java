@@ -0,0 +1,55 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.entity.Player;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.DetectorType;
+import kr.minex.cpslimiter.models.TargetMode;
+
+import java.util.Optional;
+
+/**
+ * 설정(settings.detector)에 따라 감지기를 선택하는 위임 감지기
+ *
+ * <p>HITBOX 감지기는 플레이어만 스냅샷하므로 PLAYER_ONLY 모드에서만 사용되며,
+ * LIVING_ENTITY 모드에서는 항상 레이트레이스 감지기로 대체됩니다.
+ * 매 호출마다 설정을 읽으므로 /cps reload 후 즉시 반영됩니다.
+ * (리로드가 두 단계 사이에 일어나도 블록 가림 판정은 두 감지기가 동일합니다.)</p>
+ */
+public class ConfiguredCombatTargetDetector implements CombatTargetDetector {
+
+    private final ConfigManager configManager;
+    private final CombatTargetDetector rayTraceDetector;
+    private final CombatTargetDetector hitboxDetector;
+
+    public ConfiguredCombatTargetDetector(ConfigManager configManager,
+                                          CombatTargetDetector rayTraceDetector,
+                                          CombatTargetDetector hitboxDetector) {
+        this.configManager = configManager;
+        this.rayTraceDetector = rayTraceDetector;
+        this.hitboxDetector = hitboxDetector;
+    }
+
+    @Override
+    public Optional<CombatTarget> findTarget(Player player) {
+        return select().findTarget(player);
+    }
+
+    @Override
+    public boolean isOccluded(Player player, CombatTarget target) {
+        return select().isOccluded(player, target);
+    }
+
+    /**
+     * 현재 설정에서 사용할 감지기를 반환합니다.
+     *
+     * @return 감지기
+     */
+    public CombatTargetDetector select() {
+        if (configManager.getDetectorType() == DetectorType.HITBOX
+                && configManager.getTargetMode() == TargetMode.PLAYER_ONLY) {
+            return hitboxDetector;
+        }
+        return rayTraceDetector;
+    }
+}
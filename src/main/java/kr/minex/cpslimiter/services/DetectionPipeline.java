@@ -0,0 +1,222 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.entity.Player;
+import kr.minex.cpslimiter.jfr.DetectionEvent;
+import kr.minex.cpslimiter.managers.CPSManager;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팔 휘두름 판정 파이프라인
+ *
+ * <p>비용이 낮은 단계부터 순서대로 실행하며, 어느 단계에서든 거부되면 즉시 종료합니다.</p>
+ * <ol>
+ *     <li>{@link Stage#BYPASS}: 바이패스 권한 (슬롯별 캐시)</li>
+ *     <li>{@link Stage#FILTER}: 게임모드/월드 필터</li>
+ *     <li>{@link Stage#ENTITY_TRACE}: 시선 방향 엔티티 탐색</li>
+ *     <li>{@link Stage#BLOCK_OCCLUSION}: 블록 가림 판정 (엔티티가 발견된 경우에만)</li>
+ * </ol>
+ *
+ * <p>단계별로 진입/거부 횟수와 누적 소요 시간을 기록하며, /cps status에서 확인할 수 있습니다.
+ * 거부 사유별 횟수와 감지(엔티티 탐색 + 블록 가림) 소요 시간 분포는 {@link MetricsRegistry}에도 기록합니다.
+ * JFR 기록 중에는 실행마다 {@link DetectionEvent}를 남깁니다.</p>
+ */
+public class DetectionPipeline {
+
+    /**
+     * 파이프라인 단계 (실행 순서)
+     */
+    public enum Stage {
+        BYPASS,
+        FILTER,
+        ENTITY_TRACE,
+        BLOCK_OCCLUSION
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final CPSManager cpsManager;
+    private final ConfigManager configManager;
+    private final CombatTargetDetector detector;
+    private final MetricsRegistry metrics;
+
+    private final LongAdder[] entered = newAdders();
+    private final LongAdder[] rejected = newAdders();
+    private final LongAdder[] elapsedNanos = newAdders();
+
+    /**
+     * DetectionPipeline 생성자
+     *
+     * @param cpsManager CPS 관리자 (바이패스 권한 캐시)
+     * @param configManager 설정 관리자
+     * @param detector 전투 타겟 감지기
+     * @param metrics 지표 저장소 (단계별 거부 수, 감지 지연 시간)
+     */
+    public DetectionPipeline(CPSManager cpsManager, ConfigManager configManager, CombatTargetDetector detector,
+                             MetricsRegistry metrics) {
+        this.cpsManager = cpsManager;
+        this.configManager = configManager;
+        this.detector = detector;
+        this.metrics = metrics;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STAGES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * 파이프라인을 실행합니다.
+     *
+     * @param player 팔을 휘두른 플레이어
+     * @param slot 플레이어 슬롯 번호
+     * @return 모든 단계를 통과한 전투 타겟 (거부되면 empty)
+     */
+    public Optional<CombatTarget> run(Player player, int slot) {
+        DetectionEvent event = new DetectionEvent();
+        event.begin();
+
+        // 1) 바이패스 권한
+        long start = System.nanoTime();
+        boolean bypass = hasBypass(player, slot);
+        start = record(Stage.BYPASS, start, bypass);
+        if (bypass) {
+            finish(event, player, Stage.BYPASS.name(), null);
+            return Optional.empty();
+        }
+
+        // 2) 게임모드/월드 필터
+        boolean filtered = isFiltered(player);
+        start = record(Stage.FILTER, start, filtered);
+        if (filtered) {
+            finish(event, player, Stage.FILTER.name(), null);
+            return Optional.empty();
+        }
+
+        // 3) 엔티티 탐색
+        long detectStart = start;
+        Optional<CombatTarget> target = detector.findTarget(player);
+        start = record(Stage.ENTITY_TRACE, start, target.isEmpty());
+        if (target.isEmpty()) {
+            metrics.recordDetection(start - detectStart);
+            finish(event, player, Stage.ENTITY_TRACE.name(), null);
+            return Optional.empty();
+        }
+
+        // 4) 블록 가림 판정 (엔티티가 발견된 경우에만)
+        boolean occluded = detector.isOccluded(player, target.get());
+        metrics.recordDetection(record(Stage.BLOCK_OCCLUSION, start, occluded) - detectStart);
+        if (occluded) {
+            finish(event, player, Stage.BLOCK_OCCLUSION.name(), target.get());
+            return Optional.empty();
+        }
+        finish(event, player, DetectionEvent.RESULT_TARGET, target.get());
+        return target;
+    }
+
+    /**
+     * JFR 기록 중이면 판정 결과를 기록합니다. (기록 중이 아니면 필드를 채우지 않음)
+     */
+    private static void finish(DetectionEvent event, Player player, String result,
+                               CombatTarget target) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit(player.getName(), result,
+                    target == null ? null : target.entity().getType().name());
+        }
+    }
+
+    /**
+     * 단계 통계를 기록하고 다음 단계의 시작 시간을 반환합니다.
+     */
+    private long record(Stage stage, long start, boolean reject) {
+        long now = System.nanoTime();
+        int i = stage.ordinal();
+        entered[i].increment();
+        elapsedNanos[i].add(now - start);
+        if (reject) {
+            rejected[i].increment();
+            metrics.recordRejected(stage);
+        }
+        return now;
+    }
+
+    /**
+     * 캐싱된 바이패스 권한을 확인합니다.
+     * 캐시가 무효화된 상태면 권한을 다시 조회하여 저장합니다.
+     */
+    private boolean hasBypass(Player player, int slot) {
+        int stamp = cpsManager.getBypassStamp(slot);
+        byte state = CPSManager.bypassState(stamp);
+        if (state != CPSManager.BYPASS_UNKNOWN) {
+            // 권한 변경 이벤트가 없는 환경에서는 휘두른 플레이어만 다음 틱에 다시 확인
+            cpsManager.markSwung(slot);
+            return state == CPSManager.BYPASS_GRANTED;
+        }
+
+        // 조회 도중 무효화되면 기록되지 않고 다음 클릭에서 다시 조회
+        boolean granted = player.hasPermission(CPSManager.BYPASS_PERMISSION);
+        cpsManager.setBypass(slot, stamp, granted);
+        return granted;
+    }
+
+    /**
+     * 게임모드/월드 필터에 해당하는지 확인합니다.
+     */
+    private boolean isFiltered(Player player) {
+        ConfigSnapshot config = configManager.getSnapshot();
+        if (!config.getIgnoredGameModes().isEmpty()
+                && config.getIgnoredGameModes().contains(player.getGameMode())) {
+            return true;
+        }
+        return !config.getDisabledWorlds().isEmpty()
+                && config.getDisabledWorlds().contains(player.getWorld().getName());
+    }
+
+    /**
+     * 단계에 진입한 횟수를 반환합니다.
+     *
+     * @param stage 단계
+     * @return 진입 횟수
+     */
+    public long getEnteredCount(Stage stage) {
+        return entered[stage.ordinal()].sum();
+    }
+
+    /**
+     * 단계에서 거부된 횟수를 반환합니다.
+     *
+     * @param stage 단계
+     * @return 거부 횟수
+     */
+    public long getRejectedCount(Stage stage) {
+        return rejected[stage.ordinal()].sum();
+    }
+
+    /**
+     * 단계의 누적 소요 시간을 반환합니다.
+     *
+     * @param stage 단계
+     * @return 누적 소요 시간 (나노초)
+     */
+    public long getElapsedNanos(Stage stage) {
+        return elapsedNanos[stage.ordinal()].sum();
+    }
+
+    /**
+     * 파이프라인에서 사용하는 감지기를 반환합니다.
+     *
+     * @return 전투 타겟 감지기
+     */
+    public CombatTargetDetector getDetector() {
+        return detector;
+    }
+}
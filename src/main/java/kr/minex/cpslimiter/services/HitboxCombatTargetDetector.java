@@ -0,0 +1,124 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.models.CombatTarget;
+
+import java.util.Optional;
+
+/**
+ * 히트박스 스냅샷 기반 전투 타겟 감지기 (PLAYER_ONLY 전용)
+ *
+ * <p>{@code World.rayTraceEntities}는 호출마다 주변 엔티티 목록을 수집하고 필터를 실행하며
+ * Location/Vector/RayTraceResult를 할당합니다. 이 감지기는 {@link PlayerSpatialIndex}가 매 틱 스냅샷한
+ * 플레이어 히트박스 배열에 대해 직접 슬랩 방식 광선/AABB 교차 판정을 수행합니다.</p>
+ *
+ * <p>블록 가림 판정(채굴 오탐 방지)은 {@link RayTraceCombatTargetDetector}와 동일합니다.</p>
+ *
+ * <p>히트박스는 틱 시작 시점 기준이므로, 같은 틱에 이동한 대상은 최대 1틱만큼 이전 위치로 판정됩니다.</p>
+ */
+public class HitboxCombatTargetDetector implements CombatTargetDetector {
+
+    /**
+     * 스레드별 재사용 버퍼 (감지 경로에서 할당 방지)
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final CPSLimiter plugin;
+    private final ConfigManager configManager;
+    private final PlayerSpatialIndex spatialIndex;
+
+    public HitboxCombatTargetDetector(CPSLimiter plugin, ConfigManager configManager, PlayerSpatialIndex spatialIndex) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.spatialIndex = spatialIndex;
+    }
+
+    @Override
+    public Optional<CombatTarget> findTarget(Player player) {
+        try {
+            Scratch scratch = eye(player);
+
+            // 히트박스 스냅샷 광선 판정
+            Player hit = spatialIndex.raycast(player, scratch.ox, scratch.oy, scratch.oz,
+                    scratch.dx, scratch.dy, scratch.dz,
+                    RayTraceCombatTargetDetector.ATTACK_RANGE, RayTraceCombatTargetDetector.RAY_SIZE, scratch.distance);
+            if (hit == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new CombatTarget(hit, scratch.distance[0]));
+        } catch (Throwable t) {
+            logFailure(t);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isOccluded(Player player, CombatTarget target) {
+        try {
+            Scratch scratch = eye(player);
+
+            // 블록이 플레이어보다 가깝게 맞으면(=블록 캐기) 전투 클릭으로 카운트하지 않음
+            Location eye = new Location(player.getWorld(), scratch.ox, scratch.oy, scratch.oz,
+                    scratch.location.getYaw(), scratch.location.getPitch());
+            RayTraceResult blockResult = player.getWorld().rayTraceBlocks(
+                    eye,
+                    new Vector(scratch.dx, scratch.dy, scratch.dz),
+                    RayTraceCombatTargetDetector.ATTACK_RANGE,
+                    FluidCollisionMode.NEVER,
+                    true
+            );
+            return RayTraceCombatTargetDetector.isBlockedBySolidBlock(blockResult, target.distance(), eye);
+        } catch (Throwable t) {
+            logFailure(t);
+            return true;
+        }
+    }
+
+    /**
+     * 눈 위치와 시선 방향을 스레드별 버퍼에 계산합니다.
+     * Location#getDirection과 동일한 계산을 Vector 할당 없이 수행합니다.
+     */
+    private static Scratch eye(Player player) {
+        Scratch scratch = SCRATCH.get();
+        Location location = player.getLocation(scratch.location);
+
+        scratch.ox = location.getX();
+        scratch.oy = location.getY() + player.getEyeHeight();
+        scratch.oz = location.getZ();
+
+        double yaw = Math.toRadians(location.getYaw());
+        double pitch = Math.toRadians(location.getPitch());
+        double xz = Math.cos(pitch);
+        scratch.dx = -xz * Math.sin(yaw);
+        scratch.dy = -Math.sin(pitch);
+        scratch.dz = xz * Math.cos(yaw);
+        return scratch;
+    }
+
+    private void logFailure(Throwable t) {
+        if (configManager.isDebugMode()) {
+            plugin.getLogger().warning("[DEBUG] 전투 타겟 히트박스 판정 실패: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+        }
+    }
+
+    /**
+     * 스레드별 재사용 버퍼
+     */
+    private static final class Scratch {
+        private final Location location = new Location(null, 0, 0, 0);
+        private final double[] distance = new double[1];
+        private double ox;
+        private double oy;
+        private double oz;
+        private double dx;
+        private double dy;
+        private double dz;
+    }
+}
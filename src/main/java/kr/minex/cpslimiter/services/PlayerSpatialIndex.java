@@ -0,0 +1,475 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 월드별 플레이어 히트박스 공간 해시
+ *
+ * <p>매 틱 한 번 모든 플레이어의 히트박스(BoundingBox)를 스냅샷하여 16x16 블록 셀 단위 해시에 저장합니다.
+ * 전투 타겟 감지기는 레이트레이스 전에 이 인덱스를 조회하여,
+ * 공격 범위 안에 다른 플레이어가 없으면(채굴/건축 등) 레이트레이스를 생략합니다.
+ * {@link HitboxCombatTargetDetector}는 이 스냅샷에 대해 직접 광선/AABB 교차 판정을 수행합니다.</p>
+ *
+ * <p>스냅샷은 volatile 참조로 교체되므로 조회는 잠금 없이 수행됩니다.
+ * 게시된 스냅샷은 다음 rebuild가 끝날 때까지 바뀌지 않으므로, 조회는 한 틱 안에 끝나야 합니다.
+ * (감지기는 클릭 이벤트 처리 중에 바로 조회합니다.)</p>
+ */
+public class PlayerSpatialIndex {
+
+    /**
+     * 셀 크기 = 2^4 = 16블록 (청크 크기)
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * 빈 해시 슬롯 표시 값
+     */
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    /**
+     * 거리 판정 여유값
+     * 히트박스 반경(약 1.0)과 스냅샷 이후 한 틱 동안의 이동 거리를 보수적으로 포함합니다.
+     */
+    private static final double SEARCH_MARGIN = 4.0;
+
+    /**
+     * 셀 탐색 시 히트박스가 중심 셀 밖으로 걸칠 수 있는 여유값
+     */
+    private static final double BOX_MARGIN = 2.0;
+
+    /**
+     * 월드별 현재 스냅샷
+     */
+    private volatile Map<World, WorldCells> snapshot = Map.of();
+
+    /**
+     * 월드별 재사용 버퍼 (rebuild 스레드 전용)
+     */
+    private final Map<World, WorldCells[]> buffers = new HashMap<>();
+
+    /**
+     * 번갈아 게시하는 스냅샷 맵 (rebuild 스레드 전용)
+     */
+    private final Map<World, WorldCells> evenSnapshot = new HashMap<>();
+    private final Map<World, WorldCells> oddSnapshot = new HashMap<>();
+
+    /**
+     * rebuild 호출 번호 (짝/홀로 버퍼를 번갈아 사용)
+     */
+    private int generation = 0;
+
+    /**
+     * 플레이어 히트박스 스냅샷을 다시 생성합니다.
+     * 매 틱 한 번 메인 스레드에서 호출합니다.
+     *
+     * <p>월드마다 버퍼 두 개를 번갈아 채우므로, 직전에 게시한 스냅샷은 다음 rebuild까지 바뀌지 않고
+     * 배열은 플레이어 수가 늘어날 때만 새로 할당합니다.
+     * 두 번 연속 플레이어가 없었던 월드의 버퍼는 해제합니다.</p>
+     *
+     * @param players 접속 중인 플레이어 목록
+     */
+    public void rebuild(Collection<? extends Player> players) {
+        int current = ++generation;
+        int side = current & 1;
+
+        for (Player player : players) {
+            BoundingBox box = player.getBoundingBox();
+            if (box == null) {
+                continue;
+            }
+            WorldCells[] pair = buffers.computeIfAbsent(player.getWorld(),
+                    world -> new WorldCells[]{new WorldCells(), new WorldCells()});
+            WorldCells cells = pair[side];
+            if (cells.generation != current) {
+                cells.begin(current);
+            }
+            cells.add(player, box.getMinX(), box.getMinY(), box.getMinZ(),
+                    box.getMaxX(), box.getMaxY(), box.getMaxZ());
+        }
+
+        Map<World, WorldCells> next = side == 0 ? evenSnapshot : oddSnapshot;
+        next.clear();
+        Iterator<Map.Entry<World, WorldCells[]>> iterator = buffers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<World, WorldCells[]> entry = iterator.next();
+            WorldCells cells = entry.getValue()[side];
+            if (cells.generation == current) {
+                cells.build();
+                next.put(entry.getKey(), cells);
+            } else if (entry.getValue()[side ^ 1].generation != current - 1) {
+                // 직전 스냅샷에도 없던 월드 (언로드 등)
+                iterator.remove();
+            }
+        }
+        snapshot = next;
+    }
+
+    /**
+     * 지정 위치 주변에 자신 외의 다른 플레이어가 있는지 확인합니다.
+     *
+     * @param self 기준 플레이어 (결과에서 제외)
+     * @param x 기준 X (일반적으로 눈 위치)
+     * @param y 기준 Y
+     * @param z 기준 Z
+     * @param range 공격 범위
+     * @return 범위(+여유값) 안에 다른 플레이어가 있으면 true
+     */
+    public boolean hasOtherPlayerNear(Player self, double x, double y, double z, double range) {
+        WorldCells cells = snapshot.get(self.getWorld());
+        if (cells == null) {
+            return false;
+        }
+        return cells.hasOtherNear(self.getEntityId(), x, y, z, range + SEARCH_MARGIN);
+    }
+
+    /**
+     * 광선과 가장 먼저 교차하는 다른 플레이어의 히트박스를 찾습니다.
+     * 슬랩(slab) 방식의 광선/AABB 교차 판정을 사용하며 객체를 할당하지 않습니다.
+     *
+     * @param self 광선을 쏘는 플레이어 (결과에서 제외)
+     * @param ox 광선 시작 X
+     * @param oy 광선 시작 Y
+     * @param oz 광선 시작 Z
+     * @param dx 정규화된 광선 방향 X
+     * @param dy 정규화된 광선 방향 Y
+     * @param dz 정규화된 광선 방향 Z
+     * @param maxDistance 최대 거리
+     * @param expand 히트박스 확장량 (레이트레이스 두께)
+     * @param outDistance 교차 거리를 기록할 배열 (인덱스 0)
+     * @return 교차한 플레이어 (없으면 null)
+     */
+    public Player raycast(Player self, double ox, double oy, double oz,
+                          double dx, double dy, double dz,
+                          double maxDistance, double expand, double[] outDistance) {
+        WorldCells cells = snapshot.get(self.getWorld());
+        if (cells == null) {
+            return null;
+        }
+        return cells.raycast(self.getEntityId(), ox, oy, oz, dx, dy, dz, maxDistance, expand, outDistance);
+    }
+
+    /**
+     * 모든 스냅샷과 재사용 버퍼를 비웁니다. {@link #rebuild}와 같은 스레드에서 호출합니다.
+     */
+    public void clear() {
+        snapshot = Map.of();
+        if (!buffers.isEmpty()) {
+            buffers.clear();
+            evenSnapshot.clear();
+            oddSnapshot.clear();
+        }
+    }
+
+    /**
+     * 한 월드의 셀 해시 스냅샷
+     *
+     * <p>플레이어 히트박스는 셀 순서로 정렬된 병렬 배열에 저장되고,
+     * 오픈 어드레싱 해시 테이블이 셀 키를 배열 구간(start, count)으로 매핑합니다.
+     * 배열은 rebuild마다 재사용하며 용량이 부족할 때만 늘립니다.</p>
+     */
+    static final class WorldCells {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * 마지막으로 채운 rebuild 번호
+         */
+        private int generation = Integer.MIN_VALUE;
+
+        // 입력 (추가 순서)
+        private Player[] addedPlayers = new Player[INITIAL_CAPACITY];
+        private int[] addedIds = new int[INITIAL_CAPACITY];
+        private double[][] addedBoxes = new double[6][INITIAL_CAPACITY];
+        private long[] addedKeys = new long[INITIAL_CAPACITY];
+        private int[] slotOf = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        // 셀 해시 테이블
+        private long[] tableKeys = new long[0];
+        private int[] tableStart = new int[0];
+        private int[] tableCount = new int[0];
+        private int[] tableFill = new int[0];
+        private int mask = -1;
+
+        // 셀 순서로 정렬된 히트박스
+        private Player[] players = new Player[INITIAL_CAPACITY];
+        private int[] entityIds = new int[INITIAL_CAPACITY];
+        private double[] minXs = new double[INITIAL_CAPACITY];
+        private double[] minYs = new double[INITIAL_CAPACITY];
+        private double[] minZs = new double[INITIAL_CAPACITY];
+        private double[] maxXs = new double[INITIAL_CAPACITY];
+        private double[] maxYs = new double[INITIAL_CAPACITY];
+        private double[] maxZs = new double[INITIAL_CAPACITY];
+        private int builtSize = 0;
+
+        boolean hasOtherNear(int selfId, double x, double y, double z, double radius) {
+            int minCx = cell(x - radius);
+            int maxCx = cell(x + radius);
+            int minCz = cell(z - radius);
+            int maxCz = cell(z + radius);
+            double radiusSq = radius * radius;
+
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    int slot = find(key(cx, cz));
+                    if (slot < 0) {
+                        continue;
+                    }
+
+                    int start = tableStart[slot];
+                    int end = start + tableCount[slot];
+                    for (int i = start; i < end; i++) {
+                        if (entityIds[i] == selfId) {
+                            continue;
+                        }
+                        double dx = (minXs[i] + maxXs[i]) * 0.5 - x;
+                        double dy = (minYs[i] + maxYs[i]) * 0.5 - y;
+                        double dz = (minZs[i] + maxZs[i]) * 0.5 - z;
+                        if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        Player raycast(int selfId, double ox, double oy, double oz,
+                       double dx, double dy, double dz,
+                       double maxDistance, double expand, double[] outDistance) {
+            double ex = ox + dx * maxDistance;
+            double ez = oz + dz * maxDistance;
+            int minCx = cell(Math.min(ox, ex) - BOX_MARGIN);
+            int maxCx = cell(Math.max(ox, ex) + BOX_MARGIN);
+            int minCz = cell(Math.min(oz, ez) - BOX_MARGIN);
+            int maxCz = cell(Math.max(oz, ez) + BOX_MARGIN);
+
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    int slot = find(key(cx, cz));
+                    if (slot < 0) {
+                        continue;
+                    }
+
+                    int start = tableStart[slot];
+                    int end = start + tableCount[slot];
+                    for (int i = start; i < end; i++) {
+                        if (entityIds[i] == selfId) {
+                            continue;
+                        }
+                        double t = intersect(ox, oy, oz, dx, dy, dz, maxDistance,
+                                minXs[i] - expand, minYs[i] - expand, minZs[i] - expand,
+                                maxXs[i] + expand, maxYs[i] + expand, maxZs[i] + expand);
+                        if (t < bestDistance) {
+                            bestDistance = t;
+                            best = i;
+                        }
+                    }
+                }
+            }
+
+            if (best < 0) {
+                return null;
+            }
+            outDistance[0] = bestDistance;
+            return players[best];
+        }
+
+        /**
+         * 슬랩 방식 광선/AABB 교차 판정
+         *
+         * @return 교차 시작 거리 (교차하지 않으면 양의 무한대, 시작점이 박스 안이면 0)
+         */
+        static double intersect(double ox, double oy, double oz,
+                                double dx, double dy, double dz, double maxDistance,
+                                double minX, double minY, double minZ,
+                                double maxX, double maxY, double maxZ) {
+            double tMin = 0.0;
+            double tMax = maxDistance;
+
+            // X 슬랩
+            if (Math.abs(dx) < 1.0E-12) {
+                if (ox < minX || ox > maxX) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            } else {
+                double inv = 1.0 / dx;
+                double t1 = (minX - ox) * inv;
+                double t2 = (maxX - ox) * inv;
+                tMin = Math.max(tMin, Math.min(t1, t2));
+                tMax = Math.min(tMax, Math.max(t1, t2));
+                if (tMin > tMax) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            }
+
+            // Y 슬랩
+            if (Math.abs(dy) < 1.0E-12) {
+                if (oy < minY || oy > maxY) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            } else {
+                double inv = 1.0 / dy;
+                double t1 = (minY - oy) * inv;
+                double t2 = (maxY - oy) * inv;
+                tMin = Math.max(tMin, Math.min(t1, t2));
+                tMax = Math.min(tMax, Math.max(t1, t2));
+                if (tMin > tMax) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            }
+
+            // Z 슬랩
+            if (Math.abs(dz) < 1.0E-12) {
+                if (oz < minZ || oz > maxZ) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            } else {
+                double inv = 1.0 / dz;
+                double t1 = (minZ - oz) * inv;
+                double t2 = (maxZ - oz) * inv;
+                tMin = Math.max(tMin, Math.min(t1, t2));
+                tMax = Math.min(tMax, Math.max(t1, t2));
+                if (tMin > tMax) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            }
+
+            return tMin;
+        }
+
+        private int find(long key) {
+            int slot = hash(key) & mask;
+            while (true) {
+                long existing = tableKeys[slot];
+                if (existing == key) {
+                    return slot;
+                }
+                if (existing == EMPTY_KEY) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private static int cell(double coordinate) {
+            return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+        }
+
+        private static long key(int cx, int cz) {
+            return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        void begin(int generation) {
+            this.generation = generation;
+            size = 0;
+        }
+
+        void add(Player player, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            if (size == addedIds.length) {
+                int capacity = size * 2;
+                addedPlayers = Arrays.copyOf(addedPlayers, capacity);
+                addedIds = Arrays.copyOf(addedIds, capacity);
+                for (int axis = 0; axis < 6; axis++) {
+                    addedBoxes[axis] = Arrays.copyOf(addedBoxes[axis], capacity);
+                }
+                addedKeys = Arrays.copyOf(addedKeys, capacity);
+                slotOf = new int[capacity];
+            }
+            addedPlayers[size] = player;
+            addedIds[size] = player.getEntityId();
+            addedBoxes[0][size] = minX;
+            addedBoxes[1][size] = minY;
+            addedBoxes[2][size] = minZ;
+            addedBoxes[3][size] = maxX;
+            addedBoxes[4][size] = maxY;
+            addedBoxes[5][size] = maxZ;
+            addedKeys[size] = key(cell((minX + maxX) * 0.5), cell((minZ + maxZ) * 0.5));
+            size++;
+        }
+
+        void build() {
+            int capacity = Integer.highestOneBit(Math.max(4, size * 2) - 1) << 1;
+            if (tableKeys.length < capacity) {
+                tableKeys = new long[capacity];
+                tableStart = new int[capacity];
+                tableCount = new int[capacity];
+                tableFill = new int[capacity];
+            } else {
+                capacity = tableKeys.length;
+                Arrays.fill(tableCount, 0);
+                Arrays.fill(tableFill, 0);
+            }
+            Arrays.fill(tableKeys, EMPTY_KEY);
+            mask = capacity - 1;
+
+            // 1) 셀별 플레이어 수 집계
+            for (int i = 0; i < size; i++) {
+                int slot = hash(addedKeys[i]) & mask;
+                while (tableKeys[slot] != EMPTY_KEY && tableKeys[slot] != addedKeys[i]) {
+                    slot = (slot + 1) & mask;
+                }
+                tableKeys[slot] = addedKeys[i];
+                tableCount[slot]++;
+                slotOf[i] = slot;
+            }
+
+            // 2) 셀별 배열 구간 시작 위치 계산
+            int offset = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                tableStart[slot] = offset;
+                offset += tableCount[slot];
+            }
+
+            // 3) 셀 순서대로 히트박스 배치
+            if (players.length < size) {
+                int length = addedIds.length;
+                players = new Player[length];
+                entityIds = new int[length];
+                minXs = new double[length];
+                minYs = new double[length];
+                minZs = new double[length];
+                maxXs = new double[length];
+                maxYs = new double[length];
+                maxZs = new double[length];
+                builtSize = 0;
+            }
+            double[][] boxes = addedBoxes;
+            for (int i = 0; i < size; i++) {
+                int slot = slotOf[i];
+                int target = tableStart[slot] + tableFill[slot]++;
+                players[target] = addedPlayers[i];
+                entityIds[target] = addedIds[i];
+                minXs[target] = boxes[0][i];
+                minYs[target] = boxes[1][i];
+                minZs[target] = boxes[2][i];
+                maxXs[target] = boxes[3][i];
+                maxYs[target] = boxes[4][i];
+                maxZs[target] = boxes[5][i];
+            }
+
+            // 나간 플레이어를 붙잡지 않도록 참조 정리
+            Arrays.fill(addedPlayers, 0, size, null);
+            if (builtSize > size) {
+                Arrays.fill(players, size, builtSize, null);
+            }
+            builtSize = size;
+        }
+    }
+}
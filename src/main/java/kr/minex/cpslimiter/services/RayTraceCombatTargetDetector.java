@@ -14,6 +14,7 @@ import kr.minex.cpslimiter.models.CombatTarget;
 import kr.minex.cpslimiter.models.TargetMode;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 /**
@@ -22,45 +23,67 @@ import java.util.function.Predicate;
  * <p>핵심 목표:
  * - 채굴(좌클릭 블록) 시, 블록 뒤에 있는 엔티티가 감지되어 CPS가 누적되는 오탐을 차단
  * - PVP 전용(PLAYER_ONLY) 모드 지원</p>
+ *
+ * <p>PLAYER_ONLY 모드에서 {@link PlayerSpatialIndex}가 주어지면, 공격 범위 안에 다른 플레이어가
+ * 없는 경우 레이트레이스 자체를 생략합니다. (LIVING_ENTITY 모드는 몹이 인덱스에 없으므로 항상 수행)</p>
  */
 public class RayTraceCombatTargetDetector implements CombatTargetDetector {
 
     /**
      * 마인크래프트 기본 공격 범위는 약 3블록이며, 서버 환경(핑/히트박스)에 여유를 두어 4블록 사용
      */
-    private static final double ATTACK_RANGE = 4.0;
+    static final double ATTACK_RANGE = 4.0;
 
     /**
      * 레이트레이스 두께(여유)
      */
-    private static final double RAY_SIZE = 0.1;
+    static final double RAY_SIZE = 0.1;
 
     private final CPSLimiter plugin;
     private final ConfigManager configManager;
 
+    /**
+     * 레이트레이스 사전 필터 (없으면 항상 레이트레이스 수행)
+     */
+    private final PlayerSpatialIndex spatialIndex;
+
+    /**
+     * 감지 요청 수
+     */
+    private final LongAdder detectCount = new LongAdder();
+
+    /**
+     * 사전 필터로 레이트레이스를 생략한 횟수
+     */
+    private final LongAdder skippedTraceCount = new LongAdder();
+
     public RayTraceCombatTargetDetector(CPSLimiter plugin, ConfigManager configManager) {
+        this(plugin, configManager, null);
+    }
+
+    public RayTraceCombatTargetDetector(CPSLimiter plugin, ConfigManager configManager, PlayerSpatialIndex spatialIndex) {
         this.plugin = plugin;
         this.configManager = configManager;
+        this.spatialIndex = spatialIndex;
     }
 
     @Override
-    public Optional<CombatTarget> detect(Player player) {
+    public Optional<CombatTarget> findTarget(Player player) {
+        detectCount.increment();
         try {
             Location eye = player.getEyeLocation();
-            Vector direction = eye.getDirection();
+            TargetMode targetMode = configManager.getTargetMode();
 
-            // 1) 블록 레이트레이스: 채굴/상호작용으로 인해 시선 앞에 블록이 먼저 맞는 경우를 감지
-            RayTraceResult blockResult = player.getWorld().rayTraceBlocks(
-                    eye,
-                    direction,
-                    ATTACK_RANGE,
-                    FluidCollisionMode.NEVER,
-                    true
-            );
+            // 0) 사전 필터: 주변에 후보 플레이어가 없으면 레이트레이스 생략 (채굴/건축 중 팔 휘두름)
+            if (spatialIndex != null && targetMode == TargetMode.PLAYER_ONLY
+                    && !spatialIndex.hasOtherPlayerNear(player, eye.getX(), eye.getY(), eye.getZ(), ATTACK_RANGE)) {
+                skippedTraceCount.increment();
+                return Optional.empty();
+            }
 
-            // 2) 엔티티 레이트레이스: 실제 공격 대상으로 보이는 엔티티를 감지
-            TargetMode targetMode = configManager.getTargetMode();
+            // 1) 엔티티 레이트레이스: 실제 공격 대상으로 보이는 엔티티를 감지
             Predicate<Entity> filter = createEntityFilter(player, targetMode);
+            Vector direction = eye.getDirection();
 
             RayTraceResult entityResult = player.getWorld().rayTraceEntities(
                     eye,
@@ -74,31 +97,76 @@ public class RayTraceCombatTargetDetector implements CombatTargetDetector {
                 return Optional.empty();
             }
 
-            // 3) 블록이 엔티티보다 가깝게 맞으면(=블록 캐기) 전투 클릭으로 카운트하지 않음
-            double entityDistance = distance(eye, entityResult);
-            if (isBlockedBySolidBlock(blockResult, entityDistance, eye)) {
-                return Optional.empty();
-            }
-
-            return Optional.of(new CombatTarget(entityResult.getHitEntity(), entityDistance));
+            // 블록 가림 판정에서 같은 시선을 재사용하도록 함께 전달
+            return Optional.of(new CombatTarget(entityResult.getHitEntity(), distance(eye, entityResult), eye, direction));
         } catch (Throwable t) {
             // 레이트레이스는 서버/버전/플러그인 충돌에 의해 예외가 날 수 있으므로 방어적으로 처리
-            if (configManager.isDebugMode()) {
-                plugin.getLogger().warning("[DEBUG] 전투 타겟 레이트레이스 실패: " + t.getClass().getSimpleName() + ": " + t.getMessage());
-            }
+            logFailure(t);
             return Optional.empty();
         }
     }
 
-    private static double distance(Location eye, RayTraceResult result) {
+    @Override
+    public boolean isOccluded(Player player, CombatTarget target) {
+        try {
+            // 엔티티 탐색에서 계산한 시선 재사용 (다른 감지기가 만든 타겟이면 새로 계산)
+            Location eye = target.eye() != null ? target.eye() : player.getEyeLocation();
+            Vector direction = target.direction() != null ? target.direction() : eye.getDirection();
+
+            // 2) 블록 레이트레이스: 채굴/상호작용으로 인해 시선 앞에 블록이 먼저 맞는 경우를 감지
+            //    엔티티가 발견된 경우에만 수행됩니다.
+            RayTraceResult blockResult = player.getWorld().rayTraceBlocks(
+                    eye,
+                    direction,
+                    ATTACK_RANGE,
+                    FluidCollisionMode.NEVER,
+                    true
+            );
+
+            // 3) 블록이 엔티티보다 가깝게 맞으면(=블록 캐기) 전투 클릭으로 카운트하지 않음
+            return isBlockedBySolidBlock(blockResult, target.distance(), eye);
+        } catch (Throwable t) {
+            logFailure(t);
+            return true;
+        }
+    }
+
+    private void logFailure(Throwable t) {
+        if (configManager.isDebugMode()) {
+            plugin.getLogger().warning("[DEBUG] 전투 타겟 레이트레이스 실패: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+        }
+    }
+
+    /**
+     * 감지 요청 수를 반환합니다.
+     *
+     * @return 감지 요청 수
+     */
+    public long getDetectCount() {
+        return detectCount.sum();
+    }
+
+    /**
+     * 사전 필터로 레이트레이스를 생략한 횟수를 반환합니다.
+     *
+     * @return 생략 횟수
+     */
+    public long getSkippedTraceCount() {
+        return skippedTraceCount.sum();
+    }
+
+    static double distance(Location eye, RayTraceResult result) {
         Vector hit = result.getHitPosition();
         if (hit == null) {
             return Double.POSITIVE_INFINITY;
         }
-        return eye.toVector().distance(hit);
+        double dx = hit.getX() - eye.getX();
+        double dy = hit.getY() - eye.getY();
+        double dz = hit.getZ() - eye.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
-    private static boolean isBlockedBySolidBlock(RayTraceResult blockResult, double entityDistance, Location eye) {
+    static boolean isBlockedBySolidBlock(RayTraceResult blockResult, double entityDistance, Location eye) {
         if (blockResult == null) {
             return false;
         }
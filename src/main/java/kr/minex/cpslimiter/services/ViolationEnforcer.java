@@ -0,0 +1,303 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.jfr.ViolationEnforcementEvent;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.managers.MessageManager;
+import kr.minex.cpslimiter.managers.ViolationLogger;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 틱 단위 일괄 위반 처리기
+ *
+ * <p>클릭 이벤트 처리 중에는 위반을 대기열에 모으기만 하고, 디버프/채팅/타이틀 전송과
+ * 위반 로그 기록은 다음 틱 시작 시(= 이번 틱의 패킷 처리 이후) 한 번에 처리합니다.
+ * 같은 틱 안에서 같은 플레이어의 위반이 여러 번 발생하면 하나로 병합하여
+ * 패킷이 한 번만 전송됩니다. (최고 CPS와 그 위반의 타겟 기준)</p>
+ *
+ * <p>처리 태스크는 위반이 있는 틱에만 예약되므로, 위반이 없을 때는 비용이 없습니다.
+ * JFR 기록 중에는 위반마다 {@link ViolationEnforcementEvent}를 남깁니다.</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public class ViolationEnforcer {
+
+    private final CPSLimiter plugin;
+    private final ConfigManager configManager;
+    private final MessageManager messageManager;
+    private final ViolationLogger violationLogger;
+    private final MetricsRegistry metrics;
+
+    /**
+     * 이번 틱에 대기 중인 위반 (플레이어 UUID -> 병합된 위반)
+     */
+    private final Map<UUID, PendingViolation> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 처리 태스크가 이미 예약되었는지 여부 (틱당 1회만 예약)
+     */
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    // 통계
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder mergedCount = new LongAdder();
+    private final LongAdder enforcedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private volatile int lastBatchSize = 0;
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    /**
+     * 병합된 위반 정보
+     *
+     * @param player 위반 플레이어
+     * @param cps 이번 틱 최고 CPS
+     * @param target 최고 CPS 위반의 전투 타겟
+     */
+    private record PendingViolation(Player player, int cps, CombatTarget target) {
+
+        /**
+         * CPS가 가장 높은 위반을 남깁니다. (같으면 먼저 들어온 위반)
+         * 로그의 CPS와 타겟이 서로 다른 위반에서 오지 않도록 위반 단위로 선택합니다.
+         */
+        PendingViolation merge(PendingViolation next) {
+            return next.cps > cps ? next : this;
+        }
+    }
+
+    /**
+     * ViolationEnforcer 생성자
+     *
+     * @param plugin 플러그인 인스턴스
+     * @param configManager 설정 관리자
+     * @param messageManager 메시지 관리자
+     * @param violationLogger 위반 로거
+     * @param metrics 지표 저장소 (디버프 적용 횟수)
+     */
+    public ViolationEnforcer(CPSLimiter plugin,
+                             ConfigManager configManager,
+                             MessageManager messageManager,
+                             ViolationLogger violationLogger,
+                             MetricsRegistry metrics) {
+        this.plugin = plugin;
+        this.configManager = configManager;
+        this.messageManager = messageManager;
+        this.violationLogger = violationLogger;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 위반을 대기열에 추가합니다.
+     * 같은 틱에 이미 대기 중인 위반이 있으면 병합합니다.
+     *
+     * @param player 위반 플레이어
+     * @param cps 현재 CPS
+     * @param combatTarget 전투 타겟
+     */
+    public void submit(Player player, int cps, CombatTarget combatTarget) {
+        submittedCount.increment();
+        PendingViolation violation = new PendingViolation(player, cps, combatTarget);
+        if (pending.merge(player.getUniqueId(), violation, PendingViolation::merge) != violation) {
+            mergedCount.increment();
+        }
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            plugin.getSchedulerAdapter().runGlobal(this::drain);
+        }
+    }
+
+    /**
+     * 대기 중인 위반을 한 번에 처리합니다.
+     */
+    void drain() {
+        // 처리 도중 들어오는 위반은 다음 틱에 처리되도록 먼저 예약 상태를 해제
+        drainScheduled.set(false);
+
+        // 설정 스냅샷은 배치당 한 번만 읽음
+        ConfigSnapshot config = configManager.getSnapshot();
+        int batchSize = 0;
+        Iterator<PendingViolation> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PendingViolation violation = iterator.next();
+            iterator.remove();
+            batchSize++;
+            enforce(violation, config);
+        }
+
+        if (batchSize == 0) {
+            return;
+        }
+        batchCount.increment();
+        enforcedCount.add(batchSize);
+        lastBatchSize = batchSize;
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+    }
+
+    /**
+     * 플러그인 비활성화 시 아직 처리되지 않은 위반을 정리합니다.
+     *
+     * <p>비활성화 중에는 작업을 예약할 수 없으므로 디버프/경고는 적용하지 않고,
+     * 위반 로그에만 기록한 뒤 콘솔에 건수를 남깁니다. 위반 로거를 종료하기 전에 호출해야 합니다.</p>
+     *
+     * @return 정리한 위반 수
+     */
+    public int shutdown() {
+        int flushed = 0;
+        Iterator<PendingViolation> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PendingViolation violation = iterator.next();
+            iterator.remove();
+            violationLogger.log(violation.player(), violation.cps(), violation.target());
+            flushed++;
+        }
+        if (flushed > 0) {
+            plugin.getLogger().info("처리되지 않은 위반 " + flushed + "건을 로그에만 기록했습니다. (디버프 미적용)");
+        }
+        return flushed;
+    }
+
+    /**
+     * 병합된 위반 하나를 적용합니다.
+     */
+    private void enforce(PendingViolation violation, ConfigSnapshot config) {
+        Player player = violation.player();
+        if (!player.isOnline()) {
+            return;
+        }
+        int cps = violation.cps();
+        int threshold = config.getCPSThreshold();
+        CombatTarget combatTarget = violation.target();
+
+        // 디버프/경고는 플레이어를 소유한 스레드에서 적용 (Folia: 엔티티 스케줄러)
+        plugin.getSchedulerAdapter().runForEntity(player, () -> {
+            ViolationEnforcementEvent event = new ViolationEnforcementEvent();
+            boolean traced = event.isEnabled();
+            event.begin();
+
+            // 디버프 효과 적용
+            int effectsApplied = applyDebuffs(player, config);
+
+            // 채팅 경고 메시지
+            long notifyStart = traced ? System.nanoTime() : 0L;
+            if (config.isChatNotificationEnabled()) {
+                messageManager.send(player, "warning.chat", "{cps}", cps, "{threshold}", threshold);
+            }
+
+            // 타이틀 경고 메시지
+            if (config.isTitleNotificationEnabled()) {
+                messageManager.sendTitle(player,
+                        "warning.title.main",
+                        "warning.title.subtitle",
+                        config.getTitleFadeIn(),
+                        config.getTitleStay(),
+                        config.getTitleFadeOut(),
+                        "{cps}", cps, "{threshold}", threshold
+                );
+            }
+            long notifyNanos = traced ? System.nanoTime() - notifyStart : 0L;
+
+            // 위반 로그 기록 (운영/분석용으로 타겟/위치 정보 포함, 위치는 소유 스레드에서 읽음)
+            violationLogger.log(player, cps, combatTarget);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit(player.getName(), cps, effectsApplied, notifyNanos);
+            }
+        });
+
+        // 디버그 로그
+        if (config.isDebugMode()) {
+            plugin.getLogger().info("[DEBUG] " + player.getName() + " 디버프 적용됨 (CPS: " + cps + ")"
+                    + " / 타겟=" + combatTarget.entity().getType()
+                    + "(" + combatTarget.entity().getUniqueId() + ")"
+                    + " / 거리=" + String.format("%.2f", combatTarget.distance()));
+        }
+    }
+
+    /**
+     * 디버프 효과를 플레이어에게 적용합니다.
+     * 설정 로드 시 미리 만들어 둔 효과를 재사용하므로 할당이 없습니다.
+     *
+     * @param player 대상 플레이어
+     * @param config 설정 스냅샷
+     * @return 적용한 효과 수
+     */
+    private int applyDebuffs(Player player, ConfigSnapshot config) {
+        PotionEffect[] effects = config.getDebuffEffects();
+        if (effects.length == 0) {
+            return 0;
+        }
+        for (PotionEffect effect : effects) {
+            // 기존 효과가 있으면 덮어쓰기
+            player.addPotionEffect(effect, true);
+        }
+        metrics.recordDebuff();
+        return effects.length;
+    }
+
+    /**
+     * 대기열에 추가된 전체 위반 수를 반환합니다.
+     *
+     * @return 추가된 위반 수
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * 같은 틱의 기존 위반에 병합된 위반 수를 반환합니다.
+     *
+     * @return 병합된 위반 수
+     */
+    public long getMergedCount() {
+        return mergedCount.sum();
+    }
+
+    /**
+     * 실제로 처리된(병합 후) 위반 수를 반환합니다.
+     *
+     * @return 처리된 위반 수
+     */
+    public long getEnforcedCount() {
+        return enforcedCount.sum();
+    }
+
+    /**
+     * 위반을 처리한 틱(배치) 수를 반환합니다.
+     *
+     * @return 배치 수
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * 마지막 배치의 크기를 반환합니다.
+     *
+     * @return 마지막 배치 크기
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * 가장 컸던 배치의 크기를 반환합니다.
+     *
+     * @return 최대 배치 크기
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+}
@@ -0,0 +1,384 @@
+package kr.minex.cpslimiter.tools;
+
+import kr.minex.cpslimiter.logging.ViolationLineParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 위반 로그(텍스트 형식) 오프라인 분석 도구
+ *
+ * <p>서버 밖에서 플러그인 jar로 실행합니다.</p>
+ * <pre>
+ * java -cp CPSLimiter.jar kr.minex.cpslimiter.tools.ViolationLogAnalyzer [옵션] &lt;파일 또는 폴더&gt;...
+ *
+ *   --threads N    병렬 스레드 수 (기본: CPU 코어 수)
+ *   --top N        출력할 상위 플레이어 수 (기본: 20)
+ *   --chunk-mb N   파일을 나누는 조각 크기 (MB, 기본: 64)
+ * </pre>
+ *
+ * <p>폴더를 주면 그 안의 {@code *.log}와 교체된 {@code *.log.gz}를 모두 읽습니다.
+ * 일반 파일은 조각 크기 이하가 될 때까지 바이트 범위를 반으로 나누어 Fork/Join으로 병렬 처리하고,
+ * gzip 파일은 중간부터 읽을 수 없으므로 파일 하나를 한 작업으로 스트리밍합니다.
+ * 어느 쪽이든 고정 크기 버퍼로 읽으므로 파일 전체를 메모리에 올리지 않습니다.</p>
+ *
+ * <p>조각 경계는 줄 단위로 맞춥니다. 각 조각은 시작 위치 바로 앞 바이트부터 읽어 첫 줄바꿈까지 버리고,
+ * 시작 위치가 조각 끝보다 앞인 줄까지 처리합니다. (끝에 걸친 줄은 조각 밖까지 읽어 끝냄)
+ * 따라서 모든 줄은 정확히 한 조각에서만 처리됩니다.</p>
+ *
+ * <p>줄 형식은 {@link ViolationLineParser}가 읽습니다. (플러그인이 쓰는 형식과 같은 구분자 사용)</p>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationLogAnalyzer {
+
+    private static final int DEFAULT_TOP = 20;
+    private static final long DEFAULT_CHUNK_BYTES = 64L * 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+
+    private ViolationLogAnalyzer() {
+    }
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int top = DEFAULT_TOP;
+        long chunkBytes = DEFAULT_CHUNK_BYTES;
+        List<Path> inputs = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads" -> threads = Math.max(1, Integer.parseInt(args[++i]));
+                    case "--top" -> top = Math.max(1, Integer.parseInt(args[++i]));
+                    case "--chunk-mb" -> chunkBytes = Math.max(1L, Long.parseLong(args[++i])) * 1024 * 1024;
+                    default -> inputs.add(Paths.get(args[i]));
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            inputs.clear();
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("사용법: java -cp CPSLimiter.jar " + ViolationLogAnalyzer.class.getName()
+                    + " [--threads N] [--top N] [--chunk-mb N] <파일 또는 폴더>...");
+            System.exit(2);
+            return;
+        }
+
+        try {
+            List<Path> files = collectFiles(inputs);
+            long startNanos = System.nanoTime();
+            ViolationLogSummary summary = analyze(files, threads, chunkBytes);
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+            printReport(System.out, summary, files.size(), top, elapsedMillis);
+        } catch (IOException e) {
+            System.err.println("로그를 읽을 수 없습니다: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 입력 경로에서 분석할 로그 파일을 찾습니다. (폴더는 한 단계만, 이름 순)
+     *
+     * @param inputs 파일 또는 폴더
+     * @return 로그 파일 목록
+     * @throws IOException 폴더를 읽을 수 없거나 경로가 없는 경우
+     */
+    public static List<Path> collectFiles(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> children = Files.list(input)) {
+                    children.filter(Files::isRegularFile)
+                            .filter(ViolationLogAnalyzer::isLogFile)
+                            .sorted()
+                            .forEach(files::add);
+                }
+            } else if (Files.isRegularFile(input)) {
+                files.add(input);
+            } else {
+                throw new IOException("파일을 찾을 수 없습니다: " + input);
+            }
+        }
+        return files;
+    }
+
+    private static boolean isLogFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(".log") || name.endsWith(".log.gz");
+    }
+
+    /**
+     * 로그 파일들을 병렬로 분석합니다.
+     *
+     * @param files 로그 파일 (이름이 .gz로 끝나면 gzip으로 읽음)
+     * @param threads 병렬 스레드 수
+     * @param chunkBytes 일반 파일을 나누는 조각 크기 (바이트)
+     * @return 전체 분석 결과
+     * @throws IOException 읽기 실패 시
+     */
+    public static ViolationLogSummary analyze(List<Path> files, int threads, long chunkBytes) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            return pool.invoke(new FilesTask(files, Math.max(1L, chunkBytes)));
+        } catch (UncheckedIOException e) {
+            // 작업 스레드에서 던진 예외는 Fork/Join이 다시 감쌀 수 있으므로 원래 IOException을 찾음
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException ioException) {
+                    throw ioException;
+                }
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 분석 결과를 출력합니다.
+     */
+    static void printReport(PrintStream out, ViolationLogSummary summary, int fileCount, int top, long elapsedMillis) {
+        out.printf(Locale.ROOT, "파일 %d개, %d줄 (형식 오류 %d줄), 위반 %d건, %d ms%n",
+                fileCount, summary.getLineCount(), summary.getMalformedCount(),
+                summary.getViolationCount(), elapsedMillis);
+
+        out.println();
+        out.println("== 플레이어 (위반 수 상위 " + top + ") ==");
+        for (ViolationLogSummary.PlayerEntry entry : summary.topPlayers(top)) {
+            out.printf(Locale.ROOT, "%-16s %s %10d  최고 CPS %4d  평균 CPS %6.2f%n",
+                    entry.getName(), entry.getPlayerId(), entry.getCount(),
+                    entry.getMaxCps(), entry.getAverageCps());
+        }
+
+        out.println();
+        out.println("== 시간대별 ==");
+        for (Map.Entry<Integer, Long> entry : summary.hourlyCounts().entrySet()) {
+            int key = entry.getKey();
+            out.printf(Locale.ROOT, "%04d-%02d-%02d %02d:00  %10d%n",
+                    key / 1_000_000, key / 10_000 % 100, key / 100 % 100, key % 100, entry.getValue());
+        }
+
+        out.println();
+        out.println("== 타겟 타입별 ==");
+        for (ViolationLogSummary.TargetEntry entry : summary.targetTypes()) {
+            double distance = entry.getAverageDistance();
+            out.printf(Locale.ROOT, "%-20s %10d  평균 거리 %s%n", entry.getType(), entry.getCount(),
+                    Double.isNaN(distance) ? "-" : String.format(Locale.ROOT, "%.2f", distance));
+        }
+
+        out.println();
+        out.println("== CPS 분포 ==");
+        out.printf(Locale.ROOT, "p50 %d  p90 %d  p99 %d  p99.9 %d  최고 %d%n",
+                summary.cpsPercentile(0.50), summary.cpsPercentile(0.90), summary.cpsPercentile(0.99),
+                summary.cpsPercentile(0.999), summary.getMaxCps());
+        for (int cps = 0; cps < ViolationLogSummary.CPS_BUCKETS; cps++) {
+            long count = summary.cpsCount(cps);
+            if (count > 0) {
+                String label = cps == ViolationLogSummary.CPS_BUCKETS - 1 ? cps + "+" : String.valueOf(cps);
+                out.printf(Locale.ROOT, "%5s %10d%n", label, count);
+            }
+        }
+    }
+
+    /**
+     * 파일 목록 전체 작업 (파일마다 하위 작업을 나누어 실행)
+     */
+    private static final class FilesTask extends RecursiveTask<ViolationLogSummary> {
+        private final List<Path> files;
+        private final long chunkBytes;
+
+        FilesTask(List<Path> files, long chunkBytes) {
+            this.files = files;
+            this.chunkBytes = chunkBytes;
+        }
+
+        @Override
+        protected ViolationLogSummary compute() {
+            List<FileTask> tasks = new ArrayList<>(files.size());
+            for (Path file : files) {
+                tasks.add(new FileTask(file, chunkBytes));
+            }
+            invokeAll(tasks);
+
+            ViolationLogSummary result = new ViolationLogSummary();
+            for (FileTask task : tasks) {
+                result.merge(task.join());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 파일 하나 (gzip은 스트리밍, 일반 파일은 범위로 나눔)
+     */
+    private static final class FileTask extends RecursiveTask<ViolationLogSummary> {
+        private final Path file;
+        private final long chunkBytes;
+
+        FileTask(Path file, long chunkBytes) {
+            this.file = file;
+            this.chunkBytes = chunkBytes;
+        }
+
+        @Override
+        protected ViolationLogSummary compute() {
+            try {
+                if (file.getFileName().toString().endsWith(".gz")) {
+                    try (InputStream in = new GZIPInputStream(Files.newInputStream(file), READ_BUFFER_SIZE)) {
+                        return scan(in::read, false, Long.MAX_VALUE);
+                    }
+                }
+                // 위치 지정 읽기는 스레드 안전하므로 채널 하나를 모든 범위 작업이 공유
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    return new RangeTask(channel, 0L, channel.size(), chunkBytes).compute();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(file + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 일반 파일의 바이트 범위 [start, end)에서 시작하는 줄
+     */
+    private static final class RangeTask extends RecursiveTask<ViolationLogSummary> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final long chunkBytes;
+
+        RangeTask(FileChannel channel, long start, long end, long chunkBytes) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.chunkBytes = chunkBytes;
+        }
+
+        @Override
+        protected ViolationLogSummary compute() {
+            if (end - start > chunkBytes) {
+                long middle = start + (end - start) / 2;
+                RangeTask left = new RangeTask(channel, start, middle, chunkBytes);
+                RangeTask right = new RangeTask(channel, middle, end, chunkBytes);
+                left.fork();
+                ViolationLogSummary result = right.compute();
+                return result.merge(left.join());
+            }
+
+            // 앞 조각의 마지막 줄은 건너뛰기 위해 한 바이트 앞부터 읽음
+            long readFrom = start == 0 ? 0L : start - 1;
+            long[] position = {readFrom};
+            try {
+                return scan((buffer, offset, length) -> {
+                    int read = channel.read(ByteBuffer.wrap(buffer, offset, length), position[0]);
+                    if (read > 0) {
+                        position[0] += read;
+                    }
+                    return read;
+                }, start > 0, end - readFrom);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 바이트 공급원 (InputStream.read와 같은 규약)
+     */
+    @FunctionalInterface
+    private interface ByteSource {
+        int read(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 줄 단위로 읽어 집계합니다.
+     *
+     * @param source 읽을 바이트
+     * @param skipFirstLine 첫 줄바꿈까지 버릴지 여부 (앞 조각에 속한 줄)
+     * @param limit 읽기 시작점 기준으로, 이 위치 이후에 시작하는 줄은 처리하지 않음
+     */
+    private static ViolationLogSummary scan(ByteSource source, boolean skipFirstLine, long limit) throws IOException {
+        ViolationLogSummary summary = new ViolationLogSummary();
+        ViolationLineParser parser = new ViolationLineParser();
+        // 작은 조각은 작은 버퍼로 시작 (긴 줄을 만나면 늘림)
+        byte[] buffer = new byte[(int) Math.min(READ_BUFFER_SIZE, Math.max(MIN_BUFFER_SIZE, limit))];
+        boolean skipping = skipFirstLine;
+        long bufferBase = 0L; // buffer[0]의 위치 (읽기 시작점 기준)
+        int filled = 0;
+
+        while (true) {
+            if (filled == buffer.length) {
+                // 버퍼보다 긴 줄
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = source.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                break;
+            }
+            int scanFrom = filled;
+            filled += read;
+
+            int lineStart = 0;
+            for (int i = scanFrom; i < filled; i++) {
+                if (buffer[i] != '\n') {
+                    continue;
+                }
+                if (skipping) {
+                    skipping = false;
+                } else {
+                    if (bufferBase + lineStart >= limit) {
+                        return summary;
+                    }
+                    accept(parser, summary, buffer, lineStart, i - lineStart);
+                }
+                lineStart = i + 1;
+            }
+
+            // 끝나지 않은 줄을 버퍼 앞으로 옮김
+            if (lineStart > 0) {
+                System.arraycopy(buffer, lineStart, buffer, 0, filled - lineStart);
+                filled -= lineStart;
+                bufferBase += lineStart;
+            }
+            if (!skipping && bufferBase >= limit) {
+                return summary;
+            }
+        }
+
+        // 줄바꿈 없이 끝나는 마지막 줄
+        if (filled > 0 && !skipping && bufferBase < limit) {
+            accept(parser, summary, buffer, 0, filled);
+        }
+        return summary;
+    }
+
+    private static void accept(ViolationLineParser parser, ViolationLogSummary summary,
+                               byte[] buffer, int offset, int length) {
+        if (length == 0 || (length == 1 && buffer[offset] == '\r')) {
+            return;
+        }
+        if (parser.parse(buffer, offset, length)) {
+            summary.add(parser);
+        } else {
+            summary.addMalformed();
+        }
+    }
+}
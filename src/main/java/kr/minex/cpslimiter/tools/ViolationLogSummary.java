@@ -0,0 +1,303 @@
+package kr.minex.cpslimiter.tools;
+
+import kr.minex.cpslimiter.logging.ViolationLineParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 위반 로그 분석 결과
+ *
+ * <p>파일 조각마다 하나씩 만들어 채운 뒤 {@link #merge}로 합칩니다.
+ * 한 객체는 한 스레드에서만 채우며, 합치는 동안에도 다른 스레드와 공유하지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>플레이어별: 위반 수, 최고/평균 CPS</li>
+ *     <li>시간대별: 위반 수 (yyyyMMddHH)</li>
+ *     <li>타겟 타입별: 위반 수, 평균 거리 (타겟 없음은 {@link #NO_TARGET})</li>
+ *     <li>CPS 분포: CPS 값별 위반 수 ({@link #CPS_BUCKETS} - 1 이상은 마지막 칸)</li>
+ * </ul>
+ *
+ * @author minex
+ * @since 1.0.0
+ */
+public final class ViolationLogSummary {
+
+    /**
+     * 타겟 정보가 없는 위반의 타겟 타입 이름
+     */
+    public static final String NO_TARGET = "(none)";
+
+    /**
+     * CPS 분포 칸 수 (CPS 0 ~ 254는 값 그대로, 255 이상은 마지막 칸)
+     */
+    public static final int CPS_BUCKETS = 256;
+
+    private long lineCount;
+    private long malformedCount;
+
+    private final Map<UUID, PlayerEntry> players = new HashMap<>();
+    private final Map<Integer, long[]> hours = new HashMap<>();
+    private final Map<String, TargetEntry> targets = new HashMap<>();
+    private final long[] cpsHistogram = new long[CPS_BUCKETS];
+    private int maxCps;
+
+    /**
+     * 파싱에 성공한 줄을 더합니다.
+     *
+     * @param parser 방금 한 줄을 파싱한 파서
+     */
+    public void add(ViolationLineParser parser) {
+        lineCount++;
+        int cps = parser.cps();
+
+        UUID playerId = new UUID(parser.playerMostBits(), parser.playerLeastBits());
+        PlayerEntry player = players.get(playerId);
+        if (player == null) {
+            player = new PlayerEntry(playerId, parser.playerName());
+            players.put(playerId, player);
+        }
+        player.count++;
+        player.sumCps += cps;
+        player.maxCps = Math.max(player.maxCps, cps);
+
+        hours.computeIfAbsent(parser.hourKey(), key -> new long[1])[0]++;
+
+        String type = parser.hasTarget() ? parser.targetType() : NO_TARGET;
+        TargetEntry target = targets.get(type);
+        if (target == null) {
+            target = new TargetEntry(type);
+            targets.put(type, target);
+        }
+        target.count++;
+        if (parser.hasTarget()) {
+            target.distanceCount++;
+            target.sumDistance += parser.distance();
+        }
+
+        cpsHistogram[Math.min(Math.max(cps, 0), CPS_BUCKETS - 1)]++;
+        maxCps = Math.max(maxCps, cps);
+    }
+
+    /**
+     * 형식이 맞지 않는 줄을 셉니다.
+     */
+    public void addMalformed() {
+        lineCount++;
+        malformedCount++;
+    }
+
+    /**
+     * 다른 결과를 이 객체에 합칩니다.
+     *
+     * @param other 합칠 결과 (이후 사용하지 않아야 함)
+     * @return this
+     */
+    public ViolationLogSummary merge(ViolationLogSummary other) {
+        lineCount += other.lineCount;
+        malformedCount += other.malformedCount;
+        for (PlayerEntry entry : other.players.values()) {
+            PlayerEntry mine = players.putIfAbsent(entry.playerId, entry);
+            if (mine != null) {
+                mine.count += entry.count;
+                mine.sumCps += entry.sumCps;
+                mine.maxCps = Math.max(mine.maxCps, entry.maxCps);
+            }
+        }
+        for (Map.Entry<Integer, long[]> entry : other.hours.entrySet()) {
+            long[] mine = hours.putIfAbsent(entry.getKey(), entry.getValue());
+            if (mine != null) {
+                mine[0] += entry.getValue()[0];
+            }
+        }
+        for (TargetEntry entry : other.targets.values()) {
+            TargetEntry mine = targets.putIfAbsent(entry.type, entry);
+            if (mine != null) {
+                mine.count += entry.count;
+                mine.distanceCount += entry.distanceCount;
+                mine.sumDistance += entry.sumDistance;
+            }
+        }
+        for (int i = 0; i < CPS_BUCKETS; i++) {
+            cpsHistogram[i] += other.cpsHistogram[i];
+        }
+        maxCps = Math.max(maxCps, other.maxCps);
+        return this;
+    }
+
+    /**
+     * 읽은 줄 수 (빈 줄 제외, 형식 오류 포함)
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * 형식이 맞지 않아 건너뛴 줄 수
+     */
+    public long getMalformedCount() {
+        return malformedCount;
+    }
+
+    /**
+     * 집계된 위반 수
+     */
+    public long getViolationCount() {
+        return lineCount - malformedCount;
+    }
+
+    /**
+     * 기록된 최고 CPS
+     */
+    public int getMaxCps() {
+        return maxCps;
+    }
+
+    /**
+     * 위반 수가 많은 순으로 플레이어를 반환합니다.
+     *
+     * @param limit 최대 개수
+     * @return 플레이어 목록
+     */
+    public List<PlayerEntry> topPlayers(int limit) {
+        return top(players.values(), Comparator.comparingLong((PlayerEntry entry) -> entry.count).reversed(), limit);
+    }
+
+    /**
+     * 위반 수가 많은 순으로 타겟 타입을 반환합니다.
+     *
+     * @return 타겟 타입 목록
+     */
+    public List<TargetEntry> targetTypes() {
+        return top(targets.values(), Comparator.comparingLong((TargetEntry entry) -> entry.count).reversed(),
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * 시간대별 위반 수를 시간 순으로 반환합니다.
+     *
+     * @return yyyyMMddHH → 위반 수
+     */
+    public Map<Integer, Long> hourlyCounts() {
+        Map<Integer, Long> result = new TreeMap<>();
+        for (Map.Entry<Integer, long[]> entry : hours.entrySet()) {
+            result.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return result;
+    }
+
+    /**
+     * 위반 시 CPS 분포에서 백분위 값을 반환합니다.
+     *
+     * @param quantile 0.0 ~ 1.0 (예: 0.99)
+     * @return CPS (위반이 없으면 0, 마지막 칸에 걸리면 {@link #CPS_BUCKETS} - 1)
+     */
+    public int cpsPercentile(double quantile) {
+        long total = 0;
+        for (long count : cpsHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int cps = 0; cps < CPS_BUCKETS; cps++) {
+            seen += cpsHistogram[cps];
+            if (seen >= rank) {
+                return cps;
+            }
+        }
+        return CPS_BUCKETS - 1;
+    }
+
+    /**
+     * 해당 CPS로 기록된 위반 수를 반환합니다.
+     *
+     * @param cps CPS ({@link #CPS_BUCKETS} - 1 이상은 합산된 마지막 칸)
+     * @return 위반 수
+     */
+    public long cpsCount(int cps) {
+        return cpsHistogram[Math.min(Math.max(cps, 0), CPS_BUCKETS - 1)];
+    }
+
+    private static <T> List<T> top(Iterable<T> values, Comparator<T> order, int limit) {
+        List<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        list.sort(order);
+        return list.size() > limit ? new ArrayList<>(list.subList(0, limit)) : list;
+    }
+
+    /**
+     * 플레이어별 집계
+     */
+    public static final class PlayerEntry {
+        private final UUID playerId;
+        private final String name;
+        private long count;
+        private long sumCps;
+        private int maxCps;
+
+        private PlayerEntry(UUID playerId, String name) {
+            this.playerId = playerId;
+            this.name = name;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        /**
+         * 처음 본 줄의 이름 (이름을 바꾼 플레이어는 이전 이름일 수 있음)
+         */
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public int getMaxCps() {
+            return maxCps;
+        }
+
+        public double getAverageCps() {
+            return count == 0 ? 0.0 : (double) sumCps / count;
+        }
+    }
+
+    /**
+     * 타겟 타입별 집계
+     */
+    public static final class TargetEntry {
+        private final String type;
+        private long count;
+        private long distanceCount;
+        private double sumDistance;
+
+        private TargetEntry(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 평균 거리 (타겟이 없는 항목은 NaN)
+         */
+        public double getAverageDistance() {
+            return distanceCount == 0 ? Double.NaN : sumDistance / distanceCount;
+        }
+    }
+}
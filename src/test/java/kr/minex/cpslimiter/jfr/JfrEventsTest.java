@@ -0,0 +1,82 @@
+package kr.minex.cpslimiter.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    @Test
+    @DisplayName("기록 중이 아니면 이벤트가 비활성 상태여야 한다")
+    void 비활성_테스트() {
+        DetectionEvent event = new DetectionEvent();
+        assertFalse(event.isEnabled());
+        event.begin();
+        event.end();
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    @DisplayName("기록 중에는 이벤트가 필드와 함께 기록되어야 한다")
+    void 기록_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter-events", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(DetectionEvent.class);
+            recording.enable(ClickRegistrationEvent.class);
+            recording.enable(ViolationEnforcementEvent.class);
+            recording.start();
+
+            DetectionEvent detection = new DetectionEvent();
+            detection.begin();
+            detection.end();
+            assertTrue(detection.shouldCommit());
+            detection.commit("Steve", DetectionEvent.RESULT_TARGET, "ZOMBIE");
+
+            ClickRegistrationEvent click = new ClickRegistrationEvent();
+            click.begin();
+            click.end();
+            assertTrue(click.shouldCommit());
+            click.commit("Steve", 17);
+
+            ViolationEnforcementEvent violation = new ViolationEnforcementEvent();
+            assertTrue(violation.isEnabled());
+            violation.begin();
+            violation.end();
+            violation.commit("Steve", 17, 2, 1_500L);
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        RecordedEvent detection = find(events, "kr.minex.cpslimiter.Detection");
+        assertEquals("Steve", detection.getString("player"));
+        assertEquals("TARGET", detection.getString("result"));
+        assertEquals("ZOMBIE", detection.getString("targetType"));
+
+        RecordedEvent click = find(events, "kr.minex.cpslimiter.ClickRegistration");
+        assertEquals(17, click.getInt("cps"));
+
+        RecordedEvent violation = find(events, "kr.minex.cpslimiter.ViolationEnforcement");
+        assertEquals(2, violation.getInt("effectsApplied"));
+        assertEquals(1_500L, violation.getDuration("notificationTime").toNanos());
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " 이벤트가 없습니다"));
+    }
+}
@@ -0,0 +1,107 @@
+package kr.minex.cpslimiter.listeners;
+
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.CPSManager;
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LuckPerms 권한 재계산 이벤트에 따른 바이패스 캐시 무효화를 검증합니다.
+ */
+class LuckPermsBypassHookTest {
+
+    private final EventBus eventBus = mock(EventBus.class);
+    private final Map<Class<?>, Consumer<Object>> handlers = new HashMap<>();
+    private final Map<Class<?>, EventSubscription<?>> subscriptions = new HashMap<>();
+
+    /**
+     * 구독한 이벤트 핸들러를 기록하는 LuckPerms 목
+     */
+    @SuppressWarnings("unchecked")
+    private LuckPerms luckPerms() {
+        LuckPerms luckPerms = mock(LuckPerms.class);
+        when(luckPerms.getEventBus()).thenReturn(eventBus);
+        when(eventBus.subscribe(any(), any(Class.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Class<?> type = invocation.getArgument(1);
+            handlers.put(type, invocation.getArgument(2));
+            EventSubscription<?> subscription = mock(EventSubscription.class);
+            subscriptions.put(type, subscription);
+            return subscription;
+        });
+        return luckPerms;
+    }
+
+    private static UserDataRecalculateEvent userEvent(UUID playerId) {
+        User user = mock(User.class);
+        when(user.getUniqueId()).thenReturn(playerId);
+        UserDataRecalculateEvent event = mock(UserDataRecalculateEvent.class);
+        when(event.getUser()).thenReturn(user);
+        return event;
+    }
+
+    private static void grantAll(CPSManager manager, int... slots) {
+        for (int slot : slots) {
+            assertTrue(manager.setBypass(slot, manager.getBypassStamp(slot), true));
+        }
+    }
+
+    @Test
+    @DisplayName("플레이어 권한 재계산은 해당 플레이어의 캐시만 무효화해야 한다")
+    void 플레이어_재계산_테스트() {
+        CPSManager manager = new CPSManager();
+        UUID target = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        int targetSlot = manager.acquireSlot(target);
+        int otherSlot = manager.acquireSlot(other);
+        grantAll(manager, targetSlot, otherSlot);
+
+        LuckPermsBypassHook.register(mock(CPSLimiter.class), luckPerms(), manager);
+        handlers.get(UserDataRecalculateEvent.class).accept(userEvent(target));
+
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(targetSlot));
+        assertEquals(CPSManager.BYPASS_GRANTED, manager.getBypassState(otherSlot));
+    }
+
+    @Test
+    @DisplayName("그룹 권한 재계산은 모든 플레이어의 캐시를 무효화해야 한다")
+    void 그룹_재계산_테스트() {
+        CPSManager manager = new CPSManager();
+        int first = manager.acquireSlot(UUID.randomUUID());
+        int second = manager.acquireSlot(UUID.randomUUID());
+        grantAll(manager, first, second);
+
+        LuckPermsBypassHook.register(mock(CPSLimiter.class), luckPerms(), manager);
+        handlers.get(GroupDataRecalculateEvent.class).accept(mock(GroupDataRecalculateEvent.class));
+
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(first));
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(second));
+    }
+
+    @Test
+    @DisplayName("연동 해제 시 모든 구독이 닫혀야 한다")
+    void 구독_해제_테스트() {
+        CPSLimiter plugin = mock(CPSLimiter.class);
+        LuckPermsBypassHook hook = LuckPermsBypassHook.register(plugin, luckPerms(), new CPSManager());
+        verify(eventBus).subscribe(eq(plugin), eq(UserDataRecalculateEvent.class), any());
+        verify(eventBus).subscribe(eq(plugin), eq(GroupDataRecalculateEvent.class), any());
+
+        hook.unregister();
+
+        assertEquals(2, subscriptions.size());
+        subscriptions.values().forEach(subscription -> verify(subscription).close());
+    }
+}
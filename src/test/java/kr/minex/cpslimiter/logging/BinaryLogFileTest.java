@@ -0,0 +1,164 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryLogFileTest {
+
+    private static final String[] TYPES = {"PLAYER", "ZOMBIE", "ARMOR_STAND"};
+
+    private static ViolationRecord record(int i) {
+        UUID player = new UUID(i, ~i);
+        UUID target = new UUID(i * 31L, i * 17L);
+        if (i % 3 == 0) {
+            return new ViolationRecord(1_700_000_000_000L + i, "player" + i,
+                    player.getMostSignificantBits(), player.getLeastSignificantBits(), 10 + i % 30,
+                    ViolationRecord.NO_TARGET, 0L, 0L, 0.0);
+        }
+        return new ViolationRecord(1_700_000_000_000L + i, "player" + i,
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), 10 + i % 30,
+                i % TYPES.length, target.getMostSignificantBits(), target.getLeastSignificantBits(), i / 7.0);
+    }
+
+    @Test
+    @DisplayName("매핑 구간을 넘을 만큼 기록한 뒤 다시 읽으면 같은 레코드가 같은 순서로 나와야 한다")
+    void 기록_읽기_왕복_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter", ".bin");
+        Files.delete(file);
+        try {
+            int total = BinaryLogFile.CHUNK_SIZE / BinaryLogFormat.RECORD_SIZE + 100;
+            try (BinaryLogFile log = new BinaryLogFile(file, TYPES)) {
+                for (int i = 0; i < total; i++) {
+                    log.write(record(i));
+                }
+            }
+            assertEquals(BinaryLogFormat.HEADER_SIZE + (long) total * BinaryLogFormat.RECORD_SIZE, Files.size(file));
+
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                assertEquals(total, reader.size());
+                List<ViolationRecord> records = new ArrayList<>();
+                reader.forEach(records::add);
+                assertEquals(total, records.size());
+                for (int i = 0; i < total; i++) {
+                    assertEquals(record(i), records.get(i));
+                }
+
+                // 레코드 번호로 바로 찾기
+                assertEquals(record(total - 1), reader.read(total - 1));
+                assertEquals(record(12345), reader.read(12345));
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.read(total));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("flush 전의 레코드는 레코드 수에 포함되지 않고, flush 후에는 읽을 수 있어야 한다")
+    void 레코드_수_갱신_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter", ".bin");
+        Files.delete(file);
+        try (BinaryLogFile log = new BinaryLogFile(file, TYPES)) {
+            log.write(record(1));
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                assertEquals(0, reader.size());
+            }
+            log.flush(false);
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                assertEquals(1, reader.size());
+                assertEquals(record(1), reader.read(0));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("서버의 엔티티 타입 순서가 바뀌어도 이어 쓴 레코드는 이름 기준으로 같은 타입을 가리켜야 한다")
+    void 타입_목록_이어쓰기_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter", ".bin");
+        Files.delete(file);
+        try {
+            try (BinaryLogFile log = new BinaryLogFile(file, TYPES)) {
+                log.write(record(1)); // ZOMBIE
+            }
+
+            // 새 버전 서버: 순서가 바뀌고 새 타입이 추가됨
+            String[] newer = {"BREEZE", "ZOMBIE", "PLAYER", "ARMOR_STAND"};
+            try (BinaryLogFile log = new BinaryLogFile(file, newer)) {
+                assertArrayEquals(new int[]{3, 1, 0, 2}, log.getTypeMapping());
+                ViolationRecord breeze = new ViolationRecord(1L, "p", 1L, 2L, 20, 0, 3L, 4L, 1.5);
+                log.write(breeze);
+            }
+
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                assertEquals(2, reader.size());
+                assertEquals("ZOMBIE", reader.typeName(reader.read(0).targetType()));
+                assertEquals("BREEZE", reader.typeName(reader.read(1).targetType()));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("텍스트 변환 결과는 텍스트 로그 인코더의 출력과 같아야 한다")
+    void 텍스트_변환_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter", ".bin");
+        Files.delete(file);
+        try {
+            try (BinaryLogFile log = new BinaryLogFile(file, TYPES)) {
+                for (int i = 0; i < 50; i++) {
+                    log.write(record(i));
+                }
+            }
+
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            ViolationLineEncoder encoder = new ViolationLineEncoder(TYPES);
+            for (int i = 0; i < 50; i++) {
+                int length = encoder.encode(record(i));
+                expected.write(encoder.buffer(), 0, length);
+            }
+
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                reader.writeText(actual);
+            }
+            assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("31바이트를 넘는 이름은 문자 경계에서 잘려야 하고, 바이너리 로그가 아닌 파일은 열지 않아야 한다")
+    void 이름_자르기_형식_검증_테스트() throws Exception {
+        Path file = Files.createTempFile("cpslimiter", ".bin");
+        Files.delete(file);
+        try {
+            String longName = "가나다라마바사아자차카타파하"; // 42바이트
+            try (BinaryLogFile log = new BinaryLogFile(file, TYPES)) {
+                log.write(new ViolationRecord(1L, longName, 1L, 2L, 20, ViolationRecord.NO_TARGET, 0L, 0L, 0.0));
+            }
+            try (BinaryLogReader reader = new BinaryLogReader(file)) {
+                assertEquals("가나다라마바사아자차", reader.read(0).playerName());
+            }
+
+            Files.writeString(file, "[2024-01-01 00:00:00] text log");
+            assertThrows(java.io.IOException.class, () -> new BinaryLogReader(file));
+            assertThrows(java.io.IOException.class, () -> new BinaryLogFile(file, TYPES));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseLogSinkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseLogSinkTest.class.getName());
+    private static final String[] TYPES = {"ZOMBIE", "PLAYER"};
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static ViolationRecord record(UUID player, long epochMillis, int cps, int targetType) {
+        UUID target = new UUID(7L, 8L);
+        return new ViolationRecord(epochMillis, "Steve",
+                player.getMostSignificantBits(), player.getLeastSignificantBits(),
+                cps, targetType, target.getMostSignificantBits(), target.getLeastSignificantBits(), 2.5,
+                15, "PVP", "world", 1.0, 64.0, -3.5);
+    }
+
+    @Test
+    @DisplayName("flush 전에는 커밋되지 않고, flush 후 배치 전체가 저장되어야 한다")
+    void 배치_커밋_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-db");
+        try {
+            Path file = dir.resolve("violations.db");
+            UUID player = UUID.randomUUID();
+            try (DatabaseLogSink sink = new DatabaseLogSink(file, TYPES, false, LOGGER)) {
+                for (int i = 0; i < 100; i++) {
+                    sink.write(record(player, 1_000L + i, 20 + i % 5, i % 2));
+                }
+                sink.write(record(UUID.randomUUID(), 5_000L, 30, ViolationRecord.NO_TARGET));
+                assertEquals(0, sink.getInsertedCount());
+
+                sink.flush(false);
+                assertEquals(101, sink.getInsertedCount());
+                assertEquals(0, sink.getFailedCount());
+            }
+
+            try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+                 PreparedStatement query = connection.prepareStatement(
+                         "SELECT timestamp, cps, target_type, world, x FROM violations "
+                                 + "WHERE player_uuid = ? ORDER BY timestamp DESC LIMIT 3")) {
+                query.setString(1, player.toString());
+                try (ResultSet rs = query.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(1_099L, rs.getLong("timestamp"));
+                    assertEquals(24, rs.getInt("cps"));
+                    assertEquals("PLAYER", rs.getString("target_type"));
+                    assertEquals("world", rs.getString("world"));
+                    assertEquals(1.0, rs.getDouble("x"));
+                }
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(
+                             "SELECT target_type, target_uuid, distance FROM violations WHERE timestamp = 5000")) {
+                    assertTrue(rs.next());
+                    assertNull(rs.getString("target_type"));
+                    assertNull(rs.getString("target_uuid"));
+                    assertNull(rs.getObject("distance"));
+                }
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("플레이어/시각 인덱스가 생성되고 조회에 사용되어야 한다")
+    void 인덱스_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-db");
+        try {
+            Path file = dir.resolve("violations.db");
+            new DatabaseLogSink(file, TYPES, true, LOGGER).close();
+
+            try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+                 Statement statement = connection.createStatement()) {
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT name FROM sqlite_master WHERE type = 'index' AND tbl_name = 'violations'")) {
+                    List<String> names = new ArrayList<>();
+                    while (rs.next()) {
+                        names.add(rs.getString(1));
+                    }
+                    assertTrue(names.contains("idx_violations_player_time"));
+                }
+                try (ResultSet rs = statement.executeQuery(
+                        "EXPLAIN QUERY PLAN SELECT * FROM violations WHERE player_uuid = 'x' ORDER BY timestamp DESC")) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString("detail"));
+                    }
+                    assertTrue(plan.toString().contains("idx_violations_player_time"), plan.toString());
+                }
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogQueueTest {
+
+    @Test
+    @DisplayName("링 버퍼 용량은 2의 거듭제곱으로 올림되고, 가득 차면 추가에 실패해야 한다")
+    void 링_버퍼_용량_테스트() {
+        MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(100);
+        assertEquals(128, ring.capacity());
+
+        for (int i = 0; i < 128; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(128));
+        assertEquals(128, ring.size());
+
+        // FIFO 순서 유지, 꺼낸 만큼 다시 추가 가능
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(128));
+        for (int i = 1; i <= 128; i++) {
+            assertEquals(i, ring.poll());
+        }
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST 정책은 새 로그를 버리고 개수를 세야 한다")
+    void 새_로그_버림_테스트() {
+        LogQueue<Integer> queue = new LogQueue<>(64, OverflowPolicy.DROP_NEWEST, WaitStrategy.PARK);
+        for (int i = 0; i < 100; i++) {
+            queue.publish(i);
+        }
+
+        assertEquals(36, queue.getDroppedNewestCount());
+        assertEquals(0, queue.poll());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책은 가장 오래된 로그를 버리고 최근 로그를 남겨야 한다")
+    void 오래된_로그_버림_테스트() {
+        LogQueue<Integer> queue = new LogQueue<>(64, OverflowPolicy.DROP_OLDEST, WaitStrategy.PARK);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.publish(i));
+        }
+
+        assertEquals(36, queue.getDroppedOldestCount());
+        for (int i = 36; i < 100; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("닫힌 큐는 새 로그를 받지 않고, 소비자는 남은 로그를 모두 받은 뒤 null을 받아야 한다")
+    void 큐_종료_테스트() throws Exception {
+        LogQueue<Integer> queue = new LogQueue<>(64, OverflowPolicy.BLOCK, WaitStrategy.PARK);
+        queue.publish(1);
+        queue.publish(2);
+        queue.close();
+
+        assertFalse(queue.publish(3));
+        assertEquals(1, queue.take());
+        assertEquals(2, queue.take());
+        assertNull(queue.take());
+    }
+
+    @Test
+    @DisplayName("모든 대기 방식에서 다중 생산자의 로그가 유실/중복 없이 순서대로 전달되어야 한다 (BLOCK 정책)")
+    void 다중_생산자_전달_테스트() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            assertDelivered(new LogQueue<>(64, OverflowPolicy.BLOCK, strategy));
+        }
+    }
+
+    private static void assertDelivered(LogQueue<Long> queue) throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // 소비자: 생산자별 마지막 순번을 확인
+        Future<long[]> consumer = pool.submit(() -> {
+            long[] next = new long[producers];
+            Long value;
+            while ((value = queue.take()) != null) {
+                int producer = (int) (value >>> 32);
+                long sequence = value & 0xFFFFFFFFL;
+                if (sequence != next[producer]) {
+                    throw new AssertionError("producer " + producer + " expected " + next[producer] + " but " + sequence);
+                }
+                next[producer]++;
+            }
+            return next;
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long id = p;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    assertTrue(queue.publish((id << 32) | i));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        queue.close();
+
+        long[] received = consumer.get(30, TimeUnit.SECONDS);
+        for (long count : received) {
+            assertEquals(perProducer, count);
+        }
+        assertEquals(0, queue.getDroppedOldestCount() + queue.getDroppedNewestCount());
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시간 제한 take는 로그가 없으면 제한 시간 후 null을 반환하고, 닫히지 않은 상태를 유지해야 한다")
+    void 시간_제한_대기_테스트() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            LogQueue<Integer> queue = new LogQueue<>(64, OverflowPolicy.DROP_NEWEST, strategy);
+
+            long start = System.nanoTime();
+            assertNull(queue.take(20, TimeUnit.MILLISECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+            assertFalse(queue.isClosed());
+
+            queue.publish(7);
+            assertEquals(7, queue.take(20, TimeUnit.MILLISECONDS));
+
+            queue.close();
+            assertNull(queue.take(20, TimeUnit.MILLISECONDS));
+            assertTrue(queue.isClosed());
+        }
+    }
+}
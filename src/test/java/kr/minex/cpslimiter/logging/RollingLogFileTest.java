@@ -0,0 +1,172 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingLogFileTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final Logger LOGGER = Logger.getLogger(RollingLogFileTest.class.getName());
+
+    private static List<String> listNames(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static String gunzip(Path path) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void writeLine(RollingLogFile output, String line, long epochMillis) throws IOException {
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        output.write(bytes, 0, bytes.length, epochMillis);
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 파일을 교체하고, 교체된 파일은 백그라운드에서 gzip으로 압축되어야 한다")
+    void 크기_기준_교체_압축_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-rotation");
+        try {
+            long now = System.currentTimeMillis();
+            String day = LocalDate.now(ZONE).toString();
+            LogRotationSettings settings = new LogRotationSettings(100L, false, true, 0, 0);
+
+            try (RollingLogFile output = new RollingLogFile(dir.resolve("violations.log"), dir, settings, 1024, ZONE, LOGGER)) {
+                for (int i = 0; i < 10; i++) {
+                    // 한 줄 = 20바이트, 5줄마다 교체
+                    writeLine(output, String.format("line-%013d", i), now);
+                }
+                output.flush(false);
+                output.awaitHousekeeping(10, TimeUnit.SECONDS);
+                assertEquals(1, output.getRotationCount());
+                assertEquals(1, output.getCompressedCount());
+            }
+
+            assertEquals(List.of("violations-" + day + ".1.log.gz", "violations.log"), listNames(dir));
+            String rotated = gunzip(dir.resolve("violations-" + day + ".1.log.gz"));
+            assertTrue(rotated.startsWith("line-0000000000000\n"));
+            assertEquals(5, rotated.lines().count());
+            assertEquals(5, Files.readAllLines(dir.resolve("violations.log")).size());
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("닫으면 진행 중인 압축이 끝난 뒤에 반환해야 한다")
+    void 닫기_시_압축_대기_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-rotation");
+        try {
+            long now = System.currentTimeMillis();
+            String day = LocalDate.now(ZONE).toString();
+            LogRotationSettings settings = new LogRotationSettings(100L, false, true, 0, 0);
+
+            RollingLogFile output = new RollingLogFile(dir.resolve("violations.log"), dir, settings, 1024, ZONE, LOGGER);
+            for (int i = 0; i < 10; i++) {
+                writeLine(output, String.format("line-%013d", i), now);
+            }
+            // awaitHousekeeping 없이 바로 닫아도 압축이 끝나 있어야 함 (리로드 시 새 인스턴스와 겹치지 않음)
+            output.close();
+
+            assertEquals(1, output.getCompressedCount());
+            assertEquals(List.of("violations-" + day + ".1.log.gz", "violations.log"), listNames(dir));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 이전 날짜 이름으로 교체해야 한다")
+    void 날짜_기준_교체_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-rotation");
+        try {
+            long now = System.currentTimeMillis();
+            long tomorrow = now + TimeUnit.DAYS.toMillis(1);
+            String today = LocalDate.now(ZONE).toString();
+            LogRotationSettings settings = new LogRotationSettings(0L, true, false, 0, 0);
+
+            try (RollingLogFile output = new RollingLogFile(dir.resolve("violations.log"), dir, settings, 1024, ZONE, LOGGER)) {
+                writeLine(output, "today", now);
+                writeLine(output, "tomorrow", tomorrow);
+                output.flush(false);
+                output.awaitHousekeeping(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(List.of("violations-" + today + ".1.log", "violations.log"), listNames(dir));
+            assertEquals(List.of("today"), Files.readAllLines(dir.resolve("violations-" + today + ".1.log")));
+            assertEquals(List.of("tomorrow"), Files.readAllLines(dir.resolve("violations.log")));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘은 교체 파일은 오래된 것부터 삭제하고, 다른 파일은 건드리지 않아야 한다")
+    void 보관_정책_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-rotation");
+        try {
+            long now = System.currentTimeMillis();
+            String day = LocalDate.now(ZONE).toString();
+            Files.writeString(dir.resolve("violations-2000-01-01.1.log.gz"), "old");
+            Files.writeString(dir.resolve("other-2000-01-01.1.log"), "keep");
+            LogRotationSettings settings = new LogRotationSettings(10L, false, false, 2, 0);
+
+            try (RollingLogFile output = new RollingLogFile(dir.resolve("violations.log"), dir, settings, 1024, ZONE, LOGGER)) {
+                for (int i = 0; i < 4; i++) {
+                    writeLine(output, "line-" + i + "-xx", now);
+                }
+                output.flush(false);
+                output.awaitHousekeeping(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(List.of("other-2000-01-01.1.log",
+                    "violations-" + day + ".2.log",
+                    "violations-" + day + ".3.log",
+                    "violations.log"), listNames(dir));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("로그 파일이 데이터 폴더 밖을 가리키면 열지 않아야 한다")
+    void 경로_조작_방지_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-rotation");
+        try {
+            Path data = Files.createDirectory(dir.resolve("data"));
+            assertThrows(IOException.class, () -> new RollingLogFile(
+                    data.resolve("../outside.log"), data, LogRotationSettings.DISABLED, 1024, ZONE, LOGGER));
+            assertFalse(Files.exists(dir.resolve("outside.log")));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+}
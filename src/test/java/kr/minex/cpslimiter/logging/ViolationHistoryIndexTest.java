@@ -0,0 +1,288 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationHistoryIndexTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final Logger LOGGER = Logger.getLogger(ViolationHistoryIndexTest.class.getName());
+    private static final String[] TYPES = {"ZOMBIE", "PLAYER"};
+    private static final UUID ALEX = new UUID(1L, 2L);
+    private static final UUID STEVE = new UUID(3L, 4L);
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static ViolationRecord record(UUID player, String name, long millis, int cps) {
+        return new ViolationRecord(millis, name, player.getMostSignificantBits(), player.getLeastSignificantBits(),
+                cps, 1, 9L, 9L, 2.0);
+    }
+
+    /**
+     * 플레이어의 기록을 모든 페이지에 걸쳐 최신순으로 읽습니다.
+     */
+    private static List<String> readAll(ViolationHistoryIndex index, UUID player, int pageSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int pages = index.readPage(player, 0, pageSize).totalPages();
+        for (int page = 0; page < pages; page++) {
+            lines.addAll(index.readPage(player, page, pageSize).lines());
+        }
+        return lines;
+    }
+
+    /**
+     * 로그 폴더에 남아 있는 줄 수 (교체 파일은 압축을 풀어서 셈)
+     */
+    private static int countLogLines(Path dir) throws IOException {
+        int count = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".log")) {
+                    count += Files.readAllLines(file).size();
+                } else if (name.endsWith(".log.gz")) {
+                    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                        count += new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n").length;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static TextLogSink openSink(Path log, Path dir, LogRotationSettings settings,
+                                        ViolationHistoryIndex index, boolean json) throws IOException {
+        RollingLogFile output = new RollingLogFile(log, dir, settings, 1024, ZONE, LOGGER, index);
+        ViolationEncoder encoder = json
+                ? new ViolationJsonEncoder(ZONE, TYPES)
+                : new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        return new TextLogSink(output, encoder, index);
+    }
+
+    @Test
+    @DisplayName("flush 후 플레이어별 기록을 최신순으로 페이지 단위로 조회해야 한다")
+    void 페이지_조회_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-history");
+        try {
+            Path log = dir.resolve("violations.log");
+            ViolationHistoryIndex index = new ViolationHistoryIndex(log);
+            try (TextLogSink sink = openSink(log, dir, LogRotationSettings.DISABLED, index, false)) {
+                for (int i = 0; i < 25; i++) {
+                    sink.write(record(ALEX, "Alex", 1_700_000_000_000L + i * 1000L, 10 + i));
+                    sink.write(record(STEVE, "Steve", 1_700_000_000_000L + i * 1000L, 50));
+                }
+                // flush 전에는 조회되지 않음
+                assertEquals(0, index.getEntryCount(ALEX));
+                sink.flush(false);
+
+                assertEquals(25, index.getEntryCount(ALEX));
+                assertEquals(2, index.getPlayerCount());
+
+                ViolationHistoryIndex.HistoryPage first = index.readPage(ALEX, 0, 10);
+                assertEquals(3, first.totalPages());
+                assertEquals(25, first.totalCount());
+                assertEquals(10, first.lines().size());
+                assertTrue(first.lines().get(0).contains("CPS: 34"), first.lines().get(0));
+                assertTrue(first.lines().stream().allMatch(line -> line.contains(ALEX.toString())));
+
+                // 범위를 넘는 페이지는 마지막 페이지
+                ViolationHistoryIndex.HistoryPage last = index.readPage(ALEX, 7, 10);
+                assertEquals(2, last.page());
+                assertEquals(5, last.lines().size());
+                assertTrue(last.lines().get(4).contains("CPS: 10"), last.lines().get(4));
+
+                assertEquals(0, index.readPage(new UUID(5L, 6L), 0, 10).totalCount());
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 색인 파일을 읽고, 색인 이후 추가된 줄만 이어서 색인해야 한다")
+    void 증분_재구성_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-history");
+        try {
+            Path log = dir.resolve("violations.log");
+            try (TextLogSink sink = openSink(log, dir, LogRotationSettings.DISABLED, new ViolationHistoryIndex(log), true)) {
+                for (int i = 0; i < 5; i++) {
+                    sink.write(record(ALEX, "Alex", 1_700_000_000_000L + i, 20 + i));
+                }
+            }
+
+            // 색인 없이 추가된 줄 (예: 색인을 쓰기 전에 종료된 경우)
+            ViolationJsonEncoder encoder = new ViolationJsonEncoder(ZONE, TYPES);
+            Files.writeString(log, encoder.toJson(record(STEVE, "Steve", 1_700_000_001_000L, 40)) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            Files.writeString(log, encoder.toJson(record(ALEX, "Alex", 1_700_000_002_000L, 99)) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+            try (ViolationHistoryIndex index = new ViolationHistoryIndex(log)) {
+                assertEquals(6, index.getEntryCount(ALEX));
+                assertEquals(1, index.getEntryCount(STEVE));
+                List<String> lines = index.readPage(ALEX, 0, 10).lines();
+                assertEquals(6, lines.size());
+                assertTrue(lines.get(0).contains("\"cps\":99"), lines.get(0));
+            }
+
+            // 이미 색인된 줄을 다시 색인하지 않음
+            assertEquals(8 + 7 * 24, Files.size(dir.resolve("violations.log.idx")));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("색인 파일이 다른 로그 파일의 것이면 처음부터 다시 만들어야 한다")
+    void 불일치_재구성_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-history");
+        try {
+            Path log = dir.resolve("violations.log");
+            try (TextLogSink sink = openSink(log, dir, LogRotationSettings.DISABLED, new ViolationHistoryIndex(log), false)) {
+                for (int i = 0; i < 3; i++) {
+                    sink.write(record(ALEX, "Alex", 1_700_000_000_000L + i, 20));
+                }
+            }
+
+            // 서버 밖에서 로그 파일이 바뀜 (길이는 더 길지만 다른 내용)
+            ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+            StringBuilder replaced = new StringBuilder();
+            for (int i = 0; i < 4; i++) {
+                replaced.append(encoder.toLine(record(STEVE, "SteveTheLongName", 1_700_000_000_000L + i, 30))).append('\n');
+            }
+            Files.writeString(log, replaced, StandardCharsets.UTF_8);
+
+            try (ViolationHistoryIndex index = new ViolationHistoryIndex(log)) {
+                assertEquals(0, index.getEntryCount(ALEX));
+                assertEquals(4, index.getEntryCount(STEVE));
+                assertEquals(4, index.readPage(STEVE, 0, 10).lines().size());
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("로그 파일이 교체되어도 이전 파일의 기록을 이어서 조회할 수 있어야 한다")
+    void 교체_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-history");
+        try {
+            Path log = dir.resolve("violations.log");
+            LogRotationSettings settings = new LogRotationSettings(400L, false, false, 0, 0);
+            ViolationHistoryIndex index = new ViolationHistoryIndex(log);
+            try (TextLogSink sink = openSink(log, dir, settings, index, false)) {
+                long now = System.currentTimeMillis();
+                for (int i = 0; i < 10; i++) {
+                    sink.write(record(ALEX, "Alex", now, 20 + i));
+                    sink.write(record(STEVE, "Steve", now, 50));
+                    sink.flush(false);
+                }
+
+                // 교체가 여러 번 일어났고, 현재 파일에는 일부만 남아 있음
+                assertTrue(Files.readAllLines(log).size() < 20);
+                assertEquals(10, index.getEntryCount(ALEX));
+
+                List<String> lines = readAll(index, ALEX, 3);
+                assertEquals(10, lines.size());
+                for (int i = 0; i < 10; i++) {
+                    assertTrue(lines.get(i).contains("CPS: " + (29 - i)), lines.get(i));
+                    assertTrue(lines.get(i).contains(ALEX.toString()), lines.get(i));
+                }
+            }
+
+            // 다시 열어도 교체 파일의 기록을 그대로 조회
+            try (ViolationHistoryIndex reopened = new ViolationHistoryIndex(log)) {
+                assertEquals(10, reopened.getEntryCount(ALEX));
+                assertEquals(10, reopened.getEntryCount(STEVE));
+                assertEquals(10, readAll(reopened, ALEX, 4).size());
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("압축된 교체 파일의 기록도 조회하고, 보관 정책으로 삭제된 파일의 기록은 색인에서 빠져야 한다")
+    void 압축_삭제_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-history");
+        try {
+            Path log = dir.resolve("violations.log");
+            // 교체 파일은 2개까지 보관
+            LogRotationSettings settings = new LogRotationSettings(400L, false, true, 2, 0);
+            ViolationHistoryIndex index = new ViolationHistoryIndex(log);
+            RollingLogFile output = new RollingLogFile(log, dir, settings, 1024, ZONE, LOGGER, index);
+            try (TextLogSink sink = new TextLogSink(output, new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES), index)) {
+                long now = System.currentTimeMillis();
+                for (int i = 0; i < 12; i++) {
+                    sink.write(record(ALEX, "Alex", now, 20 + i));
+                    sink.flush(false);
+                }
+                output.awaitHousekeeping(10, TimeUnit.SECONDS);
+                // 보관된 최신 교체 파일 2개는 압축되어 있음
+                try (Stream<Path> files = Files.list(dir)) {
+                    assertEquals(2, files.filter(p -> p.getFileName().toString().endsWith(".log.gz")).count());
+                }
+                assertTrue(output.getPrunedCount() >= 1, "pruned=" + output.getPrunedCount());
+
+                // 삭제 알림은 다음 flush 때 반영
+                sink.flush(false);
+                int remaining = countLogLines(dir);
+                assertTrue(remaining < 12, "remaining=" + remaining);
+                assertEquals(remaining, index.getEntryCount(ALEX));
+
+                List<String> lines = readAll(index, ALEX, 5);
+                assertEquals(remaining, lines.size());
+                for (int i = 0; i < remaining; i++) {
+                    assertTrue(lines.get(i).contains("CPS: " + (31 - i)), lines.get(i));
+                }
+            }
+
+            // 색인 파일에서도 삭제된 파일의 항목이 빠져 있고, 다시 열면 압축 파일 이름으로 이어서 조회
+            try (ViolationHistoryIndex reopened = new ViolationHistoryIndex(log)) {
+                int remaining = countLogLines(dir);
+                assertEquals(8 + remaining * 24, Files.size(dir.resolve("violations.log.idx")));
+                assertEquals(remaining, readAll(reopened, ALEX, 5).size());
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("줄에서 처음 나오는 UUID를 찾아야 한다")
+    void UUID_탐색_테스트() {
+        byte[] line = ("[2024-01-01 00:00:00] a (" + ALEX + ") - CPS: 1, 타겟: ZOMBIE(" + STEVE + ")")
+                .getBytes(StandardCharsets.UTF_8);
+        int at = ViolationHistoryIndex.findUuid(line, line.length);
+        assertEquals(ALEX.toString(), new String(line, at, 36, StandardCharsets.US_ASCII));
+
+        byte[] none = "no uuid here 0000-0000".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(-1, ViolationHistoryIndex.findUuid(none, none.length));
+    }
+}
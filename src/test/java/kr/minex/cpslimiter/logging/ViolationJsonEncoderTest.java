@@ -0,0 +1,161 @@
+package kr.minex.cpslimiter.logging;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationJsonEncoderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String[] TYPES = {"PLAYER", "ZOMBIE"};
+
+    /**
+     * 이스케이프가 필요한 문자를 섞은 이름
+     */
+    private static final String[] NAMES = {"Steve", "quo\"te", "back\\slash", "tab\tline\nbreak", "한글", "\u0001ctl", "emoji😀"};
+
+    private static final TypeAdapter<JsonElement> JSON = new Gson().getAdapter(JsonElement.class);
+
+    /**
+     * 엄격 모드(lenient=false)로 JSON 객체 하나만 있는지 확인하며 파싱합니다.
+     */
+    private static JsonObject parseStrict(String line) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(line));
+        reader.setLenient(false);
+        JsonObject json = JSON.read(reader).getAsJsonObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        return json;
+    }
+
+    private static ViolationRecord record(int producer, int sequence) {
+        UUID player = new UUID(producer, sequence);
+        boolean hasTarget = sequence % 2 == 0;
+        return new ViolationRecord(1_700_000_000_000L + sequence, NAMES[(producer + sequence) % NAMES.length],
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), 10 + sequence % 20,
+                hasTarget ? sequence % TYPES.length : ViolationRecord.NO_TARGET,
+                hasTarget ? 7L : 0L, hasTarget ? sequence : 0L, hasTarget ? sequence / 3.0 : 0.0,
+                15, "PLAYER_ONLY", sequence % 5 == 0 ? null : "world_nether",
+                -sequence * 1.25, 64.0, sequence % 7 == 0 ? Double.NaN : sequence * 0.5);
+    }
+
+    @Test
+    @DisplayName("하나의 기록은 모든 필드를 포함한 올바른 JSON 객체 한 줄이어야 한다")
+    void 필드_인코딩_테스트() throws Exception {
+        ViolationJsonEncoder encoder = new ViolationJsonEncoder(ZONE, TYPES);
+        UUID player = UUID.fromString("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0");
+        UUID target = UUID.fromString("11111111-2222-3333-4444-555555555555");
+        ViolationRecord record = new ViolationRecord(1_700_000_000_123L, "quo\"te",
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), 17,
+                1, target.getMostSignificantBits(), target.getLeastSignificantBits(), 2.345,
+                15, "LIVING_ENTITY", "world", 1.5, 64.0, -3.255);
+
+        int length = encoder.encode(record);
+        assertEquals('\n', encoder.buffer()[length - 1]);
+
+        JsonObject json = parseStrict(encoder.toJson(record));
+        assertEquals(1_700_000_000_123L, json.get("timestamp").getAsLong());
+        assertEquals("2023-11-15 07:13:20", json.get("time").getAsString());
+        assertEquals("quo\"te", json.get("player").getAsString());
+        assertEquals(player.toString(), json.get("uuid").getAsString());
+        assertEquals(17, json.get("cps").getAsInt());
+        assertEquals(15, json.get("threshold").getAsInt());
+        assertEquals("LIVING_ENTITY", json.get("targetMode").getAsString());
+        assertEquals("world", json.get("world").getAsString());
+        assertEquals(1.5, json.get("x").getAsDouble(), 1.0E-9);
+        assertEquals(64.0, json.get("y").getAsDouble(), 1.0E-9);
+        assertEquals(-3.26, json.get("z").getAsDouble(), 1.0E-9);
+
+        JsonObject targetJson = json.getAsJsonObject("target");
+        assertEquals("ZOMBIE", targetJson.get("type").getAsString());
+        assertEquals(target.toString(), targetJson.get("uuid").getAsString());
+        assertEquals(2.35, targetJson.get("distance").getAsDouble(), 1.0E-9);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 게시해도 작성 스레드가 만든 모든 줄은 올바른 JSON이어야 한다")
+    void 동시_생산자_JSON_유효성_테스트() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        LogQueue<ViolationRecord> queue = new LogQueue<>(1024, OverflowPolicy.BLOCK, WaitStrategy.PARK);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        try {
+            // 작성 스레드: ViolationLogger와 같이 하나의 인코더로 순서대로 인코딩
+            Future<?> writer = executor.submit(() -> {
+                ViolationJsonEncoder encoder = new ViolationJsonEncoder(ZONE, TYPES);
+                ViolationRecord record;
+                while ((record = queue.take()) != null) {
+                    int length = encoder.encode(record);
+                    output.write(encoder.buffer(), 0, length);
+                }
+                return null;
+            });
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        assertTrue(queue.publish(record(producer, i)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            queue.close();
+            writer.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(producers * perProducer, lines.length);
+
+        int[] nextSequence = new int[producers];
+        for (String line : lines) {
+            JsonObject json = parseStrict(line);
+            UUID player = UUID.fromString(json.get("uuid").getAsString());
+            int producer = (int) player.getMostSignificantBits();
+            int sequence = (int) player.getLeastSignificantBits();
+
+            // 생산자별 순서 유지 및 필드 내용 확인
+            assertEquals(nextSequence[producer]++, sequence);
+            ViolationRecord expected = record(producer, sequence);
+            assertEquals(expected.playerName(), json.get("player").getAsString());
+            assertEquals(expected.cps(), json.get("cps").getAsInt());
+            assertEquals(expected.world() == null, json.get("world").isJsonNull());
+            assertEquals(Double.isNaN(expected.z()), json.get("z").isJsonNull());
+            assertEquals(expected.hasTarget(), !json.get("target").isJsonNull());
+        }
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, nextSequence[p]);
+        }
+    }
+}
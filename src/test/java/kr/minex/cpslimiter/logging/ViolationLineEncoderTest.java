@@ -0,0 +1,156 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationLineEncoderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String[] TYPES = {"PLAYER", "ZOMBIE", "ARMOR_STAND"};
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 기존 ViolationLogger.formatLogMessage와 같은 방식으로 만든 기대값
+     */
+    private static String expected(ViolationRecord record) {
+        String base = String.format("[%s] %s (%s) - CPS: %d",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(record.epochMillis()), ZONE).format(DATE_FORMATTER),
+                record.playerName(),
+                new UUID(record.playerMostBits(), record.playerLeastBits()),
+                record.cps()
+        );
+        if (!record.hasTarget()) {
+            return base;
+        }
+        return base + String.format(" | target=%s(%s) dist=%.2f",
+                TYPES[record.targetType()],
+                new UUID(record.targetMostBits(), record.targetLeastBits()),
+                record.distance()
+        );
+    }
+
+    private static ViolationRecord record(long millis, String name, UUID player, int cps,
+                                          int type, UUID target, double distance) {
+        return new ViolationRecord(millis, name,
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), cps,
+                type, target.getMostSignificantBits(), target.getLeastSignificantBits(), distance);
+    }
+
+    @Test
+    @DisplayName("타겟이 없는 기록은 기존 형식과 같아야 한다")
+    void 타겟_없음_형식_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        UUID player = UUID.fromString("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0");
+        ViolationRecord record = new ViolationRecord(1_700_000_000_123L, "Steve",
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), 17,
+                ViolationRecord.NO_TARGET, 0L, 0L, 0.0);
+
+        assertEquals(expected(record), encoder.toLine(record));
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 줄바꿈을 포함한 UTF-8 바이트로 기존 형식과 같아야 한다")
+    void 바이트_일치_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        ViolationRecord record = record(1_700_000_000_999L, "한글_닉네임", UUID.randomUUID(), 23,
+                1, UUID.randomUUID(), 2.345);
+
+        int length = encoder.encode(record);
+        byte[] actual = Arrays.copyOf(encoder.buffer(), length);
+        byte[] wanted = (expected(record) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(wanted, actual);
+    }
+
+    @Test
+    @DisplayName("거리 변환은 반올림 경계와 무작위 값 모두 String.format(\"%.2f\")와 같아야 한다")
+    void 거리_고정소수점_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        UUID player = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        double[] edges = {0.0, -0.0, 0.005, 0.015, 0.125, 1.005, 2.675, 2.5, 2.995, 3.0, 9.999, 99.995,
+                0.1 + 0.2, 1.0E-9, 123456.785, 5.0E9, -1.25, -0.001, -2.675, Double.NaN, Double.POSITIVE_INFINITY};
+        for (double distance : edges) {
+            ViolationRecord record = record(0L, "p", player, 1, 0, target, distance);
+            assertEquals(expected(record), encoder.toLine(record), "distance=" + distance);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            double distance = random.nextDouble() * (i % 2 == 0 ? 6.0 : 1000.0);
+            // 정확히 0.005 단위 값도 섞어서 반올림 경계를 확인
+            if (i % 7 == 0) {
+                distance = Math.floor(distance * 200.0) / 200.0;
+            }
+            // 음수(좌표 등)도 같은 규칙으로 반올림
+            if (i % 5 == 0) {
+                distance = -distance;
+            }
+            ViolationRecord record = record(0L, "p", player, 1, 2, target, distance);
+            assertEquals(expected(record), encoder.toLine(record), "distance=" + distance);
+        }
+    }
+
+    @Test
+    @DisplayName("월드 좌표 크기의 큰 값도 반올림 경계 근처에서 String.format(\"%.2f\")와 같아야 한다")
+    void 큰_값_고정소수점_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        UUID player = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        Random random = new Random(7);
+        double[] magnitudes = {1.0E6, 1.0E7, 2.0E7, 3.0E7, 1.0E8, 5.0E8, 9.99E8};
+        for (double magnitude : magnitudes) {
+            for (int i = 0; i < 20_000; i++) {
+                // 십진수로 .xx5인 값과 그 바로 위/아래 double
+                long whole = (long) (random.nextDouble() * magnitude);
+                double tie = Double.parseDouble(whole + "." + String.format("%02d", random.nextInt(100)) + "5");
+                for (double distance : new double[]{tie, Math.nextUp(tie), Math.nextDown(tie), -tie}) {
+                    ViolationRecord record = record(0L, "p", player, 1, 2, target, distance);
+                    assertEquals(expected(record), encoder.toLine(record), "distance=" + distance);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시각 접두사는 초가 바뀔 때 갱신되고, 같은 초 안에서는 그대로 재사용되어야 한다")
+    void 시각_캐시_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        UUID player = UUID.randomUUID();
+        long base = 1_700_000_000_000L;
+
+        for (long millis : new long[]{base, base + 999, base + 1000, base + 86_400_000L, base - 1}) {
+            ViolationRecord record = new ViolationRecord(millis, "p",
+                    player.getMostSignificantBits(), player.getLeastSignificantBits(), Integer.MIN_VALUE,
+                    ViolationRecord.NO_TARGET, 0L, 0L, 0.0);
+            assertEquals(expected(record), encoder.toLine(record));
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 기호가 다른 로케일에서도 String.format과 같아야 한다")
+    void 로케일_소수점_테스트() {
+        Locale previous = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.GERMANY, TYPES);
+            ViolationRecord record = record(0L, "p", UUID.randomUUID(), 1, 0, UUID.randomUUID(), 3.14159);
+            assertEquals(expected(record), encoder.toLine(record));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, previous);
+        }
+    }
+}
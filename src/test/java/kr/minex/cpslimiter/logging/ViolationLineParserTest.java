@@ -0,0 +1,129 @@
+package kr.minex.cpslimiter.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationLineParserTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final String[] TYPES = {"PLAYER", "ZOMBIE", "ARMOR_STAND"};
+
+    private static ViolationRecord record(long millis, String name, UUID player, int cps,
+                                          int type, UUID target, double distance) {
+        return new ViolationRecord(millis, name,
+                player.getMostSignificantBits(), player.getLeastSignificantBits(), cps,
+                type, target.getMostSignificantBits(), target.getLeastSignificantBits(), distance);
+    }
+
+    private static boolean parse(ViolationLineParser parser, ViolationEncoder encoder, ViolationRecord record) {
+        int length = encoder.encode(record);
+        // 줄바꿈은 제외하고 전달 (분석 도구와 동일)
+        byte[] buffer = encoder.buffer();
+        while (length > 0 && (buffer[length - 1] == '\n' || buffer[length - 1] == '\r')) {
+            length--;
+        }
+        return parser.parse(buffer, 0, length);
+    }
+
+    @Test
+    @DisplayName("인코더가 쓴 줄을 같은 값으로 다시 읽어야 한다")
+    void 왕복_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        ViolationLineParser parser = new ViolationLineParser();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            UUID player = new UUID(random.nextLong(), random.nextLong());
+            UUID target = new UUID(random.nextLong(), random.nextLong());
+            int type = random.nextInt(4) - 1;
+            int cps = random.nextInt(200);
+            double distance = random.nextDouble() * 6.0;
+            ViolationRecord record = record(1_700_000_000_000L + i * 3_600_000L, "Player_" + i,
+                    player, cps, type, target, distance);
+
+            assertTrue(parse(parser, encoder, record));
+            assertEquals("Player_" + i, parser.playerName());
+            assertEquals(player.getMostSignificantBits(), parser.playerMostBits());
+            assertEquals(player.getLeastSignificantBits(), parser.playerLeastBits());
+            assertEquals(cps, parser.cps());
+            assertEquals(record.hasTarget(), parser.hasTarget());
+            if (record.hasTarget()) {
+                assertEquals(TYPES[type], parser.targetType());
+                assertEquals(target.getMostSignificantBits(), parser.targetMostBits());
+                assertEquals(target.getLeastSignificantBits(), parser.targetLeastBits());
+                assertEquals(Double.parseDouble(String.format(Locale.ROOT, "%.2f", distance)),
+                        parser.distance(), 1e-9);
+            } else {
+                assertNull(parser.targetType());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시각을 yyyyMMddHH 정수로 읽어야 한다")
+    void 시간대_키_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        ViolationLineParser parser = new ViolationLineParser();
+        UUID player = new UUID(1L, 2L);
+
+        // 2023-11-14 22:13:20 UTC
+        assertTrue(parse(parser, encoder, record(1_700_000_000_000L, "Steve", player, 20,
+                ViolationRecord.NO_TARGET, player, 0.0)));
+        assertEquals(2023111422, parser.hourKey());
+    }
+
+    @Test
+    @DisplayName("쉼표 소수점 로케일로 쓴 거리도 읽어야 한다")
+    void 쉼표_소수점_테스트() {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.GERMANY, TYPES);
+        ViolationLineParser parser = new ViolationLineParser();
+        UUID player = new UUID(1L, 2L);
+        UUID target = new UUID(3L, 4L);
+
+        assertTrue(parse(parser, encoder, record(1_700_000_000_000L, "Alex", player, 15, 1, target, 3.456)));
+        assertEquals("ZOMBIE", parser.targetType());
+        assertEquals(3.46, parser.distance(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("CRLF 줄 끝을 무시해야 한다")
+    void CRLF_테스트() {
+        String line = "[2024-01-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: 25\r";
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        ViolationLineParser parser = new ViolationLineParser();
+
+        assertTrue(parser.parse(bytes, 0, bytes.length));
+        assertEquals(2024013113, parser.hourKey());
+        assertEquals(25, parser.cps());
+        assertFalse(parser.hasTarget());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 줄은 거부해야 한다")
+    void 형식_오류_테스트() {
+        String[] lines = {
+                "",
+                "hello world",
+                "[2024-01-31 13:05:00] Steve (not-a-uuid) - CPS: 25",
+                "[2024-01-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: ",
+                "[2024-01-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: 25x",
+                "[2024-01-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: 25 | target=ZOMBIE",
+                "[2024-01-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: 25"
+                        + " | target=ZOMBIE(00000000-0000-0003-0000-000000000004) dist=abc",
+                "[2024-xx-31 13:05:00] Steve (00000000-0000-0001-0000-000000000002) - CPS: 25",
+        };
+        ViolationLineParser parser = new ViolationLineParser();
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            assertFalse(parser.parse(bytes, 0, bytes.length), line);
+        }
+    }
+}
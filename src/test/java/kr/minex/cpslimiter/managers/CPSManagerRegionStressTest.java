@@ -0,0 +1,144 @@
+package kr.minex.cpslimiter.managers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Folia 리전 스레드 환경을 모사한 스트레스 테스트
+ *
+ * <p>각 리전 스레드가 자기 플레이어들의 클릭을 등록하는 동안, 다른 스레드에서
+ * 접속/퇴장(슬롯 할당/반납, 배열 확장)과 조회(/cps check, status)가 동시에 일어납니다.</p>
+ */
+class CPSManagerRegionStressTest {
+
+    private static final int REGIONS = 8;
+    private static final int PLAYERS_PER_REGION = 32;
+    private static final int CLICKS_PER_PLAYER = 400;
+    private static final long CLICK_INTERVAL_MS = 25L;
+
+    @Test
+    @DisplayName("리전 스레드별 클릭 등록이 접속/퇴장/조회와 동시에 일어나도 CPS가 정확해야 한다")
+    void 리전_스레드_스트레스_테스트() throws Exception {
+        CPSManager manager = new CPSManager();
+        ExecutorService pool = Executors.newFixedThreadPool(REGIONS + 2);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch regionsDone = new CountDownLatch(REGIONS);
+
+        // 리전 스레드: 소유한 플레이어의 클릭만 등록
+        List<List<UUID>> regionPlayers = new ArrayList<>();
+        for (int r = 0; r < REGIONS; r++) {
+            List<UUID> players = new ArrayList<>();
+            for (int p = 0; p < PLAYERS_PER_REGION; p++) {
+                players.add(UUID.randomUUID());
+            }
+            regionPlayers.add(players);
+        }
+
+        for (List<UUID> players : regionPlayers) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    int[] slots = new int[players.size()];
+                    for (int i = 0; i < slots.length; i++) {
+                        slots[i] = manager.acquireSlot(players.get(i));
+                    }
+                    // 조회 스레드의 getCurrentCPS()는 현재 시각 기준으로 만료 처리하므로,
+                    // 합성 타임스탬프가 만료되지 않도록 미래 시점에서 시작
+                    long base = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+                    for (int c = 0; c < CLICKS_PER_PLAYER; c++) {
+                        long ts = base + c * CLICK_INTERVAL_MS;
+                        for (int slot : slots) {
+                            int cps = manager.registerClick(slot, ts);
+                            int expected = Math.min(c + 1, (int) (1000 / CLICK_INTERVAL_MS));
+                            if (cps != expected) {
+                                throw new AssertionError("expected " + expected + " but was " + cps);
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                } finally {
+                    regionsDone.countDown();
+                }
+            });
+        }
+
+        // 접속/퇴장 스레드: 슬롯 재사용과 배열 확장을 반복
+        pool.execute(() -> {
+            try {
+                start.await();
+                List<UUID> churn = new ArrayList<>();
+                while (running.get()) {
+                    for (int i = 0; i < 64; i++) {
+                        UUID id = UUID.randomUUID();
+                        int slot = manager.acquireSlot(id);
+                        manager.setBypass(slot, manager.getBypassStamp(slot), i % 2 == 0);
+                        manager.registerClick(id);
+                        churn.add(id);
+                    }
+                    for (UUID id : churn) {
+                        manager.releaseSlot(id);
+                    }
+                    churn.clear();
+                    manager.invalidateAllBypass();
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+
+        // 조회 스레드: 명령어 처리 스레드에서의 읽기
+        pool.execute(() -> {
+            try {
+                start.await();
+                while (running.get()) {
+                    for (List<UUID> players : regionPlayers) {
+                        for (UUID id : players) {
+                            int slot = manager.getSlot(id);
+                            if (slot != CPSManager.NO_SLOT && manager.getClickData(slot) != null) {
+                                assertTrue(manager.getClickData(slot).getCurrentCPS() >= 0);
+                            }
+                        }
+                    }
+                    assertTrue(manager.getTrackedPlayerCount() >= 0);
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+
+        start.countDown();
+        assertTrue(regionsDone.await(30, TimeUnit.SECONDS));
+        running.set(false);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        if (!failures.isEmpty()) {
+            fail(failures.peek());
+        }
+
+        // 모든 리전 플레이어의 슬롯과 데이터가 유지되어야 함
+        for (List<UUID> players : regionPlayers) {
+            for (UUID id : players) {
+                int slot = manager.getSlot(id);
+                assertNotEquals(CPSManager.NO_SLOT, slot);
+                assertEquals(id, manager.getSlotOwner(slot));
+            }
+        }
+    }
+}
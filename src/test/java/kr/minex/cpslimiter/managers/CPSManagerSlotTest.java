@@ -0,0 +1,240 @@
+package kr.minex.cpslimiter.managers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CPSManagerSlotTest {
+
+    @Test
+    @DisplayName("반납된 슬롯은 다음 접속 플레이어에게 재사용되어야 한다")
+    void 슬롯_재사용_테스트() {
+        CPSManager manager = new CPSManager();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        int slot = manager.acquireSlot(first);
+        assertEquals(slot, manager.acquireSlot(first));
+        assertEquals(slot, manager.getSlot(first));
+
+        manager.registerClick(slot, 1000);
+        assertEquals(first, manager.getSlotOwner(slot));
+
+        // When: 퇴장 후 다른 플레이어 접속
+        manager.releaseSlot(first);
+        assertEquals(CPSManager.NO_SLOT, manager.getSlot(first));
+        assertNull(manager.getClickData(slot));
+
+        // Then: 같은 슬롯을 깨끗한 상태로 재사용
+        assertEquals(slot, manager.acquireSlot(second));
+        assertEquals(second, manager.getSlotOwner(slot));
+        assertEquals(1, manager.registerClick(slot, 5000));
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘는 플레이어가 접속해도 슬롯이 중복되지 않아야 한다")
+    void 슬롯_확장_테스트() {
+        CPSManager manager = new CPSManager();
+        Set<Integer> slots = new HashSet<>();
+
+        for (int i = 0; i < 500; i++) {
+            UUID playerId = UUID.randomUUID();
+            int slot = manager.acquireSlot(playerId);
+            assertTrue(slots.add(slot));
+            assertEquals(1, manager.registerClick(slot, 1000));
+        }
+
+        assertEquals(500, manager.getTrackedPlayerCount());
+        assertEquals(500, manager.getSlotLimit());
+    }
+
+    @Test
+    @DisplayName("엔티티 ID로 연결한 슬롯은 해시 조회 없이 찾을 수 있고 퇴장 시 연결이 해제되어야 한다")
+    void 엔티티_ID_슬롯_조회_테스트() {
+        CPSManager manager = new CPSManager();
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        // 연속된 엔티티 ID + 테이블 확장
+        for (int i = 0; i < 300; i++) {
+            int entityId = 1000 + i;
+            int slot = manager.acquireSlot(UUID.randomUUID(), entityId);
+            expected.put(entityId, slot);
+        }
+        expected.forEach((entityId, slot) -> assertEquals(slot, manager.getSlotByEntityId(entityId)));
+        assertEquals(CPSManager.NO_SLOT, manager.getSlotByEntityId(1));
+
+        // UUID로만 할당된 플레이어도 나중에 엔티티 ID를 연결할 수 있음
+        UUID late = UUID.randomUUID();
+        int lateSlot = manager.acquireSlot(late);
+        assertEquals(CPSManager.NO_SLOT, manager.getSlotByEntityId(5));
+        assertEquals(lateSlot, manager.acquireSlot(late, 5));
+        assertEquals(lateSlot, manager.getSlotByEntityId(5));
+
+        // 퇴장하면 연결 해제, 다른 플레이어는 그대로
+        UUID owner = manager.getSlotOwner(expected.get(1100));
+        manager.releaseSlot(owner);
+        assertEquals(CPSManager.NO_SLOT, manager.getSlotByEntityId(1100));
+        assertEquals(expected.get(1101), manager.getSlotByEntityId(1101));
+
+        manager.clearAll();
+        assertEquals(CPSManager.NO_SLOT, manager.getSlotByEntityId(1101));
+    }
+
+    @Test
+    @DisplayName("CPS 순위는 상위 N명을 CPS 내림차순으로 반환해야 한다")
+    void CPS_순위_테스트() {
+        CPSManager manager = new CPSManager();
+        Map<UUID, Integer> expected = new HashMap<>();
+
+        // Given: 플레이어 i는 CPS (i * 7) % 31 (0인 플레이어 포함)
+        for (int i = 0; i < 200; i++) {
+            UUID playerId = UUID.randomUUID();
+            int slot = manager.acquireSlot(playerId);
+            int cps = (i * 7) % 31;
+            for (int c = 0; c < cps; c++) {
+                manager.registerClick(slot, 1000 + c * 25L);
+            }
+            expected.put(playerId, cps);
+        }
+        // 퇴장한 플레이어는 제외
+        UUID left = UUID.randomUUID();
+        int leftSlot = manager.acquireSlot(left);
+        for (int c = 0; c < 35; c++) {
+            manager.registerClick(leftSlot, 1000 + c * 25L);
+        }
+        manager.releaseSlot(left);
+
+        List<CPSManager.CpsRank> top = manager.getTopCps(15, 1900);
+        assertEquals(15, top.size());
+        List<Integer> sorted = expected.values().stream()
+                .sorted(Comparator.reverseOrder()).limit(15).toList();
+        for (int i = 0; i < top.size(); i++) {
+            CPSManager.CpsRank rank = top.get(i);
+            assertEquals(sorted.get(i), rank.cps());
+            assertEquals(expected.get(rank.playerId()), rank.cps());
+        }
+
+        // 윈도우가 지나면 CPS 0 -> 빈 목록, 조회가 클릭 데이터를 바꾸지 않음
+        assertTrue(manager.getTopCps(15, 10_000).isEmpty());
+        assertEquals(15, manager.getTopCps(15, 1900).size());
+        assertTrue(manager.getTopCps(0, 1900).isEmpty());
+    }
+
+    @Test
+    @DisplayName("플레이어별 무효화는 해당 플레이어의 바이패스 캐시만 초기화해야 한다")
+    void 플레이어별_바이패스_무효화_테스트() {
+        CPSManager manager = new CPSManager();
+        UUID target = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        int targetSlot = manager.acquireSlot(target);
+        int otherSlot = manager.acquireSlot(other);
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(targetSlot));
+
+        assertTrue(manager.setBypass(targetSlot, manager.getBypassStamp(targetSlot), true));
+        assertTrue(manager.setBypass(otherSlot, manager.getBypassStamp(otherSlot), false));
+
+        manager.invalidateBypass(target);
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(targetSlot));
+        assertEquals(CPSManager.BYPASS_DENIED, manager.getBypassState(otherSlot));
+
+        // 접속하지 않은 플레이어 무효화는 무시
+        manager.invalidateBypass(UUID.randomUUID());
+        assertEquals(CPSManager.BYPASS_DENIED, manager.getBypassState(otherSlot));
+
+        manager.invalidateAllBypass();
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(otherSlot));
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 읽은 스탬프로는 캐시를 기록할 수 없어야 한다")
+    void 오래된_권한_조회_거부_테스트() {
+        CPSManager manager = new CPSManager();
+        UUID playerId = UUID.randomUUID();
+        int slot = manager.acquireSlot(playerId);
+
+        // Given: 권한 조회 시작 시점의 스탬프
+        int stamp = manager.getBypassStamp(slot);
+
+        // When: 조회 도중 권한 변경으로 무효화
+        manager.invalidateBypass(playerId);
+
+        // Then: 변경 전 조회 결과는 버려지고, 새 스탬프로는 기록 가능
+        assertFalse(manager.setBypass(slot, stamp, true));
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(slot));
+        assertTrue(manager.setBypass(slot, manager.getBypassStamp(slot), false));
+        assertEquals(CPSManager.BYPASS_DENIED, manager.getBypassState(slot));
+    }
+
+    @Test
+    @DisplayName("재사용된 슬롯은 바이패스 판정이 초기화되고 이전 플레이어의 조회 결과를 받지 않아야 한다")
+    void 슬롯_재사용_바이패스_초기화_테스트() {
+        CPSManager manager = new CPSManager();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        int slot = manager.acquireSlot(first);
+        int firstStamp = manager.getBypassStamp(slot);
+        assertTrue(manager.setBypass(slot, firstStamp, true));
+        manager.markSwung(slot);
+
+        manager.releaseSlot(first);
+        assertEquals(slot, manager.acquireSlot(second));
+
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(slot));
+        assertFalse(manager.takeSwung(slot));
+        // 이전 플레이어를 대상으로 시작한 조회가 늦게 끝나도 기록되지 않음
+        assertFalse(manager.setBypass(slot, firstStamp, true));
+        assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(slot));
+    }
+
+    @Test
+    @DisplayName("휘두름 표시는 한 번만 꺼낼 수 있어야 한다")
+    void 휘두름_표시_테스트() {
+        CPSManager manager = new CPSManager();
+        int slot = manager.acquireSlot(UUID.randomUUID());
+
+        assertFalse(manager.takeSwung(slot));
+        manager.markSwung(slot);
+        manager.markSwung(slot);
+        assertTrue(manager.takeSwung(slot));
+        assertFalse(manager.takeSwung(slot));
+    }
+
+    @Test
+    @DisplayName("슬롯 배열이 확장되는 동안 기록한 무효화도 사라지지 않아야 한다")
+    void 확장_중_무효화_유지_테스트() throws InterruptedException {
+        CPSManager manager = new CPSManager();
+        UUID playerId = UUID.randomUUID();
+        int slot = manager.acquireSlot(playerId);
+
+        // 다른 스레드가 계속 접속시켜 슬롯 배열을 확장
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread joiner = new Thread(() -> {
+            while (running.get() && manager.getSlotLimit() < 20_000) {
+                manager.acquireSlot(UUID.randomUUID());
+            }
+        });
+        joiner.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                assertTrue(manager.setBypass(slot, manager.getBypassStamp(slot), true));
+                manager.invalidateBypass(playerId);
+                assertEquals(CPSManager.BYPASS_UNKNOWN, manager.getBypassState(slot), "iteration=" + i);
+            }
+        } finally {
+            running.set(false);
+            joiner.join();
+        }
+        assertTrue(manager.getSlotLimit() > 64);
+    }
+}
@@ -0,0 +1,50 @@
+package kr.minex.cpslimiter.managers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("렌더링 결과는 String.replace 방식과 같아야 한다")
+    void 치환_결과_동등성_테스트() {
+        String raw = "§c[경고] CPS {cps}/{threshold} - {player}님, {cps}회";
+        MessageTemplate template = MessageTemplate.compile(raw);
+
+        String expected = raw.replace("{cps}", "21").replace("{threshold}", "15").replace("{player}", "Steve");
+
+        assertEquals(expected, template.render("{cps}", 21, "{threshold}", 15, "{player}", "Steve"));
+        assertEquals(expected, template.render("cps", "21", "threshold", "15", "player", "Steve"));
+        assertEquals(4, template.getSlotCount());
+    }
+
+    @Test
+    @DisplayName("정수 전용 렌더링은 일반 렌더링과 같은 결과를 내야 한다")
+    void 정수_렌더링_테스트() {
+        MessageTemplate template = MessageTemplate.compile("CPS {cps} (제한 {threshold})");
+
+        assertEquals("CPS 21 (제한 15)", template.render("{cps}", 21, "{threshold}", 15));
+        assertEquals(template.render("{cps}", (Object) 21, "{threshold}", (Object) 15),
+                template.render("{cps}", 21, "{threshold}", 15));
+    }
+
+    @Test
+    @DisplayName("전달되지 않은 플레이스홀더와 플레이스홀더가 아닌 중괄호는 원문 그대로 남아야 한다")
+    void 원문_유지_테스트() {
+        MessageTemplate template = MessageTemplate.compile("{a} {} {b c} {unknown} {");
+
+        assertEquals("1 {} {b c} {unknown} {", template.render("{a}", "1"));
+        assertEquals("{a} {} {b c} {unknown} {", template.render());
+    }
+
+    @Test
+    @DisplayName("플레이스홀더가 없는 템플릿은 같은 문자열을 재사용해야 한다")
+    void 상수_템플릿_테스트() {
+        MessageTemplate template = MessageTemplate.compile("§a리로드 완료");
+
+        assertSame(template.render(), template.render("{cps}", 1));
+        assertEquals("[P] §a리로드 완료", template.withPrefix("[P] ").render());
+    }
+}
@@ -0,0 +1,63 @@
+package kr.minex.cpslimiter.managers;
+
+import kr.minex.cpslimiter.models.PlayerViolationStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationStatsManagerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("최대 플레이어 수를 넘으면 마지막 위반이 오래된 플레이어부터 제거해야 한다")
+    void 최대_플레이어_제한_테스트() {
+        ViolationStatsManager manager = new ViolationStatsManager(() -> 100);
+        for (int i = 0; i < 1000; i++) {
+            manager.record(new UUID(0L, i), 20, NOW + i);
+        }
+
+        assertTrue(manager.getTrackedPlayerCount() <= 100);
+        assertEquals(1000 - manager.getTrackedPlayerCount(), manager.getEvictedCount());
+        assertEquals(manager.getTrackedPlayerCount() * (long) PlayerViolationStats.ESTIMATED_BYTES,
+                manager.getEstimatedMemoryBytes());
+
+        // 가장 최근 플레이어는 남고, 가장 오래된 플레이어는 제거됨
+        assertNotNull(manager.getSummary(new UUID(0L, 999), NOW + 1000));
+        assertNull(manager.getSummary(new UUID(0L, 0), NOW + 1000));
+    }
+
+    @Test
+    @DisplayName("저장한 집계를 다시 읽으면 같은 값이어야 한다")
+    void 저장_불러오기_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-stats");
+        Path file = dir.resolve("player-stats.dat");
+        try {
+            UUID alex = new UUID(1L, 2L);
+            UUID steve = new UUID(3L, 4L);
+            ViolationStatsManager manager = new ViolationStatsManager(() -> 100);
+            manager.record(alex, 20, NOW);
+            manager.record(alex, 31, NOW + 1000);
+            manager.record(steve, 18, NOW + 2000);
+            manager.save(file);
+
+            ViolationStatsManager loaded = new ViolationStatsManager(() -> 100);
+            loaded.load(file);
+            assertEquals(2, loaded.getTrackedPlayerCount());
+            assertEquals(manager.getSummary(alex, NOW + 5000), loaded.getSummary(alex, NOW + 5000));
+            assertEquals(manager.getSummary(steve, NOW + 5000), loaded.getSummary(steve, NOW + 5000));
+            assertFalse(Files.exists(dir.resolve("player-stats.dat.tmp")));
+
+            // 파일이 없으면 무시
+            new ViolationStatsManager(() -> 100).load(dir.resolve("missing.dat"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package kr.minex.cpslimiter.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷은 값 순서대로 이어지고 상대 오차가 1/16 이내여야 한다")
+    void 버킷_경계_테스트() {
+        int previous = -1;
+        for (long value = 0; value < 1_000_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index == previous || index == previous + 1, "value=" + value);
+            previous = index;
+        }
+
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (24 + random.nextInt(40));
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "value=" + value);
+            assertTrue(upper - value <= value / LatencyHistogram.SUB_BUCKETS, "value=" + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "value=" + value);
+            }
+        }
+
+        // 범위를 넘는 값은 마지막 버킷
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+    }
+
+    @Test
+    @DisplayName("백분위 값은 정렬한 실제 값과 버킷 오차 이내로 같아야 한다")
+    void 백분위_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram("test", "테스트");
+        Random random = new Random(2);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            // 대부분 수 µs, 일부 수 ms
+            values[i] = i % 1000 == 0 ? 1_000_000L + random.nextInt(5_000_000) : 500L + random.nextInt(10_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(values.length, snapshot.getCount());
+        assertEquals(values[values.length - 1], snapshot.getMaxNanos());
+        for (double quantile : new double[]{0.5, 0.9, 0.99, 0.999, 1.0}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            long estimate = snapshot.percentile(quantile);
+            assertTrue(estimate >= exact && estimate - exact <= exact / LatencyHistogram.SUB_BUCKETS,
+                    "q=" + quantile + " exact=" + exact + " estimate=" + estimate);
+        }
+        assertEquals(Arrays.stream(values).sum(), snapshot.getSumNanos());
+    }
+
+    @Test
+    @DisplayName("누적 개수는 기준 값보다 큰 기록을 세지 않고, 버킷 상한에서는 정확해야 한다")
+    void 누적_개수_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram("test", "테스트");
+        histogram.record(1_000L);
+        histogram.record(1_023L);
+        histogram.record(1_024L);
+        histogram.record(1_100L);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // 2^k - 1은 버킷 상한이므로 정확
+        assertEquals(2, snapshot.countAtOrBelow(1_023L));
+        assertEquals(4, snapshot.countAtOrBelow(2_047L));
+        // 1000은 992 ~ 1023 버킷에 걸치므로 그 버킷은 제외 (많이 세지 않음)
+        assertEquals(0, snapshot.countAtOrBelow(1_000L));
+        assertEquals(0, snapshot.countAtOrBelow(-1L));
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0, 음수는 0으로 기록해야 한다")
+    void 빈_히스토그램_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram("test", "테스트");
+        assertEquals(0L, histogram.snapshot().percentile(0.99));
+        assertEquals(0.0, histogram.snapshot().getMeanNanos());
+
+        histogram.record(-5);
+        assertEquals(1, histogram.snapshot().getCount());
+        assertEquals(0L, histogram.snapshot().percentile(1.0));
+    }
+}
@@ -0,0 +1,72 @@
+package kr.minex.cpslimiter.metrics;
+
+import kr.minex.cpslimiter.services.DetectionPipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("초당 비율은 최근 60초 구간의 증가량으로 계산해야 한다")
+    void 초당_비율_테스트() {
+        Counter counter = new Counter("test_total", "테스트");
+        assertEquals(0.0, counter.getRatePerSecond());
+
+        // 처음 10초: 초당 5
+        for (int second = 0; second <= 10; second++) {
+            counter.sample(second * SECOND);
+            counter.add(5);
+        }
+        assertEquals(5.0, counter.getRatePerSecond(), 1e-9);
+
+        // 이후 120초 동안 증가 없음 -> 구간 밖으로 밀려나 0
+        for (int second = 11; second <= 130; second++) {
+            counter.sample(second * SECOND);
+        }
+        assertEquals(0.0, counter.getRatePerSecond(), 1e-9);
+        assertEquals(55, counter.get());
+    }
+
+    @Test
+    @DisplayName("외부 카운터와 게이지는 공급자의 현재 값을 읽어야 한다")
+    void 외부_지표_테스트() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicLong dropped = new AtomicLong();
+        registry.registerCounter("log_dropped_total", "버려진 로그", dropped::get);
+        registry.registerGauge("log_queue_depth", "로그 대기열 크기", () -> 42L);
+
+        dropped.set(7);
+        Counter counter = registry.getCounters().stream()
+                .filter(c -> c.getName().equals("log_dropped_total"))
+                .findFirst().orElseThrow();
+        assertEquals(7, counter.get());
+        assertEquals(42L, registry.getGauges().get(0).get());
+    }
+
+    @Test
+    @DisplayName("기록 메서드는 해당 카운터/히스토그램에만 반영되어야 한다")
+    void 기록_테스트() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordSwing();
+        registry.recordSwing();
+        registry.recordRejected(DetectionPipeline.Stage.FILTER);
+        registry.recordViolation();
+        registry.recordDebuff();
+        registry.recordDetection(1500);
+        registry.recordRegisterClick(200);
+
+        assertEquals(2, registry.getSwings().get());
+        assertEquals(1, registry.getRejected(DetectionPipeline.Stage.FILTER).get());
+        assertEquals(0, registry.getRejected(DetectionPipeline.Stage.BYPASS).get());
+        assertEquals(1, registry.getViolations().get());
+        assertEquals(1, registry.getDebuffs().get());
+        assertEquals(1, registry.getDetectorLatency().snapshot().getCount());
+        assertEquals(200, registry.getRegisterClickLatency().snapshot().getMaxNanos());
+    }
+}
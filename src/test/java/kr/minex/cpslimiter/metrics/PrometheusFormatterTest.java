@@ -0,0 +1,105 @@
+package kr.minex.cpslimiter.metrics;
+
+import kr.minex.cpslimiter.services.DetectionPipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusFormatterTest {
+
+    @Test
+    @DisplayName("카운터, 단계별 거부, 초당 비율, 게이지를 접두사와 타입 정보와 함께 출력해야 한다")
+    void 카운터_게이지_출력_테스트() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.registerGauge("tracked_players", "추적 중인 플레이어", () -> 12L);
+        registry.recordSwing();
+        registry.recordSwing();
+        registry.recordViolation();
+        registry.recordRejected(DetectionPipeline.Stage.ENTITY_TRACE);
+
+        List<String> lines = PrometheusFormatter.format(registry).lines().toList();
+
+        assertTrue(lines.contains("# TYPE cpslimiter_swings_total counter"));
+        assertTrue(lines.contains("cpslimiter_swings_total 2"));
+        assertTrue(lines.contains("cpslimiter_violations_total 1"));
+        assertTrue(lines.contains("cpslimiter_swings_rejected_total{stage=\"ENTITY_TRACE\"} 1"));
+        assertTrue(lines.contains("cpslimiter_swings_rejected_total{stage=\"BYPASS\"} 0"));
+        assertTrue(lines.contains("# TYPE cpslimiter_violations_per_second gauge"));
+        assertTrue(lines.contains("cpslimiter_violations_per_second 0.000000"));
+        assertTrue(lines.contains("# TYPE cpslimiter_tracked_players gauge"));
+        assertTrue(lines.contains("cpslimiter_tracked_players 12"));
+
+        // 같은 이름의 HELP/TYPE은 한 번만
+        assertEquals(1, lines.stream().filter(l -> l.equals("# TYPE cpslimiter_swings_rejected_total counter")).count());
+    }
+
+    @Test
+    @DisplayName("지연 시간은 초 단위 누적 버킷, 합계, 개수로 출력해야 한다")
+    void 히스토그램_출력_테스트() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordDetection(800L);        // 0.8µs
+        registry.recordDetection(40_000L);     // 40µs
+        registry.recordDetection(3_000_000L);  // 3ms
+
+        List<String> lines = PrometheusFormatter.format(registry).lines().toList();
+
+        assertTrue(lines.contains("# TYPE cpslimiter_detector_latency_seconds histogram"));
+        // 경계는 내부 버킷 상한(2^k - 1ns)이므로 경계 이하의 기록만 정확히 셈
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"0.000001023\"} 1"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"0.000032767\"} 1"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"0.000065535\"} 2"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"0.002097151\"} 2"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"0.004194303\"} 3"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_bucket{le=\"+Inf\"} 3"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_sum 0.003040800"));
+        assertTrue(lines.contains("cpslimiter_detector_latency_seconds_count 3"));
+        assertTrue(lines.contains("cpslimiter_register_click_latency_seconds_count 0"));
+
+        // 누적 버킷은 감소하지 않아야 함
+        long previous = 0;
+        for (String line : lines) {
+            if (line.startsWith("cpslimiter_detector_latency_seconds_bucket")) {
+                long value = Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+                assertTrue(value >= previous, line);
+                previous = value;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("엔드포인트는 설정한 경로에서 지표를 제공하고 종료 후에는 포트를 반환해야 한다")
+    void 엔드포인트_테스트() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordSwing();
+        PrometheusEndpoint endpoint = new PrometheusEndpoint(registry,
+                new PrometheusSettings(true, "127.0.0.1", 0, "/metrics"));
+        endpoint.start();
+        try {
+            HttpURLConnection connection = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + endpoint.getPort() + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(PrometheusFormatter.CONTENT_TYPE, connection.getHeaderField("Content-Type"));
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (InputStream in = connection.getInputStream()) {
+                in.transferTo(body);
+            }
+            assertTrue(body.toString(StandardCharsets.UTF_8).contains("cpslimiter_swings_total 1\n"));
+
+            HttpURLConnection post = (HttpURLConnection)
+                    new URL("http://127.0.0.1:" + endpoint.getPort() + "/metrics").openConnection();
+            post.setRequestMethod("POST");
+            assertEquals(405, post.getResponseCode());
+        } finally {
+            endpoint.stop();
+        }
+        assertEquals(-1, endpoint.getPort());
+    }
+}
@@ -0,0 +1,81 @@
+package kr.minex.cpslimiter.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BucketedClickWindowTest {
+
+    @Test
+    @DisplayName("버킷 윈도우는 윈도우 길이가 지난 버킷을 만료시켜야 한다")
+    void 버킷_만료_테스트() {
+        BucketedClickWindow window = new BucketedClickWindow(1000, 50);
+
+        // Given: t=1000~1100ms 에 3번 클릭
+        assertEquals(1, window.add(1000));
+        assertEquals(2, window.add(1050));
+        assertEquals(3, window.add(1100));
+
+        // When: t=1999ms -> 모든 클릭이 윈도우 안
+        assertEquals(3, window.count(1999));
+
+        // When: t=2000ms -> t=1000ms 버킷 만료
+        assertEquals(2, window.count(2000));
+
+        // When: 윈도우 전체 이상 경과 -> 모두 만료
+        assertEquals(0, window.count(5000));
+    }
+
+    @Test
+    @DisplayName("버킷 윈도우를 사용하는 ClickData도 정확한 윈도우와 같은 CPS를 보고해야 한다")
+    void 정확한_윈도우와_비교_테스트() {
+        ClickData exact = new ClickData(new ClickWindowSettings(ClickWindowMode.EXACT, 1000, 50).newWindow());
+        ClickData bucketed = new ClickData(new ClickWindowSettings(ClickWindowMode.BUCKETED, 1000, 50).newWindow());
+
+        // 버킷 경계(50ms)에 맞춘 클릭에서는 두 방식의 결과가 같아야 한다
+        for (long t = 1000; t < 3000; t += 50) {
+            assertEquals(exact.addClick(t), bucketed.addClick(t));
+        }
+        assertEquals(exact.getCurrentCPS(3500), bucketed.getCurrentCPS(3500));
+    }
+
+    @Test
+    @DisplayName("윈도우 길이가 1초가 아니면 CPS를 초당 값으로 환산해야 한다")
+    void 윈도우_길이_환산_테스트() {
+        ClickData data = new ClickData(new ClickWindowSettings(ClickWindowMode.BUCKETED, 2000, 100).newWindow());
+
+        // Given: 2초 동안 100ms 간격 클릭 20회
+        int cps = 0;
+        for (long t = 1000; t < 3000; t += 100) {
+            cps = data.addClick(t);
+        }
+
+        // Then: 초당 10회
+        assertEquals(10, cps);
+    }
+
+    @Test
+    @DisplayName("peek은 count와 같은 값을 반환하되 윈도우 상태를 바꾸지 않아야 한다")
+    void 상태_변경_없는_조회_테스트() {
+        Random random = new Random(3);
+        ClickWindow[] windows = {new BucketedClickWindow(1000, 50), new RingBufferClickWindow(1000, 64)};
+
+        for (ClickWindow window : windows) {
+            long now = 10_000;
+            for (int i = 0; i < 2000; i++) {
+                now += random.nextInt(120);
+                if (random.nextBoolean()) {
+                    window.add(now);
+                }
+                // 더 먼 미래를 먼저 peek해도 이후 count 결과에 영향이 없어야 함
+                long later = now + random.nextInt(1500);
+                int peeked = window.peek(later);
+                assertEquals(window.peek(now), window.count(now), window.getClass().getSimpleName());
+                assertEquals(peeked, window.peek(later));
+            }
+        }
+    }
+}
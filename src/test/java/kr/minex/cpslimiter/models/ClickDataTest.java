@@ -38,4 +38,51 @@ class ClickDataTest {
         // Then: CPS는 2가 되어야 한다
         assertEquals(2, data.addClick(1025));
     }
+
+    @Test
+    @DisplayName("정확히 1000ms 이전의 클릭은 만료로 처리되어야 한다")
+    void 윈도우_경계값_만료_테스트() {
+        ClickData data = new ClickData();
+
+        // Given: t=1000ms 에 클릭
+        assertEquals(1, data.addClick(1000));
+
+        // When: t=1999ms 시점 조회 -> 아직 윈도우 안
+        assertEquals(1, data.getCurrentCPS(1999));
+
+        // When: t=2000ms 시점 조회 -> 정확히 1000ms 경과, 만료
+        assertEquals(0, data.getCurrentCPS(2000));
+    }
+
+    @Test
+    @DisplayName("최소 간격으로 계속 클릭해도 링 버퍼가 윈도우 내 클릭 수를 정확히 유지해야 한다")
+    void 링_버퍼_최대_클릭_테스트() {
+        ClickData data = new ClickData();
+
+        // Given: 20ms 간격(초당 50회)으로 3초간 클릭
+        int cps = 0;
+        for (long t = 1000; t < 4000; t += 20) {
+            cps = data.addClick(t);
+        }
+
+        // Then: 윈도우(1초) 내 클릭은 최대 50회
+        assertEquals(50, cps);
+        assertEquals(50, data.getCurrentCPS(3980));
+        assertEquals(0, data.getCurrentCPS(5000));
+    }
+
+    @Test
+    @DisplayName("peekCPS는 만료 처리 없이 getCurrentCPS와 같은 값을 반환해야 한다")
+    void 상태_변경_없는_CPS_조회_테스트() {
+        ClickData data = new ClickData();
+        data.addClick(1000);
+        data.addClick(1500);
+
+        assertEquals(2, data.peekCPS(1999));
+        assertEquals(1, data.peekCPS(2000));
+        assertEquals(0, data.peekCPS(5000));
+
+        // peek 이후에도 과거 시점 기준 클릭이 남아 있어야 함
+        assertEquals(2, data.getCurrentCPS(1999));
+    }
 }
@@ -0,0 +1,45 @@
+package kr.minex.cpslimiter.models;
+
+import org.bukkit.GameMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigSnapshotTest {
+
+    @Test
+    @DisplayName("스냅샷은 빌더에 전달한 컬렉션이 이후 변경되어도 영향을 받지 않아야 한다")
+    void 방어적_복사_테스트() {
+        Set<GameMode> gameModes = EnumSet.of(GameMode.CREATIVE);
+        Set<String> worlds = new HashSet<>(Set.of("lobby"));
+
+        ConfigSnapshot snapshot = new ConfigSnapshot.Builder()
+                .ignoredGameModes(gameModes)
+                .disabledWorlds(worlds)
+                .build();
+
+        gameModes.add(GameMode.SPECTATOR);
+        worlds.add("spawn");
+
+        assertEquals(Set.of(GameMode.CREATIVE), snapshot.getIgnoredGameModes());
+        assertEquals(Set.of("lobby"), snapshot.getDisabledWorlds());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getDisabledWorlds().add("pvp"));
+    }
+
+    @Test
+    @DisplayName("기본값은 config.yml 기본값과 같아야 한다")
+    void 기본값_테스트() {
+        ConfigSnapshot snapshot = new ConfigSnapshot.Builder().build();
+
+        assertEquals(15, snapshot.getCPSThreshold());
+        assertEquals(1000L, snapshot.getDebuffCooldown());
+        assertEquals(TargetMode.PLAYER_ONLY, snapshot.getTargetMode());
+        assertEquals(ClickWindowSettings.DEFAULT, snapshot.getClickWindowSettings());
+        assertEquals(0, snapshot.getDebuffEffects().length);
+    }
+}
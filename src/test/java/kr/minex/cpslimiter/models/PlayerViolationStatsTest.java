@@ -0,0 +1,62 @@
+package kr.minex.cpslimiter.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerViolationStatsTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60L * MINUTE;
+    private static final long START = 1_700_000_000_000L - 1_700_000_000_000L % HOUR;
+
+    @Test
+    @DisplayName("누적/최근 1시간/최근 24시간 위반 수와 최고 CPS를 집계해야 한다")
+    void 집계_테스트() {
+        PlayerViolationStats stats = new PlayerViolationStats();
+        stats.record(20, START);
+        stats.record(35, START + 10 * MINUTE);
+        stats.record(18, START + 2 * HOUR);
+
+        PlayerViolationStats.Summary summary = stats.summary(START + 2 * HOUR + MINUTE);
+        assertEquals(3, summary.totalCount());
+        assertEquals(1, summary.lastHourCount());
+        assertEquals(3, summary.lastDayCount());
+        assertEquals(35, summary.peakCps());
+        assertEquals(START + 2 * HOUR, summary.lastViolationMillis());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 오래된 버킷이 비워지고 누적 값은 유지되어야 한다")
+    void 버킷_만료_테스트() {
+        PlayerViolationStats stats = new PlayerViolationStats();
+        for (int i = 0; i < 100; i++) {
+            stats.record(20, START + i * MINUTE);
+        }
+
+        PlayerViolationStats.Summary afterDay = stats.summary(START + 30 * HOUR);
+        assertEquals(100, afterDay.totalCount());
+        assertEquals(0, afterDay.lastHourCount());
+        assertEquals(0, afterDay.lastDayCount());
+
+        // 버킷을 비운 뒤 다시 기록
+        stats.record(25, START + 30 * HOUR);
+        PlayerViolationStats.Summary again = stats.summary(START + 30 * HOUR);
+        assertEquals(1, again.lastHourCount());
+        assertEquals(1, again.lastDayCount());
+    }
+
+    @Test
+    @DisplayName("최근 1시간 값은 5분 버킷 단위로 밀려나야 한다")
+    void 시간_버킷_이동_테스트() {
+        PlayerViolationStats stats = new PlayerViolationStats();
+        stats.record(20, START);
+        stats.record(20, START + 30 * MINUTE);
+
+        assertEquals(2, stats.summary(START + 59 * MINUTE).lastHourCount());
+        assertEquals(1, stats.summary(START + 61 * MINUTE).lastHourCount());
+        assertEquals(0, stats.summary(START + 91 * MINUTE).lastHourCount());
+        assertEquals(2, stats.summary(START + 91 * MINUTE).lastDayCount());
+    }
+}
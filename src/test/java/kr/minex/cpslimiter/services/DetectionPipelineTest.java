@@ -0,0 +1,113 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.GameMode;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.cpslimiter.managers.CPSManager;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 판정 파이프라인의 단계 순서와 단락(short-circuit) 동작을 검증합니다.
+ */
+class DetectionPipelineTest {
+
+    private static ConfigManager config() {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getSnapshot()).thenReturn(new ConfigSnapshot.Builder().build());
+        return config;
+    }
+
+    private static Player player(boolean bypass) {
+        World world = mock(World.class);
+        when(world.getName()).thenReturn("world");
+        Player player = mock(Player.class);
+        when(player.getWorld()).thenReturn(world);
+        when(player.getGameMode()).thenReturn(GameMode.SURVIVAL);
+        when(player.hasPermission("cpslimiter.bypass")).thenReturn(bypass);
+        return player;
+    }
+
+    @Test
+    @DisplayName("바이패스 권한이 있으면 감지기를 호출하지 않아야 한다")
+    void 바이패스_단락_테스트() {
+        CPSManager cpsManager = new CPSManager();
+        int slot = cpsManager.acquireSlot(UUID.randomUUID());
+        CombatTargetDetector detector = mock(CombatTargetDetector.class);
+        DetectionPipeline pipeline = new DetectionPipeline(cpsManager, config(), detector, new MetricsRegistry());
+
+        assertTrue(pipeline.run(player(true), slot).isEmpty());
+        assertTrue(pipeline.run(player(true), slot).isEmpty());
+
+        verify(detector, never()).findTarget(any());
+        assertEquals(2, pipeline.getRejectedCount(DetectionPipeline.Stage.BYPASS));
+        assertEquals(0, pipeline.getEnteredCount(DetectionPipeline.Stage.FILTER));
+        assertEquals(CPSManager.BYPASS_GRANTED, cpsManager.getBypassState(slot));
+    }
+
+    @Test
+    @DisplayName("제외 게임모드/월드에서는 감지기를 호출하지 않아야 한다")
+    void 필터_단락_테스트() {
+        CPSManager cpsManager = new CPSManager();
+        int slot = cpsManager.acquireSlot(UUID.randomUUID());
+        CombatTargetDetector detector = mock(CombatTargetDetector.class);
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getSnapshot()).thenReturn(new ConfigSnapshot.Builder()
+                .ignoredGameModes(EnumSet.of(GameMode.CREATIVE))
+                .disabledWorlds(Collections.singleton("world"))
+                .build());
+        DetectionPipeline pipeline = new DetectionPipeline(cpsManager, config, detector, new MetricsRegistry());
+
+        assertTrue(pipeline.run(player(false), slot).isEmpty());
+
+        verify(detector, never()).findTarget(any());
+        assertEquals(1, pipeline.getRejectedCount(DetectionPipeline.Stage.FILTER));
+    }
+
+    @Test
+    @DisplayName("엔티티가 없으면 블록 가림 판정을 수행하지 않아야 한다")
+    void 엔티티_없음_단락_테스트() {
+        CPSManager cpsManager = new CPSManager();
+        int slot = cpsManager.acquireSlot(UUID.randomUUID());
+        CombatTargetDetector detector = mock(CombatTargetDetector.class);
+        Player player = player(false);
+        when(detector.findTarget(player)).thenReturn(Optional.empty());
+        DetectionPipeline pipeline = new DetectionPipeline(cpsManager, config(), detector, new MetricsRegistry());
+
+        assertTrue(pipeline.run(player, slot).isEmpty());
+
+        verify(detector, never()).isOccluded(any(), any());
+        assertEquals(1, pipeline.getRejectedCount(DetectionPipeline.Stage.ENTITY_TRACE));
+        assertEquals(0, pipeline.getEnteredCount(DetectionPipeline.Stage.BLOCK_OCCLUSION));
+    }
+
+    @Test
+    @DisplayName("엔티티가 발견되고 가려지지 않으면 타겟을 반환해야 한다")
+    void 전체_통과_테스트() {
+        CPSManager cpsManager = new CPSManager();
+        int slot = cpsManager.acquireSlot(UUID.randomUUID());
+        CombatTargetDetector detector = mock(CombatTargetDetector.class);
+        Player player = player(false);
+        CombatTarget target = new CombatTarget(mock(Entity.class), 2.0);
+        when(detector.findTarget(player)).thenReturn(Optional.of(target));
+        when(detector.isOccluded(player, target)).thenReturn(false);
+        DetectionPipeline pipeline = new DetectionPipeline(cpsManager, config(), detector, new MetricsRegistry());
+
+        assertEquals(Optional.of(target), pipeline.run(player, slot));
+        assertEquals(1, pipeline.getEnteredCount(DetectionPipeline.Stage.BLOCK_OCCLUSION));
+        assertEquals(0, pipeline.getRejectedCount(DetectionPipeline.Stage.BLOCK_OCCLUSION));
+    }
+}
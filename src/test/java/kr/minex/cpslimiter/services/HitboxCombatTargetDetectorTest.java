@@ -0,0 +1,153 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.DetectorType;
+import kr.minex.cpslimiter.models.TargetMode;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link RayTraceCombatTargetDetectorTest}와 같은 상황에서 같은 판정을 내리는지 검증합니다.
+ */
+class HitboxCombatTargetDetectorTest {
+
+    /**
+     * 눈 위치 (0, 0, 0)에서 +X 방향(yaw 270)을 바라보는 플레이어
+     */
+    private static Player shooter(World world) {
+        Player self = mock(Player.class);
+        when(self.getWorld()).thenReturn(world);
+        when(self.getEntityId()).thenReturn(1);
+        when(self.getEyeHeight()).thenReturn(1.62);
+        when(self.getBoundingBox()).thenReturn(new BoundingBox(-0.3, -1.62, -0.3, 0.3, 0.18, 0.3));
+        when(self.getLocation(any(Location.class))).thenAnswer(invocation -> {
+            Location location = invocation.getArgument(0);
+            location.setWorld(world);
+            location.setX(0);
+            location.setY(-1.62);
+            location.setZ(0);
+            location.setYaw(270f);
+            location.setPitch(0f);
+            return location;
+        });
+        return self;
+    }
+
+    /**
+     * 히트박스(레이트레이스 두께 포함) 앞면이 X=2.0에 오는 플레이어
+     */
+    private static Player targetAtDistanceTwo(World world) {
+        Player target = mock(Player.class);
+        when(target.getWorld()).thenReturn(world);
+        when(target.getEntityId()).thenReturn(2);
+        when(target.getBoundingBox()).thenReturn(new BoundingBox(2.1, -0.9, -0.3, 2.7, 0.9, 0.3));
+        return target;
+    }
+
+    private static ConfigManager config() {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.isDebugMode()).thenReturn(false);
+        when(config.getTargetMode()).thenReturn(TargetMode.PLAYER_ONLY);
+        return config;
+    }
+
+    private static RayTraceResult blockHitAt(double distance) {
+        RayTraceResult blockResult = mock(RayTraceResult.class);
+        when(blockResult.getHitBlock()).thenReturn(mock(Block.class));
+        when(blockResult.getHitPosition()).thenReturn(new Vector(distance, 0, 0));
+        return blockResult;
+    }
+
+    @Test
+    @DisplayName("블록이 플레이어보다 먼저 맞으면(채굴) 전투 타겟으로 판정하지 않아야 한다")
+    void 블록_우선_히트_차단_테스트() {
+        World world = mock(World.class);
+        Player self = shooter(world);
+        Player target = targetAtDistanceTwo(world);
+
+        RayTraceResult blockResult = blockHitAt(1.0);
+        when(world.rayTraceBlocks(any(), any(), anyDouble(), any(), anyBoolean())).thenReturn(blockResult);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, target));
+
+        HitboxCombatTargetDetector detector = new HitboxCombatTargetDetector(mock(CPSLimiter.class), config(), index);
+        assertTrue(detector.detect(self).isEmpty());
+    }
+
+    @Test
+    @DisplayName("플레이어가 블록보다 먼저 맞으면 전투 타겟으로 판정해야 한다")
+    void 플레이어_우선_히트_허용_테스트() {
+        World world = mock(World.class);
+        Player self = shooter(world);
+        Player target = targetAtDistanceTwo(world);
+
+        RayTraceResult blockResult = blockHitAt(3.0);
+        when(world.rayTraceBlocks(any(), any(), anyDouble(), any(), anyBoolean())).thenReturn(blockResult);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, target));
+
+        HitboxCombatTargetDetector detector = new HitboxCombatTargetDetector(mock(CPSLimiter.class), config(), index);
+        Optional<CombatTarget> result = detector.detect(self);
+        assertTrue(result.isPresent());
+        assertSame(target, result.get().entity());
+        assertEquals(2.0, result.get().distance(), 1.0E-9);
+    }
+
+    @Test
+    @DisplayName("시선 앞에 다른 플레이어가 없으면 블록 레이트레이스 없이 타겟 없음으로 판정해야 한다")
+    void 플레이어_없음_테스트() {
+        World world = mock(World.class);
+        Player self = shooter(world);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self));
+
+        HitboxCombatTargetDetector detector = new HitboxCombatTargetDetector(mock(CPSLimiter.class), config(), index);
+        assertTrue(detector.detect(self).isEmpty());
+        verify(world, never()).rayTraceBlocks(any(), any(), anyDouble(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("HITBOX 설정은 PLAYER_ONLY 모드에서만 히트박스 감지기를 사용하고, 그 외에는 레이트레이스로 대체해야 한다")
+    void PLAYER_ONLY_감지기_선택_테스트() {
+        ConfigManager config = mock(ConfigManager.class);
+        CombatTargetDetector rayTrace = mock(CombatTargetDetector.class);
+        CombatTargetDetector hitbox = mock(CombatTargetDetector.class);
+        ConfiguredCombatTargetDetector detector = new ConfiguredCombatTargetDetector(config, rayTrace, hitbox);
+        Player player = mock(Player.class);
+
+        // PLAYER_ONLY + HITBOX -> 히트박스
+        when(config.getDetectorType()).thenReturn(DetectorType.HITBOX);
+        when(config.getTargetMode()).thenReturn(TargetMode.PLAYER_ONLY);
+        assertSame(hitbox, detector.select());
+        detector.findTarget(player);
+        verify(hitbox).findTarget(player);
+        verify(rayTrace, never()).findTarget(any());
+
+        // LIVING_ENTITY 모드에서는 몹도 타겟이므로 플레이어만 스냅샷하는 히트박스를 쓰지 않음
+        when(config.getTargetMode()).thenReturn(TargetMode.LIVING_ENTITY);
+        assertSame(rayTrace, detector.select());
+
+        // PLAYER_ONLY + RAYTRACE -> 레이트레이스
+        when(config.getDetectorType()).thenReturn(DetectorType.RAYTRACE);
+        when(config.getTargetMode()).thenReturn(TargetMode.PLAYER_ONLY);
+        assertSame(rayTrace, detector.select());
+    }
+}
@@ -0,0 +1,99 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerSpatialIndexTest {
+
+    private static Player player(World world, int entityId, double x, double y, double z) {
+        Player player = mock(Player.class);
+        when(player.getWorld()).thenReturn(world);
+        when(player.getEntityId()).thenReturn(entityId);
+        when(player.getBoundingBox()).thenReturn(new BoundingBox(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3));
+        return player;
+    }
+
+    @Test
+    @DisplayName("주변에 다른 플레이어가 없으면 후보가 없다고 판정해야 한다")
+    void 주변_플레이어_없음_테스트() {
+        World world = mock(World.class);
+        Player self = player(world, 1, 0, 64, 0);
+        Player far = player(world, 2, 50, 64, 50);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, far));
+
+        // 자기 자신은 후보에서 제외
+        assertFalse(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+    }
+
+    @Test
+    @DisplayName("셀 경계를 넘어 공격 범위 안에 있는 플레이어를 찾아야 한다")
+    void 셀_경계_근접_플레이어_테스트() {
+        World world = mock(World.class);
+        Player self = player(world, 1, 15.5, 64, 15.5);
+        Player near = player(world, 2, 17.5, 64, 16.5);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, near));
+
+        assertTrue(index.hasOtherPlayerNear(self, 15.5, 65.6, 15.5, 4.0));
+    }
+
+    @Test
+    @DisplayName("다른 월드의 플레이어는 후보가 아니어야 한다")
+    void 다른_월드_테스트() {
+        World world = mock(World.class);
+        World other = mock(World.class);
+        Player self = player(world, 1, 0, 64, 0);
+        Player elsewhere = player(other, 2, 1, 64, 0);
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, elsewhere));
+
+        assertFalse(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 매 rebuild의 결과는 그 시점의 플레이어만 반영해야 한다")
+    void 버퍼_재사용_테스트() {
+        World world = mock(World.class);
+        Player self = player(world, 1, 0, 64, 0);
+        Player near = player(world, 2, 1, 64, 0);
+        List<Player> crowd = new ArrayList<>();
+        crowd.add(self);
+        for (int i = 0; i < 40; i++) {
+            // 초기 용량을 넘겨 배열이 늘어나도록 멀리 흩어 놓음
+            crowd.add(player(world, 100 + i, 100 + i * 20, 64, 100));
+        }
+
+        PlayerSpatialIndex index = new PlayerSpatialIndex();
+        index.rebuild(List.of(self, near));
+        assertTrue(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+
+        index.rebuild(List.of(self));
+        assertFalse(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+
+        index.rebuild(crowd);
+        assertFalse(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+        assertTrue(index.hasOtherPlayerNear(self, 100, 65.6, 100, 4.0));
+
+        index.rebuild(List.of(self, near));
+        assertTrue(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+        assertFalse(index.hasOtherPlayerNear(self, 100, 65.6, 100, 4.0));
+
+        index.clear();
+        assertFalse(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+        index.rebuild(List.of(self, near));
+        assertTrue(index.hasOtherPlayerNear(self, 0, 65.6, 0, 4.0));
+    }
+}
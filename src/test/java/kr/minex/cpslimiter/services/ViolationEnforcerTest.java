@@ -0,0 +1,120 @@
+package kr.minex.cpslimiter.services;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.cpslimiter.CPSLimiter;
+import kr.minex.cpslimiter.managers.ConfigManager;
+import kr.minex.cpslimiter.managers.MessageManager;
+import kr.minex.cpslimiter.managers.ViolationLogger;
+import kr.minex.cpslimiter.metrics.MetricsRegistry;
+import kr.minex.cpslimiter.models.CombatTarget;
+import kr.minex.cpslimiter.models.ConfigSnapshot;
+import kr.minex.cpslimiter.scheduler.SchedulerAdapter;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 틱 단위 위반 병합/일괄 처리를 검증합니다.
+ */
+class ViolationEnforcerTest {
+
+    private final SchedulerAdapter scheduler = mock(SchedulerAdapter.class);
+    private final ViolationLogger violationLogger = mock(ViolationLogger.class);
+
+    private ViolationEnforcer enforcer() {
+        CPSLimiter plugin = mock(CPSLimiter.class);
+        when(plugin.getSchedulerAdapter()).thenReturn(scheduler);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("CPSLimiterTest"));
+        // 엔티티 작업은 즉시 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(scheduler).runForEntity(any(), any());
+
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getSnapshot()).thenReturn(new ConfigSnapshot.Builder().build());
+        return new ViolationEnforcer(plugin, config, mock(MessageManager.class), violationLogger,
+                new MetricsRegistry());
+    }
+
+    private static Player player() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    @Test
+    @DisplayName("같은 틱의 반복 위반은 하나로 병합되어 한 번만 처리되어야 한다")
+    void 같은_틱_위반_병합_테스트() {
+        ViolationEnforcer enforcer = enforcer();
+        Player player = player();
+        CombatTarget first = new CombatTarget(mock(Entity.class), 2.0);
+        CombatTarget peak = new CombatTarget(mock(Entity.class), 2.5);
+        CombatTarget last = new CombatTarget(mock(Entity.class), 3.0);
+
+        enforcer.submit(player, 17, first);
+        enforcer.submit(player, 21, peak);
+        enforcer.submit(player, 19, last);
+
+        // 처리 태스크는 틱당 한 번만 예약
+        verify(scheduler, times(1)).runGlobal(any());
+        verify(violationLogger, never()).log(any(), anyInt(), any());
+
+        enforcer.drain();
+
+        verify(scheduler, times(1)).runForEntity(eq(player), any());
+        // 로그의 CPS와 타겟은 같은 위반(최고 CPS)에서 와야 함
+        verify(violationLogger, times(1)).log(player, 21, peak);
+        assertEquals(3, enforcer.getSubmittedCount());
+        assertEquals(2, enforcer.getMergedCount());
+        assertEquals(1, enforcer.getLastBatchSize());
+    }
+
+    @Test
+    @DisplayName("같은 틱에 위반한 여러 플레이어는 하나의 배치로 처리되어야 한다")
+    void 배치_크기_테스트() {
+        ViolationEnforcer enforcer = enforcer();
+        for (int i = 0; i < 5; i++) {
+            enforcer.submit(player(), 20, new CombatTarget(mock(Entity.class), 2.0));
+        }
+        enforcer.drain();
+
+        verify(violationLogger, times(5)).log(any(), eq(20), any());
+        assertEquals(1, enforcer.getBatchCount());
+        assertEquals(5, enforcer.getLastBatchSize());
+        assertEquals(5, enforcer.getMaxBatchSize());
+
+        // 처리 이후의 위반은 다음 틱에 새로 예약
+        enforcer.submit(player(), 20, new CombatTarget(mock(Entity.class), 2.0));
+        verify(scheduler, times(2)).runGlobal(any());
+        enforcer.drain();
+        assertEquals(2, enforcer.getBatchCount());
+        assertEquals(1, enforcer.getLastBatchSize());
+        assertEquals(5, enforcer.getMaxBatchSize());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 처리되지 않은 위반은 버리지 않고 로그에 기록해야 한다")
+    void 비활성화_시_대기_위반_정리_테스트() {
+        ViolationEnforcer enforcer = enforcer();
+        Player player = player();
+        CombatTarget target = new CombatTarget(mock(Entity.class), 2.0);
+        enforcer.submit(player, 20, target);
+        enforcer.submit(player(), 18, target);
+
+        assertEquals(2, enforcer.shutdown());
+
+        // 로그에만 기록하고 디버프/경고 작업은 예약하지 않음
+        verify(violationLogger, times(1)).log(player, 20, target);
+        verify(violationLogger, times(2)).log(any(), anyInt(), any());
+        verify(scheduler, never()).runForEntity(any(), any());
+        assertEquals(0, enforcer.shutdown());
+    }
+}
@@ -0,0 +1,153 @@
+package kr.minex.cpslimiter.tools;
+
+import kr.minex.cpslimiter.logging.ViolationLineEncoder;
+import kr.minex.cpslimiter.logging.ViolationRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationLogAnalyzerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final String[] TYPES = {"PLAYER", "ZOMBIE"};
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    /**
+     * 플레이어 i % players, CPS 10 + i % 50, 짝수 번째만 ZOMBIE 타겟인 기록 count개를 씁니다.
+     */
+    private static void writeLog(OutputStream out, int count, int players) throws IOException {
+        ViolationLineEncoder encoder = new ViolationLineEncoder(ZONE, Locale.ROOT, TYPES);
+        for (int i = 0; i < count; i++) {
+            int player = i % players;
+            ViolationRecord record = new ViolationRecord(START_MILLIS + i * 60_000L, "P" + player,
+                    0L, player, 10 + i % 50,
+                    i % 2 == 0 ? 1 : ViolationRecord.NO_TARGET, 7L, 7L, 2.5);
+            out.write(encoder.buffer(), 0, encoder.encode(record));
+        }
+    }
+
+    @Test
+    @DisplayName("작은 조각으로 나누어 읽어도 모든 줄을 정확히 한 번씩 집계해야 한다")
+    void 조각_분할_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-analyzer");
+        try {
+            Path log = dir.resolve("violations.log");
+            try (OutputStream out = Files.newOutputStream(log)) {
+                writeLog(out, 5000, 7);
+                // 형식 오류 줄과 줄바꿈 없는 마지막 줄
+                out.write("garbage line\n".getBytes(StandardCharsets.UTF_8));
+                out.write(("[2023-11-14 22:13:20] P0 (00000000-0000-0000-0000-000000000000) - CPS: 300")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+
+            // 줄보다 짧은 조각 ~ 파일 전체
+            for (long chunk : new long[]{37L, 97L, 4096L, Long.MAX_VALUE}) {
+                ViolationLogSummary summary = ViolationLogAnalyzer.analyze(List.of(log), 4, chunk);
+
+                assertEquals(5002, summary.getLineCount(), "chunk=" + chunk);
+                assertEquals(1, summary.getMalformedCount());
+                assertEquals(5001, summary.getViolationCount());
+
+                List<ViolationLogSummary.PlayerEntry> players = summary.topPlayers(3);
+                assertEquals("P0", players.get(0).getName());
+                assertEquals(715 + 1, players.get(0).getCount());
+                assertEquals(300, players.get(0).getMaxCps());
+                assertEquals(300, summary.getMaxCps());
+                assertEquals(ViolationLogSummary.CPS_BUCKETS - 1, summary.cpsPercentile(1.0));
+                assertEquals(100, summary.cpsCount(10));
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 파일과 일반 파일을 함께 집계해야 한다")
+    void gzip_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-analyzer");
+        try {
+            try (OutputStream out = Files.newOutputStream(dir.resolve("violations.log"))) {
+                writeLog(out, 1000, 3);
+            }
+            try (OutputStream out = new GZIPOutputStream(
+                    Files.newOutputStream(dir.resolve("violations-2023-11-14.1.log.gz")))) {
+                writeLog(out, 2000, 3);
+            }
+            Files.writeString(dir.resolve("violations.jsonl"), "{}\n");
+
+            List<Path> files = ViolationLogAnalyzer.collectFiles(List.of(dir));
+            assertEquals(2, files.size());
+
+            ViolationLogSummary summary = ViolationLogAnalyzer.analyze(files, 2, 64L);
+            assertEquals(3000, summary.getViolationCount());
+            assertEquals(0, summary.getMalformedCount());
+
+            Map<String, Long> targets = summary.targetTypes().stream()
+                    .collect(Collectors.toMap(ViolationLogSummary.TargetEntry::getType,
+                            ViolationLogSummary.TargetEntry::getCount));
+            assertEquals(Map.of("ZOMBIE", 1500L, ViolationLogSummary.NO_TARGET, 1500L), targets);
+            assertEquals(2.5, summary.targetTypes().stream()
+                    .filter(entry -> entry.getType().equals("ZOMBIE"))
+                    .findFirst().orElseThrow().getAverageDistance(), 1e-9);
+
+            // 첫 시간대와 전체 합계
+            Map<Integer, Long> hours = summary.hourlyCounts();
+            assertEquals(2023111422, hours.keySet().iterator().next());
+            assertEquals(3000L, hours.values().stream().mapToLong(Long::longValue).sum());
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("분석 결과 합치기는 순차 집계와 같아야 한다")
+    void 병합_테스트() throws Exception {
+        Path dir = Files.createTempDirectory("cpslimiter-analyzer");
+        try {
+            Random random = new Random(7);
+            ByteArrayOutputStream all = new ByteArrayOutputStream();
+            writeLog(all, 3000 + random.nextInt(1000), 11);
+            Path log = dir.resolve("violations.log");
+            Files.write(log, all.toByteArray());
+
+            ViolationLogSummary sequential = ViolationLogAnalyzer.analyze(List.of(log), 1, Long.MAX_VALUE);
+            ViolationLogSummary parallel = ViolationLogAnalyzer.analyze(List.of(log), 8, 1000L);
+
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            ViolationLogAnalyzer.printReport(new PrintStream(expected, true, StandardCharsets.UTF_8),
+                    sequential, 1, 20, 0L);
+            ViolationLogAnalyzer.printReport(new PrintStream(actual, true, StandardCharsets.UTF_8),
+                    parallel, 1, 20, 0L);
+            assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+}